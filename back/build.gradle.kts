@@ -76,6 +76,11 @@ dependencies {
     // Redis
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
     implementation("org.springframework.session:spring-session-data-redis")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
+    // Hibernate 2차 캐시 (JCache + Caffeine)
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("com.github.ben-manes.caffeine:jcache")
 
     // QueryDSL
     implementation("com.querydsl:querydsl-jpa:$queryDslVersion:jakarta")
@@ -87,6 +92,7 @@ dependencies {
     // AWS S3 & EventBridge
     implementation("io.awspring.cloud:spring-cloud-aws-starter:3.4.0")
     implementation("software.amazon.awssdk:s3:2.32.9")
+    implementation("software.amazon.awssdk:netty-nio-client:2.32.9")
     implementation("software.amazon.awssdk:eventbridge:2.32.9")
 
     // Utilities
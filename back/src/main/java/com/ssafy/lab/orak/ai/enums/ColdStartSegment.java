@@ -0,0 +1,33 @@
+package com.ssafy.lab.orak.ai.enums;
+
+/**
+ * 콜드 스타트 추천 세그먼트 (곡에 장르 정보가 없어 순위 기준별로 목록을 나눔)
+ */
+public enum ColdStartSegment {
+
+    // 인기도 + 앨범 수록 횟수 (기본)
+    OVERALL {
+        @Override
+        public double score(int popularity, long trackCount, double trackWeight) {
+            return popularity + trackWeight * Math.log1p(trackCount) / Math.log(2);
+        }
+    },
+
+    // Spotify 인기도
+    POPULAR {
+        @Override
+        public double score(int popularity, long trackCount, double trackWeight) {
+            return popularity;
+        }
+    },
+
+    // 다른 사용자들이 많이 불러 공개 앨범에 수록한 곡 (같으면 인기도 순)
+    SUNG {
+        @Override
+        public double score(int popularity, long trackCount, double trackWeight) {
+            return trackCount + popularity / 1000.0;
+        }
+    };
+
+    public abstract double score(int popularity, long trackCount, double trackWeight);
+}
@@ -0,0 +1,258 @@
+package com.ssafy.lab.orak.ai.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.lab.orak.ai.dto.RecommendationSongDto;
+import com.ssafy.lab.orak.ai.dto.VoiceRecommendationResponseDto;
+import com.ssafy.lab.orak.ai.enums.ColdStartSegment;
+import com.ssafy.lab.orak.ai.util.SongRanking;
+import com.ssafy.lab.orak.albumtrack.dto.SongTrackCountDTO;
+import com.ssafy.lab.orak.albumtrack.repository.AlbumTrackRepository;
+import com.ssafy.lab.orak.dislike.repository.DislikeRepository;
+import com.ssafy.lab.orak.song.dto.SongRankingDTO;
+import com.ssafy.lab.orak.song.repository.SongRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 분석된 녹음이 없는 사용자를 위한 인기 곡 기반 추천 (AI 호출 없음)
+ * - Song.popularity와 공개 앨범 수록 횟수로 세그먼트별 상위 목록을 미리 계산해 메모리에 보관
+ * - 주기적으로 변경분(수정된 곡, 새 트랙)만 읽어 갱신하고, 삭제/비공개 전환은 전체 재구성 때 반영
+ * - 사용자별 싫어요는 곡 dense index 기준 비트맵으로 캐시하여 목록을 훑으며 제외
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ColdStartRecommendationService {
+
+    private final SongRepository songRepository;
+    private final AlbumTrackRepository albumTrackRepository;
+    private final DislikeRepository dislikeRepository;
+
+    // 곡 ID → dense index (재구성해도 바뀌지 않으므로 캐시된 싫어요 비트맵이 계속 유효)
+    private final Map<Long, Integer> songIndex = new ConcurrentHashMap<>();
+    private final AtomicInteger nextIndex = new AtomicInteger();
+
+    // 갱신 상태 (refresh 계열 메서드 안에서만 접근)
+    private final Map<Long, SongRankingDTO> rankableSongs = new HashMap<>();
+    private final Map<Long, Long> trackCounts = new HashMap<>();
+    private LocalDateTime songWatermark;
+    private long songWatermarkId;
+    private long trackWatermark;
+    private long lastFullRebuildAt;
+
+    private volatile SongRanking ranking = SongRanking.EMPTY;
+    private Cache<Long, BitSet> dislikeBitmaps;
+
+    @Value("${recommendation.cold-start.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${recommendation.cold-start.max-list-size:200}")
+    private int maxListSize = 200;
+
+    @Value("${recommendation.cold-start.track-weight:10}")
+    private double trackWeight = 10;
+
+    @Value("${recommendation.cold-start.full-rebuild-interval-ms:3600000}")
+    private long fullRebuildIntervalMs = 3600000;
+
+    @Value("${recommendation.cold-start.dislike-cache-max-size:50000}")
+    private long dislikeCacheMaxSize = 50000;
+
+    @Value("${recommendation.cold-start.dislike-cache-ttl-seconds:600}")
+    private long dislikeCacheTtlSeconds = 600;
+
+    @PostConstruct
+    void initDislikeCache() {
+        dislikeBitmaps = Caffeine.newBuilder()
+                .maximumSize(dislikeCacheMaxSize)
+                .expireAfterAccess(Duration.ofSeconds(dislikeCacheTtlSeconds))
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        scheduledRefresh();
+    }
+
+    @Scheduled(fixedDelayString = "${recommendation.cold-start.refresh-interval-ms:60000}",
+            initialDelayString = "${recommendation.cold-start.refresh-interval-ms:60000}")
+    public void scheduledRefresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("콜드 스타트 추천 랭킹 갱신 실패 - 이전 랭킹 유지", e);
+        }
+    }
+
+    /**
+     * 전체 재구성 주기가 지났으면 재구성, 아니면 변경분만 반영
+     */
+    public synchronized void refresh() {
+        if (lastFullRebuildAt == 0 || System.currentTimeMillis() - lastFullRebuildAt >= fullRebuildIntervalMs) {
+            rebuild();
+        } else {
+            refreshIncrementally();
+        }
+    }
+
+    /**
+     * 전체 곡/트랙 집계로 랭킹 재구성
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        List<SongRankingDTO> songs = songRepository.findAllRankingRows();
+        List<SongTrackCountDTO> counts = albumTrackRepository.countPublicTracksBySongAfter(0L);
+
+        rankableSongs.clear();
+        trackCounts.clear();
+        songWatermark = null;
+        songWatermarkId = 0;
+        trackWatermark = 0;
+        applySongs(songs);
+        applyTrackCounts(counts);
+        lastFullRebuildAt = System.currentTimeMillis();
+
+        publish();
+        log.info("콜드 스타트 추천 랭킹 재구성 완료 - 곡 {}개, 수록 곡 {}개, {}ms",
+                rankableSongs.size(), trackCounts.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 마지막 갱신 이후 수정된 곡과 새로 추가된 트랙만 반영
+     */
+    public synchronized void refreshIncrementally() {
+        if (songWatermark == null && trackWatermark == 0 && rankableSongs.isEmpty()) {
+            rebuild();
+            return;
+        }
+
+        List<SongRankingDTO> songs = songWatermark != null
+                ? songRepository.findRankingRowsUpdatedAfter(songWatermark, songWatermarkId)
+                : songRepository.findAllRankingRows();
+        List<SongTrackCountDTO> counts = albumTrackRepository.countPublicTracksBySongAfter(trackWatermark);
+        if (songs.isEmpty() && counts.isEmpty()) {
+            return;
+        }
+
+        applySongs(songs);
+        applyTrackCounts(counts);
+        publish();
+        log.debug("콜드 스타트 추천 랭킹 증분 갱신 - 곡 {}개, 트랙 집계 {}건", songs.size(), counts.size());
+    }
+
+    public boolean isReady() {
+        return enabled && ranking.size() > 0;
+    }
+
+    public VoiceRecommendationResponseDto recommend(Long userId, int topN) {
+        return recommend(userId, ColdStartSegment.OVERALL, topN);
+    }
+
+    /**
+     * 미리 계산된 세그먼트 목록에서 사용자가 싫어요한 곡을 빼고 topN개 추천
+     */
+    public VoiceRecommendationResponseDto recommend(Long userId, ColdStartSegment segment, int topN) {
+        List<RecommendationSongDto> recommendations = ranking.top(segment, topN, dislikedSongs(userId));
+
+        String status = recommendations.isEmpty() ? "no_results" : "success";
+        String message = recommendations.isEmpty() ?
+                "추천할 수 있는 곡을 찾을 수 없습니다." :
+                String.format("인기 곡 기반으로 %d개의 곡을 추천합니다.", recommendations.size());
+
+        return VoiceRecommendationResponseDto.builder()
+                .status(status)
+                .message(message)
+                .recommendations(recommendations)
+                .build();
+    }
+
+    /**
+     * 싫어요 변경 시 해당 사용자의 비트맵 제거 (다음 추천 때 다시 읽음)
+     */
+    public void evictDislikes(Long userId) {
+        if (userId != null) {
+            dislikeBitmaps.invalidate(userId);
+        }
+    }
+
+    private BitSet dislikedSongs(Long userId) {
+        if (userId == null) {
+            return new BitSet();
+        }
+        return dislikeBitmaps.get(userId, id -> {
+            BitSet bitmap = new BitSet();
+            for (Long songId : dislikeRepository.findSongIdsByUserId(id)) {
+                bitmap.set(indexOf(songId));
+            }
+            return bitmap;
+        });
+    }
+
+    private void applySongs(List<SongRankingDTO> songs) {
+        for (SongRankingDTO song : songs) {
+            if (song.isRankable()) {
+                rankableSongs.put(song.songId(), song);
+            } else {
+                rankableSongs.remove(song.songId());
+            }
+            // (updatedAt, id) 키셋으로 마지막 행을 기록해 같은 시각에 수정된 곡도 놓치지 않고 다시 읽지도 않음
+            // (워터마크보다 이른 시각으로 늦게 커밋된 수정은 전체 재구성 때 반영)
+            if (song.updatedAt() != null && (songWatermark == null || song.updatedAt().isAfter(songWatermark)
+                    || (song.updatedAt().isEqual(songWatermark) && song.id() > songWatermarkId))) {
+                songWatermark = song.updatedAt();
+                songWatermarkId = song.id();
+            }
+        }
+    }
+
+    private void applyTrackCounts(List<SongTrackCountDTO> counts) {
+        for (SongTrackCountDTO count : counts) {
+            trackCounts.merge(count.songId(), count.trackCount(), Long::sum);
+            if (count.maxTrackId() != null && count.maxTrackId() > trackWatermark) {
+                trackWatermark = count.maxTrackId();
+            }
+        }
+    }
+
+    private void publish() {
+        List<SongRanking.Entry> entries = new ArrayList<>(rankableSongs.size());
+        for (SongRankingDTO song : rankableSongs.values()) {
+            entries.add(new SongRanking.Entry(
+                    indexOf(song.songId()),
+                    RecommendationSongDto.builder()
+                            .id(song.id())
+                            .songId(song.songId())
+                            .songName(song.songName())
+                            .artistName(song.artistName())
+                            .albumCoverUrl(song.albumCoverUrl())
+                            .build(),
+                    song.popularity() != null ? song.popularity() : 0,
+                    trackCounts.getOrDefault(song.songId(), 0L)));
+        }
+        ranking = SongRanking.build(entries, maxListSize, trackWeight, nextIndex.get());
+    }
+
+    private int indexOf(Long songId) {
+        return songIndex.computeIfAbsent(songId, id -> nextIndex.getAndIncrement());
+    }
+}
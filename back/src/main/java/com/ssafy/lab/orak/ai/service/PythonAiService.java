@@ -4,16 +4,34 @@ import com.ssafy.lab.orak.ai.dto.RecordDataDto;
 import com.ssafy.lab.orak.ai.dto.VoiceImageGenerationRequestDto;
 import com.ssafy.lab.orak.ai.dto.VoiceImageGenerationResponseDto;
 import com.ssafy.lab.orak.ai.dto.PineconeMetadataGenerationRequestDto;
+import com.ssafy.lab.orak.ai.util.Base64JsonFieldInputStream;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpInputMessage;
+import org.springframework.http.codec.multipart.PartEvent;
+import org.springframework.http.codec.multipart.PartEventHttpMessageReader;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +44,25 @@ public class PythonAiService {
     @Value("${python.service.url}")
     private String pythonServiceUrl;
 
+    private static final String IMAGE_BASE64_FIELD = "image_base64";
+    private static final int IMAGE_CHUNK_SIZE = 64 * 1024;
+    private static final PartEventHttpMessageReader PART_EVENT_READER = new PartEventHttpMessageReader();
+    private static final ObjectMapper ERROR_READER = new ObjectMapper();
+
+    /**
+     * 생성된 이미지를 받아 저장하는 쪽 (응답 본문을 메모리에 모으지 않고 청크 단위로 전달)
+     */
+    @FunctionalInterface
+    public interface GeneratedImageSink<T> {
+
+        /**
+         * @param contentType   이미지 MIME 타입
+         * @param contentLength 전체 바이트 수, 모르면 -1
+         * @param content       이미지 바이트 청크 (한 번만 구독)
+         */
+        Mono<T> store(String contentType, long contentLength, Flux<ByteBuffer> content);
+    }
+
     public Mono<Boolean> healthCheck() {
         return webClient.get()
                 .uri("/ai/health")
@@ -82,6 +119,175 @@ public class PythonAiService {
                 .doOnError(error -> log.error("Error calling Python AI service at {}: {}", pythonServiceUrl, error.getMessage(), error));
     }
 
+    /**
+     * 음성 기반 이미지 생성 (스트리밍)
+     * - image/* 응답: 본문을 그대로 sink로 전달
+     * - multipart 응답: 이미지 파트만 골라 전달 (메타데이터 파트는 버림)
+     * - JSON 응답(기존 서버): image_base64 값을 문자열로 만들지 않고 스트리밍 Base64 디코더로 풀어서 전달
+     */
+    public <T> Mono<T> generateVoiceImage(VoiceImageGenerationRequestDto request, GeneratedImageSink<T> sink) {
+        log.info("Requesting streamed voice image generation for {} records to URL: {}",
+                request.records().size(), pythonServiceUrl + "/ai/generate-voice-image");
+
+        return webClient.post()
+                .uri("/ai/generate-voice-image")
+                .accept(new MediaType("image", "*"), MediaType.MULTIPART_MIXED, MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(status -> status.is4xxClientError(),
+                    clientResponse -> {
+                        log.error("Client error when calling Python AI service: {}",
+                            clientResponse.statusCode());
+                        return clientResponse.bodyToMono(String.class)
+                                .flatMap(errorBody -> {
+                                    log.error("Error response body: {}", errorBody);
+                                    return Mono.error(new RuntimeException("Python AI service client error: " + errorBody));
+                                });
+                    })
+                .onStatus(status -> status.is5xxServerError(),
+                    clientResponse -> {
+                        log.error("Server error when calling Python AI service: {}",
+                            clientResponse.statusCode());
+                        return Mono.error(new RuntimeException("Python AI service server error"));
+                    })
+                .toEntityFlux(DataBuffer.class)
+                .flatMap(entity -> {
+                    HttpHeaders headers = entity.getHeaders();
+                    MediaType contentType = headers.getContentType();
+                    Flux<DataBuffer> body = entity.getBody() != null ? entity.getBody() : Flux.empty();
+
+                    if (contentType != null && "image".equals(contentType.getType())) {
+                        log.info("Voice image streamed as {} ({} bytes)", contentType, headers.getContentLength());
+                        return sink.store(contentType.getType() + "/" + contentType.getSubtype(),
+                                headers.getContentLength(), toByteBuffers(body));
+                    }
+                    if (contentType != null && "multipart".equals(contentType.getType())) {
+                        return storeMultipartImage(headers, body, sink);
+                    }
+                    return storeBase64JsonImage(body, sink);
+                })
+                .doOnError(error -> log.error("Error calling Python AI service at {}: {}", pythonServiceUrl, error.getMessage(), error));
+    }
+
+    // multipart 응답에서 첫 번째 이미지 파트를 sink로 전달
+    private <T> Mono<T> storeMultipartImage(HttpHeaders headers, Flux<DataBuffer> body, GeneratedImageSink<T> sink) {
+        ReactiveHttpInputMessage message = new ReactiveHttpInputMessage() {
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+
+            @Override
+            public Flux<DataBuffer> getBody() {
+                return body;
+            }
+        };
+
+        return PART_EVENT_READER.read(ResolvableType.forClass(PartEvent.class), message, Map.of())
+                .windowUntil(PartEvent::isLast)
+                .concatMap(part -> part.switchOnFirst((signal, events) -> {
+                    MediaType partType = signal.hasValue() ? signal.get().headers().getContentType() : null;
+                    if (partType != null && "image".equals(partType.getType())) {
+                        log.info("Voice image streamed as multipart part {}", partType);
+                        return sink.store(partType.getType() + "/" + partType.getSubtype(), -1,
+                                events.map(event -> toByteBuffer(event.content())));
+                    }
+                    return events.doOnNext(event -> DataBufferUtils.release(event.content())).then(Mono.<T>empty());
+                }))
+                .next()
+                .switchIfEmpty(Mono.error(new RuntimeException("AI 이미지 응답에 이미지 파트가 없습니다")));
+    }
+
+    // JSON 응답의 image_base64 값을 스트리밍 디코딩하여 sink로 전달
+    private <T> Mono<T> storeBase64JsonImage(Flux<DataBuffer> body, GeneratedImageSink<T> sink) {
+        return Mono.fromCallable(() -> {
+                    Base64JsonFieldInputStream field = new Base64JsonFieldInputStream(
+                            new BufferedInputStream(DataBufferUtils.subscriberInputStream(body, 4)), IMAGE_BASE64_FIELD);
+                    if (!field.locate()) {
+                        field.close();
+                        throw new RuntimeException("AI 이미지 생성 실패: " + extractError(field.retainedText()));
+                    }
+                    BufferedInputStream image = new BufferedInputStream(Base64.getMimeDecoder().wrap(field), IMAGE_CHUNK_SIZE);
+                    return new DecodedImage(detectImageType(image), image);
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(decoded -> sink.store(decoded.contentType(), -1, readChunks(decoded.content())));
+    }
+
+    // 블로킹 InputStream을 청크 Flux로 변환 (읽기는 boundedElastic에서)
+    private Flux<ByteBuffer> readChunks(InputStream content) {
+        return Flux.<ByteBuffer>generate(emitter -> {
+                    try {
+                        // 청크마다 배열 하나만 할당 (readNBytes는 내부 버퍼를 추가로 할당함)
+                        byte[] chunk = new byte[IMAGE_CHUNK_SIZE];
+                        int filled = 0;
+                        int read;
+                        while (filled < chunk.length && (read = content.read(chunk, filled, chunk.length - filled)) != -1) {
+                            filled += read;
+                        }
+                        if (filled == 0) {
+                            emitter.complete();
+                        } else {
+                            emitter.next(ByteBuffer.wrap(chunk, 0, filled));
+                        }
+                    } catch (IOException e) {
+                        emitter.error(e);
+                    }
+                })
+                .doFinally(signal -> {
+                    try {
+                        content.close();
+                    } catch (IOException e) {
+                        log.warn("AI 이미지 스트림 닫기 실패: {}", e.getMessage());
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // 디코딩된 앞부분 시그니처로 이미지 타입 판별 (기존 응답은 타입 정보가 없음)
+    private String detectImageType(BufferedInputStream image) throws IOException {
+        image.mark(12);
+        byte[] header = image.readNBytes(12);
+        image.reset();
+
+        if (header.length >= 8 && (header[0] & 0xFF) == 0x89 && header[1] == 'P' && header[2] == 'N' && header[3] == 'G') {
+            return MediaType.IMAGE_PNG_VALUE;
+        }
+        if (header.length >= 12 && header[0] == 'R' && header[1] == 'I' && header[2] == 'F' && header[3] == 'F'
+                && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P') {
+            return "image/webp";
+        }
+        return MediaType.IMAGE_JPEG_VALUE;
+    }
+
+    private String extractError(String json) {
+        try {
+            JsonNode node = ERROR_READER.readTree(json);
+            String error = node.path("error").asText(null);
+            return error != null ? error : "이미지 데이터가 없습니다";
+        } catch (Exception e) {
+            return "이미지 데이터가 없습니다";
+        }
+    }
+
+    private Flux<ByteBuffer> toByteBuffers(Flux<DataBuffer> body) {
+        return body.map(this::toByteBuffer);
+    }
+
+    // 네트워크 버퍼는 바로 반납하고 청크 크기만큼만 힙으로 복사
+    private ByteBuffer toByteBuffer(DataBuffer dataBuffer) {
+        try {
+            byte[] bytes = new byte[dataBuffer.readableByteCount()];
+            dataBuffer.read(bytes);
+            return ByteBuffer.wrap(bytes);
+        } finally {
+            DataBufferUtils.release(dataBuffer);
+        }
+    }
+
+    private record DecodedImage(String contentType, InputStream content) {
+    }
+
     public Mono<JsonNode> getVoiceRecommendations(Long userId, String uploadId, Integer topN) {
         log.info("Requesting voice recommendations for user: {}, uploadId: {}, topN: {}", userId, uploadId, topN);
 
@@ -156,6 +362,23 @@ public class PythonAiService {
                 .doOnError(error -> log.error("Error calling Python save user vector service at {}: {}", pythonServiceUrl, error.getMessage(), error));
     }
 
+    /**
+     * 여러 녹음의 사용자 벡터를 한 번에 저장
+     * 응답: {"results": [{"upload_id": "...", "status": "success", "vector_id": "..."}, ...]}
+     * 상태 코드 판단(429/5xx 백오프)은 호출 측에서 하므로 WebClientResponseException을 그대로 전달
+     */
+    public Mono<JsonNode> saveUserVectors(List<java.util.Map<String, Object>> items) {
+        log.debug("Requesting batch save user vectors: {} items", items.size());
+
+        return webClient.post()
+                .uri("/ai/save-user-vectors")
+                .bodyValue(java.util.Map.of("items", items))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .doOnError(error -> log.warn("Error calling Python batch save user vector service at {}: {}",
+                        pythonServiceUrl, error.getMessage()));
+    }
+
     public Mono<JsonNode> getSimilarVoiceRecommendations(Long userId, String uploadId, Integer topN) {
         log.info("Requesting similar voice recommendations for user: {}, uploadId: {}, topN: {}", userId, uploadId, topN);
 
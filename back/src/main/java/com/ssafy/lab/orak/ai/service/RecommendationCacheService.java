@@ -0,0 +1,246 @@
+package com.ssafy.lab.orak.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.lab.orak.ai.dto.VoiceRecommendationResponseDto;
+import com.ssafy.lab.orak.dislike.repository.DislikeRepository;
+import com.ssafy.lab.orak.recording.repository.RecordRepository;
+import com.ssafy.lab.orak.upload.enums.ProcessingStatus;
+import io.micrometer.core.instrument.Counter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+/**
+ * AI 추천 결과 캐시 (Redis + 인스턴스 로컬 near cache)
+ * - 키: 추천 종류, 사용자, 업로드, topN, 최근 분석 완료 녹음 ID, 싫어요 목록 해시
+ *   → 새 녹음 분석이 끝나거나 싫어요가 바뀌면 키 자체가 달라지므로 이전 결과를 읽지 않음
+ * - fresh TTL이 지난 결과는 그대로 반환하고 백그라운드에서 갱신 (stale-while-revalidate)
+ * - 같은 키의 동시 요청은 Python 호출 한 번을 공유 (single-flight)
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class RecommendationCacheService {
+
+    public static final String VOICE = "voice";
+    public static final String SIMILAR_VOICE = "similar";
+
+    private static final String KEY_PREFIX = "reco:";
+    private static final String USER_INDEX_PREFIX = "reco:keys:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final DislikeRepository dislikeRepository;
+    private final RecordRepository recordRepository;
+    private final Counter recommendationCacheHitCounter;
+    private final Counter recommendationCacheStaleCounter;
+    private final Counter recommendationCacheMissCounter;
+
+    private final Map<String, CompletableFuture<VoiceRecommendationResponseDto>> inFlight = new ConcurrentHashMap<>();
+
+    private Cache<String, CachedRecommendation> nearCache;
+
+    @Value("${recommendation.cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${recommendation.cache.fresh-ttl-seconds:600}")
+    private long freshTtlSeconds = 600;
+
+    @Value("${recommendation.cache.stale-ttl-seconds:3600}")
+    private long staleTtlSeconds = 3600;
+
+    @Value("${recommendation.cache.near-cache-ttl-seconds:60}")
+    private long nearCacheTtlSeconds = 60;
+
+    @Value("${recommendation.cache.near-cache-max-size:10000}")
+    private long nearCacheMaxSize = 10000;
+
+    @PostConstruct
+    void initNearCache() {
+        nearCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(nearCacheTtlSeconds))
+                .build();
+    }
+
+    /**
+     * 캐시된 추천 결과 반환, 없으면 loader로 조회 후 저장
+     *
+     * @param kind   추천 종류 (VOICE, SIMILAR_VOICE)
+     * @param loader Python AI 서비스 호출
+     */
+    public Mono<VoiceRecommendationResponseDto> get(String kind, Long userId, Long uploadId, Integer topN,
+                                                    Supplier<Mono<VoiceRecommendationResponseDto>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        String key;
+        try {
+            key = buildKey(kind, userId, uploadId, topN);
+        } catch (Exception e) {
+            log.warn("추천 캐시 키 생성 실패, 캐시 없이 조회 - userId: {}", userId, e);
+            return loader.get();
+        }
+
+        CachedRecommendation cached = nearCache.getIfPresent(key);
+        if (cached == null) {
+            cached = readRedis(key);
+            if (cached != null) {
+                nearCache.put(key, cached);
+            }
+        }
+
+        if (cached != null) {
+            if (cached.isFresh(System.currentTimeMillis(), freshTtlSeconds)) {
+                recommendationCacheHitCounter.increment();
+                return Mono.just(cached.response());
+            }
+            // 오래된 결과를 바로 반환하고 갱신은 백그라운드에서 (이미 갱신 중이면 합류)
+            recommendationCacheStaleCounter.increment();
+            load(key, userId, loader).whenComplete((response, error) -> {
+                if (error != null) {
+                    log.warn("추천 캐시 백그라운드 갱신 실패 - key: {}", key, error);
+                }
+            });
+            return Mono.just(cached.response());
+        }
+
+        recommendationCacheMissCounter.increment();
+        return Mono.fromFuture(load(key, userId, loader), true);
+    }
+
+    /**
+     * 사용자의 추천 캐시 전체 제거 (새 녹음 분석 완료, 싫어요 변경 시)
+     * 다른 인스턴스의 near cache는 키가 달라지므로 읽히지 않고 TTL로 만료됨
+     */
+    public void evictUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+
+        List<String> userPrefixes = List.of(
+                KEY_PREFIX + VOICE + ":" + userId + ":",
+                KEY_PREFIX + SIMILAR_VOICE + ":" + userId + ":");
+        nearCache.asMap().keySet().removeIf(key -> userPrefixes.stream().anyMatch(key::startsWith));
+
+        try {
+            String indexKey = USER_INDEX_PREFIX + userId;
+            Set<Object> keys = redisTemplate.opsForSet().members(indexKey);
+            if (keys != null && !keys.isEmpty()) {
+                redisTemplate.delete(keys.stream().map(String::valueOf).toList());
+            }
+            redisTemplate.delete(indexKey);
+            log.debug("추천 캐시 무효화 - userId: {}, keys: {}", userId, keys != null ? keys.size() : 0);
+        } catch (Exception e) {
+            log.warn("추천 캐시 Redis 무효화 실패 - userId: {}", userId, e);
+        }
+    }
+
+    /**
+     * 같은 키로 진행 중인 조회가 있으면 그 결과를 공유하고, 없으면 새로 조회
+     */
+    private CompletableFuture<VoiceRecommendationResponseDto> load(String key, Long userId,
+                                                                   Supplier<Mono<VoiceRecommendationResponseDto>> loader) {
+        CompletableFuture<VoiceRecommendationResponseDto> promise = new CompletableFuture<>();
+        CompletableFuture<VoiceRecommendationResponseDto> existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            loader.get().subscribe(
+                    response -> {
+                        store(key, userId, response);
+                        inFlight.remove(key, promise);
+                        promise.complete(response);
+                    },
+                    error -> {
+                        inFlight.remove(key, promise);
+                        promise.completeExceptionally(error);
+                    },
+                    () -> {
+                        inFlight.remove(key, promise);
+                        promise.completeExceptionally(new IllegalStateException("추천 응답이 비어 있습니다"));
+                    });
+        } catch (Exception e) {
+            inFlight.remove(key, promise);
+            promise.completeExceptionally(e);
+        }
+        return promise;
+    }
+
+    private void store(String key, Long userId, VoiceRecommendationResponseDto response) {
+        if (response == null || "error".equals(response.status())) {
+            return;
+        }
+
+        CachedRecommendation cached = new CachedRecommendation(System.currentTimeMillis(), response);
+        nearCache.put(key, cached);
+
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(cached), Duration.ofSeconds(staleTtlSeconds));
+            String indexKey = USER_INDEX_PREFIX + userId;
+            redisTemplate.opsForSet().add(indexKey, key);
+            redisTemplate.expire(indexKey, Duration.ofSeconds(staleTtlSeconds));
+        } catch (Exception e) {
+            log.warn("추천 캐시 Redis 저장 실패 - key: {}", key, e);
+        }
+    }
+
+    private CachedRecommendation readRedis(String key) {
+        try {
+            Object value = redisTemplate.opsForValue().get(key);
+            return value == null ? null : objectMapper.readValue(value.toString(), CachedRecommendation.class);
+        } catch (Exception e) {
+            log.warn("추천 캐시 Redis 조회 실패 - key: {}", key, e);
+            return null;
+        }
+    }
+
+    private String buildKey(String kind, Long userId, Long uploadId, Integer topN) {
+        Long latestRecordId = recordRepository.findLatestRecordIdByUserIdAndStatus(userId, ProcessingStatus.VOICE_ANALYZED);
+        List<Long> dislikedSongIds = dislikeRepository.findSongIdsByUserId(userId);
+
+        return KEY_PREFIX + kind + ":" + userId + ":" + uploadId + ":" + topN + ":"
+                + (latestRecordId != null ? latestRecordId : 0) + ":" + dislikeFingerprint(dislikedSongIds);
+    }
+
+    // 싫어요 목록은 순서와 무관하게 같은 집합이면 같은 값
+    private String dislikeFingerprint(List<Long> songIds) {
+        if (songIds == null || songIds.isEmpty()) {
+            return "0";
+        }
+        CRC32 crc = new CRC32();
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+        songIds.stream().sorted().forEach(songId -> {
+            buffer.clear();
+            buffer.putLong(songId);
+            crc.update(buffer.array());
+        });
+        return songIds.size() + "-" + Long.toHexString(crc.getValue());
+    }
+
+    record CachedRecommendation(long cachedAtMillis, VoiceRecommendationResponseDto response) {
+
+        boolean isFresh(long nowMillis, long freshTtlSeconds) {
+            return nowMillis - cachedAtMillis < freshTtlSeconds * 1000;
+        }
+    }
+}
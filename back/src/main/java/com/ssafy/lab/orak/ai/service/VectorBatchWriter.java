@@ -0,0 +1,261 @@
+package com.ssafy.lab.orak.ai.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 벡터 저장 요청을 모아서 /ai/save-user-vectors 한 번으로 보내는 마이크로 배치 writer
+ * - 최대 maxBatchSize개 또는 lingerMs 동안 모인 요청을 하나의 배치로 전송
+ * - 배치 응답을 upload_id 기준으로 요청별 future에 나눠서 완료
+ * - 429/5xx/연결 오류는 AI 서비스 과부하로 보고 지수 백오프 후 재시도, 다음 배치 전송도 같은 만큼 늦춤
+ * - 응답을 받은 배치는 retryable 실패 항목만 다시 보냄 (성공한 항목은 다시 분석/저장하지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class VectorBatchWriter {
+
+    private final PythonAiService pythonAiService;
+
+    private final BlockingQueue<PendingUpsert> queue = new LinkedBlockingQueue<>();
+    private final AtomicLong pressureBackoffMs = new AtomicLong(0);
+
+    private Semaphore inFlightPermits;
+    private Thread dispatcher;
+    private volatile boolean running;
+
+    @Value("${ai.vector.batch.enabled:true}")
+    private boolean batchEnabled = true;
+
+    @Value("${ai.vector.batch.max-size:32}")
+    private int maxBatchSize = 32;
+
+    @Value("${ai.vector.batch.linger-ms:20}")
+    private long lingerMs = 20;
+
+    @Value("${ai.vector.batch.max-in-flight:4}")
+    private int maxInFlight = 4;
+
+    @Value("${ai.vector.batch.max-retries:3}")
+    private int maxRetries = 3;
+
+    @Value("${ai.vector.batch.backoff-initial-ms:200}")
+    private long backoffInitialMs = 200;
+
+    @Value("${ai.vector.batch.backoff-max-ms:5000}")
+    private long backoffMaxMs = 5000;
+
+    @PostConstruct
+    void start() {
+        inFlightPermits = new Semaphore(maxInFlight);
+        running = true;
+        dispatcher = new Thread(this::dispatchLoop, "VectorBatch-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+        log.info("벡터 배치 writer 시작 - 배치 크기: {}, 대기: {}ms, 동시 배치: {}", maxBatchSize, lingerMs, maxInFlight);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        dispatcher.interrupt();
+        dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+
+        List<PendingUpsert> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(pending -> pending.future().completeExceptionally(
+                new IllegalStateException("애플리케이션 종료로 벡터 저장이 취소되었습니다")));
+    }
+
+    /**
+     * 벡터 저장 요청 등록
+     *
+     * @return 저장된 vectorId로 완료되는 future
+     */
+    public CompletableFuture<String> submit(String s3Url, Long userId, Long uploadId, Long songId) {
+        Map<String, Object> item = new HashMap<>();
+        item.put("s3_url", s3Url);
+        item.put("user_id", userId);
+        item.put("upload_id", String.valueOf(uploadId));
+        if (songId != null) {
+            item.put("song_id", songId);
+        }
+
+        if (!batchEnabled) {
+            // 배치 엔드포인트가 없는 AI 서버용 단건 경로
+            return pythonAiService.saveUserVector(s3Url, userId, String.valueOf(uploadId), songId)
+                    .toFuture()
+                    .thenApply(response -> extractVectorId(response, String.valueOf(uploadId)));
+        }
+
+        PendingUpsert pending = new PendingUpsert(item, String.valueOf(uploadId), new CompletableFuture<>());
+        queue.add(pending);
+        return pending.future();
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                List<PendingUpsert> batch = collectBatch();
+
+                // 과부하 신호가 있으면 다음 배치 전송을 늦춤 (그 사이 큐가 쌓여 배치가 커짐)
+                long backoff = pressureBackoffMs.get();
+                if (backoff > 0) {
+                    Thread.sleep(backoff);
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                }
+
+                inFlightPermits.acquire();
+                send(batch, 0);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("벡터 배치 전송 루프 오류", e);
+            }
+        }
+    }
+
+    private List<PendingUpsert> collectBatch() throws InterruptedException {
+        List<PendingUpsert> batch = new ArrayList<>(maxBatchSize);
+        batch.add(queue.take());
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PendingUpsert next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void send(List<PendingUpsert> batch, int attempt) {
+        List<Map<String, Object>> items = batch.stream().map(PendingUpsert::item).toList();
+
+        pythonAiService.saveUserVectors(items).subscribe(
+                response -> {
+                    relievePressure();
+                    List<PendingUpsert> retry = fanOut(batch, response, attempt < maxRetries);
+                    if (retry.isEmpty()) {
+                        inFlightPermits.release();
+                        return;
+                    }
+                    long delay = backoffInitialMs << Math.min(attempt, 10);
+                    log.warn("벡터 배치 일부 항목 재시도 - {}/{}건, {}회차, {}ms 후",
+                            retry.size(), batch.size(), attempt + 1, delay);
+                    retryLater(retry, attempt, Math.min(backoffMaxMs, delay));
+                },
+                error -> {
+                    if (isPressure(error) && attempt < maxRetries) {
+                        long delay = increasePressure();
+                        log.warn("AI 서비스 과부하로 벡터 배치 재시도 - {}건, {}회차, {}ms 후: {}",
+                                batch.size(), attempt + 1, delay, error.getMessage());
+                        retryLater(batch, attempt, delay);
+                        return;
+                    }
+                    inFlightPermits.release();
+                    log.error("벡터 배치 저장 실패 - {}건", batch.size(), error);
+                    batch.forEach(pending -> pending.future().completeExceptionally(error));
+                });
+    }
+
+    // 재시도 동안에도 동시 배치 수 제한을 유지하기 위해 permit을 들고 대기
+    private void retryLater(List<PendingUpsert> batch, int attempt, long delayMs) {
+        Mono.delay(Duration.ofMillis(delayMs)).subscribe(tick -> send(batch, attempt + 1));
+    }
+
+    /**
+     * 항목별 결과로 future를 완료
+     *
+     * @return 다시 보낼 항목 (retryable 실패 또는 결과 누락, canRetry가 false면 항상 비어 있음)
+     */
+    private List<PendingUpsert> fanOut(List<PendingUpsert> batch, JsonNode response, boolean canRetry) {
+        Map<String, JsonNode> resultsByUploadId = new HashMap<>();
+        for (JsonNode result : response.path("results")) {
+            resultsByUploadId.put(result.path("upload_id").asText(), result);
+        }
+
+        List<PendingUpsert> retry = new ArrayList<>();
+        for (PendingUpsert pending : batch) {
+            JsonNode result = resultsByUploadId.get(pending.uploadId());
+            boolean succeeded = result != null && "success".equals(result.path("status").asText());
+            if (!succeeded && canRetry && (result == null || result.path("retryable").asBoolean(false))) {
+                retry.add(pending);
+                continue;
+            }
+            if (result == null) {
+                pending.future().completeExceptionally(
+                        new RuntimeException("배치 응답에 결과가 없습니다: uploadId=" + pending.uploadId()));
+                continue;
+            }
+            try {
+                pending.future().complete(extractVectorId(result, pending.uploadId()));
+            } catch (RuntimeException e) {
+                pending.future().completeExceptionally(e);
+            }
+        }
+        log.debug("벡터 배치 저장 응답 처리 - {}건 (재시도 {}건)", batch.size(), retry.size());
+        return retry;
+    }
+
+    private String extractVectorId(JsonNode result, String uploadId) {
+        if (result == null) {
+            throw new RuntimeException("Python 서비스로부터 응답을 받지 못했습니다");
+        }
+        if (!"success".equals(result.path("status").asText("failed"))) {
+            throw new RuntimeException("Python 벡터 처리 실패: " + result.path("error").asText("Unknown error"));
+        }
+        String vectorId = result.path("vector_id").asText(null);
+        if (vectorId == null) {
+            throw new RuntimeException("vectorId가 없습니다: uploadId=" + uploadId);
+        }
+        return vectorId;
+    }
+
+    private boolean isPressure(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status == 429 || status >= 500;
+        }
+        return error instanceof WebClientRequestException || error instanceof TimeoutException;
+    }
+
+    private long increasePressure() {
+        return pressureBackoffMs.updateAndGet(current ->
+                current == 0 ? backoffInitialMs : Math.min(backoffMaxMs, current * 2));
+    }
+
+    private void relievePressure() {
+        pressureBackoffMs.updateAndGet(current -> current / 2 < backoffInitialMs ? 0 : current / 2);
+    }
+
+    private record PendingUpsert(Map<String, Object> item, String uploadId, CompletableFuture<String> future) {
+    }
+}
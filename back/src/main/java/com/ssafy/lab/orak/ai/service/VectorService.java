@@ -7,7 +7,9 @@ import com.ssafy.lab.orak.ai.dto.SimilarVoiceRecommendationRequestDto;
 import com.ssafy.lab.orak.ai.dto.VoiceRecommendationResponseDto;
 import com.ssafy.lab.orak.ai.dto.RecommendationSongDto;
 import com.ssafy.lab.orak.song.dto.SongResponseDTO;
-import com.ssafy.lab.orak.song.repository.SongRepository;
+import com.ssafy.lab.orak.song.dto.SongSummaryDTO;
+import com.ssafy.lab.orak.song.service.SongCatalogCache;
+import com.ssafy.lab.orak.upload.entity.Upload;
 import com.ssafy.lab.orak.upload.service.FileUploadService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -17,6 +19,8 @@ import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,12 +30,18 @@ public class VectorService {
 
     private final PythonAiService pythonAiService;
     private final FileUploadService fileUploadService;
-    private final SongRepository songRepository;
-
+    private final SongCatalogCache songCatalogCache;
+    private final RecommendationCacheService recommendationCacheService;
+    private final VectorBatchWriter vectorBatchWriter;
 
     public Mono<VoiceRecommendationResponseDto> getSimilarVoiceRecommendations(Long userId, SimilarVoiceRecommendationRequestDto request) {
         log.info("Processing similar voice recommendation for user: {} with upload ID: {}", userId, request.uploadId());
 
+        return recommendationCacheService.get(RecommendationCacheService.SIMILAR_VOICE, userId,
+                request.uploadId(), request.topN(), () -> fetchSimilarVoiceRecommendations(userId, request));
+    }
+
+    private Mono<VoiceRecommendationResponseDto> fetchSimilarVoiceRecommendations(Long userId, SimilarVoiceRecommendationRequestDto request) {
         try {
             // Python AI 서비스 호출
             return pythonAiService.getSimilarVoiceRecommendations(userId, String.valueOf(request.uploadId()), request.topN())
@@ -42,17 +52,17 @@ public class VectorService {
                         List<Long> songIds = extractSongIds(pythonResponse);
                         log.info("Extracted {} song IDs from Python response", songIds.size());
 
-                        // DB에서 Song 엔티티들 조회
+                        // 곡 카탈로그 캐시에서 한 번에 조회 (Python 응답 순서 유지)
+                        Map<Long, SongSummaryDTO> songs = songCatalogCache.getAllBySongIds(songIds);
                         List<SongResponseDTO> songDtos = new ArrayList<>();
                         for (Long songId : songIds) {
-                            songRepository.findBySongId(songId)
-                                    .ifPresentOrElse(
-                                            song -> {
-                                                songDtos.add(SongResponseDTO.from(song));
-                                                log.debug("Found song: {} - {}", song.getArtistName(), song.getSongName());
-                                            },
-                                            () -> log.warn("Song not found for songId: {}", songId)
-                                    );
+                            SongSummaryDTO song = songs.get(songId);
+                            if (song != null) {
+                                songDtos.add(SongResponseDTO.from(song));
+                                log.debug("Found song: {} - {}", song.artistName(), song.songName());
+                            } else {
+                                log.warn("Song not found for songId: {}", songId);
+                            }
                         }
 
                         // 유사 사용자 정보 추출
@@ -156,47 +166,20 @@ public class VectorService {
     }
 
     /**
-     * 동기식 벡터 처리 (Kafka ProcessingJob에서 사용)
+     * 배치 writer를 통한 벡터 저장 (동시에 들어온 여러 녹음의 요청을 한 번의 AI 호출로 묶음)
+     *
+     * @return 저장된 vectorId로 완료되는 future
      */
-    public void processRecordVectorSync(Long userId, Long uploadId, Long songId) {
-        log.info("Record 동기 벡터 처리 시작: userId={}, uploadId={}, songId={}", userId, uploadId, songId);
-
-        try {
-            // Upload ID로 파일 URL 조회
-            var upload = fileUploadService.getUpload(uploadId);
-            String fileUrl = fileUploadService.getFileUrl(upload);
-
-            log.info("Record 벡터 처리를 위한 파일 URL 조회 완료: uploadId={}", uploadId);
-
-            // Python AI 서비스 동기 호출
-            JsonNode pythonResponse = pythonAiService.saveUserVector(fileUrl, userId, String.valueOf(uploadId), songId)
-                    .block(); // 동기 처리
-
-            if (pythonResponse == null) {
-                throw new RuntimeException("Python 서비스로부터 응답을 받지 못했습니다");
-            }
-
-            // Python 응답 검증
-            String status = pythonResponse.path("status").asText("failed");
-
-            if ("success".equals(status)) {
-                String vectorId = pythonResponse.path("vector_id").asText(null);
-                if (vectorId != null) {
-                    log.info("Record 동기 벡터 처리 성공: userId={}, uploadId={}, songId={}, vectorId={}",
-                            userId, uploadId, songId, vectorId);
-                } else {
-                    log.warn("벡터 저장은 성공했지만 vectorId가 없음: userId={}, uploadId={}", userId, uploadId);
-                    throw new RuntimeException("vectorId가 없습니다");
-                }
-            } else {
-                String error = pythonResponse.path("error").asText("Unknown error");
-                log.error("Record 동기 벡터 처리 실패: userId={}, uploadId={}, error={}", userId, uploadId, error);
-                throw new RuntimeException("Python 벡터 처리 실패: " + error);
-            }
+    public CompletableFuture<String> saveRecordVector(Long userId, Long uploadId, Long songId) {
+        // Upload ID로 파일 URL 조회
+        return saveRecordVector(userId, fileUploadService.getUpload(uploadId), songId);
+    }
 
-        } catch (Exception e) {
-            log.error("Record 동기 벡터 처리 중 오류 발생: userId={}, uploadId={}, songId={}", userId, uploadId, songId, e);
-            throw new RuntimeException("벡터 처리 실패", e);
-        }
+    /**
+     * 이미 조회한 업로드로 벡터 저장 (업로드 재조회 없음)
+     */
+    public CompletableFuture<String> saveRecordVector(Long userId, Upload upload, Long songId) {
+        String fileUrl = fileUploadService.getFileUrl(upload);
+        return vectorBatchWriter.submit(fileUrl, userId, upload.getId(), songId);
     }
-}
\ No newline at end of file
+}
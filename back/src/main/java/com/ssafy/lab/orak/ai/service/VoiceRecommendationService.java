@@ -5,9 +5,11 @@ import com.ssafy.lab.orak.ai.dto.VoiceRecommendationRequestDto;
 import com.ssafy.lab.orak.ai.dto.VoiceRecommendationResponseDto;
 import com.ssafy.lab.orak.ai.dto.RecommendationSongDto;
 import com.ssafy.lab.orak.ai.dto.VoiceAnalysisDto;
+import com.ssafy.lab.orak.recording.repository.RecordRepository;
 import com.ssafy.lab.orak.song.dto.SongResponseDTO;
-import com.ssafy.lab.orak.song.entity.Song;
-import com.ssafy.lab.orak.song.repository.SongRepository;
+import com.ssafy.lab.orak.song.dto.SongSummaryDTO;
+import com.ssafy.lab.orak.song.service.SongCatalogCache;
+import com.ssafy.lab.orak.upload.enums.ProcessingStatus;
 import com.ssafy.lab.orak.upload.service.FileUploadService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -16,6 +18,7 @@ import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,11 +28,27 @@ public class VoiceRecommendationService {
 
     private final PythonAiService pythonAiService;
     private final FileUploadService fileUploadService;
-    private final SongRepository songRepository;
+    private final SongCatalogCache songCatalogCache;
+    private final RecommendationCacheService recommendationCacheService;
+    private final RecordRepository recordRepository;
+    private final ColdStartRecommendationService coldStartRecommendationService;
 
     public Mono<VoiceRecommendationResponseDto> getVoiceRecommendations(Long userId, VoiceRecommendationRequestDto request) {
         log.info("Processing voice recommendation for user: {} with upload ID: {}", userId, request.uploadId());
 
+        // 분석 완료된 녹음이 없으면 AI 호출 없이 인기 곡 기반 추천
+        if (coldStartRecommendationService.isReady()
+                && recordRepository.findLatestRecordIdByUserIdAndStatus(userId, ProcessingStatus.VOICE_ANALYZED) == null) {
+            log.info("No analysed record for user: {} - serving cold-start recommendations", userId);
+            return Mono.just(coldStartRecommendationService.recommend(userId, request.topN()));
+        }
+
+        // 최근 분석 녹음/싫어요 목록이 그대로면 캐시된 결과 재사용
+        return recommendationCacheService.get(RecommendationCacheService.VOICE, userId,
+                request.uploadId(), request.topN(), () -> fetchVoiceRecommendations(userId, request));
+    }
+
+    private Mono<VoiceRecommendationResponseDto> fetchVoiceRecommendations(Long userId, VoiceRecommendationRequestDto request) {
         try {
             // Python AI 서비스 호출 (벡터 DB 기반)
             return pythonAiService.getVoiceRecommendations(userId, String.valueOf(request.uploadId()), request.topN())
@@ -40,17 +59,17 @@ public class VoiceRecommendationService {
                         List<Long> songIds = extractSongIds(pythonResponse);
                         log.info("Extracted {} song IDs from Python response", songIds.size());
 
-                        // DB에서 Song 엔티티들 조회
+                        // 곡 카탈로그 캐시에서 한 번에 조회 (Python 응답 순서 유지)
+                        Map<Long, SongSummaryDTO> songs = songCatalogCache.getAllBySongIds(songIds);
                         List<SongResponseDTO> songDtos = new ArrayList<>();
                         for (Long songId : songIds) {
-                            songRepository.findBySongId(songId)
-                                    .ifPresentOrElse(
-                                            song -> {
-                                                songDtos.add(SongResponseDTO.from(song));
-                                                log.debug("Found song: {} - {}", song.getArtistName(), song.getSongName());
-                                            },
-                                            () -> log.warn("Song not found for songId: {}", songId)
-                                    );
+                            SongSummaryDTO song = songs.get(songId);
+                            if (song != null) {
+                                songDtos.add(SongResponseDTO.from(song));
+                                log.debug("Found song: {} - {}", song.artistName(), song.songName());
+                            } else {
+                                log.warn("Song not found for songId: {}", songId);
+                            }
                         }
 
                         // 음성 분석 결과 추출
@@ -0,0 +1,179 @@
+package com.ssafy.lab.orak.ai.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JSON 스트림에서 최상위 문자열 필드 하나의 값만 흘려보내는 InputStream
+ * - 필드 값 전체를 문자열로 만들지 않으므로 Base64.Decoder#wrap과 연결하면 큰 base64 이미지를 스트리밍 디코딩 가능
+ * - 필드를 찾기 전까지 읽은 앞부분은 오류 응답 분석용으로 최대 maxRetainedBytes까지 보관
+ */
+public class Base64JsonFieldInputStream extends InputStream {
+
+    private static final int DEFAULT_MAX_RETAINED_BYTES = 64 * 1024;
+
+    private final InputStream json;
+    private final byte[] fieldName;
+    private final int maxRetainedBytes;
+    private final ByteArrayOutputStream retained = new ByteArrayOutputStream();
+
+    private boolean located;
+    private boolean finished;
+
+    public Base64JsonFieldInputStream(InputStream json, String fieldName) {
+        this(json, fieldName, DEFAULT_MAX_RETAINED_BYTES);
+    }
+
+    public Base64JsonFieldInputStream(InputStream json, String fieldName, int maxRetainedBytes) {
+        this.json = json;
+        this.fieldName = fieldName.getBytes(StandardCharsets.UTF_8);
+        this.maxRetainedBytes = maxRetainedBytes;
+    }
+
+    /**
+     * 필드 값의 시작 위치까지 읽음
+     * @return 필드를 찾았으면 true, 필드 없이 JSON이 끝났으면 false (retainedText로 응답 확인)
+     */
+    public boolean locate() throws IOException {
+        if (located) {
+            return true;
+        }
+
+        int depth = 0;
+        boolean inString = false;
+        boolean escape = false;
+        // 최상위 객체의 문자열을 키 후보로 비교 (-1이면 비교 중단)
+        int matched = -1;
+        boolean keyCandidate = false;
+
+        int b;
+        while ((b = json.read()) != -1) {
+            retain(b);
+
+            if (inString) {
+                if (escape) {
+                    escape = false;
+                    matched = -1;
+                } else if (b == '\\') {
+                    escape = true;
+                } else if (b == '"') {
+                    inString = false;
+                    keyCandidate = matched == fieldName.length;
+                } else if (matched >= 0) {
+                    matched = matched < fieldName.length && fieldName[matched] == b ? matched + 1 : -1;
+                }
+                continue;
+            }
+
+            switch (b) {
+                case '"' -> {
+                    inString = true;
+                    matched = depth == 1 ? 0 : -1;
+                    keyCandidate = false;
+                }
+                case '{', '[' -> {
+                    depth++;
+                    keyCandidate = false;
+                }
+                case '}', ']' -> {
+                    depth--;
+                    keyCandidate = false;
+                }
+                case ':' -> {
+                    if (keyCandidate && skipToStringValue()) {
+                        located = true;
+                        return true;
+                    }
+                    keyCandidate = false;
+                }
+                case ' ', '\t', '\r', '\n' -> {
+                    // 키와 콜론 사이 공백은 후보 유지
+                }
+                default -> keyCandidate = false;
+            }
+        }
+        finished = true;
+        return false;
+    }
+
+    /**
+     * 필드를 찾기 전까지 읽은 JSON 앞부분 (필드가 없는 오류 응답의 메시지 확인용)
+     */
+    public String retainedText() {
+        return retained.toString(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!located && !locate()) {
+            return -1;
+        }
+        if (finished) {
+            return -1;
+        }
+
+        int b = json.read();
+        if (b == -1 || b == '"') {
+            finished = true;
+            return -1;
+        }
+        if (b == '\\') {
+            // base64에서 의미 있는 이스케이프는 \/ 뿐이고 \n 등은 MIME 디코더가 무시하도록 공백으로 바꿈
+            int escaped = json.read();
+            if (escaped == -1) {
+                finished = true;
+                return -1;
+            }
+            return escaped == '/' ? '/' : ' ';
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        int count = 0;
+        while (count < length) {
+            int b = read();
+            if (b == -1) {
+                break;
+            }
+            buffer[offset + count++] = (byte) b;
+            // 버퍼된 입력이 비었으면 블로킹 대기 전에 지금까지 읽은 만큼 반환
+            if (json.available() == 0) {
+                break;
+            }
+        }
+        return count == 0 ? -1 : count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        json.close();
+    }
+
+    // 콜론 뒤 공백을 건너뛰고 값이 문자열로 시작하는지 확인
+    private boolean skipToStringValue() throws IOException {
+        int b;
+        while ((b = json.read()) != -1) {
+            retain(b);
+            if (b == '"') {
+                return true;
+            }
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private void retain(int b) {
+        if (retained.size() < maxRetainedBytes) {
+            retained.write(b);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.ssafy.lab.orak.ai.util;
+
+import com.ssafy.lab.orak.ai.dto.RecommendationSongDto;
+import com.ssafy.lab.orak.ai.enums.ColdStartSegment;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 세그먼트별 상위 곡 목록 스냅샷 (불변, 갱신 시 통째로 교체)
+ * - 곡은 dense index로 식별하여 사용자별 싫어요 비트맵과 바로 대조
+ * - 목록은 세그먼트당 maxListSize개까지만 보관하므로 조회는 목록 앞부분만 훑음
+ */
+public final class SongRanking {
+
+    public static final SongRanking EMPTY = new SongRanking(new RecommendationSongDto[0], new EnumMap<>(ColdStartSegment.class), 0);
+
+    private final RecommendationSongDto[] songs;
+    private final Map<ColdStartSegment, int[]> ranked;
+    private final int size;
+
+    private SongRanking(RecommendationSongDto[] songs, Map<ColdStartSegment, int[]> ranked, int size) {
+        this.songs = songs;
+        this.ranked = ranked;
+        this.size = size;
+    }
+
+    /**
+     * @param indexCapacity 지금까지 발급된 dense index 수 (songs 배열 크기)
+     */
+    public static SongRanking build(Collection<Entry> entries, int maxListSize, double trackWeight, int indexCapacity) {
+        RecommendationSongDto[] songs = new RecommendationSongDto[indexCapacity];
+        for (Entry entry : entries) {
+            songs[entry.index()] = entry.song();
+        }
+
+        Map<ColdStartSegment, int[]> ranked = new EnumMap<>(ColdStartSegment.class);
+        for (ColdStartSegment segment : ColdStartSegment.values()) {
+            ranked.put(segment, topIndices(entries, segment, maxListSize, trackWeight));
+        }
+        return new SongRanking(songs, ranked, entries.size());
+    }
+
+    /**
+     * 싫어요한 곡을 건너뛰고 상위 topN개 반환
+     *
+     * @param excluded dense index 기준 제외 비트맵
+     */
+    public List<RecommendationSongDto> top(ColdStartSegment segment, int topN, BitSet excluded) {
+        int[] indices = ranked.get(segment);
+        if (indices == null || topN <= 0) {
+            return List.of();
+        }
+
+        List<RecommendationSongDto> result = new ArrayList<>(Math.min(topN, indices.length));
+        for (int index : indices) {
+            if (!excluded.get(index)) {
+                result.add(songs[index]);
+                if (result.size() == topN) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 크기 maxListSize의 최소 힙으로 상위 곡만 추림 (전체 정렬 없이 O(n log k))
+    private static int[] topIndices(Collection<Entry> entries, ColdStartSegment segment, int maxListSize,
+                                    double trackWeight) {
+        Comparator<Entry> bestFirst = Comparator
+                .comparingDouble((Entry entry) -> segment.score(entry.popularity(), entry.trackCount(), trackWeight))
+                .reversed()
+                .thenComparing(entry -> entry.song().getSongId());
+
+        PriorityQueue<Entry> heap = new PriorityQueue<>(maxListSize + 1, bestFirst.reversed());
+        for (Entry entry : entries) {
+            heap.offer(entry);
+            if (heap.size() > maxListSize) {
+                heap.poll();
+            }
+        }
+
+        List<Entry> top = new ArrayList<>(heap);
+        top.sort(bestFirst);
+        return top.stream().mapToInt(Entry::index).toArray();
+    }
+
+    /**
+     * 랭킹 대상 곡
+     *
+     * @param index dense index (곡 ID별로 고정)
+     */
+    public record Entry(int index, RecommendationSongDto song, int popularity, long trackCount) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.ssafy.lab.orak.aidemo.controller;
 
+import com.ssafy.lab.orak.aidemo.dto.AiDemoRecordPageDTO;
 import com.ssafy.lab.orak.aidemo.service.AiDemoRecordService;
 import com.ssafy.lab.orak.auth.service.CustomUserPrincipal;
 import com.ssafy.lab.orak.recording.dto.RecordResponseDTO;
@@ -66,4 +67,14 @@ public class AiDemoRecordController {
         List<RecordResponseDTO> response = aiDemoRecordService.getAllAiDemoRecords();
         return ResponseEntity.ok(response);
     }
+
+    // AI 데모 파일 커서 페이지 조회 (관리자 전용)
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AiDemoRecordPageDTO> getAiDemoRecordPage(
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "size", defaultValue = "100") int size) {
+        AiDemoRecordPageDTO response = aiDemoRecordService.getAiDemoRecordPage(cursor, size);
+        return ResponseEntity.ok(response);
+    }
 }
\ No newline at end of file
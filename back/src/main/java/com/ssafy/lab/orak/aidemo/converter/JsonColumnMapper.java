@@ -0,0 +1,15 @@
+package com.ssafy.lab.orak.aidemo.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * JSON 컬럼 컨버터들이 공유하는 ObjectMapper (설정 후 읽기 전용이라 스레드 안전)
+ * - 컨버터 인스턴스마다 ObjectMapper를 만들지 않도록 한 곳에서 생성
+ */
+final class JsonColumnMapper {
+
+    static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private JsonColumnMapper() {
+    }
+}
@@ -2,7 +2,8 @@ package com.ssafy.lab.orak.aidemo.converter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 import lombok.extern.log4j.Log4j2;
@@ -14,7 +15,9 @@ import java.util.List;
 @Log4j2
 public class YouTubeLinksConverter implements AttributeConverter<List<String>, String> {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    // 타입별 reader/writer를 미리 만들어 두고 재사용 (엔티티 로딩마다 타입 해석 생략)
+    private static final ObjectReader READER = JsonColumnMapper.MAPPER.readerFor(new TypeReference<List<String>>() {});
+    private static final ObjectWriter WRITER = JsonColumnMapper.MAPPER.writer();
 
     @Override
     public String convertToDatabaseColumn(List<String> attribute) {
@@ -22,7 +25,7 @@ public class YouTubeLinksConverter implements AttributeConverter<List<String>, S
             return null;
         }
         try {
-            return objectMapper.writeValueAsString(attribute);
+            return WRITER.writeValueAsString(attribute);
         } catch (JsonProcessingException e) {
             log.error("YouTube 링크 리스트를 JSON으로 변환 실패: {}", attribute, e);
             throw new IllegalArgumentException("YouTube 링크 리스트 변환 실패", e);
@@ -35,7 +38,7 @@ public class YouTubeLinksConverter implements AttributeConverter<List<String>, S
             return new ArrayList<>();
         }
         try {
-            return objectMapper.readValue(dbData, new TypeReference<List<String>>() {});
+            return READER.readValue(dbData);
         } catch (JsonProcessingException e) {
             log.error("JSON을 YouTube 링크 리스트로 변환 실패: {}", dbData, e);
             throw new IllegalArgumentException("JSON 파싱 실패", e);
@@ -0,0 +1,23 @@
+package com.ssafy.lab.orak.aidemo.dto;
+
+import com.ssafy.lab.orak.recording.dto.RecordResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AiDemoRecordPageDTO {
+
+    private List<RecordResponseDTO> records;
+
+    // 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+    private Long nextCursor;
+
+    private boolean hasNext;
+}
@@ -0,0 +1,39 @@
+package com.ssafy.lab.orak.aidemo.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * AI 데모 신청서에 포함된 녹음 (신청서의 record_ids JSON을 정규화한 조인 테이블)
+ * - (user_id, record_id) 유니크 인덱스로 같은 녹음의 중복 신청을 인덱스 조회로 판별
+ */
+@Entity
+@Table(name = "ai_demo_application_records",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_ai_demo_application_records_user_record", columnNames = {"user_id", "record_id"})
+        },
+        indexes = {
+                @Index(name = "idx_ai_demo_application_records_application", columnList = "application_id")
+        })
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiDemoApplicationRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "record_id", nullable = false)
+    private Long recordId;
+}
@@ -0,0 +1,20 @@
+package com.ssafy.lab.orak.aidemo.repository;
+
+import com.ssafy.lab.orak.aidemo.entity.AiDemoApplicationRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AiDemoApplicationRecordRepository extends JpaRepository<AiDemoApplicationRecord, Long> {
+
+    /**
+     * 사용자가 이미 신청한 녹음 중 주어진 녹음 ID 목록 (user_id, record_id) 유니크 인덱스 조회
+     */
+    @Query("SELECT r.recordId FROM AiDemoApplicationRecord r WHERE r.userId = :userId AND r.recordId IN :recordIds")
+    List<Long> findAppliedRecordIds(@Param("userId") Long userId, @Param("recordIds") Collection<Long> recordIds);
+}
@@ -19,9 +19,6 @@ public interface AiDemoApplicationRepository extends JpaRepository<AiDemoApplica
     @Query("SELECT a FROM AiDemoApplication a WHERE a.status = :status ORDER BY a.createdAt ASC")
     List<AiDemoApplication> findByStatusOrderByCreatedAtAsc(@Param("status") ApplicationStatus status);
 
-    @Query(value = "SELECT CASE WHEN COUNT(*) > 0 THEN true ELSE false END FROM ai_demo_applications a WHERE a.user_id = :userId AND JSON_OVERLAPS(a.record_ids, CAST(:recordIds AS JSON))", nativeQuery = true)
-    boolean existsByUserIdAndRecordIdsOverlap(@Param("userId") Long userId, @Param("recordIds") String recordIds);
-
     @Query("SELECT COUNT(a) FROM AiDemoApplication a WHERE a.userId = :userId AND a.status = :status")
     long countByUserIdAndStatus(@Param("userId") Long userId, @Param("status") ApplicationStatus status);
 }
\ No newline at end of file
@@ -4,11 +4,13 @@ import com.ssafy.lab.orak.aidemo.dto.AdminUpdateRequestDTO;
 import com.ssafy.lab.orak.aidemo.dto.AiDemoApplicationRequestDTO;
 import com.ssafy.lab.orak.aidemo.dto.AiDemoApplicationResponseDTO;
 import com.ssafy.lab.orak.aidemo.entity.AiDemoApplication;
+import com.ssafy.lab.orak.aidemo.entity.AiDemoApplicationRecord;
 import com.ssafy.lab.orak.aidemo.enums.ApplicationStatus;
 import com.ssafy.lab.orak.aidemo.exception.AiDemoApplicationNotFoundException;
 import com.ssafy.lab.orak.aidemo.exception.AiDemoApplicationOperationException;
 import com.ssafy.lab.orak.aidemo.exception.DuplicateAiDemoApplicationException;
 import com.ssafy.lab.orak.aidemo.mapper.AiDemoApplicationMapper;
+import com.ssafy.lab.orak.aidemo.repository.AiDemoApplicationRecordRepository;
 import com.ssafy.lab.orak.aidemo.repository.AiDemoApplicationRepository;
 import com.ssafy.lab.orak.recording.dto.RecordResponseDTO;
 import com.ssafy.lab.orak.recording.entity.Record;
@@ -17,12 +19,17 @@ import com.ssafy.lab.orak.recording.repository.RecordRepository;
 import com.ssafy.lab.orak.recording.service.RecordService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 @Service
 @RequiredArgsConstructor
@@ -31,6 +38,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class AiDemoApplicationService {
 
     private final AiDemoApplicationRepository aiDemoApplicationRepository;
+    private final AiDemoApplicationRecordRepository applicationRecordRepository;
     private final RecordRepository recordRepository;
     private final RecordService recordService;
     private final AiDemoApplicationMapper mapper;
@@ -50,19 +58,27 @@ public class AiDemoApplicationService {
                 }
             }
 
-            // 2. 중복 신청 체크 (JSON 배열로 변환하여 체크)
-            try {
-                String recordIdsJson = new ObjectMapper().writeValueAsString(requestDTO.getRecordIds());
-                if (aiDemoApplicationRepository.existsByUserIdAndRecordIdsOverlap(userId, recordIdsJson)) {
-                    throw new DuplicateAiDemoApplicationException(userId, null);
-                }
-            } catch (Exception e) {
-                log.warn("중복 신청 체크 실패, 계속 진행: {}", e.getMessage());
+            // 2. 중복 신청 체크 ((user_id, record_id) 유니크 인덱스 조회)
+            List<Long> appliedRecordIds = applicationRecordRepository.findAppliedRecordIds(userId, requestDTO.getRecordIds());
+            if (!appliedRecordIds.isEmpty()) {
+                throw new DuplicateAiDemoApplicationException(userId, appliedRecordIds.get(0));
             }
 
-            // 3. 엔티티 생성 및 저장
+            // 3. 엔티티 생성 및 저장 (동시 신청은 조인 테이블 유니크 제약에서 걸림)
             AiDemoApplication application = mapper.toEntity(requestDTO, userId);
             AiDemoApplication savedApplication = aiDemoApplicationRepository.save(application);
+            try {
+                applicationRecordRepository.saveAllAndFlush(requestDTO.getRecordIds().stream()
+                        .distinct()
+                        .map(recordId -> AiDemoApplicationRecord.builder()
+                                .applicationId(savedApplication.getId())
+                                .userId(userId)
+                                .recordId(recordId)
+                                .build())
+                        .toList());
+            } catch (DataIntegrityViolationException e) {
+                throw new DuplicateAiDemoApplicationException(userId, null);
+            }
 
             log.info("AI 데모 신청 생성 성공: userId={}, recordIds={}, applicationId={}",
                     userId, requestDTO.getRecordIds(), savedApplication.getId());
@@ -159,30 +175,45 @@ public class AiDemoApplicationService {
     }
 
     private AiDemoApplicationResponseDTO convertToResponseDTO(AiDemoApplication application) {
-        try {
-            List<RecordResponseDTO> recordResponseDTOs = application.getRecordIds().stream()
-                    .map(recordId -> {
-                        try {
-                            return recordService.getRecord(recordId);
-                        } catch (Exception e) {
-                            log.warn("Record 정보 조회 실패: recordId={}", recordId, e);
-                            return null;
-                        }
-                    })
-                    .filter(recordDto -> recordDto != null)
-                    .collect(Collectors.toList());
+        return convertToResponseDTOs(List.of(application)).get(0);
+    }
 
-            return mapper.toResponseDTO(application, recordResponseDTOs);
+    /**
+     * 신청서들의 녹음을 IN 한 번으로 모아 조회 (신청서 수와 관계없이 쿼리 수 고정)
+     */
+    private List<AiDemoApplicationResponseDTO> convertToResponseDTOs(List<AiDemoApplication> applications) {
+        Map<Long, RecordResponseDTO> recordsById;
+        try {
+            Set<Long> recordIds = new LinkedHashSet<>();
+            for (AiDemoApplication application : applications) {
+                if (application.getRecordIds() != null) {
+                    recordIds.addAll(application.getRecordIds());
+                }
+            }
+            recordsById = recordService.getRecords(recordIds).stream()
+                    .collect(Collectors.toMap(RecordResponseDTO::getId, Function.identity(), (a, b) -> a));
         } catch (Exception e) {
-            log.warn("Record 정보 조회 실패로 기본 응답 생성: applicationId={}, recordIds={}",
-                    application.getId(), application.getRecordIds(), e);
-            return mapper.toResponseDTO(application);
+            log.warn("Record 정보 일괄 조회 실패로 기본 응답 생성: applicationCount={}", applications.size(), e);
+            return applications.stream()
+                    .map(mapper::toResponseDTO)
+                    .collect(Collectors.toList());
         }
-    }
 
-    private List<AiDemoApplicationResponseDTO> convertToResponseDTOs(List<AiDemoApplication> applications) {
-        return applications.stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        List<AiDemoApplicationResponseDTO> responseDTOs = new ArrayList<>(applications.size());
+        for (AiDemoApplication application : applications) {
+            List<RecordResponseDTO> recordResponseDTOs = new ArrayList<>();
+            if (application.getRecordIds() != null) {
+                for (Long recordId : application.getRecordIds()) {
+                    RecordResponseDTO recordDto = recordsById.get(recordId);
+                    if (recordDto != null) {
+                        recordResponseDTOs.add(recordDto);
+                    } else {
+                        log.warn("Record 정보 조회 실패: recordId={}", recordId);
+                    }
+                }
+            }
+            responseDTOs.add(mapper.toResponseDTO(application, recordResponseDTOs));
+        }
+        return responseDTOs;
     }
-}
\ No newline at end of file
+}
@@ -1,13 +1,16 @@
 package com.ssafy.lab.orak.aidemo.service;
 
+import com.ssafy.lab.orak.aidemo.dto.AiDemoRecordPageDTO;
 import com.ssafy.lab.orak.recording.dto.RecordRequestDTO;
 import com.ssafy.lab.orak.recording.dto.RecordResponseDTO;
 import com.ssafy.lab.orak.recording.entity.Record;
 import com.ssafy.lab.orak.recording.exception.RecordOperationException;
 import com.ssafy.lab.orak.recording.mapper.RecordMapper;
 import com.ssafy.lab.orak.recording.repository.RecordRepository;
+import com.ssafy.lab.orak.recording.service.RecordService;
 import com.ssafy.lab.orak.recording.util.AudioConverter;
 import com.ssafy.lab.orak.s3.exception.S3UrlGenerationException;
+import com.ssafy.lab.orak.s3.service.S3CleanupService;
 import com.ssafy.lab.orak.s3.util.LocalUploader;
 import com.ssafy.lab.orak.upload.entity.Upload;
 import com.ssafy.lab.orak.upload.repository.UploadRepository;
@@ -15,6 +18,7 @@ import com.ssafy.lab.orak.upload.service.FileUploadService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -23,7 +27,6 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -31,12 +34,17 @@ import java.util.stream.Collectors;
 @Transactional
 public class AiDemoRecordService {
 
+    private static final String AI_DEMO_DIRECTORY = "ai-cover";
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final RecordRepository recordRepository;
     private final FileUploadService fileUploadService;
     private final RecordMapper recordMapper;
     private final AudioConverter audioConverter;
     private final LocalUploader localUploader;
     private final UploadRepository uploadRepository;
+    private final S3CleanupService s3CleanupService;
+    private final RecordService recordService;
 
     @Value("${s3.upload.path}")
     private String uploadPath;
@@ -75,6 +83,8 @@ public class AiDemoRecordService {
                     log.info("실패한 AI 데모 업로드 파일 정리 완료: uploadId={}", upload.getId());
                 } catch (Exception cleanupException) {
                     log.error("AI 데모 업로드 파일 정리 실패: uploadId={}", upload.getId(), cleanupException);
+                    // 즉시 삭제에 실패한 S3 객체는 정리 대기열로 넘겨 재시도
+                    s3CleanupService.scheduleDeletion(upload.getFullPath(), "ai-demo-rollback");
                 }
             }
 
@@ -133,7 +143,7 @@ public class AiDemoRecordService {
     public List<RecordResponseDTO> getAiDemoRecords(Long userId) {
         try {
             // 성능 개선: 직접 directory로 필터링하여 N+1 문제 해결
-            List<Record> aiDemoRecords = recordRepository.findByUserAndDirectory(userId, "ai-cover");
+            List<Record> aiDemoRecords = recordRepository.findByUserAndDirectory(userId, AI_DEMO_DIRECTORY);
             return convertToResponseDTOsWithUrl(aiDemoRecords);
 
         } catch (Exception e) {
@@ -149,7 +159,7 @@ public class AiDemoRecordService {
     public List<RecordResponseDTO> getAllAiDemoRecords() {
         try {
             // 성능 개선: 직접 directory로 필터링하여 N+1 문제 해결
-            List<Record> aiDemoRecords = recordRepository.findByDirectory("ai-cover");
+            List<Record> aiDemoRecords = recordRepository.findByDirectory(AI_DEMO_DIRECTORY);
             return convertToResponseDTOsWithUrl(aiDemoRecords);
 
         } catch (Exception e) {
@@ -158,6 +168,31 @@ public class AiDemoRecordService {
         }
     }
 
+    /**
+     * AI 데모 파일 커서 페이지 조회 (관리자용, id 내림차순)
+     * 업로드는 JOIN FETCH로 함께 읽고 URL은 페이지 단위로 일괄 서명하므로 페이지 크기와 관계없이 쿼리 1번
+     */
+    @Transactional(readOnly = true)
+    public AiDemoRecordPageDTO getAiDemoRecordPage(Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        try {
+            // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+            List<Record> fetched = recordRepository.findPageByDirectory(AI_DEMO_DIRECTORY, cursor, PageRequest.of(0, pageSize + 1));
+            boolean hasNext = fetched.size() > pageSize;
+            List<Record> page = hasNext ? fetched.subList(0, pageSize) : fetched;
+
+            return AiDemoRecordPageDTO.builder()
+                    .records(recordService.toResponseDTOsWithUrl(page))
+                    .nextCursor(hasNext ? page.get(page.size() - 1).getId() : null)
+                    .hasNext(hasNext)
+                    .build();
+
+        } catch (Exception e) {
+            log.error("AI 데모 파일 페이지 조회 실패: cursor={}, size={}", cursor, size, e);
+            throw new RecordOperationException("AI 데모 파일 목록 조회에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
     // ====== Private Helper Methods ======
 
     private Record saveAiDemoRecordTransaction(RecordRequestDTO requestDTO, Long userId, Upload upload, Integer duration) {
@@ -194,10 +229,9 @@ public class AiDemoRecordService {
                 .build();
     }
 
+    // 이미 JOIN FETCH된 업로드를 재사용하고 URL은 일괄 서명
     private List<RecordResponseDTO> convertToResponseDTOsWithUrl(List<Record> records) {
-        return records.stream()
-                .map(this::convertToResponseDTOWithUrl)
-                .collect(Collectors.toList());
+        return recordService.toResponseDTOsWithUrl(records);
     }
 
     private void cleanupTemporaryFile(String filePath) {
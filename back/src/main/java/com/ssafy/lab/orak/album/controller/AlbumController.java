@@ -1,10 +1,12 @@
 package com.ssafy.lab.orak.album.controller;
 
+import com.ssafy.lab.orak.album.dto.AlbumCardConsistencyReport;
 import com.ssafy.lab.orak.album.dto.AlbumCreateRequestDto;
 import com.ssafy.lab.orak.album.dto.AlbumResponseDto;
 import com.ssafy.lab.orak.album.dto.AlbumUpdateRequestDto;
 import com.ssafy.lab.orak.album.dto.AlbumCoverUploadResponseDto;
 import com.ssafy.lab.orak.album.dto.AlbumCoverGenerateRequestDto;
+import com.ssafy.lab.orak.album.service.AlbumCardProjector;
 import com.ssafy.lab.orak.album.service.AlbumService;
 import com.ssafy.lab.orak.album.service.AlbumCoverService;
 import com.ssafy.lab.orak.auth.service.CustomUserPrincipal;
@@ -16,11 +18,14 @@ import lombok.extern.log4j.Log4j2;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
+
 
 @Log4j2
 @RestController
@@ -31,6 +36,7 @@ public class AlbumController {
 
     private final AlbumService albumService;
     private final AlbumCoverService albumCoverService;
+    private final AlbumCardProjector albumCardProjector;
 
     //    앨범 생성
     @PostMapping
@@ -138,5 +144,24 @@ public class AlbumController {
             throw new RuntimeException("앨범 커버 생성 중 오류가 발생했습니다: " + error.getMessage(), error);
         }
     }
-}
 
+    //    앨범 카드 읽기 모델 재구축 (관리자 전용)
+    @PostMapping("/cards/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "앨범 카드 재구축", description = "원본 테이블에서 album_cards 전체를 다시 만듭니다.")
+    public ResponseEntity<Map<String, Object>> rebuildAlbumCards() {
+        log.info("앨범 카드 재구축 요청");
+        long rebuilt = albumCardProjector.rebuildAll();
+        return ResponseEntity.ok(Map.of("rebuilt", rebuilt));
+    }
+
+    //    앨범 카드 정합성 검사 (관리자 전용)
+    @PostMapping("/cards/check")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "앨범 카드 정합성 검사", description = "album_cards와 원본 앨범/프로필을 비교하고, repair=true면 어긋난 카드를 다시 만듭니다.")
+    public ResponseEntity<AlbumCardConsistencyReport> checkAlbumCards(
+            @RequestParam(defaultValue = "false") @Parameter(description = "불일치 카드 복구 여부") boolean repair) {
+        log.info("앨범 카드 정합성 검사 요청 - repair: {}", repair);
+        return ResponseEntity.ok(albumCardProjector.checkConsistency(repair));
+    }
+}
@@ -1,6 +1,7 @@
 package com.ssafy.lab.orak.album.controller;
 
 import com.ssafy.lab.orak.album.dto.AlbumResponseDto;
+import com.ssafy.lab.orak.album.dto.AlbumSearchPageDto;
 import com.ssafy.lab.orak.album.service.AlbumService;
 import com.ssafy.lab.orak.auth.service.CustomUserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
@@ -39,6 +40,18 @@ class SocialAlbumController {
         return ResponseEntity.ok(albums);
     }
 
+    @GetMapping("/albums/search")
+    @Operation(summary = "공개 앨범 검색", description = "제목·설명·작성자 닉네임으로 공개 앨범을 관련도/최신순으로 검색합니다. (커서 페이지네이션)")
+    public ResponseEntity<AlbumSearchPageDto> searchPublicAlbums(
+            @RequestParam @Parameter(description = "검색어") String keyword,
+            @RequestParam(required = false) @Parameter(description = "이전 응답의 nextCursor") String cursor,
+            @RequestParam(defaultValue = "20") @Parameter(description = "페이지 크기") int size) {
+
+        log.info("GET /api/social/albums/search - keyword: {}, cursor: {}, size: {}", keyword, cursor, size);
+        AlbumSearchPageDto result = albumService.searchPublicAlbums(keyword, cursor, size);
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/albums/{albumId}")
     @Operation(summary = "공개 앨범 상세 조회", description = "공개 앨범의 상세 정보를 조회합니다.")
     public ResponseEntity<AlbumResponseDto> getPublicAlbum(
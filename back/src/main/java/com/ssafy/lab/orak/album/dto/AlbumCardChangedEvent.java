@@ -0,0 +1,25 @@
+package com.ssafy.lab.orak.album.dto;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 앨범 카드 원본 변경 알림 (발행한 트랜잭션 커밋 직전에 AlbumCardProjector가 album_cards를 다시 만듦)
+ *
+ * @param albumIds    앨범/트랙/좋아요가 바뀐 앨범 ID (삭제된 앨범이면 카드도 삭제됨)
+ * @param ownerUserId 프로필(닉네임/이미지)이 바뀐 사용자 ID, 해당 사용자의 카드 전체가 대상
+ */
+public record AlbumCardChangedEvent(Collection<Long> albumIds, Long ownerUserId) {
+
+    public static AlbumCardChangedEvent ofAlbum(Long albumId) {
+        return new AlbumCardChangedEvent(List.of(albumId), null);
+    }
+
+    public static AlbumCardChangedEvent ofAlbums(Collection<Long> albumIds) {
+        return new AlbumCardChangedEvent(albumIds, null);
+    }
+
+    public static AlbumCardChangedEvent ofOwner(Long userId) {
+        return new AlbumCardChangedEvent(List.of(), userId);
+    }
+}
@@ -0,0 +1,30 @@
+package com.ssafy.lab.orak.album.dto;
+
+import java.util.List;
+
+/**
+ * album_cards 정합성 검사 결과 (ID 목록은 항목별 최대 album.cards.check-sample-size 개)
+ *
+ * @param albumCount      원본 앨범 수
+ * @param cardCount       카드 수
+ * @param missingAlbumIds 카드가 없는 앨범
+ * @param orphanAlbumIds  원본 앨범이 사라진 카드
+ * @param staleAlbumIds   원본과 값이 다른 카드
+ * @param repaired        검사 후 위 앨범들을 다시 만들었는지
+ */
+public record AlbumCardConsistencyReport(
+        long albumCount,
+        long cardCount,
+        List<Long> missingAlbumIds,
+        List<Long> orphanAlbumIds,
+        List<Long> staleAlbumIds,
+        boolean repaired
+) {
+
+    public boolean consistent() {
+        return albumCount == cardCount
+                && missingAlbumIds.isEmpty()
+                && orphanAlbumIds.isEmpty()
+                && staleAlbumIds.isEmpty();
+    }
+}
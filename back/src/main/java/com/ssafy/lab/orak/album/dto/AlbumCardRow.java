@@ -0,0 +1,19 @@
+package com.ssafy.lab.orak.album.dto;
+
+import com.ssafy.lab.orak.album.entity.AlbumCard;
+import com.ssafy.lab.orak.upload.entity.Upload;
+
+import java.time.LocalDateTime;
+
+/**
+ * 앨범 카드 + 커버/프로필 이미지 업로드를 한 쿼리로 읽은 목록 행
+ *
+ * @param card                    앨범 카드 (소유자 닉네임 포함)
+ * @param coverUpload             커버 이미지 업로드 (없으면 null)
+ * @param ownerProfileImageUpload 소유자 프로필 이미지 업로드 (없으면 null)
+ * @param cursorAt                정렬 기준 시각 (좋아요 목록은 좋아요 시각, 내 앨범은 앨범 생성 시각)
+ * @param cursorId                같은 시각일 때의 정렬 기준 ID (좋아요 ID 또는 앨범 ID)
+ */
+public record AlbumCardRow(AlbumCard card, Upload coverUpload, Upload ownerProfileImageUpload,
+                           LocalDateTime cursorAt, Long cursorId) {
+}
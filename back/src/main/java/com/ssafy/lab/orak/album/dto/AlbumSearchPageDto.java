@@ -0,0 +1,25 @@
+package com.ssafy.lab.orak.album.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AlbumSearchPageDto {
+
+    private List<AlbumResponseDto> albums;
+
+    // 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    // 전체 검색 결과 수 (색인 준비 전이면 null)
+    private Integer totalCount;
+}
@@ -0,0 +1,15 @@
+package com.ssafy.lab.orak.album.dto;
+
+import com.ssafy.lab.orak.album.entity.AlbumCard;
+
+import java.util.List;
+
+/**
+ * 공개 앨범 검색 결과 (순위순 카드)
+ *
+ * @param cards      순위순 앨범 카드
+ * @param nextCursor 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+ * @param totalCount 전체 일치 수 (색인 준비 전 대체 검색이면 null)
+ */
+public record AlbumSearchResult(List<AlbumCard> cards, String nextCursor, Integer totalCount) {
+}
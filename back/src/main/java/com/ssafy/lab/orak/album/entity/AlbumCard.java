@@ -0,0 +1,84 @@
+package com.ssafy.lab.orak.album.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 앨범 목록 카드 읽기 모델 (albums + 소유자 profiles 비정규화)
+ * - 목록 API는 이 테이블 하나만 인덱스로 읽음 (앨범/프로필을 카드마다 따로 조회하지 않음)
+ * - 앨범/트랙/좋아요/프로필 변경 이벤트로 AlbumCardProjector가 원본 테이블에서 다시 만듦
+ * - 이미지 URL은 파생본 상태에 따라 달라지므로 업로드 ID만 저장하고 조회 시 서명
+ */
+@Entity
+@Table(name = "album_cards",
+        indexes = {
+                @Index(name = "idx_album_cards_public_created", columnList = "is_public, album_created_at, album_id"),
+                @Index(name = "idx_album_cards_user_created_id", columnList = "user_id, album_created_at, album_id"),
+                @Index(name = "idx_album_cards_created", columnList = "album_created_at")
+        })
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlbumCard {
+
+    @Id
+    @Column(name = "album_id")
+    private Long albumId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Column(length = 500)
+    private String description;
+
+    @Column(name = "is_public", nullable = false)
+    private Boolean isPublic;
+
+    @Column(name = "track_count", nullable = false)
+    private Integer trackCount;
+
+    @Column(name = "total_duration", nullable = false)
+    private Integer totalDuration;
+
+    @Column(name = "like_count", nullable = false)
+    private Integer likeCount;
+
+    @Column(name = "cover_upload_id")
+    private Long coverUploadId;
+
+    // 소유자 프로필이 없으면 null
+    @Column(name = "owner_profile_id")
+    private Long ownerProfileId;
+
+    @Column(name = "owner_nickname", length = 50)
+    private String ownerNickname;
+
+    @Column(name = "owner_profile_image_upload_id")
+    private Long ownerProfileImageUploadId;
+
+    @Column(name = "album_created_at", nullable = false)
+    private LocalDateTime albumCreatedAt;
+
+    @Column(name = "album_updated_at", nullable = false)
+    private LocalDateTime albumUpdatedAt;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+
+    public String getDisplayNickname() {
+        return ownerNickname != null ? ownerNickname : "사용자 " + userId;
+    }
+
+    public boolean hasOwnerProfile() {
+        return ownerProfileId != null;
+    }
+}
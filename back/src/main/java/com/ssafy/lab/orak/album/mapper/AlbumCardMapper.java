@@ -0,0 +1,27 @@
+package com.ssafy.lab.orak.album.mapper;
+
+import com.ssafy.lab.orak.album.dto.AlbumResponseDto;
+import com.ssafy.lab.orak.album.entity.AlbumCard;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface AlbumCardMapper {
+
+    @Mapping(target = "id", source = "card.albumId")
+    @Mapping(target = "userId", source = "card.userId")
+    @Mapping(target = "title", source = "card.title")
+    @Mapping(target = "description", source = "card.description")
+    @Mapping(target = "uploadId", source = "card.coverUploadId")
+    @Mapping(target = "coverImageUrl", source = "coverImageUrl")
+    @Mapping(target = "isPublic", source = "card.isPublic")
+    @Mapping(target = "trackCount", source = "card.trackCount")
+    @Mapping(target = "totalDuration", source = "card.totalDuration")
+    @Mapping(target = "likeCount", source = "card.likeCount")
+    @Mapping(target = "userNickname", source = "card.displayNickname")
+    @Mapping(target = "userProfileImageUrl", source = "userProfileImageUrl")
+    @Mapping(target = "createdAt", source = "card.albumCreatedAt")
+    @Mapping(target = "updatedAt", source = "card.albumUpdatedAt")
+    AlbumResponseDto toResponseDto(AlbumCard card, String coverImageUrl, String userProfileImageUrl);
+}
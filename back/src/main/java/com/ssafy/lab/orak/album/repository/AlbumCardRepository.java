@@ -0,0 +1,174 @@
+package com.ssafy.lab.orak.album.repository;
+
+import com.ssafy.lab.orak.album.dto.AlbumCardRow;
+import com.ssafy.lab.orak.album.entity.AlbumCard;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AlbumCardRepository extends JpaRepository<AlbumCard, Long> {
+
+    // =========================
+    // 목록 조회 (album_cards 단일 테이블)
+    // =========================
+
+//    전체 앨범 카드 (최신순)
+    Page<AlbumCard> findAllByOrderByAlbumCreatedAtDescAlbumIdDesc(Pageable pageable);
+
+//    공개 앨범 카드 (키워드 없음)
+    Page<AlbumCard> findByIsPublicTrueOrderByAlbumCreatedAtDescAlbumIdDesc(Pageable pageable);
+
+//    공개 앨범 카드 검색 (키워드 있음)
+    @Query("SELECT c FROM AlbumCard c WHERE c.isPublic = true " +
+           "AND (c.title LIKE %:keyword% OR c.description LIKE %:keyword%) " +
+           "ORDER BY c.albumCreatedAt DESC, c.albumId DESC")
+    Page<AlbumCard> findPublicCardsByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+//    검색 색인 준비 전/한 글자 검색어용 (앨범 ID 역순 keyset 페이지네이션)
+    @Query("SELECT c FROM AlbumCard c WHERE c.isPublic = true AND c.albumId < :beforeId " +
+           "AND (c.title LIKE %:keyword% OR c.description LIKE %:keyword% OR c.ownerNickname LIKE %:keyword%) " +
+           "ORDER BY c.albumId DESC")
+    List<AlbumCard> findPublicCardsByKeywordBefore(@Param("keyword") String keyword,
+                                                   @Param("beforeId") Long beforeId,
+                                                   Pageable pageable);
+
+//    팔로우한 사용자의 공개 앨범 카드
+    @Query(value = "SELECT c FROM AlbumCard c " +
+           "JOIN Follow f ON c.userId = f.following.id " +
+           "WHERE f.follower.id = :currentUserId AND c.isPublic = true " +
+           "ORDER BY c.albumCreatedAt DESC, c.albumId DESC",
+           countQuery = "SELECT COUNT(c) FROM AlbumCard c " +
+           "JOIN Follow f ON c.userId = f.following.id " +
+           "WHERE f.follower.id = :currentUserId AND c.isPublic = true")
+    Page<AlbumCard> findPublicCardsByFollowedUsers(@Param("currentUserId") Long currentUserId, Pageable pageable);
+
+//    팔로우한 사용자의 공개 앨범 카드 검색 (키워드 있음)
+    @Query(value = "SELECT c FROM AlbumCard c " +
+           "JOIN Follow f ON c.userId = f.following.id " +
+           "WHERE f.follower.id = :currentUserId AND c.isPublic = true " +
+           "AND (c.title LIKE %:keyword% OR c.description LIKE %:keyword%) " +
+           "ORDER BY c.albumCreatedAt DESC, c.albumId DESC",
+           countQuery = "SELECT COUNT(c) FROM AlbumCard c " +
+           "JOIN Follow f ON c.userId = f.following.id " +
+           "WHERE f.follower.id = :currentUserId AND c.isPublic = true " +
+           "AND (c.title LIKE %:keyword% OR c.description LIKE %:keyword%)")
+    Page<AlbumCard> findPublicCardsByFollowedUsersAndKeyword(@Param("currentUserId") Long currentUserId,
+                                                             @Param("keyword") String keyword,
+                                                             Pageable pageable);
+
+//    내 앨범 카드 + 커버/프로필 이미지 업로드 (한 쿼리, 최신순)
+    @Query(value = "SELECT new com.ssafy.lab.orak.album.dto.AlbumCardRow(c, cu, pu, c.albumCreatedAt, c.albumId) " +
+           "FROM AlbumCard c " +
+           "LEFT JOIN Upload cu ON cu.id = c.coverUploadId " +
+           "LEFT JOIN Upload pu ON pu.id = c.ownerProfileImageUploadId " +
+           "WHERE c.userId = :userId " +
+           "ORDER BY c.albumCreatedAt DESC, c.albumId DESC",
+           countQuery = "SELECT COUNT(c) FROM AlbumCard c WHERE c.userId = :userId")
+    Page<AlbumCardRow> findCardRowsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+//    내 앨범 커서 첫 페이지 (카운트 쿼리 없음)
+    @Query("SELECT new com.ssafy.lab.orak.album.dto.AlbumCardRow(c, cu, pu, c.albumCreatedAt, c.albumId) " +
+           "FROM AlbumCard c " +
+           "LEFT JOIN Upload cu ON cu.id = c.coverUploadId " +
+           "LEFT JOIN Upload pu ON pu.id = c.ownerProfileImageUploadId " +
+           "WHERE c.userId = :userId " +
+           "ORDER BY c.albumCreatedAt DESC, c.albumId DESC")
+    List<AlbumCardRow> findLatestCardRowsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+//    내 앨범 커서 다음 페이지 ((생성 시각, 앨범 ID) keyset)
+    @Query("SELECT new com.ssafy.lab.orak.album.dto.AlbumCardRow(c, cu, pu, c.albumCreatedAt, c.albumId) " +
+           "FROM AlbumCard c " +
+           "LEFT JOIN Upload cu ON cu.id = c.coverUploadId " +
+           "LEFT JOIN Upload pu ON pu.id = c.ownerProfileImageUploadId " +
+           "WHERE c.userId = :userId " +
+           "AND (c.albumCreatedAt < :createdAt OR (c.albumCreatedAt = :createdAt AND c.albumId < :albumId)) " +
+           "ORDER BY c.albumCreatedAt DESC, c.albumId DESC")
+    List<AlbumCardRow> findCardRowsByUserIdBefore(@Param("userId") Long userId,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("albumId") Long albumId,
+                                                  Pageable pageable);
+
+//    검색 색인 갱신용 (프로필 변경 시 소유자 카드 전체)
+    List<AlbumCard> findByUserId(Long userId);
+
+//    검색 색인 재구성 청크 (앨범 ID 순서로 keyset 페이지네이션)
+    @Query("SELECT c FROM AlbumCard c WHERE c.isPublic = true AND c.albumId > :afterId ORDER BY c.albumId")
+    List<AlbumCard> findPublicCardsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // =========================
+    // 투영 갱신 (원본 테이블에서 DELETE 후 INSERT … SELECT 한 번씩)
+    // =========================
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM AlbumCard c WHERE c.albumId IN :albumIds")
+    int deleteByAlbumIds(@Param("albumIds") Collection<Long> albumIds);
+
+//    삭제된 앨범은 원본에 없으므로 다시 만들어지지 않음
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("INSERT INTO AlbumCard (albumId, userId, title, description, isPublic, trackCount, totalDuration, likeCount, " +
+           "coverUploadId, ownerProfileId, ownerNickname, ownerProfileImageUploadId, albumCreatedAt, albumUpdatedAt, refreshedAt) " +
+           "SELECT a.id, a.userId, a.title, a.description, a.isPublic, a.trackCount, a.totalDuration, a.likeCount, " +
+           "a.uploadId, p.id, p.nickname, p.profileImageUpload.id, a.createdAt, a.updatedAt, LOCAL DATETIME " +
+           "FROM Album a LEFT JOIN Profile p ON p.user.id = a.userId " +
+           "WHERE a.id IN :albumIds")
+    int insertFromSource(@Param("albumIds") Collection<Long> albumIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM AlbumCard c WHERE c.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+//    프로필(닉네임/이미지) 변경 시 해당 사용자의 카드 전체를 다시 만듦
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("INSERT INTO AlbumCard (albumId, userId, title, description, isPublic, trackCount, totalDuration, likeCount, " +
+           "coverUploadId, ownerProfileId, ownerNickname, ownerProfileImageUploadId, albumCreatedAt, albumUpdatedAt, refreshedAt) " +
+           "SELECT a.id, a.userId, a.title, a.description, a.isPublic, a.trackCount, a.totalDuration, a.likeCount, " +
+           "a.uploadId, p.id, p.nickname, p.profileImageUpload.id, a.createdAt, a.updatedAt, LOCAL DATETIME " +
+           "FROM Album a LEFT JOIN Profile p ON p.user.id = a.userId " +
+           "WHERE a.userId = :userId")
+    int insertFromSourceByUserId(@Param("userId") Long userId);
+
+    // =========================
+    // 재구축 / 정합성 검사
+    // =========================
+
+//    재구축 청크 (앨범 ID 순서로 keyset 페이지네이션)
+    @Query("SELECT a.id FROM Album a WHERE a.id > :afterId ORDER BY a.id")
+    List<Long> findSourceAlbumIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM AlbumCard c WHERE NOT EXISTS (SELECT 1 FROM Album a WHERE a.id = c.albumId)")
+    int deleteOrphans();
+
+//    카드가 없는 앨범
+    @Query("SELECT a.id FROM Album a WHERE NOT EXISTS (SELECT 1 FROM AlbumCard c WHERE c.albumId = a.id) ORDER BY a.id")
+    List<Long> findMissingAlbumIds(Pageable pageable);
+
+//    원본 앨범이 사라진 카드
+    @Query("SELECT c.albumId FROM AlbumCard c WHERE NOT EXISTS (SELECT 1 FROM Album a WHERE a.id = c.albumId) ORDER BY c.albumId")
+    List<Long> findOrphanAlbumIds(Pageable pageable);
+
+//    원본과 값이 다른 카드 (nullable 컬럼은 COALESCE로 비교)
+    @Query("SELECT c.albumId FROM AlbumCard c " +
+           "JOIN Album a ON a.id = c.albumId " +
+           "LEFT JOIN Profile p ON p.user.id = a.userId " +
+           "WHERE c.userId <> a.userId OR c.title <> a.title " +
+           "OR COALESCE(c.description, '') <> COALESCE(a.description, '') " +
+           "OR c.isPublic <> a.isPublic OR c.trackCount <> a.trackCount " +
+           "OR c.totalDuration <> a.totalDuration OR c.likeCount <> a.likeCount " +
+           "OR COALESCE(c.coverUploadId, 0L) <> COALESCE(a.uploadId, 0L) " +
+           "OR COALESCE(c.ownerProfileId, 0L) <> COALESCE(p.id, 0L) " +
+           "OR COALESCE(c.ownerNickname, '') <> COALESCE(p.nickname, '') " +
+           "OR COALESCE(c.ownerProfileImageUploadId, 0L) <> COALESCE(p.profileImageUpload.id, 0L) " +
+           "OR c.albumCreatedAt <> a.createdAt OR c.albumUpdatedAt <> a.updatedAt " +
+           "ORDER BY c.albumId")
+    List<Long> findStaleAlbumIds(Pageable pageable);
+}
@@ -4,10 +4,15 @@ import com.ssafy.lab.orak.album.entity.Album;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 
 @Repository
 public interface AlbumRepository extends JpaRepository<Album, Long> {
@@ -45,4 +50,33 @@ public interface AlbumRepository extends JpaRepository<Album, Long> {
                                                           @Param("keyword") String keyword,
                                                           Pageable pageable);
 
-}
\ No newline at end of file
+//    트랙 추가/삭제 시 통계를 증감분으로 한 번에 반영 (읽고 쓰지 않으므로 동시 편집에도 누락 없음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Album a SET a.trackCount = a.trackCount + :countDelta, " +
+           "a.totalDuration = a.totalDuration + :durationDelta, a.updatedAt = :now " +
+           "WHERE a.id = :albumId")
+    int applyTrackStatisticsDelta(@Param("albumId") Long albumId,
+                                  @Param("countDelta") int countDelta,
+                                  @Param("durationDelta") int durationDelta,
+                                  @Param("now") LocalDateTime now);
+
+//    여러 앨범의 통계를 남은 트랙 기준으로 UPDATE 한 번에 재계산 (앨범별 집계 서브쿼리)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Album a SET " +
+           "a.trackCount = (SELECT CAST(COUNT(at) AS Integer) FROM AlbumTrack at WHERE at.album.id = a.id), " +
+           "a.totalDuration = (SELECT CAST(COALESCE(SUM(r.durationSeconds), 0) AS Integer) " +
+           "FROM AlbumTrack at JOIN at.record r WHERE at.album.id = a.id), " +
+           "a.updatedAt = :now " +
+           "WHERE a.id IN :albumIds")
+    int recomputeTrackStatistics(@Param("albumIds") Collection<Long> albumIds, @Param("now") LocalDateTime now);
+
+//    트랙이 하나도 남지 않은 앨범
+    @Query("SELECT a FROM Album a WHERE a.id IN :albumIds AND a.trackCount = 0")
+    List<Album> findEmptyAlbums(@Param("albumIds") Collection<Long> albumIds);
+
+//    앨범 일괄 삭제 (연관 테이블은 DB의 ON DELETE CASCADE로 정리)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Album a WHERE a.id IN :albumIds")
+    int deleteByIds(@Param("albumIds") Collection<Long> albumIds);
+
+}
@@ -0,0 +1,151 @@
+package com.ssafy.lab.orak.album.service;
+
+import com.ssafy.lab.orak.album.dto.AlbumCardChangedEvent;
+import com.ssafy.lab.orak.album.dto.AlbumCardConsistencyReport;
+import com.ssafy.lab.orak.album.repository.AlbumCardRepository;
+import com.ssafy.lab.orak.album.repository.AlbumRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * album_cards 읽기 모델 유지
+ * - 쓰기 트랜잭션이 발행한 AlbumCardChangedEvent를 커밋 직전에 같은 트랜잭션에서 반영 (원본과 카드가 함께 커밋/롤백)
+ * - 반영은 대상 카드를 지우고 원본 테이블에서 INSERT … SELECT 로 다시 만드는 방식이라 이벤트가 중복돼도 결과가 같음
+ * - 재구축(rebuildAll)과 정합성 검사(checkConsistency)는 관리자 API에서 호출
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class AlbumCardProjector {
+
+    private final AlbumCardRepository albumCardRepository;
+    private final AlbumRepository albumRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${album.cards.rebuild-batch-size:1000}")
+    private int rebuildBatchSize = 1000;
+
+    @Value("${album.cards.check-sample-size:100}")
+    private int checkSampleSize = 100;
+
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void initTransactionTemplates() {
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 트랜잭션 밖에서 발행된 이벤트는 즉시 자체 트랜잭션으로 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onAlbumCardChanged(AlbumCardChangedEvent event) {
+        writeTransaction.executeWithoutResult(status -> {
+            if (event.albumIds() != null && !event.albumIds().isEmpty()) {
+                refreshAlbums(event.albumIds());
+            }
+            if (event.ownerUserId() != null) {
+                refreshOwner(event.ownerUserId());
+            }
+        });
+    }
+
+    /**
+     * 앨범 카드를 원본에서 다시 만듦 (원본에서 삭제된 앨범은 카드만 삭제)
+     */
+    public int refreshAlbums(Iterable<Long> albumIds) {
+        Set<Long> ids = new LinkedHashSet<>();
+        albumIds.forEach(ids::add);
+        albumCardRepository.deleteByAlbumIds(ids);
+        int inserted = albumCardRepository.insertFromSource(ids);
+        log.debug("앨범 카드 갱신 - 요청 {}개, 생성 {}개", ids.size(), inserted);
+        return inserted;
+    }
+
+    public int refreshOwner(Long userId) {
+        albumCardRepository.deleteByUserId(userId);
+        int inserted = albumCardRepository.insertFromSourceByUserId(userId);
+        log.debug("소유자 앨범 카드 갱신 - userId: {}, 생성 {}개", userId, inserted);
+        return inserted;
+    }
+
+    /**
+     * 원본 테이블에서 전체 카드를 다시 만듦 (앨범 ID 순서로 청크마다 별도 트랜잭션)
+     *
+     * @return 다시 만든 카드 수
+     */
+    public long rebuildAll() {
+        long startTime = System.currentTimeMillis();
+        long rebuilt = 0;
+        Long afterId = 0L;
+
+        while (true) {
+            Long cursor = afterId;
+            List<Long> albumIds = readOnlyTransaction.execute(status ->
+                    albumCardRepository.findSourceAlbumIdsAfter(cursor, PageRequest.of(0, rebuildBatchSize)));
+            if (albumIds == null || albumIds.isEmpty()) {
+                break;
+            }
+            Integer inserted = writeTransaction.execute(status -> refreshAlbums(albumIds));
+            rebuilt += inserted != null ? inserted : 0;
+            afterId = albumIds.get(albumIds.size() - 1);
+        }
+
+        Integer orphans = writeTransaction.execute(status -> albumCardRepository.deleteOrphans());
+        log.info("앨범 카드 재구축 완료 - 카드 {}개, 고아 카드 삭제 {}개, 소요시간: {}ms",
+                rebuilt, orphans, System.currentTimeMillis() - startTime);
+        return rebuilt;
+    }
+
+    /**
+     * 카드와 원본을 비교 (repair=true면 어긋난 앨범만 다시 만듦)
+     */
+    public AlbumCardConsistencyReport checkConsistency(boolean repair) {
+        PageRequest sample = PageRequest.of(0, checkSampleSize);
+        AlbumCardConsistencyReport report = readOnlyTransaction.execute(status -> new AlbumCardConsistencyReport(
+                albumRepository.count(),
+                albumCardRepository.count(),
+                albumCardRepository.findMissingAlbumIds(sample),
+                albumCardRepository.findOrphanAlbumIds(sample),
+                albumCardRepository.findStaleAlbumIds(sample),
+                false));
+
+        if (report.consistent()) {
+            log.info("앨범 카드 정합성 검사 - 일치 (앨범 {}개)", report.albumCount());
+            return report;
+        }
+
+        log.warn("앨범 카드 정합성 불일치 - 앨범 {}개, 카드 {}개, 누락 {}개, 고아 {}개, 불일치 {}개 (샘플 기준)",
+                report.albumCount(), report.cardCount(), report.missingAlbumIds().size(),
+                report.orphanAlbumIds().size(), report.staleAlbumIds().size());
+        if (!repair) {
+            return report;
+        }
+
+        Set<Long> drifted = new LinkedHashSet<>();
+        drifted.addAll(report.missingAlbumIds());
+        drifted.addAll(report.orphanAlbumIds());
+        drifted.addAll(report.staleAlbumIds());
+        if (!drifted.isEmpty()) {
+            writeTransaction.executeWithoutResult(status -> refreshAlbums(drifted));
+        }
+        log.info("앨범 카드 복구 - {}개 다시 생성", drifted.size());
+        return new AlbumCardConsistencyReport(report.albumCount(), report.cardCount(),
+                report.missingAlbumIds(), report.orphanAlbumIds(), report.staleAlbumIds(), true);
+    }
+}
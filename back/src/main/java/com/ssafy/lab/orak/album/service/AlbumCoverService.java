@@ -5,20 +5,19 @@ import com.ssafy.lab.orak.ai.dto.VoiceImageGenerationRequestDto;
 import com.ssafy.lab.orak.ai.service.PythonAiService;
 import com.ssafy.lab.orak.album.dto.AlbumCoverGenerateRequestDto;
 import com.ssafy.lab.orak.album.dto.AlbumCoverUploadResponseDto;
+import com.ssafy.lab.orak.processing.service.BatchProcessingService;
+import com.ssafy.lab.orak.s3.helper.S3AsyncHelper;
 import com.ssafy.lab.orak.s3.helper.S3Helper;
 import com.ssafy.lab.orak.upload.entity.Upload;
 import com.ssafy.lab.orak.upload.service.FileUploadService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import reactor.core.publisher.Mono;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import reactor.core.scheduler.Schedulers;
 import java.time.Duration;
-import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -30,9 +29,12 @@ public class AlbumCoverService {
 
     private final FileUploadService fileUploadService;
     private final S3Helper s3Helper;
+    private final S3AsyncHelper s3AsyncHelper;
     private final PythonAiService pythonAiService;
+    private final BatchProcessingService batchProcessingService;
 
     private static final String ALBUM_COVER_DIRECTORY = "album-covers";
+    private static final String AI_COVER_FILENAME = "ai_generated_cover";
     private static final Duration PRESIGNED_URL_DURATION = Duration.ofHours(1);
 
     public AlbumCoverUploadResponseDto uploadAlbumCover(Long userId, MultipartFile file) {
@@ -41,6 +43,8 @@ public class AlbumCoverService {
         try {
             // FileUploadService를 사용하여 표준 업로드 프로세스 진행
             Upload upload = fileUploadService.uploadSingleFile(file, ALBUM_COVER_DIRECTORY, userId);
+            // 목록용 크기별 파생본 생성 예약 (완료 전까지는 원본으로 표시)
+            batchProcessingService.submit(upload);
 
             // Presigned URL 생성 (24시간 유효)
             String presignedUrl = s3Helper.generatePresignedUrl(upload.getFullPath(), Duration.ofHours(24));
@@ -106,55 +110,50 @@ public class AlbumCoverService {
                 .personGeneration(request.personGeneration() != null ? request.personGeneration() : "dont_allow")
                 .build();
 
-        return pythonAiService.generateVoiceImage(aiRequest)
-                .flatMap(aiResponse -> {
-                    if (!aiResponse.success()) {
-                        return Mono.error(new RuntimeException("AI 이미지 생성 실패: " + aiResponse.error()));
-                    }
-
-                    try {
-                        // Base64를 임시 파일로 직접 저장
-                        byte[] imageBytes = Base64.getDecoder().decode(aiResponse.imageBase64());
-                        String fileName = "ai_generated_cover.jpg";
-
-                        // 1. 로컬에 임시 파일로 저장
-                        String tempDir = System.getProperty("java.io.tmpdir");
-                        String uniqueFileName = UUID.randomUUID().toString() + "_" + fileName;
-                        Path tempFilePath = Paths.get(tempDir, uniqueFileName);
-                        Files.write(tempFilePath, imageBytes);
-                        String localFilePath = tempFilePath.toString();
-                        log.info("Base64 이미지를 로컬 임시 파일로 저장: {}", localFilePath);
-
-                        // 2. S3에 업로드 (Profile 방식)
-                        Upload upload = fileUploadService.uploadLocalFile(localFilePath, ALBUM_COVER_DIRECTORY, userId, fileName);
-                        log.info("로컬 파일을 S3에 업로드 완료: {}", upload.getFullPath());
-
-                        // 3. 로컬 임시 파일 삭제
-                        try {
-                            Files.deleteIfExists(tempFilePath);
-                            log.info("로컬 임시 파일 삭제 완료: {}", localFilePath);
-                        } catch (IOException e) {
-                            log.warn("로컬 임시 파일 삭제 실패: {}", localFilePath, e);
-                        }
-
-                        // 4. Presigned URL 생성 (Profile 방식)
-                        String presignedUrl = s3Helper.generatePresignedUrl(upload.getFullPath(), Duration.ofHours(24));
-                        log.info("Presigned URL 생성 완료: {}", upload.getFullPath());
-
-                        log.info("AI album cover generated successfully for user: {} with upload ID: {}", userId, upload.getId());
+        // 3. 생성 이미지를 임시 파일/Base64 문자열 없이 S3로 바로 스트리밍
+        String uuid = UUID.randomUUID().toString();
+        return pythonAiService.<StoredCover>generateVoiceImage(aiRequest, (contentType, contentLength, content) -> {
+                    String extension = extensionOf(contentType);
+                    String s3Key = ALBUM_COVER_DIRECTORY + "/" + uuid + "_" + AI_COVER_FILENAME + "." + extension;
+                    return Mono.fromFuture(() -> s3AsyncHelper.uploadStream(content, s3Key, contentType, contentLength))
+                            .map(size -> new StoredCover(contentType, extension, size));
+                })
+                .publishOn(Schedulers.boundedElastic())
+                .map(stored -> {
+                    Upload upload = fileUploadService.registerStoredFile(uuid, AI_COVER_FILENAME, stored.extension(),
+                            stored.contentType(), stored.size(), ALBUM_COVER_DIRECTORY, userId);
+                    log.info("AI 커버 이미지 S3 스트리밍 업로드 완료: {} ({} bytes)", upload.getFullPath(), stored.size());
+                    batchProcessingService.submit(upload);
+
+                    // Presigned URL 생성 (Profile 방식)
+                    String presignedUrl = s3Helper.generatePresignedUrl(upload.getFullPath(), Duration.ofHours(24));
+
+                    log.info("AI album cover generated successfully for user: {} with upload ID: {}", userId, upload.getId());
+
+                    return AlbumCoverUploadResponseDto.builder()
+                            .uploadId(upload.getId())
+                            .presignedUrl(presignedUrl)
+                            .s3Key(upload.getFullPath())
+                            .originalFileName(upload.getOriginalFilename() + "." + upload.getExtension())
+                            .build();
+                })
+                .onErrorMap(e -> e.getMessage() == null || !e.getMessage().startsWith("AI 이미지 생성 실패"), e -> {
+                    log.error("Failed to process AI generated album cover for user: {}", userId, e);
+                    return new RuntimeException("AI 앨범 커버 처리 실패: " + e.getMessage(), e);
+                });
+    }
 
-                        return Mono.just(AlbumCoverUploadResponseDto.builder()
-                                .uploadId(upload.getId())
-                                .presignedUrl(presignedUrl)
-                                .s3Key(upload.getFullPath())
-                                .originalFileName(upload.getOriginalFilename() + "." + upload.getExtension())
-                                .build());
+    private String extensionOf(String contentType) {
+        if (MediaType.IMAGE_PNG_VALUE.equals(contentType)) {
+            return "png";
+        }
+        if ("image/webp".equals(contentType)) {
+            return "webp";
+        }
+        return "jpg";
+    }
 
-                    } catch (Exception e) {
-                        log.error("Failed to process AI generated album cover for user: {}", userId, e);
-                        return Mono.error(new RuntimeException("AI 앨범 커버 처리 실패: " + e.getMessage(), e));
-                    }
-                });
+    private record StoredCover(String contentType, String extension, long size) {
     }
 
     private void validateImageFile(MultipartFile file) {
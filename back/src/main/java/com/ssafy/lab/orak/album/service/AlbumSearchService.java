@@ -0,0 +1,325 @@
+package com.ssafy.lab.orak.album.service;
+
+import com.ssafy.lab.orak.album.dto.AlbumCardChangedEvent;
+import com.ssafy.lab.orak.album.dto.AlbumSearchResult;
+import com.ssafy.lab.orak.album.entity.AlbumCard;
+import com.ssafy.lab.orak.album.repository.AlbumCardRepository;
+import com.ssafy.lab.orak.album.util.AlbumSearchIndex;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 공개 앨범 검색 (LIKE 전체 스캔 대체)
+ * - album_cards 의 공개 앨범으로 인메모리 n-gram 역색인을 만들고 관련도 + 최신성 순으로 조회
+ * - 앨범/프로필 변경은 AlbumCardChangedEvent 커밋 후 해당 카드만 다시 읽어 색인에 반영 (색인된 내용과 같으면 건너뜀)
+ * - 삭제 표시가 쌓인 색인은 주기적으로 새로 만들어 교체 (재구성 중 들어온 변경은 교체 후 다시 반영)
+ * - 색인 준비 전이거나 한 글자 검색어는 카드 테이블 LIKE 검색으로 대체
+ * - 노드별 색인이라 다른 노드에서 커밋된 변경은 다음 주기 재구성 때 반영
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class AlbumSearchService {
+
+    private static final String INDEX_CURSOR_PREFIX = "r:";
+    private static final String FALLBACK_CURSOR_PREFIX = "k:";
+
+    private final AlbumCardRepository albumCardRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private volatile AlbumSearchIndex index;
+    private TransactionTemplate readOnlyTransaction;
+
+    // 재구성 중 들어온 변경 (교체 후 새 색인에 다시 반영)
+    private volatile boolean rebuilding;
+    private final Set<Long> pendingAlbumIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingOwnerIds = ConcurrentHashMap.newKeySet();
+
+    @Value("${album.search.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${album.search.rebuild-batch-size:5000}")
+    private int rebuildBatchSize = 5000;
+
+    @Value("${album.search.recency-weight:1.0}")
+    private double recencyWeight = 1.0;
+
+    @Value("${album.search.recency-half-life-days:30}")
+    private long recencyHalfLifeDays = 30;
+
+    @Value("${album.search.max-page-offset:1000}")
+    private int maxPageOffset = 1000;
+
+    @PostConstruct
+    void initTransactionTemplate() {
+        // 커밋 후 리스너에서도 쓰므로 항상 새 읽기 전용 트랜잭션
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        scheduledRebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${album.search.rebuild-interval-ms:3600000}",
+            initialDelayString = "${album.search.rebuild-interval-ms:3600000}")
+    public void scheduledRebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("앨범 검색 색인 재구성 실패 - 이전 색인 유지", e);
+        }
+    }
+
+    /**
+     * album_cards 의 공개 앨범으로 색인을 새로 만들어 교체
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        rebuilding = true;
+        AlbumSearchIndex rebuilt = newIndex();
+        try {
+            Long afterId = 0L;
+            while (true) {
+                Long cursor = afterId;
+                List<AlbumCard> cards = readOnlyTransaction.execute(status ->
+                        albumCardRepository.findPublicCardsAfter(cursor, PageRequest.of(0, rebuildBatchSize)));
+                if (cards == null || cards.isEmpty()) {
+                    break;
+                }
+                cards.forEach(card -> rebuilt.upsert(toDocument(card)));
+                afterId = cards.get(cards.size() - 1).getAlbumId();
+            }
+            index = rebuilt;
+        } finally {
+            rebuilding = false;
+        }
+
+        // 재구성 중 바뀐 앨범은 새 색인 기준으로 다시 반영
+        Set<Long> albumIds = drain(pendingAlbumIds);
+        Set<Long> ownerIds = drain(pendingOwnerIds);
+        if (!albumIds.isEmpty()) {
+            reindexAlbums(rebuilt, albumIds);
+        }
+        ownerIds.forEach(ownerId -> reindexOwner(rebuilt, ownerId));
+
+        log.info("앨범 검색 색인 재구성 완료 - 앨범 {}개, n-gram {}개, 재반영 {}건, {}ms",
+                rebuilt.size(), rebuilt.tokenCount(), albumIds.size() + ownerIds.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 카드 갱신이 커밋된 뒤 바뀐 앨범만 색인에 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAlbumCardChanged(AlbumCardChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        boolean hasAlbums = event.albumIds() != null && !event.albumIds().isEmpty();
+        if (rebuilding) {
+            if (hasAlbums) {
+                pendingAlbumIds.addAll(event.albumIds());
+            }
+            if (event.ownerUserId() != null) {
+                pendingOwnerIds.add(event.ownerUserId());
+            }
+        }
+
+        AlbumSearchIndex current = index;
+        if (current == null) {
+            return;
+        }
+        try {
+            if (hasAlbums) {
+                reindexAlbums(current, event.albumIds());
+            }
+            if (event.ownerUserId() != null) {
+                reindexOwner(current, event.ownerUserId());
+            }
+        } catch (Exception e) {
+            // 다음 재구성 때 맞춰지므로 쓰기 요청은 실패시키지 않음
+            log.warn("앨범 검색 색인 반영 실패 - albumIds: {}, ownerUserId: {}",
+                    event.albumIds(), event.ownerUserId(), e);
+        }
+    }
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    /**
+     * 색인으로 처리할 수 있는 검색어인지 (색인 준비 완료 + 정규화 후 2글자 이상)
+     */
+    public boolean canSearch(String keyword) {
+        return enabled && index != null && AlbumSearchIndex.isSearchable(keyword);
+    }
+
+    /**
+     * 관련도/최신성 순 커서 페이지 (색인을 쓸 수 없으면 앨범 ID 역순 LIKE 검색)
+     */
+    public AlbumSearchResult search(String keyword, String cursor, int size) {
+        if (!canSearch(keyword) || (cursor != null && cursor.startsWith(FALLBACK_CURSOR_PREFIX))) {
+            return fallbackSearch(keyword.trim(), cursor, size);
+        }
+
+        AlbumSearchIndex.Result result = index.search(keyword, decodeCursor(cursor), size + 1, System.currentTimeMillis());
+        boolean hasNext = result.hits().size() > size;
+        List<AlbumSearchIndex.Hit> hits = hasNext ? result.hits().subList(0, size) : result.hits();
+        String nextCursor = hasNext ? encodeCursor(result.asOfMillis(), hits.get(hits.size() - 1)) : null;
+        return new AlbumSearchResult(loadCards(hits), nextCursor, result.totalMatches());
+    }
+
+    /**
+     * 기존 페이지 번호 API용 (상위 (page+1)*size 개를 순위순으로 뽑아 해당 구간만 반환)
+     * 상위 maxPageOffset 개까지만 페이지로 조회할 수 있고, 전체 개수도 그만큼으로 알려줌
+     */
+    public Page<AlbumCard> searchPage(String keyword, int page, int size) {
+        if ((long) (page + 1) * size > maxPageOffset) {
+            throw new IllegalArgumentException(
+                    "검색 결과는 상위 " + maxPageOffset + "개까지만 페이지로 조회할 수 있습니다. 커서 검색을 이용해주세요.");
+        }
+        AlbumSearchIndex.Result result = index.search(keyword, null, (page + 1) * size, System.currentTimeMillis());
+        List<AlbumSearchIndex.Hit> hits = result.hits();
+        int from = Math.min(page * size, hits.size());
+        return new PageImpl<>(loadCards(hits.subList(from, hits.size())), PageRequest.of(page, size),
+                Math.min(result.totalMatches(), maxPageOffset));
+    }
+
+    private AlbumSearchResult fallbackSearch(String keyword, String cursor, int size) {
+        long beforeId = Long.MAX_VALUE;
+        if (cursor != null) {
+            if (!cursor.startsWith(FALLBACK_CURSOR_PREFIX)) {
+                throw new IllegalArgumentException("올바르지 않은 검색 커서입니다.");
+            }
+            try {
+                beforeId = Long.parseLong(cursor.substring(FALLBACK_CURSOR_PREFIX.length()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("올바르지 않은 검색 커서입니다.");
+            }
+        }
+        List<AlbumCard> cards = albumCardRepository.findPublicCardsByKeywordBefore(keyword, beforeId,
+                PageRequest.of(0, size + 1));
+        boolean hasNext = cards.size() > size;
+        List<AlbumCard> page = hasNext ? cards.subList(0, size) : cards;
+        String nextCursor = hasNext ? FALLBACK_CURSOR_PREFIX + page.get(page.size() - 1).getAlbumId() : null;
+        return new AlbumSearchResult(page, nextCursor, null);
+    }
+
+    // 순위순 ID로 카드를 한 번에 읽고 순서를 맞춤 (그 사이 삭제되거나 비공개로 바뀐 앨범은 제외)
+    // 색인이 늦게 반영돼도 결과가 줄어들 뿐 비공개 앨범은 노출되지 않음
+    private List<AlbumCard> loadCards(List<AlbumSearchIndex.Hit> hits) {
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, AlbumCard> cardsById = albumCardRepository.findAllById(
+                        hits.stream().map(AlbumSearchIndex.Hit::albumId).toList()).stream()
+                .collect(Collectors.toMap(AlbumCard::getAlbumId, Function.identity()));
+        return hits.stream()
+                .map(hit -> cardsById.get(hit.albumId()))
+                .filter(Objects::nonNull)
+                .filter(card -> Boolean.TRUE.equals(card.getIsPublic()))
+                .toList();
+    }
+
+    private void reindexAlbums(AlbumSearchIndex target, Collection<Long> albumIds) {
+        List<AlbumCard> cards = readOnlyTransaction.execute(status -> albumCardRepository.findAllById(albumIds));
+        Set<Long> found = new HashSet<>();
+        for (AlbumCard card : cards) {
+            found.add(card.getAlbumId());
+            apply(target, card);
+        }
+        for (Long albumId : albumIds) {
+            if (!found.contains(albumId)) {
+                target.remove(albumId);
+            }
+        }
+    }
+
+    private void reindexOwner(AlbumSearchIndex target, Long ownerUserId) {
+        List<AlbumCard> cards = readOnlyTransaction.execute(status -> albumCardRepository.findByUserId(ownerUserId));
+        cards.forEach(card -> apply(target, card));
+    }
+
+    private void apply(AlbumSearchIndex target, AlbumCard card) {
+        if (Boolean.TRUE.equals(card.getIsPublic())) {
+            target.upsert(toDocument(card));
+        } else {
+            target.remove(card.getAlbumId());
+        }
+    }
+
+    private AlbumSearchIndex newIndex() {
+        return new AlbumSearchIndex(recencyWeight, Duration.ofDays(recencyHalfLifeDays).toMillis());
+    }
+
+    private static AlbumSearchIndex.Document toDocument(AlbumCard card) {
+        return new AlbumSearchIndex.Document(card.getAlbumId(), card.getTitle(), card.getDescription(),
+                card.getOwnerNickname(),
+                card.getAlbumCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    private static Set<Long> drain(Set<Long> pending) {
+        Set<Long> drained = new HashSet<>(pending);
+        pending.removeAll(drained);
+        return drained;
+    }
+
+    // "r:" + base64(기준시각:점수비트:앨범ID) - 점수는 비트 그대로 넣어 다음 페이지에서 정확히 비교
+    private static String encodeCursor(long asOfMillis, AlbumSearchIndex.Hit last) {
+        String raw = asOfMillis + ":" + Long.toHexString(Double.doubleToLongBits(last.score())) + ":" + last.albumId();
+        return INDEX_CURSOR_PREFIX + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static AlbumSearchIndex.Cursor decodeCursor(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            if (!cursor.startsWith(INDEX_CURSOR_PREFIX)) {
+                throw new IllegalArgumentException("unknown prefix");
+            }
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.substring(INDEX_CURSOR_PREFIX.length())),
+                    StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            return new AlbumSearchIndex.Cursor(Long.parseLong(parts[0]),
+                    Double.longBitsToDouble(Long.parseUnsignedLong(parts[1], 16)), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("올바르지 않은 검색 커서입니다.");
+        }
+    }
+}
@@ -1,19 +1,31 @@
 package com.ssafy.lab.orak.album.service;
 
+import com.ssafy.lab.orak.album.dto.AlbumCardChangedEvent;
 import com.ssafy.lab.orak.album.dto.AlbumCreateRequestDto;
 import com.ssafy.lab.orak.album.dto.AlbumResponseDto;
+import com.ssafy.lab.orak.album.dto.AlbumSearchPageDto;
+import com.ssafy.lab.orak.album.dto.AlbumSearchResult;
 import com.ssafy.lab.orak.album.dto.AlbumUpdateRequestDto;
 import com.ssafy.lab.orak.album.entity.Album;
+import com.ssafy.lab.orak.album.entity.AlbumCard;
 import com.ssafy.lab.orak.album.exception.AlbumAccessDeniedException;
 import com.ssafy.lab.orak.album.exception.AlbumNotFoundException;
+import com.ssafy.lab.orak.album.mapper.AlbumCardMapper;
+import com.ssafy.lab.orak.album.repository.AlbumCardRepository;
 import com.ssafy.lab.orak.album.repository.AlbumRepository;
 import com.ssafy.lab.orak.albumtrack.service.AlbumTrackService;
-import com.ssafy.lab.orak.profile.dto.ProfileResponseDTO;
+import com.ssafy.lab.orak.common.loader.EntityLoaderProvider;
+import com.ssafy.lab.orak.common.loader.EntityLoaders;
+import com.ssafy.lab.orak.processing.service.BatchProcessingService;
+import com.ssafy.lab.orak.profile.entity.Profile;
+import com.ssafy.lab.orak.profile.service.ProfileImageService;
 import com.ssafy.lab.orak.profile.service.ProfileService;
 import com.ssafy.lab.orak.upload.entity.Upload;
+import com.ssafy.lab.orak.upload.enums.ImageVariant;
 import com.ssafy.lab.orak.upload.service.FileUploadService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -21,6 +33,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Log4j2
 @Service
 @Transactional
@@ -31,6 +48,13 @@ public class AlbumService {
     private final FileUploadService fileUploadService;
     private final ProfileService profileService;
     private final AlbumTrackService albumTrackService;
+    private final BatchProcessingService batchProcessingService;
+    private final AlbumCardRepository albumCardRepository;
+    private final AlbumCardMapper albumCardMapper;
+    private final ProfileImageService profileImageService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AlbumSearchService albumSearchService;
+    private final EntityLoaderProvider entityLoaderProvider;
 
     // =========================
     // 앨범 생성 (트랙과 함께 생성 가능)
@@ -76,6 +100,8 @@ public class AlbumService {
                 log.info("트랙 없는 앨범 생성 완료 - 앨범ID: {}", savedAlbum.getId());
             }
 
+            eventPublisher.publishEvent(AlbumCardChangedEvent.ofAlbum(savedAlbum.getId()));
+
             // 트랙 생성 시 통계가 업데이트되므로 savedAlbum 정보 사용
             log.debug("응답 DTO 생성 시작");
             return convertToResponseDto(savedAlbum);
@@ -92,9 +118,8 @@ public class AlbumService {
     public Page<AlbumResponseDto> getAllAlbums(int page, int size) {
         log.info("전체 앨범 조회 - 페이지: {}, 크기: {}", page, size);
         Pageable pageable = PageRequest.of(page, size);
-        Page<Album> albums = albumRepository.findAllByOrderByCreatedAtDesc(pageable);
-        // 각 아이템을 convertToResponseDto로 변환 (coverImageUrl 포함)
-        return albums.map(this::convertToResponseDto);
+        Page<AlbumCard> cards = albumCardRepository.findAllByOrderByAlbumCreatedAtDescAlbumIdDesc(pageable);
+        return convertCardsToResponseDtos(cards);
     }
 
     // =========================
@@ -136,6 +161,7 @@ public class AlbumService {
         }
 
         Album updatedAlbum = albumRepository.save(album);
+        eventPublisher.publishEvent(AlbumCardChangedEvent.ofAlbum(albumId));
         log.info("Album updated successfully with ID: {}", albumId);
 
         return convertToResponseDto(updatedAlbum);
@@ -154,6 +180,7 @@ public class AlbumService {
         }
 
         albumRepository.delete(album);
+        eventPublisher.publishEvent(AlbumCardChangedEvent.ofAlbum(albumId));
         log.info("Album deleted successfully: {}", albumId);
     }
 
@@ -177,10 +204,12 @@ public class AlbumService {
 
         // 새 커버 이미지 업로드
         Upload upload = fileUploadService.uploadSingleFile(imageFile, "album-covers", userId);
+        batchProcessingService.submit(upload);
 
         // 앨범 업데이트
         album.setUploadId(upload.getId());
         Album updatedAlbum = albumRepository.save(album);
+        eventPublisher.publishEvent(AlbumCardChangedEvent.ofAlbum(albumId));
 
         log.info("Cover image uploaded successfully: albumId = {}, uploadId = {}", albumId, upload.getId());
         return convertToResponseDto(updatedAlbum);
@@ -204,6 +233,7 @@ public class AlbumService {
 
             album.setUploadId(null);
             Album updatedAlbum = albumRepository.save(album);
+            eventPublisher.publishEvent(AlbumCardChangedEvent.ofAlbum(albumId));
 
             log.info("Cover image removed successfully: albumId = {}", albumId);
             return convertToResponseDto(updatedAlbum);
@@ -219,17 +249,49 @@ public class AlbumService {
     public Page<AlbumResponseDto> getPublicAlbums(int page, int size, String keyword) {
         log.info("getPublicAlbums - page: {}, size: {}, keyword: {}", page, size, keyword);
 
+        if (page < 0) {
+            throw new IllegalArgumentException("페이지 번호는 0 이상이어야 합니다.");
+        }
+        if (size < 1 || size > 100) {
+            throw new IllegalArgumentException("페이지 크기는 1~100 사이여야 합니다.");
+        }
+
         Pageable pageable = PageRequest.of(page, size);
-        Page<Album> albums;
+        Page<AlbumCard> cards;
 
         if (keyword != null && !keyword.trim().isEmpty()) {
-            albums = albumRepository.findPublicAlbumsByKeyword(keyword.trim(), pageable);
+            // 색인으로 처리 가능하면 관련도순, 아니면 LIKE 검색
+            cards = albumSearchService.canSearch(keyword)
+                    ? albumSearchService.searchPage(keyword, page, size)
+                    : albumCardRepository.findPublicCardsByKeyword(keyword.trim(), pageable);
         } else {
-            albums = albumRepository.findByIsPublicTrueOrderByCreatedAtDesc(pageable);
+            cards = albumCardRepository.findByIsPublicTrueOrderByAlbumCreatedAtDescAlbumIdDesc(pageable);
         }
 
-        // ✅ from(...) 대신 convertToResponseDto 사용 (cover URL 포함)
-        return albums.map(this::convertToResponseDto);
+        return convertCardsToResponseDtos(cards);
+    }
+
+    // =========================
+    // 공개 앨범 검색 (관련도/최신성 순, 커서 페이지네이션)
+    // =========================
+    @Transactional(readOnly = true)
+    public AlbumSearchPageDto searchPublicAlbums(String keyword, String cursor, int size) {
+        log.info("searchPublicAlbums - keyword: {}, cursor: {}, size: {}", keyword, cursor, size);
+
+        if (keyword == null || keyword.trim().isEmpty()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        if (size < 1 || size > 100) {
+            throw new IllegalArgumentException("페이지 크기는 1~100 사이여야 합니다.");
+        }
+
+        AlbumSearchResult result = albumSearchService.search(keyword, cursor, size);
+        return AlbumSearchPageDto.builder()
+                .albums(convertCardsToResponseDtos(result.cards()))
+                .nextCursor(result.nextCursor())
+                .hasNext(result.nextCursor() != null)
+                .totalCount(result.totalCount())
+                .build();
     }
 
     // =========================
@@ -258,26 +320,34 @@ public class AlbumService {
                 currentUserId, page, size, keyword);
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<Album> albums;
+        Page<AlbumCard> cards;
 
         if (keyword != null && !keyword.trim().isEmpty()) {
-            albums = albumRepository.findPublicAlbumsByFollowedUsersAndKeyword(currentUserId, keyword.trim(), pageable);
+            cards = albumCardRepository.findPublicCardsByFollowedUsersAndKeyword(currentUserId, keyword.trim(), pageable);
         } else {
-            albums = albumRepository.findPublicAlbumsByFollowedUsers(currentUserId, pageable);
+            cards = albumCardRepository.findPublicCardsByFollowedUsers(currentUserId, pageable);
         }
 
-        // ✅ 항상 convertToResponseDto로 매핑
-        return albums.map(this::convertToResponseDto);
+        return convertCardsToResponseDtos(cards);
     }
 
     // =========================
     // 공용 변환 (uploadId → coverImageUrl + 사용자 정보)
     // =========================
     private AlbumResponseDto convertToResponseDto(Album album) {
+        // 커버 업로드와 소유자 프로필은 요청 단위 로더로 조회 (같은 요청 안 댓글 작성자 등과 함께 재사용)
+        EntityLoaders loaders = entityLoaderProvider.current();
+        loaders.uploads().register(album.getUploadId());
+        loaders.profiles().register(album.getUserId());
+        loaders.dispatchAll();
+
         String coverImageUrl;
         if (album.getUploadId() != null) {
             try {
-                coverImageUrl = fileUploadService.getFileUrl(album.getUploadId());
+                Upload coverUpload = loaders.uploads().get(album.getUploadId());
+                coverImageUrl = coverUpload != null
+                        ? fileUploadService.getFileUrl(coverUpload, ImageVariant.MEDIUM)
+                        : getDefaultCoverImageUrl();
             } catch (Exception e) {
                 log.warn("Failed to generate cover image URL for uploadId: {}", album.getUploadId(), e);
                 coverImageUrl = getDefaultCoverImageUrl();
@@ -291,10 +361,10 @@ public class AlbumService {
         String userProfileImageUrl = null;
 
         try {
-            ProfileResponseDTO profile = profileService.getProfileByUserId(album.getUserId());
+            Profile profile = loaders.profiles().get(album.getUserId());
             if (profile != null) {
                 userNickname = profile.getNickname() != null ? profile.getNickname() : userNickname;
-                userProfileImageUrl = profile.getProfileImageUrl();
+                userProfileImageUrl = profileImageService.getProfileImageUrl(profile.getProfileImageUpload(), ImageVariant.MEDIUM);
             }
         } catch (Exception e) {
             log.warn("Failed to fetch profile for userId: {}", album.getUserId(), e);
@@ -321,6 +391,66 @@ public class AlbumService {
                 .build();
     }
 
+    // =========================
+    // 목록 변환 (album_cards → 응답, 커버/프로필 이미지는 페이지 단위로 한 번에 조회·서명)
+    // =========================
+    private Page<AlbumResponseDto> convertCardsToResponseDtos(Page<AlbumCard> cards) {
+        Map<Long, String> urls = loadCardImageUrls(cards.getContent());
+        return cards.map(card -> toCardResponseDto(card, urls));
+    }
+
+    private List<AlbumResponseDto> convertCardsToResponseDtos(List<AlbumCard> cards) {
+        Map<Long, String> urls = loadCardImageUrls(cards);
+        return cards.stream().map(card -> toCardResponseDto(card, urls)).toList();
+    }
+
+    private Map<Long, String> loadCardImageUrls(List<AlbumCard> cards) {
+        Set<Long> uploadIds = new HashSet<>();
+        for (AlbumCard card : cards) {
+            if (card.getCoverUploadId() != null) {
+                uploadIds.add(card.getCoverUploadId());
+            }
+            if (card.getOwnerProfileImageUploadId() != null) {
+                uploadIds.add(card.getOwnerProfileImageUploadId());
+            }
+        }
+
+        Map<Long, String> imageUrls = Map.of();
+        if (!uploadIds.isEmpty()) {
+            try {
+                Map<Long, Upload> uploads = fileUploadService.getUploads(uploadIds);
+                imageUrls = fileUploadService.getFileUrls(uploads.values(), ImageVariant.MEDIUM);
+            } catch (Exception e) {
+                log.warn("Failed to generate image URLs for album cards: {}", uploadIds, e);
+            }
+        }
+
+        return imageUrls;
+    }
+
+    private AlbumResponseDto toCardResponseDto(AlbumCard card, Map<Long, String> imageUrls) {
+        return albumCardMapper.toResponseDto(card,
+                resolveCoverImageUrl(card, imageUrls), resolveOwnerProfileImageUrl(card, imageUrls));
+    }
+
+    private String resolveCoverImageUrl(AlbumCard card, Map<Long, String> imageUrls) {
+        if (card.getCoverUploadId() == null) {
+            return getDefaultCoverImageUrl();
+        }
+        return imageUrls.getOrDefault(card.getCoverUploadId(), getDefaultCoverImageUrl());
+    }
+
+    // 프로필이 없으면 null, 프로필 이미지가 없으면 기본 프로필 이미지 (상세 조회와 같은 규칙)
+    private String resolveOwnerProfileImageUrl(AlbumCard card, Map<Long, String> imageUrls) {
+        if (!card.hasOwnerProfile()) {
+            return null;
+        }
+        if (card.getOwnerProfileImageUploadId() == null) {
+            return profileImageService.getRandomDefaultImageUrl();
+        }
+        return imageUrls.get(card.getOwnerProfileImageUploadId());
+    }
+
     // 기본 커버 이미지 URL (프론트 폴백과 경로를 맞추고 싶으면 여기서 통일)
     private String getDefaultCoverImageUrl() {
         return "/image/albumCoverImage.png";
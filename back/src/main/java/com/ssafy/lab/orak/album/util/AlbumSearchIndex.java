@@ -0,0 +1,427 @@
+package com.ssafy.lab.orak.album.util;
+
+import com.ssafy.lab.orak.common.util.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 공개 앨범 검색용 인메모리 역색인 (제목/설명/소유자 닉네임의 2글자 n-gram)
+ * - MySQL ngram 파서(ngram_token_size=2)와 같은 분할이라 한글 부분 단어("사랑" → "첫사랑의 노래")도 찾음
+ * - 검색어의 n-gram을 모두 가진 앨범만 일치로 보고, 게시 목록 교집합은 가장 짧은 목록 기준으로 건너뛰며 계산
+ * - 문서는 추가 순서대로 번호를 받고 게시 목록은 번호순 int 배열 (번호 << 3 | 필드 비트)
+ * - 수정/삭제는 기존 번호에 삭제 표시만 하고 새 번호로 다시 추가 (삭제 표시된 번호는 재구성 때 정리)
+ * - 색인된 내용과 같은 문서는 다시 추가하지 않음 (삭제 표시가 불필요하게 쌓이지 않도록)
+ * - 점수 = 필드 가중치(제목 3, 닉네임 2, 설명 1) 평균 + 최신성 가중치 × 0.5^(경과 시간 / 반감기)
+ */
+public final class AlbumSearchIndex {
+
+    public static final int MIN_QUERY_LENGTH = 2;
+    // 설명은 앞부분만 색인 (긴 설명 하나가 게시 목록을 키우지 않도록)
+    public static final int MAX_DESCRIPTION_LENGTH = 200;
+
+    private static final int TITLE = 1;
+    private static final int NICKNAME = 2;
+    private static final int DESCRIPTION = 4;
+    private static final int FIELD_BITS = 3;
+    private static final int FIELD_MASK = (1 << FIELD_BITS) - 1;
+
+    // 순위 순서 (점수 내림차순, 같으면 앨범 ID 내림차순 = 최신 앨범 우선)
+    private static final Comparator<Hit> RANK = Comparator.comparingDouble(Hit::score).reversed()
+            .thenComparing(Comparator.comparingLong(Hit::albumId).reversed());
+
+    private final double recencyWeight;
+    private final long recencyHalfLifeMillis;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final LongIntMap docByAlbumId = new LongIntMap();
+    private final BitSet deleted = new BitSet();
+    private long[] albumIds = new long[1024];
+    private long[] createdAtMillis = new long[1024];
+    private Document[] documents = new Document[1024];
+    private int docCount;
+    private int liveCount;
+
+    public AlbumSearchIndex(double recencyWeight, long recencyHalfLifeMillis) {
+        this.recencyWeight = recencyWeight;
+        this.recencyHalfLifeMillis = Math.max(1, recencyHalfLifeMillis);
+    }
+
+    /**
+     * @param createdAtMillis 앨범 생성 시각 (epoch ms)
+     */
+    public record Document(long albumId, String title, String description, String ownerNickname, long createdAtMillis) {
+    }
+
+    /**
+     * 다음 페이지 기준점 (asOfMillis로 최신성 점수를 고정해 페이지 사이에 순위가 흔들리지 않게 함)
+     */
+    public record Cursor(long asOfMillis, double score, long albumId) {
+    }
+
+    public record Hit(long albumId, double score) {
+    }
+
+    /**
+     * @param hits         순위순 결과 (최대 limit개)
+     * @param totalMatches 커서와 관계없는 전체 일치 수
+     * @param asOfMillis   점수 계산 기준 시각
+     */
+    public record Result(List<Hit> hits, int totalMatches, long asOfMillis) {
+    }
+
+    /**
+     * 앨범을 추가하거나 기존 문서를 교체
+     *
+     * @return 색인이 바뀌었으면 true (색인된 문서와 내용이 같으면 그대로 두고 false)
+     */
+    public boolean upsert(Document document) {
+        lock.readLock().lock();
+        try {
+            if (isIndexedLocked(document)) {
+                return false;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<String, Integer> tokens = tokens(document);
+        lock.writeLock().lock();
+        try {
+            if (isIndexedLocked(document)) {
+                return false;
+            }
+            removeLocked(document.albumId());
+            if (tokens.isEmpty()) {
+                return true;
+            }
+            int docId = docCount++;
+            ensureCapacity(docCount);
+            albumIds[docId] = document.albumId();
+            createdAtMillis[docId] = document.createdAtMillis();
+            documents[docId] = document;
+            for (Map.Entry<String, Integer> token : tokens.entrySet()) {
+                postings.computeIfAbsent(token.getKey(), key -> new Postings())
+                        .add(docId << FIELD_BITS | token.getValue());
+            }
+            docByAlbumId.put(document.albumId(), docId);
+            liveCount++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long albumId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(albumId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 n-gram을 모두 가진 앨범을 순위순으로 최대 limit개 반환
+     *
+     * @param after 이전 페이지의 마지막 결과 (첫 페이지면 null)
+     */
+    public Result search(String keyword, Cursor after, int limit, long nowMillis) {
+        long asOf = after != null ? after.asOfMillis() : nowMillis;
+        List<String> queryTokens = queryTokens(keyword);
+        if (queryTokens.isEmpty() || limit <= 0) {
+            return new Result(List.of(), 0, asOf);
+        }
+
+        // limit만큼 미리 잡지 않음 (일치 수가 적으면 힙도 작게 유지, 최대 limit개)
+        PriorityQueue<Hit> worstFirst = new PriorityQueue<>(RANK.reversed());
+        int totalMatches = 0;
+
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[queryTokens.size()];
+            for (int i = 0; i < lists.length; i++) {
+                lists[i] = postings.get(queryTokens.get(i));
+                if (lists[i] == null) {
+                    return new Result(List.of(), 0, asOf);
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+
+            int[] positions = new int[lists.length];
+            Postings driver = lists[0];
+            candidates:
+            for (int i = 0; i < driver.size; i++) {
+                int docId = driver.entries[i] >>> FIELD_BITS;
+                if (deleted.get(docId)) {
+                    continue;
+                }
+                double fieldWeight = weight(driver.entries[i] & FIELD_MASK);
+                for (int l = 1; l < lists.length; l++) {
+                    int position = lists[l].seek(positions[l], docId);
+                    positions[l] = position;
+                    if (position >= lists[l].size || lists[l].entries[position] >>> FIELD_BITS != docId) {
+                        continue candidates;
+                    }
+                    fieldWeight += weight(lists[l].entries[position] & FIELD_MASK);
+                }
+
+                totalMatches++;
+                Hit hit = new Hit(albumIds[docId], score(fieldWeight / lists.length, docId, asOf));
+                if (after != null && !isAfter(hit, after)) {
+                    continue;
+                }
+                if (worstFirst.size() < limit) {
+                    worstFirst.add(hit);
+                } else if (RANK.compare(hit, worstFirst.peek()) < 0) {
+                    worstFirst.poll();
+                    worstFirst.add(hit);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Hit> hits = new ArrayList<>(worstFirst);
+        hits.sort(RANK);
+        return new Result(hits, totalMatches, asOf);
+    }
+
+    /**
+     * 검색 가능한 앨범 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제 표시만 된 문서 수 (재구성 시점 판단용)
+     */
+    public int deletedCount() {
+        lock.readLock().lock();
+        try {
+            return docCount - liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int tokenCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static boolean isSearchable(String keyword) {
+        return TextNormalizer.normalize(keyword).length() >= MIN_QUERY_LENGTH;
+    }
+
+    private static List<String> queryTokens(String keyword) {
+        String normalized = TextNormalizer.normalize(keyword);
+        Set<String> tokens = new LinkedHashSet<>();
+        for (int i = 0; i + MIN_QUERY_LENGTH <= normalized.length(); i++) {
+            tokens.add(normalized.substring(i, i + MIN_QUERY_LENGTH));
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    private static Map<String, Integer> tokens(Document document) {
+        Map<String, Integer> tokens = new HashMap<>();
+        addTokens(tokens, TextNormalizer.normalize(document.title()), TITLE);
+        addTokens(tokens, TextNormalizer.normalize(document.ownerNickname()), NICKNAME);
+        String description = TextNormalizer.normalize(document.description());
+        if (description.length() > MAX_DESCRIPTION_LENGTH) {
+            description = description.substring(0, MAX_DESCRIPTION_LENGTH);
+        }
+        addTokens(tokens, description, DESCRIPTION);
+        return tokens;
+    }
+
+    private static void addTokens(Map<String, Integer> tokens, String text, int field) {
+        for (int i = 0; i + MIN_QUERY_LENGTH <= text.length(); i++) {
+            tokens.merge(text.substring(i, i + MIN_QUERY_LENGTH), field, (a, b) -> a | b);
+        }
+    }
+
+    // 한 n-gram이 여러 필드에 있으면 가장 큰 가중치
+    private static double weight(int fields) {
+        if ((fields & TITLE) != 0) {
+            return 3.0;
+        }
+        if ((fields & NICKNAME) != 0) {
+            return 2.0;
+        }
+        return 1.0;
+    }
+
+    private double score(double relevance, int docId, long asOf) {
+        long age = Math.max(0, asOf - createdAtMillis[docId]);
+        return relevance + recencyWeight * Math.pow(0.5, (double) age / recencyHalfLifeMillis);
+    }
+
+    private static boolean isAfter(Hit hit, Cursor cursor) {
+        return hit.score() < cursor.score()
+                || (hit.score() == cursor.score() && hit.albumId() < cursor.albumId());
+    }
+
+    private boolean isIndexedLocked(Document document) {
+        int docId = docByAlbumId.get(document.albumId());
+        return docId >= 0 && document.equals(documents[docId]);
+    }
+
+    private void removeLocked(long albumId) {
+        int docId = docByAlbumId.remove(albumId);
+        if (docId >= 0) {
+            deleted.set(docId);
+            documents[docId] = null;
+            liveCount--;
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > albumIds.length) {
+            int grown = Math.max(capacity, albumIds.length * 2);
+            albumIds = Arrays.copyOf(albumIds, grown);
+            createdAtMillis = Arrays.copyOf(createdAtMillis, grown);
+            documents = Arrays.copyOf(documents, grown);
+        }
+    }
+
+    // 문서 번호순 게시 목록 (문서는 번호가 커지는 순서로만 추가되므로 끝에 붙이면 정렬 유지)
+    private static final class Postings {
+        private int[] entries = new int[4];
+        private int size;
+
+        private void add(int entry) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entries[size++] = entry;
+        }
+
+        // from 이후에서 문서 번호가 docId 이상인 첫 위치 (지수 탐색 후 이분 탐색)
+        private int seek(int from, int docId) {
+            int target = docId << FIELD_BITS;
+            if (from >= size || entries[from] >= target) {
+                return from;
+            }
+            int step = 1;
+            int low = from;
+            int high = from + 1;
+            while (high < size && entries[high] < target) {
+                low = high;
+                step <<= 1;
+                high = from + step;
+            }
+            high = Math.min(high, size);
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (entries[mid] < target) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    // 앨범 ID → 문서 번호 (박싱 없는 선형 탐사 해시, 빈 칸은 값 -1)
+    private static final class LongIntMap {
+        private long[] keys = new long[1024];
+        private int[] values = filled(1024);
+        private int size;
+
+        private void put(long key, int value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize(keys.length * 2);
+            }
+            int slot = slot(key, keys.length);
+            while (values[slot] >= 0 && keys[slot] != key) {
+                slot = (slot + 1) & (keys.length - 1);
+            }
+            if (values[slot] < 0) {
+                size++;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+        }
+
+        private int get(long key) {
+            int slot = slot(key, keys.length);
+            while (values[slot] >= 0 && keys[slot] != key) {
+                slot = (slot + 1) & (keys.length - 1);
+            }
+            return values[slot];
+        }
+
+        // 지운 칸 뒤의 항목을 당겨 탐사 경로를 유지 (삭제 표시 없이)
+        private int remove(long key) {
+            int mask = keys.length - 1;
+            int slot = slot(key, keys.length);
+            while (values[slot] >= 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            int removed = values[slot];
+            if (removed < 0) {
+                return -1;
+            }
+            int gap = slot;
+            int next = (gap + 1) & mask;
+            while (values[next] >= 0) {
+                int home = slot(keys[next], keys.length);
+                if (((next - home) & mask) >= ((next - gap) & mask)) {
+                    keys[gap] = keys[next];
+                    values[gap] = values[next];
+                    gap = next;
+                }
+                next = (next + 1) & mask;
+            }
+            values[gap] = -1;
+            size--;
+            return removed;
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[capacity];
+            values = filled(capacity);
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] >= 0) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int slot(long key, int capacity) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & (capacity - 1);
+        }
+
+        private static int[] filled(int capacity) {
+            int[] values = new int[capacity];
+            Arrays.fill(values, -1);
+            return values;
+        }
+    }
+}
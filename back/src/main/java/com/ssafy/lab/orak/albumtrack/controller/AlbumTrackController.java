@@ -6,7 +6,9 @@ import com.ssafy.lab.orak.albumtrack.dto.request.ReorderTrackRequestDTO;
 import com.ssafy.lab.orak.albumtrack.dto.response.AlbumTrackResponseDTO;
 import com.ssafy.lab.orak.albumtrack.dto.response.AlbumTracksResponseDTO;
 import com.ssafy.lab.orak.albumtrack.dto.response.PlaybackResponseDTO;
+import com.ssafy.lab.orak.albumtrack.dto.response.PlaybackSessionResponseDTO;
 import com.ssafy.lab.orak.albumtrack.service.AlbumTrackService;
+import com.ssafy.lab.orak.albumtrack.service.PlaybackSessionService;
 import com.ssafy.lab.orak.auth.service.CustomUserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -29,6 +31,7 @@ import java.util.List;
 public class AlbumTrackController {
 
     private final AlbumTrackService albumTrackService;
+    private final PlaybackSessionService playbackSessionService;
 
     @Operation(summary = "앨범 트랙 목록 조회", description = "앨범의 모든 트랙을 순서대로 조회합니다")
     @ApiResponse(responseCode = "200", description = "트랙 목록 조회 성공")
@@ -140,19 +143,7 @@ public class AlbumTrackController {
             @Parameter(description = "앨범 ID") @PathVariable Long albumId,
             @AuthenticationPrincipal CustomUserPrincipal currentUser) {
         
-        AlbumTrackResponseDTO firstTrack = albumTrackService.getTrack(albumId, 1, currentUser.getUserId());
-        AlbumTrackResponseDTO nextTrack = albumTrackService.getNextTrack(albumId, 1, currentUser.getUserId());
-        AlbumTracksResponseDTO albumTracks = albumTrackService.getAlbumTracks(albumId, currentUser.getUserId());
-        
-        PlaybackResponseDTO playback = PlaybackResponseDTO.builder()
-                .currentTrack(firstTrack)
-                .nextTrack(nextTrack)
-                .previousTrack(null)
-                .hasNext(nextTrack != null)
-                .hasPrevious(false)
-                .totalTracks(albumTracks.getTotalTracks())
-                .build();
-                
+        PlaybackResponseDTO playback = albumTrackService.getPlayback(albumId, 1, currentUser.getUserId());
         return ResponseEntity.ok(playback);
     }
 
@@ -164,23 +155,78 @@ public class AlbumTrackController {
             @Parameter(description = "시작할 트랙 순서") @PathVariable Integer trackOrder,
             @AuthenticationPrincipal CustomUserPrincipal currentUser) {
         
-        AlbumTrackResponseDTO currentTrack = albumTrackService.getTrack(albumId, trackOrder, currentUser.getUserId());
-        AlbumTrackResponseDTO nextTrack = albumTrackService.getNextTrack(albumId, trackOrder, currentUser.getUserId());
-        AlbumTrackResponseDTO previousTrack = albumTrackService.getPreviousTrack(albumId, trackOrder, currentUser.getUserId());
-        AlbumTracksResponseDTO albumTracks = albumTrackService.getAlbumTracks(albumId, currentUser.getUserId());
-        
-        PlaybackResponseDTO playback = PlaybackResponseDTO.builder()
-                .currentTrack(currentTrack)
-                .nextTrack(nextTrack)
-                .previousTrack(previousTrack)
-                .hasNext(nextTrack != null)
-                .hasPrevious(previousTrack != null)
-                .totalTracks(albumTracks.getTotalTracks())
-                .build();
-                
+        PlaybackResponseDTO playback = albumTrackService.getPlayback(albumId, trackOrder, currentUser.getUserId());
+        return ResponseEntity.ok(playback);
+    }
+
+    @Operation(summary = "재생 세션 시작", description = "앨범 전체 재생 큐를 한 번에 받고 이후 다음/이전 이동은 세션으로 처리합니다")
+    @ApiResponse(responseCode = "201", description = "재생 세션 생성 성공")
+    @PostMapping("/sessions")
+    public ResponseEntity<PlaybackSessionResponseDTO> startPlaybackSession(
+            @Parameter(description = "앨범 ID") @PathVariable Long albumId,
+            @Parameter(description = "시작할 트랙 순서 (생략 시 첫 곡)") @RequestParam(required = false) Integer startOrder,
+            @Parameter(description = "셔플 여부") @RequestParam(defaultValue = "false") boolean shuffle,
+            @Parameter(description = "셔플 시드 (같은 시드면 같은 순서)") @RequestParam(required = false) Long seed,
+            @AuthenticationPrincipal CustomUserPrincipal currentUser) {
+
+        PlaybackSessionResponseDTO session = playbackSessionService.startSession(
+                albumId, startOrder, shuffle, seed, currentUser.getUserId());
+        return ResponseEntity.status(201).body(session);
+    }
+
+    @Operation(summary = "재생 세션 조회", description = "현재 위치와 전체 재생 큐를 조회합니다")
+    @ApiResponse(responseCode = "200", description = "재생 세션 조회 성공")
+    @GetMapping("/sessions/{sessionId}")
+    public ResponseEntity<PlaybackSessionResponseDTO> getPlaybackSession(
+            @Parameter(description = "앨범 ID") @PathVariable Long albumId,
+            @Parameter(description = "재생 세션 ID") @PathVariable String sessionId,
+            @AuthenticationPrincipal CustomUserPrincipal currentUser) {
+
+        return ResponseEntity.ok(playbackSessionService.getSession(albumId, sessionId, currentUser.getUserId()));
+    }
+
+    @Operation(summary = "재생 세션 다음 트랙", description = "재생 큐의 다음 트랙으로 이동합니다")
+    @ApiResponse(responseCode = "200", description = "다음 트랙 이동 성공")
+    @PostMapping("/sessions/{sessionId}/next")
+    public ResponseEntity<PlaybackSessionResponseDTO> nextInSession(
+            @Parameter(description = "앨범 ID") @PathVariable Long albumId,
+            @Parameter(description = "재생 세션 ID") @PathVariable String sessionId,
+            @AuthenticationPrincipal CustomUserPrincipal currentUser) {
+
+        PlaybackSessionResponseDTO playback = playbackSessionService.next(albumId, sessionId, currentUser.getUserId());
+        if (playback == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(playback);
+    }
+
+    @Operation(summary = "재생 세션 이전 트랙", description = "재생 큐의 이전 트랙으로 이동합니다")
+    @ApiResponse(responseCode = "200", description = "이전 트랙 이동 성공")
+    @PostMapping("/sessions/{sessionId}/previous")
+    public ResponseEntity<PlaybackSessionResponseDTO> previousInSession(
+            @Parameter(description = "앨범 ID") @PathVariable Long albumId,
+            @Parameter(description = "재생 세션 ID") @PathVariable String sessionId,
+            @AuthenticationPrincipal CustomUserPrincipal currentUser) {
+
+        PlaybackSessionResponseDTO playback = playbackSessionService.previous(albumId, sessionId, currentUser.getUserId());
+        if (playback == null) {
+            return ResponseEntity.noContent().build();
+        }
         return ResponseEntity.ok(playback);
     }
 
+    @Operation(summary = "재생 세션 종료", description = "재생 세션을 종료합니다")
+    @ApiResponse(responseCode = "204", description = "재생 세션 종료 성공")
+    @DeleteMapping("/sessions/{sessionId}")
+    public ResponseEntity<Void> endPlaybackSession(
+            @Parameter(description = "앨범 ID") @PathVariable Long albumId,
+            @Parameter(description = "재생 세션 ID") @PathVariable String sessionId,
+            @AuthenticationPrincipal CustomUserPrincipal currentUser) {
+
+        playbackSessionService.endSession(albumId, sessionId, currentUser.getUserId());
+        return ResponseEntity.noContent().build();
+    }
+
     @Operation(summary = "셔플 재생 목록 조회", description = "앨범의 트랙들을 셔플 재생용으로 조회합니다")
     @ApiResponse(responseCode = "200", description = "셔플 재생 목록 조회 성공")
     @GetMapping("/shuffle")
@@ -0,0 +1,10 @@
+package com.ssafy.lab.orak.albumtrack.dto;
+
+/**
+ * 앨범 안에서 트랙이 놓인 위치 (삭제 후 순서 재정렬용)
+ */
+public record AlbumTrackPositionDTO(
+        Long albumId,
+        Integer trackOrder
+) {
+}
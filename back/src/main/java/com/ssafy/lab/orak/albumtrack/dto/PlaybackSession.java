@@ -0,0 +1,36 @@
+package com.ssafy.lab.orak.albumtrack.dto;
+
+import com.ssafy.lab.orak.albumtrack.dto.response.AlbumTrackResponseDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Redis에 보관하는 재생 세션의 불변 부분 (재생 순서가 정해진 큐)
+ * 현재 위치는 별도 키에 두고 다음/이전 이동 때 Redis에서 원자적으로 옮김
+ *
+ * @param urlsExpireAt    큐의 오디오 URL이 유효한 마지막 시각
+ * @param createdAtMillis 세션 최대 수명 계산 기준
+ */
+public record PlaybackSession(
+        String sessionId,
+        Long userId,
+        Long albumId,
+        String albumTitle,
+        String coverImageUrl,
+        Integer totalDuration,
+        boolean shuffle,
+        Long shuffleSeed,
+        List<AlbumTrackResponseDTO> queue,
+        LocalDateTime urlsExpireAt,
+        long createdAtMillis
+) {
+
+    public PlaybackSession {
+        queue = List.copyOf(queue);
+    }
+
+    public boolean isOwnedBy(Long currentUserId) {
+        return userId != null && userId.equals(currentUserId);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ssafy.lab.orak.albumtrack.dto;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 녹음 삭제에 따른 앨범 트랙 연쇄 정리 결과
+ *
+ * @param affectedAlbumIds     트랙이 빠진 앨범
+ * @param deletedTrackCount    삭제된 트랙 수
+ * @param deletedAlbumIds      트랙이 0개가 되어 함께 삭제된 앨범
+ * @param orphanCoverUploadIds 삭제된 앨범의 커버 업로드 (커밋 후 파일 삭제 대상)
+ */
+public record RecordCascadeResult(
+        Set<Long> affectedAlbumIds,
+        int deletedTrackCount,
+        List<Long> deletedAlbumIds,
+        List<Long> orphanCoverUploadIds
+) {
+
+    public static RecordCascadeResult empty() {
+        return new RecordCascadeResult(Set.of(), 0, List.of(), List.of());
+    }
+}
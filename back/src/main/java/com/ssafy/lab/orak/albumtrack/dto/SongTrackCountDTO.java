@@ -0,0 +1,13 @@
+package com.ssafy.lab.orak.albumtrack.dto;
+
+/**
+ * 곡별 공개 앨범 수록 횟수 집계 행
+ *
+ * @param maxTrackId 집계에 포함된 가장 큰 트랙 ID (증분 집계 기준점)
+ */
+public record SongTrackCountDTO(
+        Long songId,
+        Long trackCount,
+        Long maxTrackId
+) {
+}
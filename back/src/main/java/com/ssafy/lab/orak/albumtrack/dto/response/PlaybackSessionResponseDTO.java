@@ -0,0 +1,38 @@
+package com.ssafy.lab.orak.albumtrack.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlaybackSessionResponseDTO {
+
+    private String sessionId;
+    private Long albumId;
+    private String albumTitle;
+    private String coverImageUrl;
+    private Integer totalTracks;
+    private Integer totalDuration;
+    private Boolean shuffle;
+    // 같은 시드로 다시 시작하면 같은 셔플 순서
+    private Long shuffleSeed;
+    // 큐 안에서의 현재 위치 (0부터)
+    private Integer position;
+    private AlbumTrackResponseDTO currentTrack;
+    private AlbumTrackResponseDTO nextTrack;
+    private AlbumTrackResponseDTO previousTrack;
+    private Boolean hasNext;
+    private Boolean hasPrevious;
+    // 미리 받아둘 다음 트랙 오디오 URL (재생 순서대로)
+    private List<String> prefetchUrls;
+    private LocalDateTime urlsExpireAt;
+    // 전체 재생 큐 (세션 시작 응답에만 포함)
+    private List<AlbumTrackResponseDTO> queue;
+}
@@ -0,0 +1,8 @@
+package com.ssafy.lab.orak.albumtrack.exception;
+
+public class PlaybackSessionNotFoundException extends AlbumTrackException {
+
+    public PlaybackSessionNotFoundException(String sessionId) {
+        super("재생 세션을 찾을 수 없거나 만료되었습니다: " + sessionId);
+    }
+}
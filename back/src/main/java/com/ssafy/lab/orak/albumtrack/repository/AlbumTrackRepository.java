@@ -1,11 +1,15 @@
 package com.ssafy.lab.orak.albumtrack.repository;
 
+import com.ssafy.lab.orak.albumtrack.dto.AlbumTrackPositionDTO;
+import com.ssafy.lab.orak.albumtrack.dto.SongTrackCountDTO;
 import com.ssafy.lab.orak.albumtrack.entity.AlbumTrack;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,7 +45,81 @@ public interface AlbumTrackRepository extends JpaRepository<AlbumTrack, Long> {
     @Query("SELECT at FROM AlbumTrack at WHERE at.album.id = :albumId AND at.trackOrder > :order ORDER BY at.trackOrder ASC")
     List<AlbumTrack> findByAlbumIdAndTrackOrderGreaterThan(@Param("albumId") Long albumId, @Param("order") Integer order);
 
+    // 앨범의 트랙 전체 (녹음은 프록시, 순서/녹음 중복 검사용)
+    @Query("SELECT at FROM AlbumTrack at WHERE at.album.id = :albumId")
+    List<AlbumTrack> findByAlbumId(@Param("albumId") Long albumId);
+
+    // ===============================================
+    // 순서 일괄 변경용
+    // (album_id, track_order) 유니크 제약 때문에 대상 행을 먼저 음수로 옮겨 두었다가
+    // commitStagedOrders 로 양수로 되돌림 → 행 단위로 제약을 검사하는 MySQL에서도 충돌 없음
+    // ===============================================
+
+    /**
+     * 삭제된 순서 뒤의 트랙을 한 칸씩 앞당길 자리로 스테이징 (n → -(n-1))
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AlbumTrack at SET at.trackOrder = 1 - at.trackOrder " +
+           "WHERE at.album.id = :albumId AND at.trackOrder > :order")
+    int stageShiftAfter(@Param("albumId") Long albumId, @Param("order") Integer order);
+
+    /**
+     * 이동 구간 [low, high] 만 CASE 한 번으로 스테이징
+     * 옮기는 트랙은 toOrder 로, 나머지는 shift(±1) 만큼 밀림
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AlbumTrack at SET at.trackOrder = " +
+           "CASE WHEN at.trackOrder = :fromOrder THEN 0 - :toOrder ELSE 0 - (at.trackOrder + :shift) END " +
+           "WHERE at.album.id = :albumId AND at.trackOrder BETWEEN :low AND :high")
+    int stageMove(@Param("albumId") Long albumId,
+                  @Param("fromOrder") Integer fromOrder,
+                  @Param("toOrder") Integer toOrder,
+                  @Param("shift") Integer shift,
+                  @Param("low") Integer low,
+                  @Param("high") Integer high);
+
+    /**
+     * 스테이징된(음수) 순서를 양수로 확정
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AlbumTrack at SET at.trackOrder = 0 - at.trackOrder " +
+           "WHERE at.album.id = :albumId AND at.trackOrder < 0")
+    int commitStagedOrders(@Param("albumId") Long albumId);
+
+    // ===============================================
+    // 녹음 삭제 연쇄 정리용 (영향받는 앨범 수와 관계없이 일정한 쿼리 수)
+    // ===============================================
+
+    // 삭제될 트랙들의 (앨범, 순서)
+    @Query("SELECT new com.ssafy.lab.orak.albumtrack.dto.AlbumTrackPositionDTO(at.album.id, at.trackOrder) " +
+           "FROM AlbumTrack at WHERE at.record.id IN :recordIds")
+    List<AlbumTrackPositionDTO> findPositionsByRecordIds(@Param("recordIds") Collection<Long> recordIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM AlbumTrack at WHERE at.record.id IN :recordIds")
+    int deleteByRecordIds(@Param("recordIds") Collection<Long> recordIds);
+
+    /**
+     * 여러 앨범에서 같은 순서 뒤의 트랙을 한 칸씩 앞당길 자리로 스테이징 (stageShiftAfter 의 다중 앨범판)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AlbumTrack at SET at.trackOrder = 1 - at.trackOrder " +
+           "WHERE at.album.id IN :albumIds AND at.trackOrder > :order")
+    int stageShiftAfterInAlbums(@Param("albumIds") Collection<Long> albumIds, @Param("order") Integer order);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AlbumTrack at SET at.trackOrder = 0 - at.trackOrder " +
+           "WHERE at.album.id IN :albumIds AND at.trackOrder < 0")
+    int commitStagedOrdersInAlbums(@Param("albumIds") Collection<Long> albumIds);
+
     // 특정 Record ID로 모든 AlbumTrack 조회 (Record 삭제시 cascade 용)
     @Query("SELECT at FROM AlbumTrack at WHERE at.record.id = :recordId")
     List<AlbumTrack> findByRecordId(@Param("recordId") Long recordId);
-}
\ No newline at end of file
+
+    // 콜드 스타트 추천용: afterId 이후 트랙의 곡별 공개 앨범 수록 횟수 (0이면 전체)
+    @Query("SELECT new com.ssafy.lab.orak.albumtrack.dto.SongTrackCountDTO(r.songId, COUNT(at), MAX(at.id)) " +
+           "FROM AlbumTrack at JOIN at.record r JOIN at.album a " +
+           "WHERE r.songId IS NOT NULL AND a.isPublic = true AND at.id > :afterId " +
+           "GROUP BY r.songId")
+    List<SongTrackCountDTO> countPublicTracksBySongAfter(@Param("afterId") Long afterId);
+}
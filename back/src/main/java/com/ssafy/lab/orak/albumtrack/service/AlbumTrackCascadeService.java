@@ -0,0 +1,87 @@
+package com.ssafy.lab.orak.albumtrack.service;
+
+import com.ssafy.lab.orak.album.dto.AlbumCardChangedEvent;
+import com.ssafy.lab.orak.album.entity.Album;
+import com.ssafy.lab.orak.album.repository.AlbumRepository;
+import com.ssafy.lab.orak.albumtrack.dto.AlbumTrackPositionDTO;
+import com.ssafy.lab.orak.albumtrack.dto.RecordCascadeResult;
+import com.ssafy.lab.orak.albumtrack.repository.AlbumTrackRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 녹음 삭제 시 앨범 트랙 연쇄 정리
+ * - 영향받는 앨범을 한 번에 모으고, 트랙은 일괄 DELETE 한 번으로 삭제
+ * - 빈 순서는 "빠진 순서"가 같은 앨범끼리 묶어 UPDATE 하므로 앨범 수가 아닌 순서 종류 수만큼만 실행
+ * - 통계는 남은 트랙 기준 집계 UPDATE 한 번, 빈 앨범은 일괄 삭제
+ * - 영향받은 앨범 카드(album_cards)는 이벤트 한 번으로 함께 갱신
+ * - 파일(S3) 삭제는 호출 측에서 커밋 이후로 미룸
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class AlbumTrackCascadeService {
+
+    private final AlbumTrackRepository albumTrackRepository;
+    private final AlbumRepository albumRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public RecordCascadeResult removeRecordsFromAlbums(Collection<Long> recordIds) {
+        if (recordIds == null || recordIds.isEmpty()) {
+            return RecordCascadeResult.empty();
+        }
+
+        List<AlbumTrackPositionDTO> positions = albumTrackRepository.findPositionsByRecordIds(recordIds);
+        if (positions.isEmpty()) {
+            return RecordCascadeResult.empty();
+        }
+
+        Set<Long> affectedAlbumIds = new LinkedHashSet<>();
+        // 큰 순서부터 당겨야 같은 앨범에서 여러 트랙이 빠져도 앞쪽 기준 순서가 흔들리지 않음
+        Map<Integer, Set<Long>> albumIdsByRemovedOrder = new TreeMap<>(Collections.reverseOrder());
+        for (AlbumTrackPositionDTO position : positions) {
+            affectedAlbumIds.add(position.albumId());
+            albumIdsByRemovedOrder.computeIfAbsent(position.trackOrder(), order -> new LinkedHashSet<>())
+                    .add(position.albumId());
+        }
+
+        int deletedTrackCount = albumTrackRepository.deleteByRecordIds(recordIds);
+
+        albumIdsByRemovedOrder.forEach((removedOrder, albumIds) -> {
+            albumTrackRepository.stageShiftAfterInAlbums(albumIds, removedOrder);
+            albumTrackRepository.commitStagedOrdersInAlbums(albumIds);
+        });
+
+        albumRepository.recomputeTrackStatistics(affectedAlbumIds, LocalDateTime.now());
+
+        // 트랙이 0개가 된 앨범은 기존 규칙대로 삭제 (커버 파일은 호출 측에서 커밋 후 삭제)
+        List<Album> emptyAlbums = albumRepository.findEmptyAlbums(affectedAlbumIds);
+        List<Long> deletedAlbumIds = emptyAlbums.stream().map(Album::getId).toList();
+        List<Long> orphanCoverUploadIds = emptyAlbums.stream()
+                .map(Album::getUploadId)
+                .filter(Objects::nonNull)
+                .toList();
+        if (!deletedAlbumIds.isEmpty()) {
+            albumRepository.deleteByIds(deletedAlbumIds);
+        }
+        eventPublisher.publishEvent(AlbumCardChangedEvent.ofAlbums(affectedAlbumIds));
+
+        log.info("녹음 삭제 연쇄 정리 완료 - 녹음 수: {}, 영향받은 앨범 수: {}, 삭제된 트랙 수: {}, 삭제된 앨범 수: {}",
+                recordIds.size(), affectedAlbumIds.size(), deletedTrackCount, deletedAlbumIds.size());
+        return new RecordCascadeResult(affectedAlbumIds, deletedTrackCount, deletedAlbumIds, orphanCoverUploadIds);
+    }
+}
@@ -1,5 +1,6 @@
 package com.ssafy.lab.orak.albumtrack.service;
 
+import com.ssafy.lab.orak.album.dto.AlbumCardChangedEvent;
 import com.ssafy.lab.orak.album.entity.Album;
 import com.ssafy.lab.orak.album.exception.AlbumNotFoundException;
 import com.ssafy.lab.orak.album.repository.AlbumRepository;
@@ -16,14 +17,22 @@ import com.ssafy.lab.orak.albumtrack.repository.AlbumTrackRepository;
 import com.ssafy.lab.orak.recording.entity.Record;
 import com.ssafy.lab.orak.recording.exception.RecordNotFoundException;
 import com.ssafy.lab.orak.recording.repository.RecordRepository;
-import com.ssafy.lab.orak.s3.exception.S3UrlGenerationException;
+import com.ssafy.lab.orak.upload.entity.Upload;
 import com.ssafy.lab.orak.upload.service.FileUploadService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -37,8 +46,10 @@ public class AlbumTrackService {
     private final AlbumRepository albumRepository;
     private final RecordRepository recordRepository;
     private final FileUploadService fileUploadService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 앨범의 모든 트랙 조회 (순서대로)
+    // 트랙/녹음/업로드는 JOIN FETCH 한 번, 커버 포함 URL은 일괄 서명 한 번
     public AlbumTracksResponseDTO getAlbumTracks(Long albumId, Long userId) {
         Album album = albumRepository.findById(albumId)
                 .orElseThrow(() -> new AlbumNotFoundException(albumId));
@@ -48,33 +59,46 @@ public class AlbumTrackService {
         }
 
         List<AlbumTrack> tracks = albumTrackRepository.findByAlbumIdOrderByTrackOrder(albumId);
-        
+
+        Map<Long, Upload> uploads = collectUploads(album.getUploadId(), tracks);
+        Map<Long, String> urls = signUrls(albumId, uploads.values());
+
         List<AlbumTrackResponseDTO> trackDtos = tracks.stream()
-                .map(this::convertToResponseDTO)
+                .map(track -> convertToResponseDTO(track, urls.get(track.getRecord().getUploadId())))
                 .collect(Collectors.toList());
 
-        // 앨범 커버 이미지 URL 생성
-        String coverImageUrl = null;
-        if (album.getUploadId() != null) {
-            try {
-                coverImageUrl = fileUploadService.getFileUrl(album.getUploadId());
-            } catch (S3UrlGenerationException e) {
-                log.warn("S3 URL 생성 실패 for album {}: {}", albumId, e.getMessage());
-            } catch (Exception e) {
-                log.warn("커버 이미지 URL 생성 중 예상치 못한 오류 for album {}: {}", albumId, e.getMessage());
-            }
-        }
-
         return AlbumTracksResponseDTO.builder()
                 .albumId(albumId)
                 .albumTitle(album.getTitle())
-                .coverImageUrl(coverImageUrl)
+                .coverImageUrl(album.getUploadId() != null ? urls.get(album.getUploadId()) : null)
                 .totalTracks(tracks.size())
                 .totalDuration(album.getTotalDuration())
                 .tracks(trackDtos)
                 .build();
     }
 
+    // 특정 트랙부터의 재생 정보 (앨범 트랙을 한 번에 읽어 현재/이전/다음을 목록에서 찾음)
+    public PlaybackResponseDTO getPlayback(Long albumId, Integer trackOrder, Long userId) {
+        AlbumTracksResponseDTO albumTracks = getAlbumTracks(albumId, userId);
+        List<AlbumTrackResponseDTO> tracks = albumTracks.getTracks();
+
+        int index = indexOfTrackOrder(tracks, trackOrder);
+        if (index < 0) {
+            throw new AlbumTrackException("트랙을 찾을 수 없습니다");
+        }
+        AlbumTrackResponseDTO previousTrack = index > 0 ? tracks.get(index - 1) : null;
+        AlbumTrackResponseDTO nextTrack = index + 1 < tracks.size() ? tracks.get(index + 1) : null;
+
+        return PlaybackResponseDTO.builder()
+                .currentTrack(tracks.get(index))
+                .nextTrack(nextTrack)
+                .previousTrack(previousTrack)
+                .hasNext(nextTrack != null)
+                .hasPrevious(previousTrack != null)
+                .totalTracks(albumTracks.getTotalTracks())
+                .build();
+    }
+
     // 특정 트랙 조회
     public AlbumTrackResponseDTO getTrack(Long albumId, Integer trackOrder, Long userId) {
         Album album = albumRepository.findById(albumId)
@@ -127,16 +151,19 @@ public class AlbumTrackService {
                 .trackOrder(request.getTrackOrder())
                 .build();
 
-        AlbumTrack savedTrack = albumTrackRepository.save(albumTrack);
+        // 앨범 통계는 증감분만 반영 (트랙 전체를 다시 읽지 않음)
+        // INSERT 보다 먼저 앨범 행을 잠가 같은 앨범의 동시 추가를 직렬화 (FK 검사 공유 잠금과의 교착 방지)
+        albumRepository.applyTrackStatisticsDelta(albumId, 1, durationOf(record), LocalDateTime.now());
 
-        // 앨범 통계 업데이트 (트랙 수, 총 재생시간)
-        updateAlbumStatistics(albumId);
+        AlbumTrack savedTrack = albumTrackRepository.save(albumTrack);
+        eventPublisher.publishEvent(AlbumCardChangedEvent.ofAlbum(albumId));
 
         log.info("트랙 추가 성공 - 앨범ID: {}, 녹음ID: {}, 순서: {}", albumId, request.getRecordId(), request.getTrackOrder());
         return convertToResponseDTO(savedTrack);
     }
 
     // 여러 트랙 일괄 추가
+    // 기존 트랙/녹음은 각각 한 번에 읽어 검증하고, 앨범 통계는 검증이 끝난 뒤 한 번만 반영
     @Transactional
     public List<AlbumTrackResponseDTO> addTracks(Long albumId, BulkAddTracksRequestDTO request, Long userId) {
         Album album = albumRepository.findById(albumId)
@@ -146,13 +173,57 @@ public class AlbumTrackService {
             throw new AlbumTrackException("앨범을 수정할 권한이 없습니다");
         }
 
-        int currentTrackCount = albumTrackRepository.countByAlbumId(albumId);
-        if (currentTrackCount + request.getTracks().size() > 10) {
+        List<AddTrackRequestDTO> items = request.getTracks();
+        List<AlbumTrack> existingTracks = albumTrackRepository.findByAlbumId(albumId);
+        if (existingTracks.size() + items.size() > 10) {
             throw new AlbumTrackException("앨범에 추가할 수 있는 트랙 수를 초과했습니다 (최대 10개)");
         }
 
-        return request.getTracks().stream()
-                .map(trackItem -> addTrack(albumId, trackItem, userId))
+        Map<Long, Record> records = recordRepository.findAllById(
+                        items.stream().map(AddTrackRequestDTO::getRecordId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Record::getId, record -> record));
+
+        // 요청 안의 중복도 기존 트랙과 같은 규칙으로 검사
+        Set<Integer> usedOrders = existingTracks.stream().map(AlbumTrack::getTrackOrder).collect(Collectors.toSet());
+        Set<Long> usedRecordIds = existingTracks.stream().map(track -> track.getRecord().getId()).collect(Collectors.toSet());
+
+        List<AlbumTrack> newTracks = new ArrayList<>(items.size());
+        int addedDuration = 0;
+        for (AddTrackRequestDTO item : items) {
+            Record record = records.get(item.getRecordId());
+            if (record == null) {
+                throw new RecordNotFoundException(item.getRecordId());
+            }
+            if (!record.getUserId().equals(userId)) {
+                throw new AlbumTrackException("녹음 파일에 접근할 권한이 없습니다");
+            }
+            if (!usedOrders.add(item.getTrackOrder())) {
+                throw new TrackOrderConflictException("해당 순서에 이미 트랙이 존재합니다");
+            }
+            if (!usedRecordIds.add(item.getRecordId())) {
+                throw new AlbumTrackException("이미 앨범에 추가된 녹음 파일입니다");
+            }
+
+            newTracks.add(AlbumTrack.builder()
+                    .album(album)
+                    .record(record)
+                    .trackOrder(item.getTrackOrder())
+                    .build());
+            addedDuration += durationOf(record);
+        }
+
+        // 검증이 모두 끝난 뒤 통계 UPDATE 한 번 (addTrack 과 같은 이유로 INSERT 보다 먼저)
+        albumRepository.applyTrackStatisticsDelta(albumId, newTracks.size(), addedDuration, LocalDateTime.now());
+        List<AlbumTrack> savedTracks = albumTrackRepository.saveAll(newTracks);
+        eventPublisher.publishEvent(AlbumCardChangedEvent.ofAlbum(albumId));
+
+        log.info("트랙 일괄 추가 성공 - 앨범ID: {}, 추가 트랙수: {}, 추가 재생시간: {}초",
+                albumId, savedTracks.size(), addedDuration);
+
+        Map<Long, String> urls = signUrls(albumId, collectUploads(null, savedTracks).values());
+        return savedTracks.stream()
+                .map(track -> convertToResponseDTO(track, urls.get(track.getRecord().getUploadId())))
                 .collect(Collectors.toList());
     }
 
@@ -169,13 +240,22 @@ public class AlbumTrackService {
         AlbumTrack track = albumTrackRepository.findByAlbumIdAndTrackOrder(albumId, trackOrder)
                 .orElseThrow(() -> new AlbumTrackException("트랙을 찾을 수 없습니다"));
 
-        albumTrackRepository.delete(track);
+        // 추가 경로와 같은 순서로 앨범 행부터 잠금 (트랙 DELETE/UPDATE 가 먼저 잡는 잠금과 엇갈려 교착되지 않도록)
+        int removedDuration = durationOf(track.getRecord());
+        albumRepository.applyTrackStatisticsDelta(albumId, -1, -removedDuration, LocalDateTime.now());
 
-        // 뒤의 트랙들 순서 앞당기기
-        reorderTracksAfterDeletion(albumId, trackOrder);
+        // 통계 UPDATE 가 영속성 컨텍스트를 비우므로 id로 바로 삭제 (엔티티를 다시 읽지 않음)
+        albumTrackRepository.deleteAllByIdInBatch(List.of(track.getId()));
 
-        // 앨범 통계 업데이트 (트랙 수, 총 재생시간)
-        updateAlbumStatistics(albumId);
+        // 뒤의 트랙들 순서 앞당기기 (트랙 수와 관계없이 UPDATE 두 번)
+        albumTrackRepository.stageShiftAfter(albumId, trackOrder);
+        albumTrackRepository.commitStagedOrders(albumId);
+
+        // 트랙이 0개가 되면 앨범 삭제
+        if (albumTrackRepository.countByAlbumId(albumId) == 0) {
+            deleteEmptyAlbum(albumId);
+        }
+        eventPublisher.publishEvent(AlbumCardChangedEvent.ofAlbum(albumId));
 
         log.info("트랙 삭제 성공 - 앨범ID: {}, 순서: {}", albumId, trackOrder);
     }
@@ -190,9 +270,14 @@ public class AlbumTrackService {
             throw new AlbumTrackException("앨범을 수정할 권한이 없습니다");
         }
 
-        AlbumTrack trackToMove = albumTrackRepository.findByAlbumIdAndTrackOrder(albumId, request.getFromOrder())
+        albumTrackRepository.findByAlbumIdAndTrackOrder(albumId, request.getFromOrder())
                 .orElseThrow(() -> new AlbumTrackException("이동할 트랙을 찾을 수 없습니다"));
 
+        int trackCount = albumTrackRepository.countByAlbumId(albumId);
+        if (request.getToOrder() < 1 || request.getToOrder() > trackCount) {
+            throw new AlbumTrackException("이동할 위치가 올바르지 않습니다 (1~" + trackCount + ")");
+        }
+
         // 순서 재정렬 로직 실행
         reorderTracks(albumId, request.getFromOrder(), request.getToOrder());
 
@@ -222,6 +307,7 @@ public class AlbumTrackService {
     @Transactional
     public void refreshAlbumStatistics(Long albumId) {
         updateAlbumStatistics(albumId);
+        eventPublisher.publishEvent(AlbumCardChangedEvent.ofAlbum(albumId));
     }
 
     // 앨범 생성과 동시에 트랙들을 일괄 생성
@@ -245,6 +331,7 @@ public class AlbumTrackService {
 
         // 앨범 통계 업데이트
         updateAlbumStatisticsFromTracks(album, savedTracks);
+        eventPublisher.publishEvent(AlbumCardChangedEvent.ofAlbum(album.getId()));
 
         log.info("앨범 트랙 일괄 생성 완료 - 앨범ID: {}, 생성된 트랙수: {}", album.getId(), savedTracks.size());
 
@@ -255,26 +342,13 @@ public class AlbumTrackService {
 
     // === Private Helper Methods ===
 
+    // 전체 재계산 (녹음 길이가 바뀐 경우 등 증감분으로 맞출 수 없을 때 사용)
     private void updateAlbumStatistics(Long albumId) {
         Integer trackCount = albumTrackRepository.countByAlbumId(albumId);
 
         // 트랙이 0개가 되면 앨범 삭제
         if (trackCount == 0) {
-            Album album = albumRepository.findById(albumId)
-                    .orElseThrow(() -> new AlbumNotFoundException(albumId));
-
-            // 커버 이미지가 있다면 삭제
-            if (album.getUploadId() != null) {
-                try {
-                    fileUploadService.deleteFile(album.getUploadId());
-                    log.info("앨범 커버 이미지 삭제 완료 - uploadId: {}", album.getUploadId());
-                } catch (Exception e) {
-                    log.warn("앨범 커버 이미지 삭제 실패 - uploadId: {}", album.getUploadId(), e);
-                }
-            }
-
-            albumRepository.delete(album);
-            log.info("앨범 삭제 완료 - 앨범ID: {} (트랙 수가 0이 됨)", albumId);
+            deleteEmptyAlbum(albumId);
             return;
         }
 
@@ -295,44 +369,41 @@ public class AlbumTrackService {
         log.info("앨범 통계 업데이트 - 앨범ID: {}, 트랙수: {}, 총재생시간: {}초", albumId, trackCount, totalDuration);
     }
 
-    private void reorderTracksAfterDeletion(Long albumId, Integer deletedOrder) {
-        List<AlbumTrack> tracksToReorder = albumTrackRepository
-                .findByAlbumIdAndTrackOrderGreaterThan(albumId, deletedOrder);
+    private void deleteEmptyAlbum(Long albumId) {
+        Album album = albumRepository.findById(albumId)
+                .orElseThrow(() -> new AlbumNotFoundException(albumId));
 
-        for (AlbumTrack track : tracksToReorder) {
-            track.setTrackOrder(track.getTrackOrder() - 1);
+        // 커버 이미지가 있다면 삭제
+        if (album.getUploadId() != null) {
+            try {
+                fileUploadService.deleteFile(album.getUploadId());
+                log.info("앨범 커버 이미지 삭제 완료 - uploadId: {}", album.getUploadId());
+            } catch (Exception e) {
+                log.warn("앨범 커버 이미지 삭제 실패 - uploadId: {}", album.getUploadId(), e);
+            }
         }
-        albumTrackRepository.saveAll(tracksToReorder);
+
+        albumRepository.delete(album);
+        log.info("앨범 삭제 완료 - 앨범ID: {} (트랙 수가 0이 됨)", albumId);
     }
 
+    // 이동 구간 [low, high] 의 트랙만 UPDATE 두 번으로 재배치 (구간 밖 트랙은 건드리지 않음)
     private void reorderTracks(Long albumId, Integer fromOrder, Integer toOrder) {
         if (fromOrder.equals(toOrder)) {
             return;
         }
 
-        List<AlbumTrack> allTracks = albumTrackRepository.findByAlbumIdOrderByTrackOrder(albumId);
-        
-        if (fromOrder < toOrder) {
-            // 앞에서 뒤로 이동: 중간 트랙들을 앞으로 한 칸씩
-            for (AlbumTrack track : allTracks) {
-                if (track.getTrackOrder() > fromOrder && track.getTrackOrder() <= toOrder) {
-                    track.setTrackOrder(track.getTrackOrder() - 1);
-                } else if (track.getTrackOrder().equals(fromOrder)) {
-                    track.setTrackOrder(toOrder);
-                }
-            }
-        } else {
-            // 뒤에서 앞으로 이동: 중간 트랙들을 뒤로 한 칸씩
-            for (AlbumTrack track : allTracks) {
-                if (track.getTrackOrder() >= toOrder && track.getTrackOrder() < fromOrder) {
-                    track.setTrackOrder(track.getTrackOrder() + 1);
-                } else if (track.getTrackOrder().equals(fromOrder)) {
-                    track.setTrackOrder(toOrder);
-                }
-            }
-        }
-        
-        albumTrackRepository.saveAll(allTracks);
+        // 앞에서 뒤로 이동하면 중간 트랙들은 앞으로, 뒤에서 앞으로 이동하면 뒤로 한 칸씩
+        int shift = fromOrder < toOrder ? -1 : 1;
+        int low = Math.min(fromOrder, toOrder);
+        int high = Math.max(fromOrder, toOrder);
+
+        albumTrackRepository.stageMove(albumId, fromOrder, toOrder, shift, low, high);
+        albumTrackRepository.commitStagedOrders(albumId);
+    }
+
+    private int durationOf(Record record) {
+        return record.getDurationSeconds() != null ? record.getDurationSeconds() : 0;
     }
 
     // === Helper Methods for Album Creation ===
@@ -426,9 +497,55 @@ public class AlbumTrackService {
                 album.getId(), trackCount, totalDuration);
     }
 
+    static int indexOfTrackOrder(List<AlbumTrackResponseDTO> tracks, Integer trackOrder) {
+        for (int i = 0; i < tracks.size(); i++) {
+            if (tracks.get(i).getTrackOrder().equals(trackOrder)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // 트랙 녹음의 업로드(JOIN FETCH로 이미 읽혔으면 재사용)와 앨범 커버 업로드를 uploadId 기준으로 모음
+    // 함께 읽히지 않은 업로드만 IN 한 번으로 조회
+    private Map<Long, Upload> collectUploads(Long coverUploadId, List<AlbumTrack> tracks) {
+        Map<Long, Upload> uploads = new LinkedHashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+        for (AlbumTrack track : tracks) {
+            Record record = track.getRecord();
+            Upload upload = record.getUpload();
+            if (upload != null && Hibernate.isInitialized(upload) && upload.getId().equals(record.getUploadId())) {
+                uploads.put(upload.getId(), upload);
+            } else if (record.getUploadId() != null) {
+                missing.add(record.getUploadId());
+            }
+        }
+        if (coverUploadId != null && !uploads.containsKey(coverUploadId)) {
+            missing.add(coverUploadId);
+        }
+        if (!missing.isEmpty()) {
+            uploads.putAll(fileUploadService.getUploads(missing));
+        }
+        return uploads;
+    }
+
+    private Map<Long, String> signUrls(Long albumId, Collection<Upload> uploads) {
+        if (uploads.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return fileUploadService.getFileUrls(uploads);
+        } catch (Exception e) {
+            log.warn("앨범 URL 일괄 생성 실패 for album {}: {}", albumId, e.getMessage());
+            return Map.of();
+        }
+    }
+
     private AlbumTrackResponseDTO convertToResponseDTO(AlbumTrack albumTrack) {
-        String audioUrl = fileUploadService.getFileUrl(albumTrack.getRecord().getUploadId());
+        return convertToResponseDTO(albumTrack, fileUploadService.getFileUrl(albumTrack.getRecord().getUploadId()));
+    }
 
+    private AlbumTrackResponseDTO convertToResponseDTO(AlbumTrack albumTrack, String audioUrl) {
         return AlbumTrackResponseDTO.builder()
                 .id(albumTrack.getId())
                 .albumId(albumTrack.getAlbum().getId())
@@ -0,0 +1,267 @@
+package com.ssafy.lab.orak.albumtrack.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.lab.orak.albumtrack.dto.PlaybackSession;
+import com.ssafy.lab.orak.albumtrack.dto.response.AlbumTrackResponseDTO;
+import com.ssafy.lab.orak.albumtrack.dto.response.AlbumTracksResponseDTO;
+import com.ssafy.lab.orak.albumtrack.dto.response.PlaybackSessionResponseDTO;
+import com.ssafy.lab.orak.albumtrack.exception.AlbumTrackException;
+import com.ssafy.lab.orak.albumtrack.exception.PlaybackSessionNotFoundException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 앨범 재생 세션
+ * - 시작 시 앨범 트랙을 한 번에 읽고 URL을 일괄 서명해 재생 큐를 만든 뒤 Redis에 보관 (인스턴스 간 공유)
+ * - 다음/이전 이동은 Redis의 위치 키만 스크립트로 원자적으로 옮기므로 DB와 S3 서명을 거치지 않음
+ * - 큐는 바뀌지 않으므로 인스턴스마다 near cache에 두고, 위치 키가 없으면(종료/만료) 세션이 없는 것으로 봄
+ * - 셔플은 서버에서 시드로 섞어 시드를 함께 내려주므로 같은 시드로 같은 순서를 재현 가능
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class PlaybackSessionService {
+
+    // FileUploadService.getFileUrls 의 서명 유효 시간 (S3Helper 기본값)
+    private static final Duration URL_VALIDITY = Duration.ofHours(24);
+
+    private static final String KEY_PREFIX = "playback:session:";
+    private static final String POSITION_SUFFIX = ":position";
+
+    // 위치를 delta만큼 옮김: 세션 없음 -2, 큐 범위를 벗어나면 옮기지 않고 -1, 성공 시 옮긴 위치
+    private static final RedisScript<Long> MOVE_SCRIPT = RedisScript.of(
+            "local position = redis.call('GET', KEYS[1]) " +
+            "if not position then return -2 end " +
+            "local target = tonumber(position) + tonumber(ARGV[1]) " +
+            "if target < 0 or target >= tonumber(ARGV[2]) then return -1 end " +
+            "redis.call('SET', KEYS[1], target, 'KEEPTTL') " +
+            "return target", Long.class);
+
+    private final AlbumTrackService albumTrackService;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 세션 큐 near cache (큐는 불변이므로 인스턴스 간 불일치 없음)
+    private Cache<String, PlaybackSession> sessions;
+
+    @Value("${album.playback.session-idle-ttl-minutes:30}")
+    private long sessionIdleTtlMinutes = 30;
+
+    // 서명 유효 시간보다 짧아야 세션이 만료된 URL을 내려주지 않음
+    @Value("${album.playback.session-max-lifetime-hours:12}")
+    private long sessionMaxLifetimeHours = 12;
+
+    // 인스턴스별 near cache 크기
+    @Value("${album.playback.max-sessions:100000}")
+    private long maxSessions = 100000;
+
+    @Value("${album.playback.prefetch-count:2}")
+    private int prefetchCount = 2;
+
+    @PostConstruct
+    void initSessionCache() {
+        sessions = Caffeine.newBuilder()
+                .maximumSize(maxSessions)
+                .expireAfterAccess(Duration.ofMinutes(sessionIdleTtlMinutes))
+                .expireAfterWrite(Duration.ofHours(sessionMaxLifetimeHours))
+                .build();
+    }
+
+    /**
+     * 재생 세션 시작
+     *
+     * @param startOrder 처음 재생할 트랙 순서 (null이면 큐의 첫 곡)
+     * @param shuffle    셔플 여부
+     * @param seed       셔플 시드 (null이면 새로 생성)
+     */
+    public PlaybackSessionResponseDTO startSession(Long albumId, Integer startOrder, boolean shuffle, Long seed, Long userId) {
+        AlbumTracksResponseDTO albumTracks = albumTrackService.getAlbumTracks(albumId, userId);
+        List<AlbumTrackResponseDTO> queue = new ArrayList<>(albumTracks.getTracks());
+        if (queue.isEmpty()) {
+            throw new AlbumTrackException("재생할 트랙이 없습니다");
+        }
+
+        int startIndex = 0;
+        if (startOrder != null) {
+            startIndex = AlbumTrackService.indexOfTrackOrder(queue, startOrder);
+            if (startIndex < 0) {
+                throw new AlbumTrackException("트랙을 찾을 수 없습니다");
+            }
+        }
+
+        Long shuffleSeed = null;
+        if (shuffle) {
+            shuffleSeed = seed != null ? seed : ThreadLocalRandom.current().nextLong();
+            // 시작 곡을 맨 앞에 두고 나머지만 섞음
+            AlbumTrackResponseDTO first = startOrder != null ? queue.remove(startIndex) : null;
+            Collections.shuffle(queue, new Random(shuffleSeed));
+            if (first != null) {
+                queue.add(0, first);
+            }
+            startIndex = 0;
+        }
+
+        PlaybackSession session = new PlaybackSession(UUID.randomUUID().toString(), userId, albumId,
+                albumTracks.getAlbumTitle(), albumTracks.getCoverImageUrl(), albumTracks.getTotalDuration(),
+                shuffle, shuffleSeed, queue, LocalDateTime.now().plus(URL_VALIDITY), System.currentTimeMillis());
+        Duration ttl = Duration.ofMinutes(sessionIdleTtlMinutes);
+        redisTemplate.opsForValue().set(KEY_PREFIX + session.sessionId(), serialize(session), ttl);
+        redisTemplate.opsForValue().set(positionKey(session.sessionId()), String.valueOf(startIndex), ttl);
+        sessions.put(session.sessionId(), session);
+
+        log.info("재생 세션 시작 - 앨범ID: {}, 트랙수: {}, 셔플: {}, 세션: {}",
+                albumId, queue.size(), shuffle, session.sessionId());
+        return toResponse(session, startIndex, true);
+    }
+
+    public PlaybackSessionResponseDTO getSession(Long albumId, String sessionId, Long userId) {
+        PlaybackSession session = findSession(albumId, sessionId, userId);
+        Object position = redisTemplate.opsForValue().get(positionKey(sessionId));
+        if (position == null) {
+            throw sessionEnded(sessionId);
+        }
+        return toResponse(session, Integer.parseInt(position.toString()), true);
+    }
+
+    /**
+     * 다음 트랙으로 이동 (마지막 트랙이면 null)
+     */
+    public PlaybackSessionResponseDTO next(Long albumId, String sessionId, Long userId) {
+        return move(albumId, sessionId, userId, 1);
+    }
+
+    /**
+     * 이전 트랙으로 이동 (첫 트랙이면 null)
+     */
+    public PlaybackSessionResponseDTO previous(Long albumId, String sessionId, Long userId) {
+        return move(albumId, sessionId, userId, -1);
+    }
+
+    public void endSession(Long albumId, String sessionId, Long userId) {
+        findSession(albumId, sessionId, userId);
+        redisTemplate.delete(List.of(KEY_PREFIX + sessionId, positionKey(sessionId)));
+        sessions.invalidate(sessionId);
+    }
+
+    private PlaybackSessionResponseDTO move(Long albumId, String sessionId, Long userId, int delta) {
+        PlaybackSession session = findSession(albumId, sessionId, userId);
+        Long position = redisTemplate.execute(MOVE_SCRIPT, List.of(positionKey(sessionId)),
+                String.valueOf(delta), String.valueOf(session.queue().size()));
+        if (position == null || position == -2) {
+            throw sessionEnded(sessionId);
+        }
+        if (position < 0) {
+            return null;
+        }
+        return toResponse(session, position.intValue(), false);
+    }
+
+    /**
+     * 세션 큐 조회 (near cache → Redis) 후 마지막 사용 시각 기준 만료를 연장
+     * 다른 사용자/다른 앨범의 세션, 최대 수명이 지난 세션은 없는 세션과 똑같이 취급
+     */
+    private PlaybackSession findSession(Long albumId, String sessionId, Long userId) {
+        PlaybackSession session = sessions.getIfPresent(sessionId);
+        if (session == null) {
+            session = readSession(sessionId);
+            if (session != null) {
+                sessions.put(sessionId, session);
+            }
+        }
+        if (session == null || !session.isOwnedBy(userId) || !session.albumId().equals(albumId)) {
+            throw new PlaybackSessionNotFoundException(sessionId);
+        }
+
+        Duration remaining = Duration.ofMillis(session.createdAtMillis()
+                + Duration.ofHours(sessionMaxLifetimeHours).toMillis() - System.currentTimeMillis());
+        if (remaining.isNegative() || remaining.isZero()) {
+            throw sessionEnded(sessionId);
+        }
+        Duration ttl = remaining.compareTo(Duration.ofMinutes(sessionIdleTtlMinutes)) < 0
+                ? remaining : Duration.ofMinutes(sessionIdleTtlMinutes);
+        redisTemplate.expire(KEY_PREFIX + sessionId, ttl);
+        redisTemplate.expire(positionKey(sessionId), ttl);
+        return session;
+    }
+
+    private PlaybackSession readSession(String sessionId) {
+        Object value = redisTemplate.opsForValue().get(KEY_PREFIX + sessionId);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(value.toString(), PlaybackSession.class);
+        } catch (JsonProcessingException e) {
+            log.warn("재생 세션 역직렬화 실패 - 세션: {}", sessionId, e);
+            return null;
+        }
+    }
+
+    private String serialize(PlaybackSession session) {
+        try {
+            return objectMapper.writeValueAsString(session);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("재생 세션 직렬화 실패", e);
+        }
+    }
+
+    // 다른 인스턴스에서 종료됐거나 만료된 세션은 near cache에서도 제거
+    private PlaybackSessionNotFoundException sessionEnded(String sessionId) {
+        sessions.invalidate(sessionId);
+        return new PlaybackSessionNotFoundException(sessionId);
+    }
+
+    private static String positionKey(String sessionId) {
+        return KEY_PREFIX + sessionId + POSITION_SUFFIX;
+    }
+
+    private PlaybackSessionResponseDTO toResponse(PlaybackSession session, int position, boolean includeQueue) {
+        List<AlbumTrackResponseDTO> queue = session.queue();
+        AlbumTrackResponseDTO previousTrack = position > 0 ? queue.get(position - 1) : null;
+        AlbumTrackResponseDTO nextTrack = position + 1 < queue.size() ? queue.get(position + 1) : null;
+
+        List<String> prefetchUrls = new ArrayList<>(prefetchCount);
+        for (int i = position + 1; i < queue.size() && prefetchUrls.size() < prefetchCount; i++) {
+            if (queue.get(i).getAudioUrl() != null) {
+                prefetchUrls.add(queue.get(i).getAudioUrl());
+            }
+        }
+
+        return PlaybackSessionResponseDTO.builder()
+                .sessionId(session.sessionId())
+                .albumId(session.albumId())
+                .albumTitle(session.albumTitle())
+                .coverImageUrl(session.coverImageUrl())
+                .totalTracks(queue.size())
+                .totalDuration(session.totalDuration())
+                .shuffle(session.shuffle())
+                .shuffleSeed(session.shuffleSeed())
+                .position(position)
+                .currentTrack(queue.get(position))
+                .nextTrack(nextTrack)
+                .previousTrack(previousTrack)
+                .hasNext(nextTrack != null)
+                .hasPrevious(previousTrack != null)
+                .prefetchUrls(prefetchUrls)
+                .urlsExpireAt(session.urlsExpireAt())
+                .queue(includeQueue ? queue : null)
+                .build();
+    }
+}
@@ -54,6 +54,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 path.startsWith("/api/webhook/") ||
                 path.equals("/api/records/async/upload-completed") ||
                 path.equals("/records/async/upload-completed") ||
+                path.equals("/api/records/async/upload-completed/batch") ||
+                path.equals("/records/async/upload-completed/batch") ||
                 path.startsWith("/api/actuator") ||
                 path.startsWith("/webhook/") ||
                 path.startsWith("/actuator")) {
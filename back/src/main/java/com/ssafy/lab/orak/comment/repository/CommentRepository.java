@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -21,5 +22,9 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c FROM Comment c WHERE c.parentComment.id = :parentCommentId AND c.isDeleted = false ORDER BY c.createdAt ASC")
     List<Comment> findRepliesByParentCommentId(@Param("parentCommentId") Long parentCommentId);
 
+//    여러 댓글의 대댓글을 한 번에 조회 (댓글 목록 페이지 단위)
+    @Query("SELECT c FROM Comment c WHERE c.parentComment.id IN :parentCommentIds AND c.isDeleted = false ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findRepliesByParentCommentIds(@Param("parentCommentIds") Collection<Long> parentCommentIds);
+
 
 }
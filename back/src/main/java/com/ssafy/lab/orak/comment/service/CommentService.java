@@ -7,9 +7,11 @@ import com.ssafy.lab.orak.comment.entity.Comment;
 import com.ssafy.lab.orak.comment.exception.CommentAccessDeniedException;
 import com.ssafy.lab.orak.comment.exception.CommentNotFoundException;
 import com.ssafy.lab.orak.comment.repository.CommentRepository;
+import com.ssafy.lab.orak.common.loader.EntityLoaderProvider;
+import com.ssafy.lab.orak.common.loader.EntityLoaders;
 import com.ssafy.lab.orak.profile.entity.Profile;
-import com.ssafy.lab.orak.profile.repository.ProfileRepository;
 import com.ssafy.lab.orak.profile.service.ProfileImageService;
+import com.ssafy.lab.orak.upload.enums.ImageVariant;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.domain.Page;
@@ -18,7 +20,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Log4j2
@@ -29,34 +33,61 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final UserService userService;
-    private final ProfileRepository profileRepository;
     private final ProfileImageService profileImageService;
+    private final EntityLoaderProvider entityLoaderProvider;
 
     @Transactional(readOnly = true)
     public Page<CommentDto.Response> getCommentsByAlbumId(Long albumId, Pageable pageable) {
         Page<Comment> comments = commentRepository.findParentCommentsByAlbumId(albumId, pageable);
-        return comments.map(this::convertToResponseDto);
+        Map<Long, List<Comment>> repliesByParentId = loadReplies(comments.getContent());
+        EntityLoaders loaders = loadAuthors(comments.getContent(), repliesByParentId);
+        return comments.map(comment -> convertToResponseDto(comment, repliesByParentId, loaders));
     }
 
     @Transactional(readOnly = true)
     public List<CommentDto.Response> getRepliesByCommentId(Long commentId) {
         List<Comment> replies = commentRepository.findRepliesByParentCommentId(commentId);
+        EntityLoaders loaders = loadAuthors(replies, Map.of());
         return replies.stream()
-                .map(this::convertToResponseDto)
+                .map(reply -> convertToResponseDto(reply, Map.of(), loaders))
                 .collect(Collectors.toList());
     }
 
-    private CommentDto.Response convertToResponseDto(Comment comment) {
-        // 사용자 프로필 정보 가져오기
+    // 페이지 안 댓글들의 대댓글을 IN 한 번으로 조회해 부모 ID별로 묶음
+    private Map<Long, List<Comment>> loadReplies(List<Comment> comments) {
+        List<Long> parentIds = comments.stream()
+                .filter(comment -> comment.getParentCommentId() == null)
+                .map(Comment::getId)
+                .toList();
+        if (parentIds.isEmpty()) {
+            return Map.of();
+        }
+        return commentRepository.findRepliesByParentCommentIds(parentIds).stream()
+                .collect(Collectors.groupingBy(Comment::getParentCommentId, LinkedHashMap::new, Collectors.toList()));
+    }
+
+    // 댓글/대댓글 작성자 프로필을 요청 단위 로더에 등록하고 한 번에 조회
+    private EntityLoaders loadAuthors(List<Comment> comments, Map<Long, List<Comment>> repliesByParentId) {
+        EntityLoaders loaders = entityLoaderProvider.current();
+        comments.forEach(comment -> loaders.profiles().register(comment.getUserId()));
+        repliesByParentId.values().forEach(replies ->
+                replies.forEach(reply -> loaders.profiles().register(reply.getUserId())));
+        loaders.profiles().dispatch();
+        return loaders;
+    }
+
+    private CommentDto.Response convertToResponseDto(Comment comment, Map<Long, List<Comment>> repliesByParentId,
+                                                     EntityLoaders loaders) {
+        // 사용자 프로필 정보 가져오기 (로더에 이미 읽혀 있어 추가 조회 없음)
         Profile profile = null;
         String userNickname = null;
         String userProfileImageUrl = null;
 
         try {
-            profile = profileRepository.findByUser_Id(comment.getUserId()).orElse(null);
+            profile = loaders.profiles().get(comment.getUserId());
             if (profile != null) {
                 userNickname = profile.getNickname();
-                userProfileImageUrl = profileImageService.getProfileImageUrl(profile.getProfileImageUpload());
+                userProfileImageUrl = profileImageService.getProfileImageUrl(profile.getProfileImageUpload(), ImageVariant.THUMBNAIL);
             } else {
                 userNickname = "사용자 " + comment.getUserId();
                 userProfileImageUrl = null;
@@ -70,9 +101,8 @@ public class CommentService {
         // 대댓글 처리
         List<CommentDto.Response> replies = null;
         if (comment.getParentCommentId() == null) {
-            List<Comment> replyComments = commentRepository.findRepliesByParentCommentId(comment.getId());
-            replies = replyComments.stream()
-                    .map(this::convertToResponseDto)
+            replies = repliesByParentId.getOrDefault(comment.getId(), List.of()).stream()
+                    .map(reply -> convertToResponseDto(reply, repliesByParentId, loaders))
                     .collect(Collectors.toList());
         }
 
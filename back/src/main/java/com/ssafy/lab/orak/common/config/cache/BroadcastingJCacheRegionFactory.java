@@ -0,0 +1,81 @@
+package com.ssafy.lab.orak.common.config.cache;
+
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * JCache 리전 팩토리 + 벌크 쿼리 무효화 전파
+ * - 엔티티 리전이 세션에서 통째로 비워지는 경우 (JPQL 벌크 UPDATE/DELETE) 다른 인스턴스에도 리전 비움을 알림
+ * - 엔티티 한 건 변경은 L2CacheInvalidationListener가 커밋 후 따로 알림
+ * - 수신 측의 evict는 clearCache가 아닌 evictData로 처리되므로 다시 전파되지 않음
+ * - 저장소는 JCache 기본 구현을 SPI(DomainDataStorageAccess)로 감싸기만 함 (구현 클래스에 의존하지 않음)
+ */
+public class BroadcastingJCacheRegionFactory extends JCacheRegionFactory {
+
+    private final L2CacheInvalidationPublisher publisher;
+
+    public BroadcastingJCacheRegionFactory(L2CacheInvalidationPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                    DomainDataRegionBuildingContext buildingContext) {
+        return new BroadcastingStorageAccess(super.createDomainDataStorageAccess(regionConfig, buildingContext),
+                regionConfig.getRegionName(), publisher);
+    }
+
+    private record BroadcastingStorageAccess(DomainDataStorageAccess delegate, String regionName,
+                                             L2CacheInvalidationPublisher publisher)
+            implements DomainDataStorageAccess {
+
+        @Override
+        public void clearCache(SharedSessionContractImplementor session) {
+            delegate.clearCache(session);
+            publisher.publishRegionEviction(regionName);
+        }
+
+        @Override
+        public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+            return delegate.getFromCache(key, session);
+        }
+
+        @Override
+        public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+            delegate.putIntoCache(key, value, session);
+        }
+
+        @Override
+        public void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
+            delegate.putFromLoad(key, value, session);
+        }
+
+        @Override
+        public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+            delegate.removeFromCache(key, session);
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return delegate.contains(key);
+        }
+
+        @Override
+        public void evictData() {
+            delegate.evictData();
+        }
+
+        @Override
+        public void evictData(Object key) {
+            delegate.evictData(key);
+        }
+
+        @Override
+        public void release() {
+            delegate.release();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.ssafy.lab.orak.common.config.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.Session;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 2차 캐시 무효화 송수신
+ * - 송신: 캐시되는 엔티티의 INSERT/UPDATE/DELETE가 커밋되면 엔티티명과 ID를 발행
+ * - 수신: 다른 노드의 메시지면 해당 엔티티 (또는 리전)를 로컬에서 비우고, 그 엔티티 테이블의 갱신 타임스탬프를 올림
+ *   (갱신 타임스탬프는 노드마다 따로라 원격 변경을 모르므로, 해당 테이블을 읽은 쿼리 캐시 결과만 무효가 됨)
+ */
+@RequiredArgsConstructor
+@Log4j2
+public class L2CacheInvalidationListener implements MessageListener,
+        PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final Pattern SEPARATOR = Pattern.compile(Pattern.quote(L2CacheInvalidationPublisher.SEPARATOR));
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final L2CacheInvalidationPublisher publisher;
+
+    @PostConstruct
+    void registerEventListeners() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publisher.publishEntityEviction(event.getPersister().getEntityName(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publisher.publishEntityEviction(event.getPersister().getEntityName(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publisher.publishEntityEviction(event.getPersister().getEntityName(), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // 롤백된 변경은 캐시에 반영되지 않았으므로 알릴 것 없음
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    // 2차 캐시 대상 엔티티만 발행
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        handle(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 무효화 메시지 처리 (자기 노드가 보낸 메시지는 무시)
+     */
+    public void handle(String payload) {
+        String[] parts = SEPARATOR.split(payload);
+        if (parts.length < 3 || parts[0].equals(publisher.nodeId())) {
+            return;
+        }
+
+        try {
+            SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+            CacheImplementor cache = sessionFactory.getCache();
+            Set<String> spaces = new HashSet<>();
+            if (L2CacheInvalidationPublisher.ENTITY.equals(parts[1]) && parts.length == 4) {
+                // 캐시 대상 엔티티 (Song, Profile, User, Upload) ID는 모두 Long
+                cache.evictEntityData(parts[2], Long.valueOf(parts[3]));
+                addQuerySpaces(spaces, sessionFactory.getMappingMetamodel().getEntityDescriptor(parts[2]));
+            } else if (L2CacheInvalidationPublisher.REGION.equals(parts[1])) {
+                cache.evictRegion(parts[2]);
+                sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+                    if (persister.canWriteToCache()
+                            && parts[2].equals(persister.getCacheAccessStrategy().getRegion().getName())) {
+                        addQuerySpaces(spaces, persister);
+                    }
+                });
+            } else {
+                log.warn("알 수 없는 2차 캐시 무효화 메시지 - payload: {}", payload);
+                return;
+            }
+            invalidateQuerySpaces(sessionFactory, cache, spaces);
+            log.debug("원격 2차 캐시 무효화 반영 - payload: {}, tables: {}", payload, spaces);
+        } catch (Exception e) {
+            log.warn("원격 2차 캐시 무효화 실패 - payload: {}", payload, e);
+        }
+    }
+
+    private static void addQuerySpaces(Set<String> spaces, EntityPersister persister) {
+        for (Object space : persister.getQuerySpaces()) {
+            spaces.add(String.valueOf(space));
+        }
+    }
+
+    // 쿼리 캐시가 꺼져 있으면 타임스탬프 캐시는 아무것도 하지 않음
+    private static void invalidateQuerySpaces(SessionFactoryImplementor sessionFactory, CacheImplementor cache,
+                                              Set<String> spaces) {
+        if (spaces.isEmpty()) {
+            return;
+        }
+        try (Session session = sessionFactory.openSession()) {
+            cache.getTimestampsCache().invalidate(spaces.toArray(String[]::new),
+                    (SharedSessionContractImplementor) session);
+        }
+    }
+}
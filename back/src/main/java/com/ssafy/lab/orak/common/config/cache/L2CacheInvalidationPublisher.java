@@ -0,0 +1,69 @@
+package com.ssafy.lab.orak.common.config.cache;
+
+import com.ssafy.lab.orak.common.config.properties.L2CacheProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * 2차 캐시 무효화를 Redis 채널로 다른 인스턴스에 알림
+ * - 메시지: "노드ID|E|엔티티명|id" (엔티티 한 건) 또는 "노드ID|R|리전" (리전 전체, 벌크 UPDATE/DELETE)
+ * - 자기 노드가 보낸 메시지는 수신 측에서 무시
+ * - 발행 실패는 로그만 남김 (다른 노드는 리전 TTL 안에 최신화)
+ */
+@RequiredArgsConstructor
+@Log4j2
+public class L2CacheInvalidationPublisher {
+
+    static final String ENTITY = "E";
+    static final String REGION = "R";
+    static final String SEPARATOR = "|";
+
+    private final StringRedisTemplate redisTemplate;
+    private final L2CacheProperties properties;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 커밋된 엔티티 변경 (Hibernate post-commit 리스너에서 호출되므로 바로 발행)
+     */
+    public void publishEntityEviction(String entityName, Object id) {
+        publish(String.join(SEPARATOR, nodeId, ENTITY, entityName, String.valueOf(id)));
+    }
+
+    /**
+     * 리전 전체 비움 (벌크 쿼리는 커밋 전에 리전을 비우므로 트랜잭션 중이면 커밋 후에 발행)
+     */
+    public void publishRegionEviction(String regionName) {
+        String message = String.join(SEPARATOR, nodeId, REGION, regionName);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(message);
+                }
+            });
+            return;
+        }
+        publish(message);
+    }
+
+    private void publish(String message) {
+        L2CacheProperties.Broadcast broadcast = properties.broadcast();
+        if (broadcast == null || !broadcast.enabled()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(broadcast.channel(), message);
+        } catch (Exception e) {
+            log.warn("2차 캐시 무효화 발행 실패 - message: {}", message, e);
+        }
+    }
+}
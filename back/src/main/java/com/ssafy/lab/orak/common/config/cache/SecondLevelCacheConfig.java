@@ -0,0 +1,111 @@
+package com.ssafy.lab.orak.common.config.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.ssafy.lab.orak.common.config.properties.L2CacheProperties;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate 2차 캐시 + 쿼리 캐시 (JCache, Caffeine 구현)
+ * - 읽기 위주 엔티티 (Song, Profile, User, Upload)는 @Cache(region)로 지정, 리전별 TTL/최대 크기는 app.l2cache.regions
+ * - 노드마다 로컬 캐시이므로 변경은 Redis 채널로 다른 노드에 알려 비움 (L2CacheInvalidationListener)
+ * - 리전별 적중/누락/저장 횟수는 Micrometer cache.* 메트릭 (cache 태그 = 리전 이름)
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.l2cache.enabled", havingValue = "true")
+@EnableConfigurationProperties(L2CacheProperties.class)
+@Log4j2
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(L2CacheProperties properties) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // 컨텍스트마다 별도 CacheManager (같은 JVM의 다른 컨텍스트와 리전을 공유하지 않도록)
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create(getClass().getName() + "-" + UUID.randomUUID()), provider.getDefaultClassLoader());
+
+        properties.regions().forEach((regionName, region) -> {
+            cacheManager.createCache(regionName, regionConfiguration(region));
+            log.info("2차 캐시 리전 생성 - region: {}, ttlSeconds: {}, maxSize: {}",
+                    regionName, region.ttlSeconds(), region.maxSize());
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public L2CacheInvalidationPublisher l2CacheInvalidationPublisher(StringRedisTemplate redisTemplate,
+                                                                     L2CacheProperties properties) {
+        return new L2CacheInvalidationPublisher(redisTemplate, properties);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager,
+                                                                    L2CacheInvalidationPublisher publisher) {
+        // application.properties의 기본값(false)을 여기서만 덮어씀
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, new BroadcastingJCacheRegionFactory(publisher));
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // 설정에 없는 리전은 기본값으로 만들고 경고
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create-warn");
+        };
+    }
+
+    @Bean
+    public L2CacheInvalidationListener l2CacheInvalidationListener(EntityManagerFactory entityManagerFactory,
+                                                                   L2CacheInvalidationPublisher publisher) {
+        return new L2CacheInvalidationListener(entityManagerFactory, publisher);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.l2cache.broadcast.enabled", havingValue = "true")
+    public RedisMessageListenerContainer l2CacheInvalidationContainer(RedisConnectionFactory connectionFactory,
+                                                                      L2CacheInvalidationListener listener,
+                                                                      L2CacheProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(listener, new ChannelTopic(properties.broadcast().channel()));
+        return container;
+    }
+
+    @Bean
+    public MeterBinder l2CacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> hibernateCacheManager.getCacheNames().forEach(regionName ->
+                JCacheMetrics.monitor(registry, hibernateCacheManager.getCache(regionName)));
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(L2CacheProperties.Region region) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // Hibernate가 분해된 상태(CacheEntry)를 넣으므로 참조로 저장
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        configuration.setMaximumSize(OptionalLong.of(region.maxSize()));
+        if (region.ttlSeconds() > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(region.ttlSeconds())));
+        }
+        return configuration;
+    }
+}
@@ -143,4 +143,111 @@ public class MetricsConfig {
                 .tag("application", "orakgaraki")
                 .register(meterRegistry);
     }
-}
\ No newline at end of file
+
+    // S3 정리(GC) 메트릭
+    @Bean("s3CleanupDeletedCounter")
+    public Counter s3CleanupDeletedCounter() {
+        return Counter.builder("s3_cleanup_deleted_total")
+                .description("정리 작업으로 삭제된 S3 객체 수")
+                .tag("application", "orakgaraki")
+                .register(meterRegistry);
+    }
+
+    @Bean("s3CleanupFailedCounter")
+    public Counter s3CleanupFailedCounter() {
+        return Counter.builder("s3_cleanup_failed_total")
+                .description("정리 작업 중 삭제에 실패한 S3 객체 수")
+                .tag("application", "orakgaraki")
+                .register(meterRegistry);
+    }
+
+    @Bean("s3OrphanDetectedCounter")
+    public Counter s3OrphanDetectedCounter() {
+        return Counter.builder("s3_orphan_detected_total")
+                .description("uploads 테이블과 대조하여 발견된 고아 S3 객체 수")
+                .tag("application", "orakgaraki")
+                .register(meterRegistry);
+    }
+
+    @Bean("localTempFileSweptCounter")
+    public Counter localTempFileSweptCounter() {
+        return Counter.builder("local_temp_file_swept_total")
+                .description("업로드 경로에서 정리된 오래된 임시 파일 수")
+                .tag("application", "orakgaraki")
+                .register(meterRegistry);
+    }
+
+    // 추천 결과 캐시 메트릭 (result 태그로 hit/stale/miss 구분)
+    @Bean("recommendationCacheHitCounter")
+    public Counter recommendationCacheHitCounter() {
+        return recommendationCacheCounter("hit");
+    }
+
+    @Bean("recommendationCacheStaleCounter")
+    public Counter recommendationCacheStaleCounter() {
+        return recommendationCacheCounter("stale");
+    }
+
+    @Bean("recommendationCacheMissCounter")
+    public Counter recommendationCacheMissCounter() {
+        return recommendationCacheCounter("miss");
+    }
+
+    private Counter recommendationCacheCounter(String result) {
+        return Counter.builder("recommendation_cache_requests_total")
+                .description("추천 결과 캐시 조회 건수")
+                .tag("application", "orakgaraki")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Bean
+    public AtomicLong s3CleanupPendingCount() {
+        AtomicLong pendingCount = new AtomicLong(0);
+        Gauge.builder("s3_cleanup_pending_count", pendingCount, AtomicLong::get)
+                .description("삭제 대기 중인 S3 객체 수")
+                .tag("application", "orakgaraki")
+                .register(meterRegistry);
+        return pendingCount;
+    }
+
+    // 곡 카탈로그 캐시 메트릭 (result 태그로 hit/miss 구분)
+    @Bean("songCatalogCacheHitCounter")
+    public Counter songCatalogCacheHitCounter() {
+        return songCatalogCacheCounter("hit");
+    }
+
+    @Bean("songCatalogCacheMissCounter")
+    public Counter songCatalogCacheMissCounter() {
+        return songCatalogCacheCounter("miss");
+    }
+
+    private Counter songCatalogCacheCounter(String result) {
+        return Counter.builder("song_catalog_cache_requests_total")
+                .description("곡 카탈로그 캐시 조회 건수 (곡 단위)")
+                .tag("application", "orakgaraki")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Bean
+    public AtomicLong songCatalogCacheSize() {
+        AtomicLong size = new AtomicLong(0);
+        Gauge.builder("song_catalog_cache_size", size, AtomicLong::get)
+                .description("곡 카탈로그 캐시에 올라간 곡 수")
+                .tag("application", "orakgaraki")
+                .register(meterRegistry);
+        return size;
+    }
+
+    @Bean
+    public AtomicLong songCatalogCacheBytes() {
+        AtomicLong bytes = new AtomicLong(0);
+        Gauge.builder("song_catalog_cache_bytes", bytes, AtomicLong::get)
+                .description("곡 카탈로그 캐시 힙 사용량 추정치")
+                .tag("application", "orakgaraki")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        return bytes;
+    }
+}
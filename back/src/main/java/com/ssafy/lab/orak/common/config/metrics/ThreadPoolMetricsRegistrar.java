@@ -34,6 +34,9 @@ public class ThreadPoolMetricsRegistrar {
     @Qualifier("batchProcessingExecutor")
     private final Executor batchProcessingExecutor;
 
+    @Qualifier("fileUploadExecutor")
+    private final Executor fileUploadExecutor;
+
     @Qualifier("wavConversionSemaphore")
     private final Semaphore wavConversionSemaphore;
 
@@ -56,6 +59,7 @@ public class ThreadPoolMetricsRegistrar {
             registerExecutorMetrics((ThreadPoolTaskExecutor) voiceAnalysisExecutor, "voice_analysis");
             registerExecutorMetrics((ThreadPoolTaskExecutor) imageProcessingExecutor, "image_processing");
             registerExecutorMetrics((ThreadPoolTaskExecutor) batchProcessingExecutor, "batch_processing");
+            registerExecutorMetrics((ThreadPoolTaskExecutor) fileUploadExecutor, "file_upload");
 
             // 세마포어 메트릭 등록
             registerSemaphoreMetrics("wav_conversion", wavConversionSemaphore);
@@ -63,7 +67,7 @@ public class ThreadPoolMetricsRegistrar {
             registerSemaphoreMetrics("image_processing", imageProcessingSemaphore);
             registerSemaphoreMetrics("batch_processing", batchProcessingSemaphore);
 
-            log.info("Grafana용 고급 메트릭 등록 완료 - 스레드풀 4개, 세마포어 4개");
+            log.info("Grafana용 고급 메트릭 등록 완료 - 스레드풀 5개, 세마포어 4개");
 
         } catch (Exception e) {
             log.error("Grafana 메트릭 등록 중 오류 발생", e);
@@ -0,0 +1,31 @@
+package com.ssafy.lab.orak.common.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시 설정 (app.l2cache)
+ * - regions: 리전 이름 → TTL/최대 크기 (엔티티의 @Cache(region)과 쿼리 캐시 리전)
+ * - broadcast: 다른 인스턴스에 무효화를 알리는 Redis 채널
+ */
+@ConfigurationProperties(prefix = "app.l2cache")
+public record L2CacheProperties(
+        boolean enabled,
+        Broadcast broadcast,
+        Map<String, Region> regions
+) {
+
+    public record Broadcast(
+            boolean enabled,
+            String channel
+    ) {
+    }
+
+    // ttlSeconds가 0 이하면 만료 없음 (갱신 타임스탬프 리전용)
+    public record Region(
+            long ttlSeconds,
+            long maxSize
+    ) {
+    }
+}
@@ -58,7 +58,8 @@ public class SecurityConfig {
     public SecurityFilterChain webhookSecurity(HttpSecurity http) throws Exception {
         http
                 .securityMatcher("/api/webhook/**",
-                        "/api/records/async/upload-completed")
+                        "/api/records/async/upload-completed",
+                        "/api/records/async/upload-completed/batch")
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -76,7 +77,8 @@ public class SecurityConfig {
         http
                 .securityMatcher(request -> !request.getRequestURI().startsWith("/actuator")
                                          && !request.getRequestURI().startsWith("/api/webhook")
-                                         && !request.getRequestURI().equals("/api/records/async/upload-completed"))
+                                         && !request.getRequestURI().equals("/api/records/async/upload-completed")
+                                         && !request.getRequestURI().equals("/api/records/async/upload-completed/batch"))
                 // 세션 미사용 (JWT 기반 인증) - OAuth2는 Redis 저장소 사용
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
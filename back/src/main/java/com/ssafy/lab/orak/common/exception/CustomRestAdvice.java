@@ -1,6 +1,7 @@
 package com.ssafy.lab.orak.common.exception;
 
 import com.ssafy.lab.orak.albumtrack.exception.AlbumTrackException;
+import com.ssafy.lab.orak.albumtrack.exception.PlaybackSessionNotFoundException;
 import com.ssafy.lab.orak.albumtrack.exception.TrackOrderConflictException;
 import com.ssafy.lab.orak.auth.exception.InvalidRefreshTokenException;
 import com.ssafy.lab.orak.auth.exception.MissingRefreshTokenException;
@@ -141,6 +142,20 @@ public class CustomRestAdvice {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    @ExceptionHandler(PlaybackSessionNotFoundException.class)
+    protected ResponseEntity<ErrorResponse> handlePlaybackSessionNotFoundException(
+            PlaybackSessionNotFoundException e, HttpServletRequest request) {
+
+        log.warn("재생 세션 없음: {}", e.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+            ErrorCode.PLAYBACK_SESSION_NOT_FOUND,
+            request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
     /**
      * Record 관련 예외 처리
      */
@@ -38,6 +38,7 @@ public enum ErrorCode {
     AUDIO_CONVERSION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, 1400, "오디오 변환에 실패했습니다."),
     AUDIO_PROCESSING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, 1401, "오디오 처리에 실패했습니다."),
     UNSUPPORTED_AUDIO_FORMAT(HttpStatus.BAD_REQUEST, 1402, "지원하지 않는 오디오 형식입니다."),
+    IMAGE_PROCESSING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, 1450, "이미지 처리에 실패했습니다."),
 
     // Recording (1500-1599)
     RECORD_NOT_FOUND(HttpStatus.NOT_FOUND, 1500, "녹음 파일을 찾을 수 없습니다."),
@@ -53,6 +54,7 @@ public enum ErrorCode {
     TRACK_NOT_FOUND(HttpStatus.NOT_FOUND, 1700, "트랙을 찾을 수 없습니다."),
     TRACK_ORDER_CONFLICT(HttpStatus.CONFLICT, 1701, "트랙 순서 충돌이 발생했습니다."),
     TRACK_OPERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, 1702, "트랙 작업에 실패했습니다."),
+    PLAYBACK_SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, 1703, "재생 세션을 찾을 수 없거나 만료되었습니다."),
 
     // Event & Processing (1800-1899)
     EVENT_PROCESSING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, 1800, "이벤트 처리에 실패했습니다."),
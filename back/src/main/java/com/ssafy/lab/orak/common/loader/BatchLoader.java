@@ -0,0 +1,114 @@
+package com.ssafy.lab.orak.common.loader;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 키를 모아 두었다가 한 번에 조회하는 로더 (DataLoader 방식)
+ * - register로 키를 등록하고 dispatch 시점에 아직 모르는 키만 IN 조회 한 번으로 읽음
+ * - 읽은 결과와 없는 키 모두 기억하므로 같은 요청 안에서 같은 ID는 다시 조회하지 않음
+ * - 요청 하나에 묶여 쓰이는 객체라 엔티티 변경이 잦은 쓰기 경로에는 쓰지 않음
+ */
+public class BatchLoader<K, V> {
+
+    private final Function<Set<K>, Map<K, V>> batchFunction;
+    private final int maxBatchSize;
+
+    private final Map<K, V> loaded = new HashMap<>();
+    private final Set<K> missing = new HashSet<>();
+    private final Set<K> pending = new LinkedHashSet<>();
+    private int dispatchCount;
+
+    public BatchLoader(Function<Set<K>, Map<K, V>> batchFunction, int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize는 1 이상이어야 합니다.");
+        }
+        this.batchFunction = batchFunction;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public synchronized BatchLoader<K, V> register(K key) {
+        if (key != null && !isResolved(key)) {
+            pending.add(key);
+        }
+        return this;
+    }
+
+    public synchronized BatchLoader<K, V> registerAll(Collection<? extends K> keys) {
+        for (K key : keys) {
+            register(key);
+        }
+        return this;
+    }
+
+    /**
+     * 등록된 키 중 아직 읽지 않은 것만 조회 (maxBatchSize 단위로 나눠 IN 조회)
+     */
+    public synchronized void dispatch() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<K> keys = new ArrayList<>(pending);
+        pending.clear();
+        for (int from = 0; from < keys.size(); from += maxBatchSize) {
+            Set<K> chunk = new LinkedHashSet<>(keys.subList(from, Math.min(from + maxBatchSize, keys.size())));
+            Map<K, V> values = batchFunction.apply(chunk);
+            dispatchCount++;
+            for (K key : chunk) {
+                V value = values.get(key);
+                if (value != null) {
+                    loaded.put(key, value);
+                } else {
+                    missing.add(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * 키 하나 조회 (등록만 되고 아직 읽지 않았으면 대기 중인 키와 함께 읽음, 없으면 null)
+     */
+    public synchronized V get(K key) {
+        if (key == null) {
+            return null;
+        }
+        if (!isResolved(key)) {
+            pending.add(key);
+            dispatch();
+        }
+        return loaded.get(key);
+    }
+
+    /**
+     * 여러 키 조회 (없는 키는 결과에서 제외, 요청 순서 유지)
+     */
+    public synchronized Map<K, V> getAll(Collection<? extends K> keys) {
+        registerAll(keys);
+        dispatch();
+        Map<K, V> result = new LinkedHashMap<>();
+        for (K key : keys) {
+            V value = loaded.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    // 실제 조회 횟수 (테스트/로그용)
+    public synchronized int dispatchCount() {
+        return dispatchCount;
+    }
+
+    private boolean isResolved(K key) {
+        return loaded.containsKey(key) || missing.contains(key);
+    }
+}
@@ -0,0 +1,49 @@
+package com.ssafy.lab.orak.common.loader;
+
+import com.ssafy.lab.orak.auth.repository.UserRepository;
+import com.ssafy.lab.orak.profile.repository.ProfileRepository;
+import com.ssafy.lab.orak.song.repository.SongRepository;
+import com.ssafy.lab.orak.upload.repository.UploadRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 현재 요청에 묶인 EntityLoaders 제공
+ * - HTTP 요청 안이면 요청 속성에 하나를 만들어 두고 같은 요청의 모든 서비스가 공유
+ * - 요청 밖 (Kafka 소비자, 스케줄러 등)이면 호출할 때마다 새 로더 (호출한 메서드 안에서만 재사용)
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityLoaderProvider {
+
+    private static final String ATTRIBUTE = EntityLoaders.class.getName();
+
+    private final ProfileRepository profileRepository;
+    private final UploadRepository uploadRepository;
+    private final SongRepository songRepository;
+    private final UserRepository userRepository;
+
+    @Value("${app.loader.max-batch-size:500}")
+    private int maxBatchSize = 500;
+
+    public EntityLoaders current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return newLoaders();
+        }
+        Object existing = attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (existing instanceof EntityLoaders loaders) {
+            return loaders;
+        }
+        EntityLoaders loaders = newLoaders();
+        attributes.setAttribute(ATTRIBUTE, loaders, RequestAttributes.SCOPE_REQUEST);
+        return loaders;
+    }
+
+    private EntityLoaders newLoaders() {
+        return new EntityLoaders(profileRepository, uploadRepository, songRepository, userRepository, maxBatchSize);
+    }
+}
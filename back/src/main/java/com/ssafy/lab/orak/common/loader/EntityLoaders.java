@@ -0,0 +1,63 @@
+package com.ssafy.lab.orak.common.loader;
+
+import com.ssafy.lab.orak.auth.entity.User;
+import com.ssafy.lab.orak.auth.repository.UserRepository;
+import com.ssafy.lab.orak.profile.entity.Profile;
+import com.ssafy.lab.orak.profile.repository.ProfileRepository;
+import com.ssafy.lab.orak.song.entity.Song;
+import com.ssafy.lab.orak.song.repository.SongRepository;
+import com.ssafy.lab.orak.upload.entity.Upload;
+import com.ssafy.lab.orak.upload.repository.UploadRepository;
+
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 하나 동안 공유하는 엔티티 로더 묶음 (EntityLoaderProvider.current()로 얻음)
+ * - profiles: userId → Profile (사용자, 프로필 이미지 업로드까지 함께 조회)
+ * - uploads / songs / users: id → 엔티티 (users는 팔로우 목록의 이메일 조회에 씀)
+ */
+public class EntityLoaders {
+
+    private final BatchLoader<Long, Profile> profiles;
+    private final BatchLoader<Long, Upload> uploads;
+    private final BatchLoader<Long, Song> songs;
+    private final BatchLoader<Long, User> users;
+
+    EntityLoaders(ProfileRepository profileRepository, UploadRepository uploadRepository,
+                  SongRepository songRepository, UserRepository userRepository, int maxBatchSize) {
+        this.profiles = new BatchLoader<>(userIds -> profileRepository.findAllByUserIdInWithImage(userIds).stream()
+                .collect(Collectors.toMap(profile -> profile.getUser().getId(), Function.identity(), (a, b) -> a)),
+                maxBatchSize);
+        this.uploads = new BatchLoader<>(ids -> uploadRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Upload::getId, Function.identity(), (a, b) -> a)), maxBatchSize);
+        this.songs = new BatchLoader<>(ids -> songRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Song::getId, Function.identity(), (a, b) -> a)), maxBatchSize);
+        this.users = new BatchLoader<>(ids -> userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity(), (a, b) -> a)), maxBatchSize);
+    }
+
+    public BatchLoader<Long, Profile> profiles() {
+        return profiles;
+    }
+
+    public BatchLoader<Long, Upload> uploads() {
+        return uploads;
+    }
+
+    public BatchLoader<Long, Song> songs() {
+        return songs;
+    }
+
+    public BatchLoader<Long, User> users() {
+        return users;
+    }
+
+    // 등록된 키를 로더별로 한 번씩 조회
+    public void dispatchAll() {
+        profiles.dispatch();
+        uploads.dispatch();
+        songs.dispatch();
+        users.dispatch();
+    }
+}
@@ -0,0 +1,38 @@
+package com.ssafy.lab.orak.common.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 검색/자동완성 키 정규화 (앨범 검색 색인과 곡 자동완성 트라이가 같은 규칙을 씀)
+ */
+public final class TextNormalizer {
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * 소문자화 후 글자/숫자만 남김 (공백, 문장부호 무시), NFD로 들어온 한글은 NFC로 합침
+     */
+    public static String normalize(String value) {
+        return normalize(value, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param maxLength 결과 최대 길이 (넘는 부분은 읽지 않고 버림)
+     */
+    public static String normalize(String value, int maxLength) {
+        if (value == null || value.isEmpty() || maxLength <= 0) {
+            return "";
+        }
+        String composed = Normalizer.normalize(value, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(Math.min(composed.length(), maxLength));
+        for (int i = 0; i < composed.length() && builder.length() < maxLength; i++) {
+            char c = composed.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+}
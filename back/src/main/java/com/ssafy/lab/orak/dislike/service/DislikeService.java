@@ -1,5 +1,7 @@
 package com.ssafy.lab.orak.dislike.service;
 
+import com.ssafy.lab.orak.ai.service.ColdStartRecommendationService;
+import com.ssafy.lab.orak.ai.service.RecommendationCacheService;
 import com.ssafy.lab.orak.dislike.entity.Dislike;
 import com.ssafy.lab.orak.dislike.repository.DislikeRepository;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +18,8 @@ import java.util.List;
 public class DislikeService {
 
     private final DislikeRepository dislikeRepository;
+    private final RecommendationCacheService recommendationCacheService;
+    private final ColdStartRecommendationService coldStartRecommendationService;
 
     /**
      * 싫어요 추가 또는 제거 (토글)
@@ -26,6 +30,8 @@ public class DislikeService {
             // 이미 dislike가 존재하면 삭제
             dislikeRepository.deleteByUserIdAndSongId(userId, songId);
             log.info("사용자 {}가 곡 {}의 싫어요를 취소했습니다.", userId, songId);
+            recommendationCacheService.evictUser(userId);
+            coldStartRecommendationService.evictDislikes(userId);
             return false; // 싫어요 취소됨
         } else {
             // dislike가 없으면 추가
@@ -35,6 +41,8 @@ public class DislikeService {
                     .build();
             dislikeRepository.save(dislike);
             log.info("사용자 {}가 곡 {}에 싫어요를 했습니다.", userId, songId);
+            recommendationCacheService.evictUser(userId);
+            coldStartRecommendationService.evictDislikes(userId);
             return true; // 싫어요 추가됨
         }
     }
@@ -51,6 +59,8 @@ public class DislikeService {
                     .build();
             dislikeRepository.save(dislike);
             log.info("사용자 {}가 곡 {}에 싫어요를 했습니다.", userId, songId);
+            recommendationCacheService.evictUser(userId);
+            coldStartRecommendationService.evictDislikes(userId);
         }
     }
 
@@ -62,6 +72,8 @@ public class DislikeService {
         if (dislikeRepository.existsByUserIdAndSongId(userId, songId)) {
             dislikeRepository.deleteByUserIdAndSongId(userId, songId);
             log.info("사용자 {}가 곡 {}의 싫어요를 취소했습니다.", userId, songId);
+            recommendationCacheService.evictUser(userId);
+            coldStartRecommendationService.evictDislikes(userId);
         }
     }
 
@@ -1,5 +1,6 @@
 package com.ssafy.lab.orak.event.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -10,6 +11,7 @@ import java.util.List;
 @NoArgsConstructor
 public class S3EventNotification {
     
+    @JsonProperty("Records")
     private List<S3EventRecord> Records;
     
     @Data
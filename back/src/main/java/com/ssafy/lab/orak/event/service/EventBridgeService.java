@@ -89,10 +89,8 @@ public class EventBridgeService {
      */
     public boolean publishBatchEvents(java.util.List<UploadEvent> events) {
         try {
-            for (UploadEvent event : events) {
-                kafkaEventProducer.sendUploadEvent(event);
-                kafkaMessagesSentCounter.increment();
-            }
+            kafkaEventProducer.sendUploadEvents(events);
+            kafkaMessagesSentCounter.increment(events.size());
 
             log.info("배치 이벤트 큐잉 완료: {} 개 이벤트", events.size());
             return true;
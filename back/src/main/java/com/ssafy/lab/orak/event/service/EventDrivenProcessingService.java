@@ -2,6 +2,7 @@ package com.ssafy.lab.orak.event.service;
 
 import com.ssafy.lab.orak.event.dto.UploadEvent;
 import com.ssafy.lab.orak.processing.service.ProcessingJob;
+import com.ssafy.lab.orak.processing.service.ProcessingResult;
 import com.ssafy.lab.orak.upload.entity.Upload;
 import com.ssafy.lab.orak.upload.enums.ProcessingStatus;
 import com.ssafy.lab.orak.upload.service.FileUploadService;
@@ -52,25 +53,22 @@ public class EventDrivenProcessingService {
                 
                 // 처리 시작 상태 알림
                 publishStatusChangeEvent(event, selectedJob.getProcessingStatus(), "처리 시작됨");
-                
+
+                if (selectedJob.isNonBlocking()) {
+                    // 비동기 작업은 자체 동시 진행 제한을 따르므로 여기서는 등록만 하고 슬롯을 바로 반납
+                    activeProcessingJobs.incrementAndGet();
+                    selectedJob.processAsync(upload).whenComplete((result, error) -> {
+                        activeProcessingJobs.decrementAndGet();
+                        publishOutcome(event, upload, selectedJob, result, error);
+                    });
+                    return;
+                }
+
                 // 실제 처리 수행
                 boolean success = selectedJob.process(upload);
-                
-                if (success) {
-                    // 처리 성공
-                    ProcessingStatus completedStatus = selectedJob.getCompletedStatus();
-                    publishProcessingResult(event, completedStatus, "처리 성공적으로 완료됨");
-                    log.info("업로드 처리 성공: {} with job: {}", 
-                            upload.getId(), selectedJob.getClass().getSimpleName());
-                } else {
-                    // 처리 실패
-                    String errorMessage = String.format("처리 작업 실패: %s", 
-                            selectedJob.getClass().getSimpleName());
-                    publishProcessingResult(event, ProcessingStatus.FAILED, errorMessage);
-                    log.error("업로드 처리 실패: {} with job: {}", 
-                            upload.getId(), selectedJob.getClass().getSimpleName());
-                }
-                
+                publishOutcome(event, upload, selectedJob,
+                        success ? ProcessingResult.succeeded() : ProcessingResult.failed(null), null);
+
             } catch (Exception e) {
                 log.error("이벤트 기반 처리 중 예상치 못한 오류 발생: uploadId: {}", 
                         event.getUploadId(), e);
@@ -83,6 +81,29 @@ public class EventDrivenProcessingService {
         });
     }
 
+    private void publishOutcome(UploadEvent event, Upload upload, ProcessingJob job,
+                                ProcessingResult result, Throwable error) {
+        if (error != null) {
+            log.error("이벤트 기반 처리 중 예상치 못한 오류 발생: uploadId: {}", upload.getId(), error);
+            publishProcessingResult(event, ProcessingStatus.FAILED, "예상치 못한 오류: " + error.getMessage());
+        } else if (result.isSucceeded()) {
+            // 처리 성공
+            publishProcessingResult(event, job.getCompletedStatus(), "처리 성공적으로 완료됨");
+            log.info("업로드 처리 성공: {} with job: {}",
+                    upload.getId(), job.getClass().getSimpleName());
+        } else if (result.isSkipped()) {
+            log.info("업로드 처리 건너뜀: {} with job: {} - {}",
+                    upload.getId(), job.getClass().getSimpleName(), result.message());
+        } else {
+            // 처리 실패
+            String errorMessage = String.format("처리 작업 실패: %s",
+                    job.getClass().getSimpleName());
+            publishProcessingResult(event, ProcessingStatus.FAILED, errorMessage);
+            log.error("업로드 처리 실패: {} with job: {}",
+                    upload.getId(), job.getClass().getSimpleName());
+        }
+    }
+
     public void requestProcessing(UploadEvent uploadEvent) {
         try {
             // 처리 요청 이벤트 생성 및 발송
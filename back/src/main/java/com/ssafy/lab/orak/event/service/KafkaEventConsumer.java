@@ -175,15 +175,22 @@ public class KafkaEventConsumer {
             // FileUploadService를 통해 Upload 엔티티 조회
             var upload = fileUploadService.getUpload(event.getUploadId());
 
-            // VoiceAnalysisJob을 통한 음성 분석 처리
-            boolean success = voiceAnalysisJob.process(upload);
-
-            if (success) {
-                log.info("음성 분석 처리 성공 - uploadId: {}", event.getUploadId());
-            } else {
-                log.warn("음성 분석 처리 실패 - uploadId: {}", event.getUploadId());
-                throw new RuntimeException("음성 분석 처리에 실패했습니다");
-            }
+            // VoiceAnalysisJob을 통한 음성 분석 처리 (AI 응답을 기다리지 않고 리스너 스레드 반환)
+            voiceAnalysisJob.processAsync(upload).whenComplete((result, error) -> {
+                if (error == null && !result.isFailed()) {
+                    log.info("음성 분석 처리 {} - uploadId: {}",
+                            result.isSkipped() ? "건너뜀" : "성공", event.getUploadId());
+                    return;
+                }
+                log.warn("음성 분석 처리 실패 - uploadId: {}", event.getUploadId(), error);
+                failedEvents.incrementAndGet();
+                try {
+                    handleProcessingFailure(event, new RuntimeException("음성 분석 처리에 실패했습니다"
+                            + (result != null && result.message() != null ? ": " + result.message() : ""), error));
+                } catch (Exception e) {
+                    log.error("음성 분석 실패 이벤트 재시도/DLQ 처리 실패: uploadId={}", event.getUploadId(), e);
+                }
+            });
 
         } catch (Exception e) {
             log.error("음성 분석 요청 처리 실패: uploadId={}", event.getUploadId(), e);
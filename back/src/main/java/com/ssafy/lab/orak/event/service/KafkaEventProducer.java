@@ -9,6 +9,8 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 @Service
@@ -67,6 +69,32 @@ public class KafkaEventProducer {
         }
     }
 
+    /**
+     * 업로드 이벤트 일괄 발송
+     * 모든 레코드를 먼저 프로듀서 버퍼에 넘겨 배치 전송되게 하고, 결과는 한 번에 집계
+     */
+    public void sendUploadEvents(List<UploadEvent> events) {
+        List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>(events.size());
+        try {
+            for (UploadEvent event : events) {
+                String eventJson = objectMapper.writeValueAsString(event);
+                futures.add(kafkaTemplate.send(selectTopic(event), generateEventKey(event), eventJson));
+            }
+        } catch (Exception e) {
+            log.error("업로드 이벤트 일괄 전송 실패: {}개 중 {}개 전송 후 중단", events.size(), futures.size(), e);
+            throw new com.ssafy.lab.orak.event.exception.KafkaSendException("Kafka 이벤트 일괄 전송 실패", e);
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+            .whenComplete((result, ex) -> {
+                if (ex == null) {
+                    log.info("Kafka upload events sent in batch: count={}", events.size());
+                } else {
+                    log.error("Kafka 이벤트 일괄 전송 중 일부 실패: count={}", events.size(), ex);
+                }
+            });
+    }
+
     public void sendProcessingStatusEvent(UploadEvent event) {
         try {
             String eventJson = objectMapper.writeValueAsString(event);
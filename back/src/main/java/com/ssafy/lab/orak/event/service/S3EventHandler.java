@@ -2,15 +2,23 @@ package com.ssafy.lab.orak.event.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.lab.orak.event.dto.S3EventNotification;
-import com.ssafy.lab.orak.event.dto.UploadEvent;
 import com.ssafy.lab.orak.event.exception.EventProcessingException;
+import com.ssafy.lab.orak.s3.helper.S3Helper;
+import com.ssafy.lab.orak.upload.dto.UploadCompletionResult;
 import com.ssafy.lab.orak.upload.entity.Upload;
-import com.ssafy.lab.orak.upload.enums.ProcessingStatus;
 import com.ssafy.lab.orak.upload.service.FileUploadService;
+import com.ssafy.lab.orak.upload.service.UploadCompletionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
 
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Log4j2
@@ -19,6 +27,8 @@ public class S3EventHandler {
     private final FileUploadService fileUploadService;
     private final ObjectMapper objectMapper;
     private final EventBridgeService eventBridgeService;
+    private final UploadCompletionService uploadCompletionService;
+    private final S3Helper s3Helper;
 
     // EventBridge에서 직접 호출하는 메서드 (SQS 제거)
     public void handleS3Event(String objectKey, String bucketName, Long objectSize, String eventName) {
@@ -43,52 +53,42 @@ public class S3EventHandler {
         }
     }
 
+    /**
+     * S3 이벤트 알림 일괄 처리 (EventBridge/S3 Notification 묶음)
+     * ObjectCreated 레코드는 모아서 한 번에 완료 처리하고, ObjectRemoved 레코드는 개별 처리
+     */
+    public UploadCompletionResult handleS3EventNotification(S3EventNotification notification) {
+        Map<String, Long> createdObjects = new LinkedHashMap<>();
+        List<S3EventNotification.S3EventRecord> records =
+                notification.getRecords() != null ? notification.getRecords() : List.of();
+
+        for (S3EventNotification.S3EventRecord record : records) {
+            if (record.getS3() == null || record.getS3().getObject() == null) {
+                continue;
+            }
+            String objectKey = decodeObjectKey(record.getS3().getObject().getKey());
+            String eventName = record.getEventName();
+            if (isEventType(eventName, "ObjectCreated:")) {
+                createdObjects.put(objectKey, record.getS3().getObject().getSize());
+            } else if (isEventType(eventName, "ObjectRemoved:")) {
+                handleObjectRemoved(objectKey);
+            } else {
+                log.debug("S3 이벤트 무시: {}", eventName);
+            }
+        }
+
+        log.info("S3 이벤트 알림 일괄 수신: 레코드 {}개, 생성 {}개", records.size(), createdObjects.size());
+        return uploadCompletionService.completeFromS3Events(createdObjects);
+    }
+
     private void handleObjectCreatedDirect(String objectKey, String bucketName, Long objectSize) {
         log.info("S3 객체 생성 이벤트 처리: {}", objectKey);
-        
+
         try {
-            // S3 키에서 UUID 추출 (예: uploads/{uuid}/filename.ext)
-            String uuid = extractUuidFromS3Key(objectKey);
-            
-            if (uuid != null) {
-                // UUID로 업로드 레코드 찾기
-                Upload upload = fileUploadService.findByUuid(uuid);
-                
-                if (upload != null) {
-                    // S3 업로드 완료로 상태 업데이트
-                    if (upload.getProcessingStatus() == ProcessingStatus.UPLOADED) {
-                        log.info("업로드 {} 이미 업로드 완료 상태", upload.getId());
-                    } else {
-                        fileUploadService.updateProcessingStatus(upload.getId(), ProcessingStatus.UPLOADED);
-                        log.info("S3 이벤트 후 업로드 {} 상태를 UPLOADED로 변경", upload.getId());
-                    }
-                    
-                    // 파일 크기 업데이트 (실제 S3 크기와 동기화)
-                    if (objectSize != null && !objectSize.equals(upload.getFileSize())) {
-                        upload.setFileSize(objectSize);
-                        fileUploadService.getUploadRepository().save(upload);
-                        log.info("업로드 {} 파일 크기 업데이트: {}", upload.getId(), objectSize);
-                    }
-                    
-                    // EventBridge + Kafka로 업로드 완료 이벤트 발송
-                    UploadEvent uploadEvent = UploadEvent.createS3UploadEvent(
-                            upload.getId(), 
-                            upload.getUuid(), 
-                            objectKey, 
-                            bucketName, 
-                            objectSize, 
-                            upload.getContentType()
-                    );
-                    
-                    eventBridgeService.publishUploadEvent(uploadEvent);
-                    log.info("업로드 완료 이벤트 발송: uploadId={}", upload.getId());
-                } else {
-                    log.warn("UUID에 해당하는 업로드 레코드 없음: {}", uuid);
-                }
-            } else {
-                log.warn("S3 키에서 UUID 추출 실패: {}", objectKey);
-            }
-            
+            // 이벤트 페이로드의 크기를 신뢰하므로 HEAD 없이 일괄 완료 경로로 처리
+            Map<String, Long> createdObject = new HashMap<>();
+            createdObject.put(objectKey, objectSize);
+            uploadCompletionService.completeFromS3Events(createdObject);
         } catch (Exception e) {
             log.error("S3 객체 생성 이벤트 처리 실패: {}", objectKey, e);
             throw new EventProcessingException("S3 객체 생성 이벤트 처리 실패: " + objectKey, e);
@@ -104,7 +104,10 @@ public class S3EventHandler {
             if (uuid != null) {
                 Upload upload = fileUploadService.findByUuid(uuid);
                 
-                if (upload != null) {
+                if (upload != null && !objectKey.equals(upload.getFullPath())) {
+                    // WAV 변환 후 정리된 원본 등 현재 파일이 아닌 키의 삭제는 무시
+                    log.debug("현재 파일이 아닌 S3 객체 삭제 이벤트 무시: {} (현재: {})", objectKey, upload.getFullPath());
+                } else if (upload != null) {
                     // 파일이 S3에서 삭제된 경우 처리 실패로 마킹
                     fileUploadService.markProcessingFailed(upload.getId(), 
                             "S3 저장소에서 파일이 삭제됨");
@@ -121,17 +124,17 @@ public class S3EventHandler {
     }
 
     private String extractUuidFromS3Key(String s3Key) {
-        // S3 키 형태: uploads/{uuid}/filename.ext
-        // 또는 다른 패턴에 따라 UUID 추출
-        if (s3Key == null || !s3Key.contains("/")) {
-            return null;
-        }
-        
-        String[] parts = s3Key.split("/");
-        if (parts.length >= 2 && "uploads".equals(parts[0])) {
-            return parts[1]; // UUID 부분 반환
-        }
-        
-        return null;
+        // S3 키 형태: {directory}/{uuid}_{filename}
+        return s3Helper.extractUuidFromS3Key(s3Key);
+    }
+
+    // S3 Notification은 "ObjectCreated:Put", EventBridge 변환 형식은 "s3:ObjectCreated:Put"
+    private boolean isEventType(String eventName, String type) {
+        return eventName != null && (eventName.startsWith(type) || eventName.startsWith("s3:" + type));
+    }
+
+    // S3 이벤트 알림의 키는 URL 인코딩되어 전달됨 (공백은 '+')
+    private String decodeObjectKey(String key) {
+        return key == null ? null : URLDecoder.decode(key, StandardCharsets.UTF_8);
     }
-}
\ No newline at end of file
+}
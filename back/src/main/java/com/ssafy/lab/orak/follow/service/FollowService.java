@@ -1,5 +1,8 @@
 package com.ssafy.lab.orak.follow.service;
 
+import com.ssafy.lab.orak.auth.entity.User;
+import com.ssafy.lab.orak.common.loader.BatchLoader;
+import com.ssafy.lab.orak.common.loader.EntityLoaderProvider;
 import com.ssafy.lab.orak.profile.entity.Profile;
 import com.ssafy.lab.orak.profile.repository.ProfileRepository;
 import com.ssafy.lab.orak.follow.dto.FollowDto;
@@ -13,6 +16,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Log4j2
 @Service
 @RequiredArgsConstructor
@@ -21,6 +26,7 @@ public class FollowService {
 
     private final FollowRepository followRepository;
     private final ProfileRepository profileRepository;
+    private final EntityLoaderProvider entityLoaderProvider;
 
     /**
      * 팔로우 토글 (팔로우/언팔로우)
@@ -109,6 +115,7 @@ public class FollowService {
      */
     public Page<FollowDto.UserResponse> getFollowing(Long userId, Pageable pageable) {
         Page<Follow> follows = followRepository.findFollowingByFollowerId(userId, pageable);
+        BatchLoader<Long, User> users = loadUsers(follows.getContent().stream().map(Follow::getFollowing).toList());
 
         return follows.map(follow -> {
             Profile following = follow.getFollowing();
@@ -118,7 +125,7 @@ public class FollowService {
             return FollowDto.UserResponse.builder()
                     .userId(following.getId())
                     .nickname(following.getNickname())
-                    .email(following.getUser().getEmail())
+                    .email(users.get(following.getUser().getId()).getEmail())
                     .followedAt(follow.getCreatedAt())
                     .isFollowingBack(isFollowingBack)
                     .build();
@@ -133,6 +140,7 @@ public class FollowService {
      */
     public Page<FollowDto.UserResponse> getFollowers(Long userId, Pageable pageable) {
         Page<Follow> follows = followRepository.findFollowerByFollowingId(userId, pageable);
+        BatchLoader<Long, User> users = loadUsers(follows.getContent().stream().map(Follow::getFollower).toList());
 
         return follows.map(follow -> {
             Profile follower = follow.getFollower();
@@ -142,7 +150,7 @@ public class FollowService {
             return FollowDto.UserResponse.builder()
                     .userId(follower.getId())
                     .nickname(follower.getNickname())
-                    .email(follower.getUser().getEmail())
+                    .email(users.get(follower.getUser().getId()).getEmail())
                     .followedAt(follow.getCreatedAt())
                     .isFollowingBack(isFollowingBack)
                     .build();
@@ -176,4 +184,12 @@ public class FollowService {
     public long getFollowingCount(Long userId) {
         return followRepository.countByFollowerUserId(userId);
     }
-}
\ No newline at end of file
+
+    // 목록 프로필의 사용자를 한 번에 조회 (행마다 지연 로딩으로 이메일을 읽지 않도록)
+    private BatchLoader<Long, User> loadUsers(List<Profile> profiles) {
+        BatchLoader<Long, User> users = entityLoaderProvider.current().users();
+        profiles.forEach(profile -> users.register(profile.getUser().getId()));
+        users.dispatch();
+        return users;
+    }
+}
@@ -14,7 +14,10 @@ import org.hibernate.annotations.OnDeleteAction;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "likes")
+@Table(name = "likes",
+        indexes = {
+                @Index(name = "idx_likes_user_created", columnList = "user_id, created_at, id, album_id")
+        })
 @Getter
 @Builder
 @NoArgsConstructor
@@ -1,5 +1,6 @@
 package com.ssafy.lab.orak.like.repository;
 
+import com.ssafy.lab.orak.album.dto.AlbumCardRow;
 import com.ssafy.lab.orak.album.entity.Album;
 import com.ssafy.lab.orak.like.entity.Like;
 import org.springframework.data.domain.Page;
@@ -9,6 +10,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -28,4 +31,40 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     @Query("SELECT l.album FROM Like l JOIN l.album WHERE l.userId = :userId ORDER BY l.createdAt DESC")
     Page<Album> findLikedAlbumsByUserId(@Param("userId") Long userId, Pageable pageable);
 
+//    좋아요한 앨범 카드 + 커버/프로필 이미지 업로드 (한 쿼리, 최근 좋아요순)
+    @Query(value = "SELECT new com.ssafy.lab.orak.album.dto.AlbumCardRow(c, cu, pu, l.createdAt, l.id) " +
+           "FROM Like l " +
+           "JOIN AlbumCard c ON c.albumId = l.albumId " +
+           "LEFT JOIN Upload cu ON cu.id = c.coverUploadId " +
+           "LEFT JOIN Upload pu ON pu.id = c.ownerProfileImageUploadId " +
+           "WHERE l.userId = :userId " +
+           "ORDER BY l.createdAt DESC, l.id DESC",
+           countQuery = "SELECT COUNT(l) FROM Like l JOIN AlbumCard c ON c.albumId = l.albumId " +
+           "WHERE l.userId = :userId")
+    Page<AlbumCardRow> findLikedCardRows(@Param("userId") Long userId, Pageable pageable);
+
+//    좋아요한 앨범 커서 첫 페이지 (카운트 쿼리 없음)
+    @Query("SELECT new com.ssafy.lab.orak.album.dto.AlbumCardRow(c, cu, pu, l.createdAt, l.id) " +
+           "FROM Like l " +
+           "JOIN AlbumCard c ON c.albumId = l.albumId " +
+           "LEFT JOIN Upload cu ON cu.id = c.coverUploadId " +
+           "LEFT JOIN Upload pu ON pu.id = c.ownerProfileImageUploadId " +
+           "WHERE l.userId = :userId " +
+           "ORDER BY l.createdAt DESC, l.id DESC")
+    List<AlbumCardRow> findLatestLikedCardRows(@Param("userId") Long userId, Pageable pageable);
+
+//    좋아요한 앨범 커서 다음 페이지 ((좋아요 시각, 좋아요 ID) keyset)
+    @Query("SELECT new com.ssafy.lab.orak.album.dto.AlbumCardRow(c, cu, pu, l.createdAt, l.id) " +
+           "FROM Like l " +
+           "JOIN AlbumCard c ON c.albumId = l.albumId " +
+           "LEFT JOIN Upload cu ON cu.id = c.coverUploadId " +
+           "LEFT JOIN Upload pu ON pu.id = c.ownerProfileImageUploadId " +
+           "WHERE l.userId = :userId " +
+           "AND (l.createdAt < :likedAt OR (l.createdAt = :likedAt AND l.id < :likeId)) " +
+           "ORDER BY l.createdAt DESC, l.id DESC")
+    List<AlbumCardRow> findLikedCardRowsBefore(@Param("userId") Long userId,
+                                               @Param("likedAt") LocalDateTime likedAt,
+                                               @Param("likeId") Long likeId,
+                                               Pageable pageable);
+
 }
@@ -1,5 +1,6 @@
 package com.ssafy.lab.orak.like.service;
 
+import com.ssafy.lab.orak.album.dto.AlbumCardChangedEvent;
 import com.ssafy.lab.orak.album.entity.Album;
 import com.ssafy.lab.orak.album.repository.AlbumRepository;
 import com.ssafy.lab.orak.like.dto.LikeDto;
@@ -7,6 +8,7 @@ import com.ssafy.lab.orak.like.entity.Like;
 import com.ssafy.lab.orak.like.repository.LikeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +20,7 @@ public class LikeService {
 
     private final LikeRepository likeRepository;
     private final AlbumRepository albumRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public boolean toggleLike(Long userId, Long albumId) {
@@ -32,6 +35,7 @@ public class LikeService {
             // 앨범의 좋아요 수 감소
             album.setLikeCount(Math.max(0, album.getLikeCount() - 1));
             albumRepository.save(album);
+            eventPublisher.publishEvent(AlbumCardChangedEvent.ofAlbum(albumId));
             
             log.info("사용자 {}가 앨범 {}의 좋아요를 취소했습니다. 현재 좋아요 수: {}", userId, albumId, album.getLikeCount());
             return false;
@@ -45,6 +49,7 @@ public class LikeService {
             // 앨범의 좋아요 수 증가
             album.setLikeCount(album.getLikeCount() + 1);
             albumRepository.save(album);
+            eventPublisher.publishEvent(AlbumCardChangedEvent.ofAlbum(albumId));
             
             log.info("사용자 {}가 앨범 {}에 좋아요를 추가했습니다. 현재 좋아요 수: {}", userId, albumId, album.getLikeCount());
             return true;
@@ -71,6 +76,7 @@ public class LikeService {
         // 앨범의 좋아요 수 증가
         album.setLikeCount(album.getLikeCount() + 1);
         albumRepository.save(album);
+        eventPublisher.publishEvent(AlbumCardChangedEvent.ofAlbum(albumId));
 
         log.info("사용자 {}가 앨범 {}에 좋아요를 추가했습니다. 현재 좋아요 수: {}", userId, albumId, album.getLikeCount());
     }
@@ -88,6 +94,7 @@ public class LikeService {
         // 앨범의 좋아요 수 감소
         album.setLikeCount(Math.max(0, album.getLikeCount() - 1));
         albumRepository.save(album);
+        eventPublisher.publishEvent(AlbumCardChangedEvent.ofAlbum(albumId));
 
         log.info("사용자 {}가 앨범 {}의 좋아요를 삭제했습니다. 현재 좋아요 수: {}", userId, albumId, album.getLikeCount());
     }
@@ -1,6 +1,8 @@
 package com.ssafy.lab.orak.processing.config;
 
+import com.ssafy.lab.orak.processing.util.InFlightLimiter;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -55,13 +57,18 @@ public class ProcessingExecutorConfig {
     public Executor voiceAnalysisExecutor(
             @Value("${processing.audio.voice-analysis.core-pool-size:2}") int corePoolSize,
             @Value("${processing.audio.voice-analysis.max-pool-size:4}") int maxPoolSize,
-            @Value("${processing.audio.voice-analysis.queue-capacity:20}") int queueCapacity) {
+            @Value("${processing.audio.voice-analysis.queue-capacity:20}") int queueCapacity,
+            @Value("${processing.audio.voice-analysis.max-in-flight:32}") int maxInFlight,
+            @Qualifier("voiceAnalysisOverflowExecutor") Executor overflowExecutor) {
+
+        // 진행 중인 분석은 한 번에 작업 하나만 등록하므로 큐가 max-in-flight 이상이면 평소에는 거부되지 않음
+        int effectiveQueueCapacity = Math.max(queueCapacity, maxInFlight);
 
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(corePoolSize);
         executor.setMaxPoolSize(maxPoolSize);
-        executor.setQueueCapacity(queueCapacity);
-        executor.setKeepAliveSeconds(300); // 5분 (긴 작업이므로 스레드 오래 유지)
+        executor.setQueueCapacity(effectiveQueueCapacity);
+        executor.setKeepAliveSeconds(300); // 5분
         executor.setThreadNamePrefix("VoiceAnalysis-");
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60); // 긴 작업 고려하여 대기 시간 증가
@@ -70,20 +77,32 @@ public class ProcessingExecutorConfig {
         executor.setRejectedExecutionHandler(new RejectedExecutionHandler() {
             @Override
             public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
-                log.warn("음성 분석 스레드풀 포화 상태 - 현재 작업: {}, 큐 크기: {}",
+                log.warn("음성 분석 스레드풀 포화 상태 - 보조 스레드로 넘김, 현재 작업: {}, 큐 크기: {}",
                         executor.getActiveCount(), executor.getQueue().size());
-                // DiscardOldestPolicy: 가장 오래된 대기 작업을 버리고 새 작업 추가
+                // 작업을 버리면 진행 중 슬롯이 반납되지 않고, 호출 스레드는 AI 응답을 전달하는
+                // Reactor/Netty 스레드일 수 있으므로 직접 실행하지 않고 보조 executor로 넘김
                 if (!executor.isShutdown()) {
-                    executor.getQueue().poll();
-                    executor.execute(r);
-                    log.info("가장 오래된 음성 분석 작업을 제거하고 새 작업 추가");
+                    overflowExecutor.execute(r);
                 }
             }
         });
 
         executor.initialize();
         log.info("음성 분석 전용 스레드풀 초기화 완료 - Core: {}, Max: {}, Queue: {}",
-                corePoolSize, maxPoolSize, queueCapacity);
+                corePoolSize, maxPoolSize, effectiveQueueCapacity);
+        return executor;
+    }
+
+    // 음성 분석 스레드풀이 포화됐을 때 넘겨받는 보조 스레드 (대기 큐 제한 없음, 거부하지 않음)
+    @Bean("voiceAnalysisOverflowExecutor")
+    public Executor voiceAnalysisOverflowExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("VoiceAnalysisOverflow-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
         return executor;
     }
 
@@ -166,6 +185,15 @@ public class ProcessingExecutorConfig {
         return new Semaphore(permits, true); // fair 정책
     }
 
+    // 음성 분석 동시 진행 수 제한 (AI 응답을 기다리는 동안 스레드를 점유하지 않으므로 스레드 수보다 크게 설정)
+    @Bean("voiceAnalysisLimiter")
+    public InFlightLimiter voiceAnalysisLimiter(
+            @Qualifier("voiceAnalysisExecutor") Executor voiceAnalysisExecutor,
+            @Value("${processing.audio.voice-analysis.max-in-flight:32}") int maxInFlight) {
+        log.info("음성 분석 동시 진행 제한 초기화 - 최대: {}", maxInFlight);
+        return new InFlightLimiter("음성분석", maxInFlight, voiceAnalysisExecutor);
+    }
+
     @Bean("imageProcessingSemaphore")
     public Semaphore imageProcessingSemaphore(
             @Value("${processing.image.semaphore-permits:4}") int permits) {
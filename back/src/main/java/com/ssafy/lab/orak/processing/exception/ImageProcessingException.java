@@ -0,0 +1,15 @@
+package com.ssafy.lab.orak.processing.exception;
+
+import com.ssafy.lab.orak.common.exception.BaseException;
+import com.ssafy.lab.orak.common.exception.ErrorCode;
+
+public class ImageProcessingException extends BaseException {
+
+    public ImageProcessingException(String customMessage) {
+        super(ErrorCode.IMAGE_PROCESSING_FAILED, customMessage);
+    }
+
+    public ImageProcessingException(String customMessage, Throwable cause) {
+        super(ErrorCode.IMAGE_PROCESSING_FAILED, customMessage, cause);
+    }
+}
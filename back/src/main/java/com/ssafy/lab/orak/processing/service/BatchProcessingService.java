@@ -13,6 +13,8 @@ import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.concurrent.Executor;
 
@@ -115,6 +117,23 @@ public class BatchProcessingService {
         }
     }
     
+    /**
+     * 업로드 직후 처리 작업 즉시 실행 (Kafka 파이프라인을 거치지 않는 이미지 파생본 생성 등)
+     * 트랜잭션 안에서 호출되면 커밋 이후에 실행하여 워커가 커밋 전의 업로드를 조회하지 않도록 함
+     */
+    public void submit(Upload upload) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    executeProcessingByType(upload);
+                }
+            });
+        } else {
+            executeProcessingByType(upload);
+        }
+    }
+
     /**
      * 작업 타입에 따라 적절한 스레드풀에서 처리 실행
      */
@@ -126,6 +145,12 @@ public class BatchProcessingService {
             return;
         }
 
+        // AI 응답 대기 같은 비동기 작업은 스레드를 점유하지 않고 작업 자체의 동시 진행 제한을 따름
+        if (selectedJob.isNonBlocking()) {
+            processNonBlocking(upload, selectedJob, isVoiceAnalysisJob(selectedJob) ? "음성분석" : "비동기처리");
+            return;
+        }
+
         // 작업 타입별로 전용 스레드풀과 세마포어 사용
         if (isWavConversionJob(selectedJob)) {
             wavConversionExecutor.execute(() -> processWithSemaphore(upload, selectedJob, wavConversionSemaphore, "WAV변환"));
@@ -196,6 +221,37 @@ public class BatchProcessingService {
         }
     }
 
+    /**
+     * 비동기 작업 처리 - 처리 상태 전이는 작업이 직접 한 번씩 기록하므로 여기서는 결과에 따른 재시도만 처리
+     */
+    private void processNonBlocking(Upload upload, ProcessingJob job, String jobType) {
+        Timer.Sample sample = Timer.start();
+        activeJobs.incrementAndGet();
+        log.info("{} 처리 등록: {} ({})", jobType, upload.getId(), upload.getOriginalFilename());
+
+        job.processAsync(upload).whenComplete((result, error) -> {
+            try {
+                if (error != null) {
+                    log.error("{} 배치 처리 중 예상치 못한 오류 발생: uploadId={}", jobType, upload.getId(), error);
+                    fileUploadService.markProcessingFailed(upload.getId(),
+                            jobType + " 배치 처리 중 예상치 못한 오류: " + error.getMessage());
+                } else if (result.isSucceeded()) {
+                    log.info("{} 처리 성공: {} (작업: {})",
+                            jobType, upload.getId(), job.getClass().getSimpleName());
+                } else if (result.isSkipped()) {
+                    log.info("{} 처리 건너뜀: {} - {}", jobType, upload.getId(), result.message());
+                } else {
+                    handleProcessingFailure(upload, job, jobType + " 처리 실패: " + result.message());
+                }
+            } catch (Exception e) {
+                log.error("{} 처리 결과 반영 실패: uploadId={}", jobType, upload.getId(), e);
+            } finally {
+                sample.stop(processingDurationTimer);
+                activeJobs.decrementAndGet();
+            }
+        });
+    }
+
     // 작업 타입 판별 메서드들
     private boolean isWavConversionJob(ProcessingJob job) {
         return job.getClass().getSimpleName().contains("AudioFormatConversion");
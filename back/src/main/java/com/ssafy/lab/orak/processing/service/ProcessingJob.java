@@ -3,6 +3,9 @@ package com.ssafy.lab.orak.processing.service;
 import com.ssafy.lab.orak.upload.entity.Upload;
 import com.ssafy.lab.orak.upload.enums.ProcessingStatus;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 public interface ProcessingJob {
     
     /**
@@ -11,6 +14,29 @@ public interface ProcessingJob {
      * @return 처리 성공 여부
      */
     boolean process(Upload upload);
+
+    /**
+     * 비동기 처리 작업 실행
+     * 기본 구현은 호출한 스레드에서 process()를 실행한 뒤 완료된 결과를 반환
+     * 비동기 작업(isNonBlocking)은 외부 응답을 기다리는 동안 스레드를 점유하지 않고,
+     * 처리 상태 전이(처리 중/완료/실패)도 작업이 직접 한 번씩 기록함
+     * @param upload 처리할 업로드 파일
+     * @return 처리 결과로 완료되는 stage
+     */
+    default CompletionStage<ProcessingResult> processAsync(Upload upload) {
+        boolean success = process(upload);
+        return CompletableFuture.completedFuture(success
+                ? ProcessingResult.succeeded()
+                : ProcessingResult.failed(getClass().getSimpleName() + " 처리 실패"));
+    }
+
+    /**
+     * processAsync가 스레드를 점유하지 않고 상태 전이를 직접 기록하는 작업인지 여부
+     * true면 실행기는 작업 스레드를 할당하거나 상태를 다시 기록하지 않음
+     */
+    default boolean isNonBlocking() {
+        return false;
+    }
     
     /**
      * 이 작업이 해당 업로드를 처리할 수 있는지 확인
@@ -0,0 +1,40 @@
+package com.ssafy.lab.orak.processing.service;
+
+/**
+ * 처리 작업 결과
+ * @param outcome 처리 결과 구분
+ * @param message 실패/스킵 사유 (성공 시 null)
+ */
+public record ProcessingResult(Outcome outcome, String message) {
+
+    public enum Outcome {
+        SUCCEEDED,
+        FAILED,
+        // 다른 작업자가 이미 처리 중이거나 처리할 상태가 아니어서 건너뜀
+        SKIPPED
+    }
+
+    public static ProcessingResult succeeded() {
+        return new ProcessingResult(Outcome.SUCCEEDED, null);
+    }
+
+    public static ProcessingResult failed(String message) {
+        return new ProcessingResult(Outcome.FAILED, message);
+    }
+
+    public static ProcessingResult skipped(String message) {
+        return new ProcessingResult(Outcome.SKIPPED, message);
+    }
+
+    public boolean isSucceeded() {
+        return outcome == Outcome.SUCCEEDED;
+    }
+
+    public boolean isFailed() {
+        return outcome == Outcome.FAILED;
+    }
+
+    public boolean isSkipped() {
+        return outcome == Outcome.SKIPPED;
+    }
+}
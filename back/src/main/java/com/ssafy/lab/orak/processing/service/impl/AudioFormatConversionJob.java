@@ -6,6 +6,7 @@ import com.ssafy.lab.orak.processing.service.ProcessingJob;
 import com.ssafy.lab.orak.recording.repository.RecordRepository;
 import com.ssafy.lab.orak.recording.util.AudioConverter;
 import com.ssafy.lab.orak.s3.helper.S3Helper;
+import com.ssafy.lab.orak.s3.service.S3CleanupService;
 import com.ssafy.lab.orak.upload.entity.Upload;
 import com.ssafy.lab.orak.upload.enums.ProcessingStatus;
 import com.ssafy.lab.orak.upload.repository.UploadRepository;
@@ -29,6 +30,7 @@ public class AudioFormatConversionJob implements ProcessingJob {
     private final UploadRepository uploadRepository;
     private final RecordRepository recordRepository;
     private final KafkaEventProducer kafkaEventProducer;
+    private final S3CleanupService s3CleanupService;
 
     @Value("${orak.upload.path:/tmp/orak-upload}")
     private String uploadPath;
@@ -119,15 +121,21 @@ public class AudioFormatConversionJob implements ProcessingJob {
             );
 
             // 3. 변환된 파일을 S3에 업로드
+            String originalS3Key = upload.getFullPath();
             uploadConvertedFileToS3(upload, convertedFilePath);
 
             // 4. Upload 엔티티 업데이트
             updateUploadEntity(upload);
 
+            // 5. 원본 파일은 엔티티가 새 키를 가리킨 뒤에 배치 정리 대기열에 등록 (DeleteObjects로 묶어서 삭제)
+            if (!originalS3Key.equals(upload.getFullPath())) {
+                s3CleanupService.scheduleDeletion(originalS3Key, "audio-conversion");
+            }
+
             log.info("실제 오디오 변환 완료: {} -> WAV", upload.getOriginalFilename());
 
         } finally {
-            // 5. 로컬 임시 파일들 정리
+            // 6. 로컬 임시 파일들 정리
             cleanupLocalFiles(localFilePath, convertedFilePath);
         }
     }
@@ -162,65 +170,12 @@ public class AudioFormatConversionJob implements ProcessingJob {
 
         log.info("변환된 파일 S3 업로드: {} -> {}", convertedFilePath, newS3Key);
 
-        // 원본 파일 백업을 위한 임시 키 생성
-        String backupS3Key = originalS3Key + ".backup";
-        boolean backupCreated = false;
-        boolean newFileUploaded = false;
-
         try {
-            // 1. 원본 파일을 백업으로 복사 (롤백용)
-            s3Helper.copyFile(originalS3Key, backupS3Key);
-            backupCreated = true;
-            log.debug("원본 파일 백업 생성: {} -> {}", originalS3Key, backupS3Key);
-
-            // 2. S3에 변환된 파일 업로드
+            // 원본은 엔티티 갱신 전까지 그대로 두므로 백업 복사가 필요 없음
             s3Helper.uploadFile(convertedFile, newS3Key, "audio/wav");
-            newFileUploaded = true;
             log.info("변환된 파일 S3 업로드 완료: {}", newS3Key);
-
-            // 3. 원본 파일 삭제
-            s3Helper.deleteFile(originalS3Key);
-            log.info("원본 파일 삭제 완료: {}", originalS3Key);
-
-            // 4. 백업 파일 삭제 (성공 시)
-            s3Helper.deleteFile(backupS3Key);
-            log.debug("백업 파일 삭제 완료: {}", backupS3Key);
-
-            log.info("S3 파일 교체 완료: {} -> {}", originalS3Key, newS3Key);
-
         } catch (Exception e) {
-            log.error("S3 파일 업로드/교체 실패, 롤백 시작: {}", e.getMessage());
-
-            // 롤백 처리
-            try {
-                // 업로드된 새 파일이 있으면 삭제
-                if (newFileUploaded) {
-                    s3Helper.deleteFile(newS3Key);
-                    log.info("롤백: 업로드된 변환 파일 삭제 완료: {}", newS3Key);
-                }
-
-                // 백업 파일이 있으면 원본으로 복원
-                if (backupCreated) {
-                    // 원본 파일이 삭제되었다면 백업에서 복원
-                    if (!s3Helper.fileExists(originalS3Key)) {
-                        s3Helper.copyFile(backupS3Key, originalS3Key);
-                        log.info("롤백: 백업에서 원본 파일 복원 완료: {} -> {}", backupS3Key, originalS3Key);
-                    }
-                    // 백업 파일 삭제
-                    s3Helper.deleteFile(backupS3Key);
-                    log.info("롤백: 백업 파일 삭제 완료: {}", backupS3Key);
-                }
-
-                log.info("S3 파일 롤백 완료");
-            } catch (Exception rollbackException) {
-                log.error("S3 롤백 실패: {}", rollbackException.getMessage(), rollbackException);
-                // 롤백 실패는 원본 예외에 추가 정보로 포함
-                throw new AudioProcessingException(
-                        "S3 업로드 실패 및 롤백 실패: " + e.getMessage() +
-                        " (롤백 오류: " + rollbackException.getMessage() + ")", e);
-            }
-
-            // 원본 예외 재발생
+            // 실패한 PutObject는 객체를 남기지 않고, 재시도가 같은 키에 다시 쓰므로 새 키는 정리하지 않음
             throw new AudioProcessingException("S3 파일 업로드 실패: " + e.getMessage(), e);
         }
     }
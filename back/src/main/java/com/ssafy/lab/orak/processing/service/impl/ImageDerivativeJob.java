@@ -0,0 +1,120 @@
+package com.ssafy.lab.orak.processing.service.impl;
+
+import com.ssafy.lab.orak.processing.exception.ImageProcessingException;
+import com.ssafy.lab.orak.processing.service.ProcessingJob;
+import com.ssafy.lab.orak.processing.util.ImageDerivativeGenerator;
+import com.ssafy.lab.orak.s3.helper.S3AsyncHelper;
+import com.ssafy.lab.orak.s3.helper.S3Helper;
+import com.ssafy.lab.orak.upload.entity.Upload;
+import com.ssafy.lab.orak.upload.enums.ImageVariant;
+import com.ssafy.lab.orak.upload.enums.ProcessingStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 프로필/배경/앨범 커버 이미지의 크기별 파생본 생성 작업
+ * 클래스명에 "Image"가 포함되어 BatchProcessingService에서 imageProcessingExecutor로 라우팅됨
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class ImageDerivativeJob implements ProcessingJob {
+
+    private static final Set<String> TARGET_DIRECTORIES = Set.of("profiles", "album-covers");
+
+    private final ImageDerivativeGenerator imageDerivativeGenerator;
+    private final S3Helper s3Helper;
+    private final S3AsyncHelper s3AsyncHelper;
+
+    @Value("${orak.upload.path:/tmp/orak-upload}")
+    private String uploadPath;
+
+    @Override
+    public boolean process(Upload upload) {
+        log.info("이미지 파생본 생성 시작: upload: {} ({})", upload.getId(), upload.getOriginalFilename());
+
+        Path localFile = null;
+        try {
+            localFile = downloadFromS3(upload);
+            Map<ImageVariant, byte[]> derivatives = imageDerivativeGenerator.generate(localFile.toFile());
+
+            // 파생본 업로드는 서로 독립적이므로 동시에 보내고 모두 끝날 때까지 대기
+            CompletableFuture<?>[] uploads = derivatives.entrySet().stream()
+                    .map(entry -> s3AsyncHelper.uploadBytes(
+                            entry.getValue(), entry.getKey().s3Key(upload), ImageVariant.CONTENT_TYPE))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(uploads).join();
+
+            log.info("이미지 파생본 생성 완료: upload: {}, 파생본 {}개", upload.getId(), derivatives.size());
+            return true;
+
+        } catch (ImageProcessingException e) {
+            log.error("이미지 파생본 생성 실패: upload: {}", upload.getId(), e);
+            return false;
+        } catch (Exception e) {
+            log.error("이미지 파생본 생성 중 예상치 못한 오류 발생: upload: {}", upload.getId(), e);
+            throw new ImageProcessingException("이미지 파생본 생성 중 예상치 못한 오류가 발생했습니다", e);
+        } finally {
+            cleanupLocalFile(localFile);
+        }
+    }
+
+    @Override
+    public boolean canProcess(Upload upload) {
+        return upload.isImageFile() &&
+               TARGET_DIRECTORIES.contains(upload.getDirectory()) &&
+               (upload.getProcessingStatus() == ProcessingStatus.UPLOADED ||
+                upload.getProcessingStatus() == ProcessingStatus.PROCESSING);
+    }
+
+    @Override
+    public ProcessingStatus getProcessingStatus() {
+        return ProcessingStatus.IMAGE_OPTIMIZING;
+    }
+
+    @Override
+    public ProcessingStatus getCompletedStatus() {
+        return ProcessingStatus.IMAGE_OPTIMIZED;
+    }
+
+    @Override
+    public int getPriority() {
+        return 20; // 원본으로도 표시 가능하므로 오디오 변환보다 낮은 우선순위
+    }
+
+    @Override
+    public long getEstimatedProcessingTimeMs(Upload upload) {
+        // 디코딩 비용은 대략 파일 크기에 비례 (1MB당 약 0.5초)
+        long fileSizeMB = upload.getFileSize() / (1024 * 1024);
+        return Math.max(1000, fileSizeMB * 500); // 최소 1초
+    }
+
+    private Path downloadFromS3(Upload upload) throws Exception {
+        Path downloadDir = Paths.get(uploadPath, "downloads");
+        Files.createDirectories(downloadDir);
+
+        Path localFilePath = downloadDir.resolve(upload.getUuid() + "_" + upload.getOriginalFilename() + "." + upload.getExtension());
+        return Paths.get(s3Helper.downloadFile(upload.getFullPath(), localFilePath.toString()));
+    }
+
+    private void cleanupLocalFile(Path localFile) {
+        if (localFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(localFile);
+        } catch (Exception e) {
+            log.warn("로컬 임시 파일 삭제 실패: {}", localFile, e);
+        }
+    }
+}
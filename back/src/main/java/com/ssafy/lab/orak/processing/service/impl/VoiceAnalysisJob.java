@@ -1,8 +1,11 @@
 package com.ssafy.lab.orak.processing.service.impl;
 
+import com.ssafy.lab.orak.ai.service.RecommendationCacheService;
 import com.ssafy.lab.orak.ai.service.VectorService;
 import com.ssafy.lab.orak.processing.exception.AudioProcessingException;
 import com.ssafy.lab.orak.processing.service.ProcessingJob;
+import com.ssafy.lab.orak.processing.service.ProcessingResult;
+import com.ssafy.lab.orak.processing.util.InFlightLimiter;
 import com.ssafy.lab.orak.recording.entity.Record;
 import com.ssafy.lab.orak.recording.repository.RecordRepository;
 import com.ssafy.lab.orak.upload.entity.Upload;
@@ -12,75 +15,142 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 음성 분석 작업 (AI 서비스 벡터 저장)
+ * - AI 응답을 기다리는 동안 스레드를 점유하지 않고, 동시 진행 수는 voiceAnalysisLimiter로 제한
+ * - 상태 전이는 분석 시작(VOICE_ANALYZING)과 종료(VOICE_ANALYZED / VOICE_ANALYSIS_FAILED)에 UPDATE 한 번씩만 기록
+ */
 @Component
 @RequiredArgsConstructor
 @Log4j2
 public class VoiceAnalysisJob implements ProcessingJob {
 
+    // 분석을 시작할 수 있는 상태 (조건부 UPDATE로 중복 처리 방지)
+    private static final Set<ProcessingStatus> STARTABLE_STATUSES = EnumSet.of(
+            ProcessingStatus.AUDIO_CONVERTED,
+            ProcessingStatus.VOICE_ANALYSIS_PENDING,
+            ProcessingStatus.VOICE_ANALYSIS_FAILED);
+
     private final VectorService vectorService;
     private final UploadRepository uploadRepository;
     private final RecordRepository recordRepository;
+    private final RecommendationCacheService recommendationCacheService;
+    private final InFlightLimiter voiceAnalysisLimiter;
 
     @Override
     public boolean process(Upload upload) {
+        return processAsync(upload).toCompletableFuture().join().isSucceeded();
+    }
+
+    @Override
+    public CompletionStage<ProcessingResult> processAsync(Upload upload) {
+        return voiceAnalysisLimiter.submit(() -> startAnalysis(upload));
+    }
+
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
+
+    /**
+     * 분석 시작: Record 조회와 상태 기록 후 AI 호출을 등록하고 바로 반환
+     * 완료 처리는 AI 응답이 온 뒤 limiter executor에서 실행 (네트워크 스레드에서 DB 작업을 하지 않음)
+     */
+    private CompletableFuture<ProcessingResult> startAnalysis(Upload upload) {
         log.info("음성 분석 처리 시작 - uploadId: {}, 파일명: {}",
                 upload.getId(), upload.getOriginalFilename());
 
+        Record record;
         try {
-            // 1. 상태를 분석 중으로 변경
-            updateStatus(upload, ProcessingStatus.VOICE_ANALYZING);
+            // 1. Record 정보 조회 (userId, songId 필요)
+            record = findRecordByUpload(upload);
+
+            // 2. 상태를 분석 중으로 변경 (이미 다른 작업자가 시작했으면 건너뜀)
+            if (!startStatus(upload)) {
+                log.info("음성 분석 건너뜀 - 이미 처리 중이거나 분석할 상태가 아님: uploadId={}", upload.getId());
+                return CompletableFuture.completedFuture(
+                        ProcessingResult.skipped("음성 분석을 시작할 수 있는 상태가 아닙니다"));
+            }
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(fail(upload, e));
+        }
 
-            // 2. Record 정보 조회 (userId, songId 필요)
-            Record record = findRecordByUpload(upload);
+        // 3. Python AI 서비스를 통한 음성 분석 수행 (배치 writer로 등록, 응답 대기 중 스레드 반납)
+        log.info("Python AI 서비스 호출 시작 - uploadId: {}, userId: {}, songId: {}",
+                upload.getId(), record.getUserId(), record.getSongId());
 
-            // 3. Python AI 서비스를 통한 음성 분석 수행 (동기)
-            log.info("Python AI 서비스 호출 시작 - uploadId: {}, userId: {}, songId: {}",
-                    upload.getId(), record.getUserId(), record.getSongId());
+        CompletableFuture<String> vectorSaved;
+        try {
+            vectorSaved = vectorService.saveRecordVector(record.getUserId(), upload, record.getSongId());
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(fail(upload, e));
+        }
 
-            vectorService.processRecordVectorSync(
-                record.getUserId(),
-                upload.getId(),
-                record.getSongId()
-            );
+        return vectorSaved.handleAsync((vectorId, error) -> error == null
+                        ? complete(upload, record, vectorId)
+                        : fail(upload, unwrap(error)),
+                voiceAnalysisLimiter.getExecutor());
+    }
 
+    private ProcessingResult complete(Upload upload, Record record, String vectorId) {
+        try {
             // 4. 음성 분석 완료 상태로 업데이트
-            updateStatus(upload, ProcessingStatus.VOICE_ANALYZED);
+            transitionStatus(upload, ProcessingStatus.VOICE_ANALYZING, ProcessingStatus.VOICE_ANALYZED);
 
-            log.info("음성 분석 처리 완료 - uploadId: {}, userId: {}, songId: {}",
-                    upload.getId(), record.getUserId(), record.getSongId());
-
-            return true;
+            // 5. 최근 분석 녹음이 바뀌었으므로 추천 캐시 무효화
+            recommendationCacheService.evictUser(record.getUserId());
 
+            log.info("음성 분석 처리 완료 - uploadId: {}, userId: {}, songId: {}, vectorId: {}",
+                    upload.getId(), record.getUserId(), record.getSongId(), vectorId);
+            return ProcessingResult.succeeded();
         } catch (Exception e) {
-            log.error("음성 분석 처리 실패 - uploadId: {}", upload.getId(), e);
-
-            // 실패 상태로 업데이트
-            try {
-                updateStatusWithError(upload, ProcessingStatus.VOICE_ANALYSIS_FAILED, e.getMessage());
-            } catch (Exception updateException) {
-                log.error("음성 분석 실패 상태 업데이트 중 오류 - uploadId: {}",
-                        upload.getId(), updateException);
-            }
+            return fail(upload, e);
+        }
+    }
 
-            return false;
+    private ProcessingResult fail(Upload upload, Throwable error) {
+        log.error("음성 분석 처리 실패 - uploadId: {}", upload.getId(), error);
+
+        // 실패 상태로 업데이트
+        try {
+            updateStatusWithError(upload, ProcessingStatus.VOICE_ANALYSIS_FAILED, error.getMessage());
+        } catch (Exception updateException) {
+            log.error("음성 분석 실패 상태 업데이트 중 오류 - uploadId: {}",
+                    upload.getId(), updateException);
         }
+
+        return ProcessingResult.failed(error.getMessage() != null ? error.getMessage() : "음성 분석 실패");
+    }
+
+    private Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
     }
 
     @Override
     public boolean canProcess(Upload upload) {
         // WAV 변환이 완료된 음성 파일만 처리
-        boolean canProcess = upload.isAudioFile() &&
-                            upload.getProcessingStatus() == ProcessingStatus.AUDIO_CONVERTED &&
-                            hasAssociatedRecord(upload);
-
-        if (!canProcess && upload.isAudioFile()) {
-            log.debug("음성 분석 처리 불가 - uploadId: {}, 현재상태: {}, Record존재: {}",
-                    upload.getId(),
-                    upload.getProcessingStatus(),
-                    hasAssociatedRecord(upload));
+        if (!upload.isAudioFile()) {
+            return false;
+        }
+        if (upload.getProcessingStatus() != ProcessingStatus.AUDIO_CONVERTED) {
+            log.debug("음성 분석 처리 불가 - uploadId: {}, 현재상태: {}",
+                    upload.getId(), upload.getProcessingStatus());
+            return false;
         }
 
-        return canProcess;
+        // Record 존재 확인은 한 번만 조회
+        boolean hasRecord = hasAssociatedRecord(upload);
+        if (!hasRecord) {
+            log.debug("음성 분석 처리 불가 - uploadId: {}, Record존재: false", upload.getId());
+        }
+        return hasRecord;
     }
 
     @Override
@@ -136,40 +206,42 @@ public class VoiceAnalysisJob implements ProcessingJob {
     }
 
     /**
-     * 처리 상태 업데이트 (null 체크 포함)
+     * 분석 시작 상태 기록 (조건부 UPDATE 한 번)
+     * @return 이 작업자가 분석을 시작했는지 여부
      */
-    private void updateStatus(Upload upload, ProcessingStatus status) {
-        if (upload == null) {
-            log.error("상태 업데이트 실패 - Upload가 null입니다");
-            return;
-        }
-        if (status == null) {
-            log.error("상태 업데이트 실패 - ProcessingStatus가 null입니다");
-            return;
+    private boolean startStatus(Upload upload) {
+        int updated = uploadRepository.transitionStatus(upload.getId(), STARTABLE_STATUSES,
+                ProcessingStatus.VOICE_ANALYZING, LocalDateTime.now());
+        if (updated == 0) {
+            return false;
         }
+        upload.setProcessingStatus(ProcessingStatus.VOICE_ANALYZING);
+        log.info("음성 분석 상태 업데이트 - uploadId: {}, 상태: {}", upload.getId(), ProcessingStatus.VOICE_ANALYZING);
+        return true;
+    }
 
+    /**
+     * 처리 상태 전이 (UPDATE 한 번)
+     */
+    private void transitionStatus(Upload upload, ProcessingStatus expected, ProcessingStatus status) {
+        int updated = uploadRepository.transitionStatus(upload.getId(), EnumSet.of(expected), status, LocalDateTime.now());
+        if (updated == 0) {
+            throw new AudioProcessingException(
+                    "음성 분석 상태가 변경되어 완료 상태를 기록할 수 없습니다 - uploadId: " + upload.getId());
+        }
         upload.setProcessingStatus(status);
-        uploadRepository.save(upload);
         log.info("음성 분석 상태 업데이트 - uploadId: {}, 상태: {}", upload.getId(), status);
     }
 
     /**
-     * 에러 메시지와 함께 상태 업데이트 (null 체크 포함)
+     * 에러 메시지와 함께 상태 업데이트 (UPDATE 한 번)
      */
     private void updateStatusWithError(Upload upload, ProcessingStatus status, String errorMessage) {
-        if (upload == null) {
-            log.error("에러 상태 업데이트 실패 - Upload가 null입니다");
-            return;
-        }
-        if (status == null) {
-            log.error("에러 상태 업데이트 실패 - ProcessingStatus가 null입니다");
-            return;
-        }
-
+        String message = errorMessage != null ? errorMessage : "알 수 없는 오류";
+        uploadRepository.markStatusFailed(upload.getId(), status, message, LocalDateTime.now());
         upload.setProcessingStatus(status);
-        upload.setProcessingErrorMessage(errorMessage != null ? errorMessage : "알 수 없는 오류");
-        uploadRepository.save(upload);
+        upload.setProcessingErrorMessage(message);
         log.error("음성 분석 에러 상태 업데이트 - uploadId: {}, 상태: {}, 에러: {}",
                 upload.getId(), status, errorMessage);
     }
-}
\ No newline at end of file
+}
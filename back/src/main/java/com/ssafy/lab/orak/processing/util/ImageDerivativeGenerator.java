@@ -0,0 +1,129 @@
+package com.ssafy.lab.orak.processing.util;
+
+import com.ssafy.lab.orak.processing.exception.ImageProcessingException;
+import com.ssafy.lab.orak.upload.enums.ImageVariant;
+import lombok.extern.log4j.Log4j2;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 원본 이미지에서 크기 버킷별 JPEG 파생본 생성
+ * - EXIF Orientation 반영 (Thumbnailator가 파일 입력 시 자동 적용)
+ * - 원본은 한 번만 디코딩하고, 큰 버킷 결과에서 작은 버킷을 차례로 축소
+ * - 원본보다 큰 버킷은 확대하지 않고 원본 크기로 인코딩
+ */
+@Component
+@Log4j2
+public class ImageDerivativeGenerator {
+
+    @Value("${processing.image.jpeg-quality:0.82}")
+    private float jpegQuality = 0.82f;
+
+    // 압축 폭탄 방지용 최대 픽셀 수 (기본 40MP)
+    @Value("${processing.image.max-source-pixels:40000000}")
+    private long maxSourcePixels = 40_000_000L;
+
+    public Map<ImageVariant, byte[]> generate(File source) {
+        checkSourceDimensions(source);
+
+        try {
+            BufferedImage current = toRgb(Thumbnails.of(source).scale(1.0).asBufferedImage());
+            Map<ImageVariant, byte[]> derivatives = new EnumMap<>(ImageVariant.class);
+
+            List<ImageVariant> largestFirst = Stream.of(ImageVariant.values())
+                    .sorted(Comparator.comparingInt(ImageVariant::getMaxEdge).reversed())
+                    .toList();
+
+            byte[] previousBytes = null;
+            int previousEdge = -1;
+            for (ImageVariant variant : largestFirst) {
+                int currentEdge = Math.max(current.getWidth(), current.getHeight());
+                int targetEdge = Math.min(variant.getMaxEdge(), currentEdge);
+
+                if (targetEdge == previousEdge) {
+                    // 원본이 작아 이전 버킷과 크기가 같으면 같은 결과 재사용
+                    derivatives.put(variant, previousBytes);
+                    continue;
+                }
+                if (targetEdge < currentEdge) {
+                    current = Thumbnails.of(current).size(targetEdge, targetEdge).asBufferedImage();
+                }
+
+                previousBytes = encodeJpeg(current);
+                previousEdge = targetEdge;
+                derivatives.put(variant, previousBytes);
+            }
+            return derivatives;
+
+        } catch (IOException e) {
+            throw new ImageProcessingException("이미지 파생본 생성에 실패했습니다: " + source.getName(), e);
+        }
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Thumbnails.of(image)
+                .scale(1.0)
+                .outputFormat(ImageVariant.FORMAT)
+                .outputQuality(jpegQuality)
+                .toOutputStream(out);
+        return out.toByteArray();
+    }
+
+    // JPEG은 알파 채널을 지원하지 않으므로 투명 영역은 흰 배경으로 합성
+    private BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+
+    // 디코딩 전에 헤더만 읽어 크기 확인
+    private void checkSourceDimensions(File source) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source)) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new ImageProcessingException("지원하지 않는 이미지 형식입니다: " + source.getName());
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxSourcePixels) {
+                    throw new ImageProcessingException(
+                            "이미지 해상도가 너무 큽니다: " + reader.getWidth(0) + "x" + reader.getHeight(0));
+                }
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new ImageProcessingException("이미지 정보를 읽을 수 없습니다: " + source.getName(), e);
+        }
+    }
+}
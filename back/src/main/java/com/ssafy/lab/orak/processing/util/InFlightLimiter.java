@@ -0,0 +1,121 @@
+package com.ssafy.lab.orak.processing.util;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 스레드 수와 무관하게 동시에 진행 중인 비동기 작업 수를 제한
+ * - 작업의 동기 구간(시작 부분)만 executor에서 실행하고, 외부 응답을 기다리는 동안에는 스레드를 점유하지 않음
+ * - 한도를 넘는 작업은 대기열에서 기다렸다가 앞선 작업이 끝나는 즉시 시작
+ */
+@Log4j2
+public class InFlightLimiter {
+
+    private final String name;
+    private final int maxInFlight;
+    private final Executor executor;
+
+    private final AtomicInteger inFlight = new AtomicInteger(0);
+    private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+
+    public InFlightLimiter(String name, int maxInFlight, Executor executor) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight는 1 이상이어야 합니다: " + maxInFlight);
+        }
+        this.name = name;
+        this.maxInFlight = maxInFlight;
+        this.executor = executor;
+    }
+
+    /**
+     * 작업 등록
+     * @param task 진행 중인 작업을 나타내는 stage를 반환하는 작업 (executor 스레드에서 호출됨)
+     * @return 작업 결과로 완료되는 future
+     */
+    public <T> CompletableFuture<T> submit(Supplier<? extends CompletionStage<T>> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        waiting.add(() -> start(task, result));
+        drain();
+        return result;
+    }
+
+    /**
+     * 작업의 후속 처리(상태 기록 등)를 실행할 executor
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getWaiting() {
+        return waiting.size();
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    private void drain() {
+        while (!waiting.isEmpty()) {
+            int current = inFlight.get();
+            if (current >= maxInFlight) {
+                return;
+            }
+            if (!inFlight.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            Runnable next = waiting.poll();
+            if (next == null) {
+                // 다른 스레드가 먼저 꺼내감 - 슬롯 반납 후 대기열 재확인
+                inFlight.decrementAndGet();
+                continue;
+            }
+            next.run();
+        }
+    }
+
+    private <T> void start(Supplier<? extends CompletionStage<T>> task, CompletableFuture<T> result) {
+        try {
+            executor.execute(() -> {
+                CompletionStage<T> stage;
+                try {
+                    stage = task.get();
+                } catch (Throwable e) {
+                    stage = CompletableFuture.failedFuture(e);
+                }
+                if (stage == null) {
+                    stage = CompletableFuture.failedFuture(new IllegalStateException("작업이 stage를 반환하지 않았습니다"));
+                }
+                stage.whenComplete((value, error) -> {
+                    // 결과를 전달하기 전에 슬롯을 반납해야 후속 작업이 바로 시작됨
+                    release();
+                    if (error != null) {
+                        result.completeExceptionally(error);
+                    } else {
+                        result.complete(value);
+                    }
+                });
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("{} 작업 시작 거부 - 진행 중: {}, 대기: {}", name, inFlight.get(), waiting.size());
+            release();
+            result.completeExceptionally(e);
+        }
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        drain();
+    }
+}
@@ -1,6 +1,7 @@
 package com.ssafy.lab.orak.profile.controller;
 
 import com.ssafy.lab.orak.auth.service.CustomUserPrincipal;
+import com.ssafy.lab.orak.profile.dto.AlbumCursorPageResponseDTO;
 import com.ssafy.lab.orak.profile.dto.LikedAlbumsResponseDTO;
 import com.ssafy.lab.orak.profile.dto.ProfileRequestDTO;
 import com.ssafy.lab.orak.profile.dto.ProfileResponseDTO;
@@ -125,4 +126,24 @@ public class ProfileController {
         return ResponseEntity.ok(response);
     }
 
+    //좋아요한 앨범 목록 (커서, 최근 좋아요순)
+    @GetMapping("/mypage/liked-albums/cursor")
+    public ResponseEntity<AlbumCursorPageResponseDTO> getLikedAlbumsByCursor(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        AlbumCursorPageResponseDTO response = profileService.getLikedAlbumsByCursor(principal.getUserId(), cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    //내 앨범 목록 (커서, 최신순)
+    @GetMapping("/mypage/albums/cursor")
+    public ResponseEntity<AlbumCursorPageResponseDTO> getMyAlbumsByCursor(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        AlbumCursorPageResponseDTO response = profileService.getMyAlbumsByCursor(principal.getUserId(), cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
 }
@@ -0,0 +1,20 @@
+package com.ssafy.lab.orak.profile.dto;
+
+import com.ssafy.lab.orak.album.dto.AlbumResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AlbumCursorPageResponseDTO {
+    private List<AlbumResponseDto> albums;
+    // 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+    private String nextCursor;
+    private boolean hasNext;
+}
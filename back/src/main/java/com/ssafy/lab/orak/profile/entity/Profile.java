@@ -3,6 +3,7 @@ package com.ssafy.lab.orak.profile.entity;
 import com.ssafy.lab.orak.auth.entity.User;
 import com.ssafy.lab.orak.common.entity.BaseEntity;
 import com.ssafy.lab.orak.upload.entity.Upload;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -16,10 +17,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "profile")
 @Table(name = "profiles")
 @Getter
 @Builder
@@ -1,15 +1,37 @@
 package com.ssafy.lab.orak.profile.repository;
 
 import com.ssafy.lab.orak.profile.entity.Profile;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ProfileRepository extends JpaRepository<Profile, Long> {
 
+    // 요청마다 반복되는 사용자 → 프로필 조회는 쿼리 캐시 (결과 id로 2차 캐시의 Profile을 읽음)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Profile> findByUser_Id(Long userId);
 
     boolean existsByNickname(String nickname);
 
+    // 요청 단위 로더용: 여러 사용자의 프로필을 사용자/프로필 이미지와 함께 IN 한 번으로 조회
+    @Query("SELECT p FROM Profile p JOIN FETCH p.user LEFT JOIN FETCH p.profileImageUpload WHERE p.user.id IN :userIds")
+    List<Profile> findAllByUserIdInWithImage(@Param("userIds") Collection<Long> userIds);
+
+    // 닉네임 후보 중 이미 쓰이는 것 (후보 묶음을 IN 한 번으로 확인)
+    @Query("SELECT p.nickname FROM Profile p WHERE p.nickname IN :nicknames")
+    List<String> findExistingNicknames(@Param("nicknames") Collection<String> nicknames);
+
+    // 블룸 필터 적재용 (닉네임 유니크 인덱스 순서로 keyset 페이지네이션)
+    @Query("SELECT p.nickname FROM Profile p WHERE p.nickname > :after ORDER BY p.nickname")
+    List<String> findNicknamesAfter(@Param("after") String after, Pageable pageable);
+
 }
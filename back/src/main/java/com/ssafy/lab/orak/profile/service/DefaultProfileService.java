@@ -4,35 +4,72 @@ import com.ssafy.lab.orak.auth.entity.User;
 import com.ssafy.lab.orak.profile.entity.Profile;
 import com.ssafy.lab.orak.profile.repository.ProfileRepository;
 import com.ssafy.lab.orak.profile.util.NicknameGenerator;
-import com.ssafy.lab.orak.upload.entity.Upload;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Log4j2
 public class DefaultProfileService {
 
+    // 후보 묶음을 다시 받는 최대 횟수 (묶음 안 후보가 모두 동시 가입에 선점된 경우)
+    private static final int MAX_ALLOCATION_ROUNDS = 3;
+
     private final ProfileRepository profileRepository;
     private final NicknameGenerator nicknameGenerator;
     private final ProfileImageService profileImageService;
+    private final PlatformTransactionManager transactionManager;
 
-    @Transactional
-    public Profile createDefaultProfile(User user) {
-        String defaultNickname = nicknameGenerator.generateUniqueNickname();
-
-        Profile profile = Profile.builder()
-                .user(user)
-                .nickname(defaultNickname)
-                .profileImageUpload(null) // 기본 이미지는 null로 유지
-                .build();
+    private TransactionTemplate transactionTemplate;
 
-        Profile savedProfile = profileRepository.save(profile);
-        log.info("기본 프로필 생성 완료 - userId: {}, nickname: {} (기본 이미지 사용)",
-                user.getId(), defaultNickname);
+    @PostConstruct
+    void initTransactionTemplate() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
-        return savedProfile;
+    /**
+     * 기본 닉네임으로 프로필 생성
+     * - 닉네임은 유니크 인덱스로 확정: 저장이 충돌하면 (동시 가입이 먼저 가져감) 같은 묶음의 다음 후보로 재시도
+     * - 후보마다 별도 트랜잭션으로 저장하므로 호출자 트랜잭션 밖에서 호출해야 함 (가입 시 사용자 저장 후 호출)
+     */
+    public Profile createDefaultProfile(User user) {
+        int attempts = 0;
+        for (int round = 1; round <= MAX_ALLOCATION_ROUNDS; round++) {
+            List<String> candidates = nicknameGenerator.generateAvailableCandidates();
+            for (String nickname : candidates) {
+                attempts++;
+                try {
+                    Profile savedProfile = transactionTemplate.execute(status -> profileRepository.saveAndFlush(
+                            Profile.builder()
+                                    .user(user)
+                                    .nickname(nickname)
+                                    .profileImageUpload(null) // 기본 이미지는 null로 유지
+                                    .build()));
+                    nicknameGenerator.markTaken(nickname);
+                    log.info("기본 프로필 생성 완료 - userId: {}, nickname: {} (저장 시도 {}회, 기본 이미지 사용)",
+                            user.getId(), nickname, attempts);
+                    return savedProfile;
+                } catch (DataIntegrityViolationException e) {
+                    if (!profileRepository.existsByNickname(nickname)) {
+                        // 닉네임이 아닌 다른 제약 위반은 재시도해도 같으므로 그대로 던짐
+                        throw e;
+                    }
+                    nicknameGenerator.markTaken(nickname);
+                    log.warn("닉네임 선점 충돌 - userId: {}, nickname: {} (저장 시도 {}회)", user.getId(), nickname, attempts);
+                } catch (ConcurrencyFailureException e) {
+                    // 같은 닉네임을 동시에 저장하다 잠금 충돌 (교착 상태 등) → 다음 후보
+                    log.warn("닉네임 저장 잠금 충돌 - userId: {}, nickname: {} (저장 시도 {}회)", user.getId(), nickname, attempts);
+                }
+            }
+        }
+        throw new IllegalStateException("기본 닉네임을 할당하지 못했습니다: userId=" + user.getId());
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,14 @@
 package com.ssafy.lab.orak.profile.service;
 
+import com.ssafy.lab.orak.processing.service.BatchProcessingService;
 import com.ssafy.lab.orak.profile.exception.ProfileImageDeleteException;
 import com.ssafy.lab.orak.s3.helper.S3Helper;
+import com.ssafy.lab.orak.s3.service.S3CleanupService;
 import com.ssafy.lab.orak.s3.util.LocalUploader;
 import com.ssafy.lab.orak.s3.util.S3Uploader;
 import com.ssafy.lab.orak.upload.entity.Upload;
+import com.ssafy.lab.orak.upload.enums.ImageVariant;
+import com.ssafy.lab.orak.upload.enums.ProcessingStatus;
 import com.ssafy.lab.orak.upload.repository.UploadRepository;
 import com.ssafy.lab.orak.upload.service.FileUploadService;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +32,8 @@ public class ProfileImageService {
     private final S3Helper s3Helper;
     private final S3Uploader s3Uploader;
     private final LocalUploader localUploader;
+    private final BatchProcessingService batchProcessingService;
+    private final S3CleanupService s3CleanupService;
     
     @Value("${app.profile.image.base-url}")
     private String baseUrl;
@@ -56,6 +62,9 @@ public class ProfileImageService {
                 log.warn("로컬 임시 파일 삭제 실패: {}", localFilePath, e);
             }
 
+            // 4. 크기별 파생본 생성 예약 (완료 전까지는 원본으로 표시)
+            batchProcessingService.submit(upload);
+
             log.info("프로필 이미지 업로드 완료 - userId: {}, uploadId: {}", userId, upload.getId());
             return upload;
         } catch (Exception e) {
@@ -75,6 +84,17 @@ public class ProfileImageService {
         return s3Helper.generatePresignedUrl(s3Key, Duration.ofHours(24));
     }
 
+    /**
+     * 표시 크기에 맞는 파생본 URL (파생본 생성 전이면 원본 URL)
+     */
+    public String getProfileImageUrl(Upload upload, ImageVariant variant) {
+        if (upload == null) {
+            return getRandomDefaultImageUrl();
+        }
+
+        return s3Helper.generatePresignedUrl(variant.resolveS3Key(upload), Duration.ofHours(24));
+    }
+
 
     public void deleteProfileImage(Upload upload) {
         deleteProfileImage(upload, false);
@@ -97,7 +117,12 @@ public class ProfileImageService {
             // 1. S3에서 파일 삭제
             s3Uploader.removeS3File(s3Key);
 
-            // 2. Upload 엔티티 삭제
+            // 2. 파생본은 정리 대기열에 등록 (DeleteObjects로 묶어서 삭제)
+            if (upload.getProcessingStatus() == ProcessingStatus.IMAGE_OPTIMIZED) {
+                s3CleanupService.scheduleDeletions(ImageVariant.s3Keys(upload), "image-variant");
+            }
+
+            // 3. Upload 엔티티 삭제
             uploadRepository.delete(upload);
 
             log.info("프로필 이미지 삭제 완료 - uploadId: {}, s3Key: {}", upload.getId(), s3Key);
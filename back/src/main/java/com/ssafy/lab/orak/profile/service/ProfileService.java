@@ -1,5 +1,6 @@
 package com.ssafy.lab.orak.profile.service;
 
+import com.ssafy.lab.orak.profile.dto.AlbumCursorPageResponseDTO;
 import com.ssafy.lab.orak.profile.dto.LikedAlbumsResponseDTO;
 import com.ssafy.lab.orak.profile.dto.ProfileRequestDTO;
 import com.ssafy.lab.orak.profile.dto.ProfileResponseDTO;
@@ -29,4 +30,8 @@ public interface ProfileService {
     LikedAlbumsResponseDTO getLikedAlbums(Long userId, Pageable pageable);
 
     UserAlbumsResponseDTO getMyAlbums(Long userId, Pageable pageable);
+
+    AlbumCursorPageResponseDTO getLikedAlbumsByCursor(Long userId, String cursor, int size);
+
+    AlbumCursorPageResponseDTO getMyAlbumsByCursor(Long userId, String cursor, int size);
 }
@@ -1,12 +1,17 @@
 package com.ssafy.lab.orak.profile.service;
 
+import com.ssafy.lab.orak.album.dto.AlbumCardChangedEvent;
 import com.ssafy.lab.orak.album.dto.AlbumResponseDto;
-import com.ssafy.lab.orak.album.entity.Album;
+import com.ssafy.lab.orak.album.dto.AlbumCardRow;
+import com.ssafy.lab.orak.album.entity.AlbumCard;
+import com.ssafy.lab.orak.album.mapper.AlbumCardMapper;
+import com.ssafy.lab.orak.album.repository.AlbumCardRepository;
 import com.ssafy.lab.orak.album.repository.AlbumRepository;
 import com.ssafy.lab.orak.auth.entity.User;
 import com.ssafy.lab.orak.auth.service.UserService;
 import com.ssafy.lab.orak.follow.repository.FollowRepository;
 import com.ssafy.lab.orak.like.repository.LikeRepository;
+import com.ssafy.lab.orak.profile.dto.AlbumCursorPageResponseDTO;
 import com.ssafy.lab.orak.profile.dto.LikedAlbumsResponseDTO;
 import com.ssafy.lab.orak.profile.dto.ProfileRequestDTO;
 import com.ssafy.lab.orak.profile.dto.ProfileResponseDTO;
@@ -16,21 +21,32 @@ import com.ssafy.lab.orak.profile.entity.Profile;
 import com.ssafy.lab.orak.profile.exception.ProfileNotFoundException;
 import com.ssafy.lab.orak.profile.repository.ProfileRepository;
 import com.ssafy.lab.orak.upload.entity.Upload;
+import com.ssafy.lab.orak.upload.enums.ImageVariant;
 import com.ssafy.lab.orak.upload.service.FileUploadService;
 import org.springframework.web.multipart.MultipartFile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Log4j2
 @Service
 @RequiredArgsConstructor
 public class ProfileServiceImpl implements ProfileService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ProfileRepository profileRepository;
     private final UserService userService;
     private final ProfileImageService profileImageService;
@@ -38,6 +54,9 @@ public class ProfileServiceImpl implements ProfileService {
     private final AlbumRepository albumRepository;
     private final LikeRepository likeRepository;
     private final FileUploadService fileUploadService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AlbumCardRepository albumCardRepository;
+    private final AlbumCardMapper albumCardMapper;
 
     @Override
     @Transactional(readOnly = true)
@@ -72,6 +91,8 @@ public class ProfileServiceImpl implements ProfileService {
         profile.update(null, request.getNickname(), request.getGender(), request.getDescription());
 
         Profile saved = profileRepository.save(profile);
+        // 닉네임이 바뀌면 이 사용자의 앨범 카드도 함께 갱신
+        eventPublisher.publishEvent(AlbumCardChangedEvent.ofOwner(userId));
         log.info("프로필 upsert 완료 - userId: {} profileId: {}", userId, saved.getId());
         return toResponseDTO(saved);
     }
@@ -97,6 +118,7 @@ public class ProfileServiceImpl implements ProfileService {
             // 2. 프로필 업데이트 (DB 트랜잭션 내에서)
             profile.update(newImageUpload, nickname, gender, description);
             Profile saved = profileRepository.save(profile);
+            eventPublisher.publishEvent(AlbumCardChangedEvent.ofOwner(userId));
 
             // 3. 성공 시에만 기존 이미지 삭제 (트랜잭션 커밋 후)
             if (oldImageUpload != null && !oldImageUpload.getId().equals(newImageUpload.getId())) {
@@ -229,76 +251,141 @@ public class ProfileServiceImpl implements ProfileService {
     @Transactional(readOnly = true)
     public LikedAlbumsResponseDTO getLikedAlbums(Long userId, Pageable pageable) {
         Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
-        Page<Album> likedAlbums = likeRepository.findLikedAlbumsByUserId(userId, sortedPageable);
-        Page<AlbumResponseDto> albumDtos = likedAlbums.map(album -> {
-            String coverImageUrl;
-            if (album.getUploadId() != null) {
-                try {
-                    coverImageUrl = fileUploadService.getFileUrl(album.getUploadId());
-                } catch (Exception e) {
-                    log.warn("Failed to get cover image URL for album: {}", album.getId(), e);
-                    coverImageUrl = null;
-                }
-            } else {
-                coverImageUrl = null;
-            }
+        Page<AlbumCardRow> rows = likeRepository.findLikedCardRows(userId, sortedPageable);
+        return LikedAlbumsResponseDTO.from(toAlbumResponseDtos(rows));
+    }
 
-            String userNickname = "알 수 없는 사용자";
-            String userProfileImageUrl = null;
-            try {
-                ProfileResponseDTO profile = getProfileByUserId(album.getUserId());
-                if (profile != null) {
-                    userNickname = profile.getNickname() != null ? profile.getNickname() : "사용자 " + album.getUserId();
-                    userProfileImageUrl = profile.getProfileImageUrl();
-                }
-            } catch (Exception e) {
-                log.warn("Failed to get user profile for userId: {}", album.getUserId(), e);
-                userNickname = "사용자 " + album.getUserId();
-            }
+    @Override
+    @Transactional(readOnly = true)
+    public UserAlbumsResponseDTO getMyAlbums(Long userId, Pageable pageable) {
+        Page<AlbumCardRow> rows = albumCardRepository.findCardRowsByUserId(userId,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        return UserAlbumsResponseDTO.from(toAlbumResponseDtos(rows));
+    }
 
-            return AlbumResponseDto.from(album, coverImageUrl, userNickname, userProfileImageUrl);
-        });
-        return LikedAlbumsResponseDTO.from(albumDtos);
+    @Override
+    @Transactional(readOnly = true)
+    public AlbumCursorPageResponseDTO getLikedAlbumsByCursor(Long userId, String cursor, int size) {
+        validateCursorPageSize(size);
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<AlbumCardRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = likeRepository.findLatestLikedCardRows(userId, limit);
+        } else {
+            AlbumCursor after = AlbumCursor.decode(cursor);
+            rows = likeRepository.findLikedCardRowsBefore(userId, after.at(), after.id(), limit);
+        }
+        return toCursorPage(rows, size);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public UserAlbumsResponseDTO getMyAlbums(Long userId, Pageable pageable) {
-        Page<Album> userAlbums = albumRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
-        Page<AlbumResponseDto> albumDtos = userAlbums.map(album -> {
-            String coverImageUrl;
-            if (album.getUploadId() != null) {
-                try {
-                    coverImageUrl = fileUploadService.getFileUrl(album.getUploadId());
-                } catch (Exception e) {
-                    log.warn("Failed to get cover image URL for album: {}", album.getId(), e);
-                    coverImageUrl = null;
-                }
-            } else {
-                coverImageUrl = null;
+    public AlbumCursorPageResponseDTO getMyAlbumsByCursor(Long userId, String cursor, int size) {
+        validateCursorPageSize(size);
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<AlbumCardRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = albumCardRepository.findLatestCardRowsByUserId(userId, limit);
+        } else {
+            AlbumCursor after = AlbumCursor.decode(cursor);
+            rows = albumCardRepository.findCardRowsByUserIdBefore(userId, after.at(), after.id(), limit);
+        }
+        return toCursorPage(rows, size);
+    }
+
+    private void validateCursorPageSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~" + MAX_CURSOR_PAGE_SIZE + " 사이여야 합니다.");
+        }
+    }
+
+    // size + 1개를 읽어 다음 페이지 여부 판단, 마지막 행의 (시각, ID)가 다음 커서
+    private AlbumCursorPageResponseDTO toCursorPage(List<AlbumCardRow> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<AlbumCardRow> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            AlbumCardRow last = page.get(page.size() - 1);
+            nextCursor = new AlbumCursor(last.cursorAt(), last.cursorId()).encode();
+        }
+        return AlbumCursorPageResponseDTO.builder()
+                .albums(toAlbumResponseDtos(page))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private Page<AlbumResponseDto> toAlbumResponseDtos(Page<AlbumCardRow> rows) {
+        Map<Long, String> imageUrls = signAlbumImages(rows.getContent());
+        return rows.map(row -> toAlbumResponseDto(row, imageUrls));
+    }
+
+    private List<AlbumResponseDto> toAlbumResponseDtos(List<AlbumCardRow> rows) {
+        Map<Long, String> imageUrls = signAlbumImages(rows);
+        return rows.stream().map(row -> toAlbumResponseDto(row, imageUrls)).toList();
+    }
+
+    // 쿼리에서 함께 읽은 커버/프로필 이미지 업로드를 한 번에 서명 (추가 조회 없음)
+    private Map<Long, String> signAlbumImages(List<AlbumCardRow> rows) {
+        Map<Long, Upload> uploads = new HashMap<>();
+        for (AlbumCardRow row : rows) {
+            if (row.coverUpload() != null) {
+                uploads.put(row.coverUpload().getId(), row.coverUpload());
+            }
+            if (row.ownerProfileImageUpload() != null) {
+                uploads.put(row.ownerProfileImageUpload().getId(), row.ownerProfileImageUpload());
             }
+        }
+        if (uploads.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return fileUploadService.getFileUrls(uploads.values(), ImageVariant.MEDIUM);
+        } catch (Exception e) {
+            log.warn("Failed to generate image URLs for albums: {}", uploads.keySet(), e);
+            return Map.of();
+        }
+    }
+
+    // 커버가 없으면 null, 프로필이 없으면 null, 프로필 이미지가 없으면 기본 프로필 이미지 (기존 마이페이지와 같은 규칙)
+    private AlbumResponseDto toAlbumResponseDto(AlbumCardRow row, Map<Long, String> imageUrls) {
+        AlbumCard card = row.card();
+        String coverImageUrl = card.getCoverUploadId() != null ? imageUrls.get(card.getCoverUploadId()) : null;
+        String userProfileImageUrl = null;
+        if (card.hasOwnerProfile()) {
+            userProfileImageUrl = card.getOwnerProfileImageUploadId() != null
+                    ? imageUrls.get(card.getOwnerProfileImageUploadId())
+                    : profileImageService.getRandomDefaultImageUrl();
+        }
+        return albumCardMapper.toResponseDto(card, coverImageUrl, userProfileImageUrl);
+    }
 
-            String userNickname = "알 수 없는 사용자";
-            String userProfileImageUrl = null;
+    /**
+     * 마이페이지 앨범 목록 커서 (정렬 시각 + 같은 시각 구분용 ID)
+     * - base64url("시각_ID"), 잘못된 커서는 400
+     */
+    private record AlbumCursor(LocalDateTime at, Long id) {
+
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((at + "_" + id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        static AlbumCursor decode(String cursor) {
             try {
-                ProfileResponseDTO profile = getProfileByUserId(album.getUserId());
-                if (profile != null) {
-                    userNickname = profile.getNickname() != null ? profile.getNickname() : "사용자 " + album.getUserId();
-                    userProfileImageUrl = profile.getProfileImageUrl();
-                }
-            } catch (Exception e) {
-                log.warn("Failed to get user profile for userId: {}", album.getUserId(), e);
-                userNickname = "사용자 " + album.getUserId();
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('_');
+                return new AlbumCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("올바르지 않은 커서입니다.");
             }
-
-            return AlbumResponseDto.from(album, coverImageUrl, userNickname, userProfileImageUrl);
-        });
-        return UserAlbumsResponseDTO.from(albumDtos);
+        }
     }
 
     private ProfileResponseDTO toResponseDTO(Profile profile) {
-        String profileImageUrl = profileImageService.getProfileImageUrl(profile.getProfileImageUpload());
-        String backgroundImageUrl = profileImageService.getProfileImageUrl(profile.getBackgroundImageUpload());
+        String profileImageUrl = profileImageService.getProfileImageUrl(profile.getProfileImageUpload(), ImageVariant.MEDIUM);
+        String backgroundImageUrl = profileImageService.getProfileImageUrl(profile.getBackgroundImageUpload(), ImageVariant.LARGE);
 
         return ProfileResponseDTO.builder()
                 .id(profile.getId())
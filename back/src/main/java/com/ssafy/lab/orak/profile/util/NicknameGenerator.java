@@ -3,10 +3,25 @@ package com.ssafy.lab.orak.profile.util;
 import com.ssafy.lab.orak.profile.repository.ProfileRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * 기본 닉네임 후보 생성
+ * - 후보를 묶음으로 만들어 블룸 필터로 사용 중인 것을 먼저 거르고, 남은 후보는 IN 한 번으로 확인
+ * - 최종 확정은 닉네임 유니크 인덱스 (DefaultProfileService가 저장 충돌 시 다음 후보로 재시도)
+ * - 블룸 필터는 시작 시 적재하고 할당/충돌 때 갱신, 다른 인스턴스 변경분은 주기적 재적재로 반영
+ */
 @Component
 @RequiredArgsConstructor
 @Log4j2
@@ -15,33 +30,138 @@ public class NicknameGenerator {
     private final ProfileRepository profileRepository;
 
     private static final String PREFIX = "User_";
-    private static final int UUID_LENGTH = 8;
-    private static final int MAX_RETRY_ATTEMPTS = 10;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
 
-    public String generateUniqueNickname() {
-        for (int attempt = 1; attempt <= MAX_RETRY_ATTEMPTS; attempt++) {
-            String nickname = generateRandomNickname();
+    // 블룸 필터 적재 전이면 null (IN 조회만 사용)
+    private volatile NicknameBloomFilter takenNicknames;
+
+    @Value("${profile.nickname.suffix-length:8}")
+    private int suffixLength = 8;
+
+    @Value("${profile.nickname.batch-size:16}")
+    private int batchSize = 16;
+
+    @Value("${profile.nickname.max-batches:5}")
+    private int maxBatches = 5;
+
+    @Value("${profile.nickname.bloom.enabled:true}")
+    private boolean bloomEnabled = true;
+
+    @Value("${profile.nickname.bloom.expected-insertions:1000000}")
+    private long expectedInsertions = 1_000_000;
+
+    @Value("${profile.nickname.bloom.false-positive-rate:0.01}")
+    private double falsePositiveRate = 0.01;
+
+    @Value("${profile.nickname.bloom.load-batch-size:10000}")
+    private int loadBatchSize = 10_000;
 
-            if (!profileRepository.existsByNickname(nickname)) {
-                log.info("유니크 닉네임 생성 완료 - nickname: {} (시도 횟수: {})", nickname, attempt);
-                return nickname;
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        scheduledReload();
+    }
+
+    @Scheduled(fixedDelayString = "${profile.nickname.bloom.reload-interval-ms:21600000}",
+            initialDelayString = "${profile.nickname.bloom.reload-interval-ms:21600000}")
+    public void scheduledReload() {
+        if (!bloomEnabled) {
+            return;
+        }
+        try {
+            loadTakenNicknames();
+        } catch (Exception e) {
+            log.warn("닉네임 블룸 필터 적재 실패 - IN 조회만 사용", e);
+        }
+    }
+
+    /**
+     * 사용 중인 닉네임 전체를 새 블룸 필터에 담아 교체
+     */
+    public void loadTakenNicknames() {
+        long start = System.nanoTime();
+        NicknameBloomFilter filter = new NicknameBloomFilter(expectedInsertions, falsePositiveRate);
+        long loaded = 0;
+        String after = "";
+        while (true) {
+            List<String> nicknames = profileRepository.findNicknamesAfter(after, PageRequest.of(0, loadBatchSize));
+            if (nicknames.isEmpty()) {
+                break;
             }
+            nicknames.forEach(filter::put);
+            loaded += nicknames.size();
+            after = nicknames.get(nicknames.size() - 1);
+        }
+        takenNicknames = filter;
+        log.info("닉네임 블룸 필터 적재 완료 - 닉네임 {}개, 해시 {}개, {}ms",
+                loaded, filter.hashCount(), (System.nanoTime() - start) / 1_000_000);
+    }
 
-            log.warn("닉네임 중복 발생 - nickname: {} (시도 횟수: {})", nickname, attempt);
+    /**
+     * 사용 가능한 후보 묶음 (블룸 필터 → IN 한 번 확인, 비어 있으면 다음 묶음)
+     * 반환된 후보도 저장 시점에 다른 가입이 먼저 가져갈 수 있으므로 유니크 인덱스 충돌 처리 필요
+     */
+    public List<String> generateAvailableCandidates() {
+        for (int batch = 1; batch <= maxBatches; batch++) {
+            Set<String> candidates = generateCandidates();
+            NicknameBloomFilter filter = takenNicknames;
+            if (filter != null) {
+                candidates.removeIf(filter::mightContain);
+            }
+            if (candidates.isEmpty()) {
+                continue;
+            }
+
+            List<String> existing = profileRepository.findExistingNicknames(candidates);
+            if (!existing.isEmpty()) {
+                existing.forEach(this::markTaken);
+                candidates.removeAll(existing);
+            }
+            if (!candidates.isEmpty()) {
+                return new ArrayList<>(candidates);
+            }
+            log.warn("닉네임 후보 묶음 전체 중복 - 묶음 {}/{}", batch, maxBatches);
         }
 
-        // 최대 시도 횟수 초과 시 타임스탬프 추가
-        String fallbackNickname = generateRandomNickname() + "_" + System.currentTimeMillis();
-        log.warn("최대 재시도 횟수 초과, 타임스탬프 추가 - nickname: {}", fallbackNickname);
-        return fallbackNickname;
+        // 후보 공간이 거의 찬 경우 타임스탬프를 붙여 충돌 가능성을 없앰
+        String fallbackNickname = randomNickname(ThreadLocalRandom.current()) + "_" + System.currentTimeMillis();
+        log.warn("최대 후보 묶음 초과, 타임스탬프 추가 - nickname: {}", fallbackNickname);
+        return List.of(fallbackNickname);
     }
 
-    private String generateRandomNickname() {
-        String uuid = UUID.randomUUID().toString().replaceAll("-", "");
-        return PREFIX + uuid.substring(0, UUID_LENGTH);
+    public String generateUniqueNickname() {
+        String nickname = generateAvailableCandidates().get(0);
+        log.info("유니크 닉네임 생성 완료 - nickname: {}", nickname);
+        return nickname;
+    }
+
+    /**
+     * 할당되었거나 사용 중으로 확인된 닉네임을 블룸 필터에 반영
+     */
+    public void markTaken(String nickname) {
+        NicknameBloomFilter filter = takenNicknames;
+        if (filter != null && nickname != null) {
+            filter.put(nickname);
+        }
     }
 
     public boolean isNicknameAvailable(String nickname) {
         return !profileRepository.existsByNickname(nickname);
     }
-}
\ No newline at end of file
+
+    private Set<String> generateCandidates() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Set<String> candidates = new LinkedHashSet<>();
+        for (int i = 0; i < batchSize; i++) {
+            candidates.add(randomNickname(random));
+        }
+        return candidates;
+    }
+
+    private String randomNickname(ThreadLocalRandom random) {
+        char[] suffix = new char[suffixLength];
+        for (int i = 0; i < suffixLength; i++) {
+            suffix[i] = HEX[random.nextInt(HEX.length)];
+        }
+        return PREFIX + new String(suffix);
+    }
+}
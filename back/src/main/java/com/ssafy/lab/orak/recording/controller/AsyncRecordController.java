@@ -1,11 +1,14 @@
 package com.ssafy.lab.orak.recording.controller;
 
 import com.ssafy.lab.orak.auth.service.CustomUserPrincipal;
+import com.ssafy.lab.orak.event.dto.S3EventNotification;
+import com.ssafy.lab.orak.event.service.S3EventHandler;
 import com.ssafy.lab.orak.recording.dto.CreateRecordRequest;
 import com.ssafy.lab.orak.recording.dto.RecordResponseDTO;
 import com.ssafy.lab.orak.recording.service.AsyncRecordService;
 import com.ssafy.lab.orak.upload.dto.PresignedUploadRequest;
 import com.ssafy.lab.orak.upload.dto.PresignedUploadResponse;
+import com.ssafy.lab.orak.upload.dto.UploadCompletionResult;
 import com.ssafy.lab.orak.upload.entity.Upload;
 import com.ssafy.lab.orak.upload.service.FileUploadService;
 import com.ssafy.lab.orak.upload.service.PresignedUploadService;
@@ -42,6 +45,7 @@ public class AsyncRecordController {
     private final FileUploadService fileUploadService;
     private final PresignedUploadService presignedUploadService;
     private final S3Helper s3Helper;
+    private final S3EventHandler s3EventHandler;
 
     @Value("${orak.eventbridge.webhook.token}")
     private String expectedWebhookToken;
@@ -186,6 +190,27 @@ public class AsyncRecordController {
         }
     }
 
+    /**
+     * 2단계(일괄): S3 이벤트 알림 묶음 웹훅 (EventBridge 토큰 필수)
+     * 이벤트 페이로드의 객체 크기를 신뢰하므로 HEAD 없이 상태 일괄 갱신 + 이벤트 일괄 발행
+     */
+    @PostMapping("/upload-completed/batch")
+    public ResponseEntity<?> handleUploadCompletedBatch(
+            @RequestBody S3EventNotification notification,
+            @RequestHeader(value = "X-Orak-Event-Source", required = false) String eventSource) {
+
+        if (eventSource == null || !expectedWebhookToken.equals(eventSource)) {
+            log.warn("S3 이벤트 일괄 웹훅 인증 실패");
+            return ResponseEntity.status(401).body(Map.of(
+                    "status", "error",
+                    "message", "Unauthorized: Invalid EventBridge token"
+            ));
+        }
+
+        UploadCompletionResult result = s3EventHandler.handleS3EventNotification(notification);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * 2-1단계: 클라이언트 테스트용 간단한 업로드 완료 API
      * - uploadId만으로 간단하게 테스트 가능
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,4 +38,17 @@ public interface RecordRepository extends JpaRepository<Record, Long> {
     @Query("SELECT r FROM Record r JOIN FETCH r.upload u WHERE u.directory = :directory")
     List<Record> findByDirectory(@Param("directory") String directory);
 
-}
\ No newline at end of file
+    // 추천 캐시 키용: 사용자의 가장 최근 분석 완료 녹음 ID
+    @Query("SELECT MAX(r.id) FROM Record r JOIN r.upload u WHERE r.userId = :userId AND u.processingStatus = :status")
+    Long findLatestRecordIdByUserIdAndStatus(@Param("userId") Long userId, @Param("status") ProcessingStatus status);
+
+    // 여러 녹음을 업로드와 함께 IN 한 번으로 조회
+    @Query("SELECT r FROM Record r JOIN FETCH r.upload WHERE r.id IN :recordIds")
+    List<Record> findAllByIdWithUpload(@Param("recordIds") Collection<Long> recordIds);
+
+    // 디렉토리별 커서 페이지 조회 (id 내림차순, cursor가 없으면 처음부터)
+    @Query("SELECT r FROM Record r JOIN FETCH r.upload u WHERE u.directory = :directory AND (:cursor IS NULL OR r.id < :cursor) ORDER BY r.id DESC")
+    List<Record> findPageByDirectory(@Param("directory") String directory, @Param("cursor") Long cursor,
+                                     org.springframework.data.domain.Pageable pageable);
+
+}
@@ -1,7 +1,5 @@
 package com.ssafy.lab.orak.recording.service;
 
-import com.ssafy.lab.orak.event.dto.UploadEvent;
-import com.ssafy.lab.orak.event.service.EventBridgeService;
 import com.ssafy.lab.orak.recording.dto.CreateRecordRequest;
 import com.ssafy.lab.orak.recording.dto.RecordResponseDTO;
 import com.ssafy.lab.orak.recording.entity.Record;
@@ -11,20 +9,20 @@ import com.ssafy.lab.orak.recording.exception.RecordOperationException;
 import com.ssafy.lab.orak.recording.mapper.RecordMapper;
 import com.ssafy.lab.orak.recording.repository.RecordRepository;
 import com.ssafy.lab.orak.upload.entity.Upload;
-import com.ssafy.lab.orak.upload.enums.ProcessingStatus;
 import com.ssafy.lab.orak.upload.service.PresignedUploadService;
 import com.ssafy.lab.orak.upload.service.FileUploadService;
+import com.ssafy.lab.orak.upload.service.UploadCompletionService;
+import com.ssafy.lab.orak.upload.dto.UploadCompletionResult;
 import com.ssafy.lab.orak.ai.service.VectorService;
-import com.ssafy.lab.orak.albumtrack.repository.AlbumTrackRepository;
-import com.ssafy.lab.orak.albumtrack.service.AlbumTrackService;
-import com.ssafy.lab.orak.albumtrack.entity.AlbumTrack;
+import com.ssafy.lab.orak.albumtrack.dto.RecordCascadeResult;
+import com.ssafy.lab.orak.albumtrack.service.AlbumTrackCascadeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -42,38 +40,34 @@ public class AsyncRecordService {
     private final RecordRepository recordRepository;
     private final PresignedUploadService presignedUploadService;
     private final FileUploadService fileUploadService;
-    private final EventBridgeService eventBridgeService;
+    private final UploadCompletionService uploadCompletionService;
     private final RecordMapper recordMapper;
     private final VectorService vectorService;
-    private final AlbumTrackRepository albumTrackRepository;
-    private final AlbumTrackService albumTrackService;
+    private final AlbumTrackCascadeService albumTrackCascadeService;
 
 
     /**
      * 2단계: S3 업로드 완료 후 이벤트 발생 (웹훅 또는 S3 이벤트 트리거)
+     * HEAD 검증 → 조건부 상태 전이 → Kafka 발행은 UploadCompletionService가 일괄 경로로 처리
      */
     public void handleS3UploadCompleted(Long uploadId, String s3Key) {
         try {
-            // Upload 상태를 UPLOADED로 변경
-            Upload upload = fileUploadService.getUpload(uploadId);
-            fileUploadService.updateProcessingStatus(uploadId, ProcessingStatus.UPLOADED);
+            UploadCompletionResult result = uploadCompletionService.completeUploads(List.of(uploadId), null);
 
-            // EventBridge로 이벤트 발송 (모든 후처리를 Kafka로 통합)
-            UploadEvent event = UploadEvent.createS3UploadEvent(
-                uploadId, upload.getUuid(), s3Key,
-                "orakgaraki-bucket", upload.getFileSize(), upload.getContentType()
-            );
-
-            boolean eventSent = eventBridgeService.publishUploadEvent(event);
+            if (result.hasFailures()) {
+                throw new RecordOperationException(
+                        "S3 업로드 완료 처리에 실패했습니다: " + result.getFailures().get(uploadId), null);
+            }
 
-            if (eventSent) {
-                log.info("레코딩 업로드 완료 이벤트 발송 성공: uploadId={} (WAV변환+음성분석 모두 Kafka에서 처리)", uploadId);
+            if (result.getAlreadyCompletedUploadIds().contains(uploadId)) {
+                log.info("이미 업로드 완료 처리된 레코딩: uploadId={}, s3Key={}", uploadId, s3Key);
             } else {
-                log.error("레코딩 업로드 완료 이벤트 발송 실패: uploadId={}", uploadId);
+                log.info("레코딩 업로드 완료 이벤트 발송: uploadId={} (WAV변환+음성분석 모두 Kafka에서 처리)", uploadId);
             }
 
-            // 직접 호출 제거 - 이제 모든 처리(WAV 변환 + 음성 분석)가 Kafka ProcessingJob으로 통합됨
-
+        } catch (RecordOperationException e) {
+            log.error("S3 업로드 완료 처리 실패: uploadId={}", uploadId, e);
+            throw e;
         } catch (Exception e) {
             log.error("S3 업로드 완료 처리 실패: uploadId={}", uploadId, e);
             throw new RecordOperationException("S3 업로드 완료 처리에 실패했습니다", e);
@@ -177,42 +171,20 @@ public class AsyncRecordService {
                 throw new RecordPermissionDeniedException(recordId, userId);
             }
 
-            // 1. 해당 Record를 사용하는 AlbumTrack들 찾기
-            List<AlbumTrack> albumTracks = albumTrackRepository.findByRecordId(recordId);
+            // 1. 이 녹음을 쓰는 앨범 트랙 일괄 정리 (트랙 삭제 → 순서 재정렬 → 통계 재계산 → 빈 앨범 삭제)
+            RecordCascadeResult cascade = albumTrackCascadeService.removeRecordsFromAlbums(List.of(recordId));
 
-            // 2. AlbumTrack들이 속한 앨범 ID 수집 (중복 제거)
-            Set<Long> affectedAlbumIds = albumTracks.stream()
-                    .map(track -> track.getAlbum().getId())
-                    .collect(Collectors.toSet());
-
-            log.info("Record 삭제로 인해 영향받는 앨범들: recordId={}, 영향받는 앨범 수={}, 앨범IDs={}",
-                    recordId, affectedAlbumIds.size(), affectedAlbumIds);
-
-            // 3. AlbumTrack들 삭제
-            if (!albumTracks.isEmpty()) {
-                albumTrackRepository.deleteAll(albumTracks);
-                log.info("Record와 연결된 AlbumTrack들 삭제 완료: recordId={}, 삭제된 트랙 수={}",
-                        recordId, albumTracks.size());
-            }
-
-            // 4. Record 삭제
+            // 2. Record 삭제
             recordRepository.delete(record);
 
-            // 5. 파일 삭제 (S3 + DB)
-            fileUploadService.deleteFile(record.getUploadId());
-
-            // 6. 영향받는 앨범들의 통계 업데이트 (트랙 수가 0이 되면 앨범도 삭제됨)
-            for (Long albumId : affectedAlbumIds) {
-                try {
-                    albumTrackService.refreshAlbumStatistics(albumId);
-                    log.info("앨범 통계 업데이트 완료: albumId={}", albumId);
-                } catch (Exception e) {
-                    log.warn("앨범 통계 업데이트 실패: albumId={}", albumId, e);
-                }
-            }
+            // 3. 파일 삭제 (DB 행 + S3 삭제 예약) - 녹음 파일과 함께 삭제된 앨범의 커버까지 같은 트랜잭션으로
+            List<Long> uploadIds = new ArrayList<>();
+            uploadIds.add(record.getUploadId());
+            uploadIds.addAll(cascade.orphanCoverUploadIds());
+            fileUploadService.scheduleFileDeletions(uploadIds);
 
-            log.info("레코딩 삭제 완료: recordId={}, userId={}, 영향받은 앨범 수={}",
-                    recordId, userId, affectedAlbumIds.size());
+            log.info("레코딩 삭제 완료: recordId={}, userId={}, 영향받은 앨범 수={}, 삭제된 앨범 수={}",
+                    recordId, userId, cascade.affectedAlbumIds().size(), cascade.deletedAlbumIds().size());
 
         } catch (Exception e) {
             log.error("레코딩 삭제 실패: recordId={}, userId={}", recordId, userId, e);
@@ -22,6 +22,7 @@ import com.ssafy.lab.orak.albumtrack.service.AlbumTrackService;
 import com.ssafy.lab.orak.albumtrack.entity.AlbumTrack;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Value;
@@ -29,9 +30,12 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -122,7 +126,10 @@ public class RecordService {
      * Record 엔티티를 URL이 포함된 RecordResponseDTO로 변환
      */
     private RecordResponseDTO convertToResponseDTOWithUrl(Record record) {
-        Upload upload = fileUploadService.getUpload(record.getUploadId());
+        Upload upload = fetchedUpload(record);
+        if (upload == null) {
+            upload = fileUploadService.getUpload(record.getUploadId());
+        }
         RecordResponseDTO responseDTO = recordMapper.toResponseDTO(record, upload);
         
         String fileUrl;
@@ -152,9 +159,64 @@ public class RecordService {
      * Record 엔티티 리스트를 URL이 포함된 RecordResponseDTO 리스트로 변환
      */
     private List<RecordResponseDTO> convertToResponseDTOsWithUrl(List<Record> records) {
-        return records.stream()
-                .map(this::convertToResponseDTOWithUrl)
-                .collect(Collectors.toList());
+        return toResponseDTOsWithUrl(records);
+    }
+
+    /**
+     * 여러 녹음을 업로드와 함께 IN 한 번으로 조회하여 URL 포함 DTO로 변환 (없는 ID는 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<RecordResponseDTO> getRecords(Collection<Long> recordIds) {
+        if (recordIds.isEmpty()) {
+            return List.of();
+        }
+        return toResponseDTOsWithUrl(recordRepository.findAllByIdWithUpload(recordIds));
+    }
+
+    /**
+     * 목록 변환: JOIN FETCH로 이미 읽은 업로드는 재사용하고 나머지만 IN 한 번으로 조회, URL은 일괄 서명
+     * 녹음 수와 관계없이 추가 쿼리는 최대 1번
+     */
+    public List<RecordResponseDTO> toResponseDTOsWithUrl(List<Record> records) {
+        Map<Long, Upload> uploads = new HashMap<>();
+        List<Long> missingUploadIds = new ArrayList<>();
+        for (Record record : records) {
+            Upload upload = fetchedUpload(record);
+            if (upload != null) {
+                uploads.put(upload.getId(), upload);
+            } else {
+                missingUploadIds.add(record.getUploadId());
+            }
+        }
+        if (!missingUploadIds.isEmpty()) {
+            uploads.putAll(fileUploadService.getUploads(missingUploadIds));
+        }
+
+        Map<Long, String> urls = fileUploadService.getFileUrls(uploads.values());
+
+        List<RecordResponseDTO> responseDTOs = new ArrayList<>(records.size());
+        for (Record record : records) {
+            Upload upload = uploads.get(record.getUploadId());
+            if (upload == null) {
+                log.warn("녹음의 업로드 정보 없음: recordId={}, uploadId={}", record.getId(), record.getUploadId());
+                continue;
+            }
+            String fileUrl = urls.get(upload.getId());
+            responseDTOs.add(recordMapper.toResponseDTO(record, upload).toBuilder()
+                    .url(fileUrl)
+                    .urlStatus(fileUrl != null ? "SUCCESS" : "FAILED")
+                    .build());
+        }
+        return responseDTOs;
+    }
+
+    // 같은 영속성 컨텍스트에서 이미 로딩된 업로드 (uploadId가 바뀐 경우는 제외)
+    private Upload fetchedUpload(Record record) {
+        Upload upload = record.getUpload();
+        if (upload == null || !Hibernate.isInitialized(upload) || !upload.getId().equals(record.getUploadId())) {
+            return null;
+        }
+        return upload;
     }
     
     /**
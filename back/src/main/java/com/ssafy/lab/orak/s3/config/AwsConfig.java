@@ -3,13 +3,20 @@ package com.ssafy.lab.orak.s3.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+import java.net.URI;
+import java.time.Duration;
+
 @Configuration
 public class AwsConfig {
 
@@ -22,6 +29,13 @@ public class AwsConfig {
     @Value("${spring.cloud.aws.region.static}")
     private String region;
 
+    // 로컬 S3 호환 엔드포인트 (비어 있으면 AWS 기본 엔드포인트 사용)
+    @Value("${spring.cloud.aws.s3.endpoint:}")
+    private String s3Endpoint;
+
+    @Value("${s3.async.max-concurrency:64}")
+    private int s3AsyncMaxConcurrency;
+
     @Bean
     public S3Client s3Client(){
         return S3Client.builder()
@@ -34,6 +48,27 @@ public class AwsConfig {
                 .build();
     }
 
+    // 비동기 S3 클라이언트 (Netty 이벤트 루프 기반, 요청당 스레드를 점유하지 않음)
+    @Bean
+    public S3AsyncClient s3AsyncClient(){
+        S3AsyncClientBuilder builder = S3AsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(
+                        StaticCredentialsProvider.create(
+                                AwsBasicCredentials.create(accessKey, secretKey)
+                        )
+                )
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(s3AsyncMaxConcurrency)
+                        .connectionAcquisitionTimeout(Duration.ofSeconds(30)));
+
+        if (StringUtils.hasText(s3Endpoint)) {
+            builder.endpointOverride(URI.create(s3Endpoint))
+                    .forcePathStyle(true);
+        }
+        return builder.build();
+    }
+
     @Bean
     public S3Presigner s3Presigner(){
         return S3Presigner.builder()
@@ -0,0 +1,16 @@
+package com.ssafy.lab.orak.s3.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * S3 DeleteObjects 일괄 삭제 결과
+ * @param deletedKeys 삭제된 키 목록
+ * @param failedKeys 삭제 실패한 키 → 실패 사유
+ */
+public record S3BatchDeleteResult(List<String> deletedKeys, Map<String, String> failedKeys) {
+
+    public boolean hasFailures() {
+        return !failedKeys.isEmpty();
+    }
+}
@@ -0,0 +1,58 @@
+package com.ssafy.lab.orak.s3.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제 대기 중인 S3 객체 (백업/롤백 잔여물, 고아 객체)
+ * S3CleanupService가 DeleteObjects 일괄 요청으로 비운다
+ */
+@Entity
+@Table(name = "s3_deletion_tasks",
+        uniqueConstraints = @UniqueConstraint(name = "uk_s3_deletion_tasks_s3_key", columnNames = "s3_key"),
+        indexes = @Index(name = "idx_s3_deletion_tasks_due", columnList = "attempts, next_attempt_at"))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class S3DeletionTask {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "s3_key", nullable = false, length = 700)
+    private String s3Key;
+
+    @Column(nullable = false, length = 50)
+    private String reason;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // 편의 메서드: 삭제 실패 기록 후 재시도 시각 연기
+    public void markFailed(String errorMessage, LocalDateTime retryAt) {
+        this.attempts = this.attempts + 1;
+        this.lastError = errorMessage != null && errorMessage.length() > 1000
+                ? errorMessage.substring(0, 1000)
+                : errorMessage;
+        this.nextAttemptAt = retryAt;
+    }
+}
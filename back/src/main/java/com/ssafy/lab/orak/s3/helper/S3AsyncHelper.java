@@ -0,0 +1,570 @@
+package com.ssafy.lab.orak.s3.helper;
+
+import com.ssafy.lab.orak.s3.dto.S3BatchDeleteResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * S3AsyncClient 기반 비동기 S3 헬퍼
+ * S3Helper와 같은 연산을 CompletableFuture로 제공하여 처리 스레드를 네트워크 대기에 묶어두지 않는다
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class S3AsyncHelper {
+
+    // DeleteObjects 요청당 최대 키 수 (S3 제한)
+    public static final int MAX_KEYS_PER_DELETE = 1000;
+
+    private final S3AsyncClient s3AsyncClient;
+
+    @Value("${spring.cloud.aws.s3.bucket}")
+    private String bucket;
+
+    // 이 크기를 넘는 객체는 바이트 범위로 나누어 병렬 다운로드
+    @Value("${s3.async.range-part-size-bytes:8388608}")
+    private long rangePartSizeBytes;
+
+    @Value("${s3.async.range-parallelism:4}")
+    private int rangeParallelism;
+
+    // 길이를 모르는 스트림을 멀티파트로 올릴 때 파트 크기 (S3 최소 5MB)
+    @Value("${s3.async.stream-part-size-bytes:5242880}")
+    private int streamPartSizeBytes;
+
+    /**
+     * S3에서 파일 다운로드
+     */
+    public CompletableFuture<Path> downloadFile(String s3Key, Path localFile) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .build();
+
+        return createParentDirectories(localFile)
+                .thenCompose(v -> s3AsyncClient.getObject(getObjectRequest,
+                        AsyncResponseTransformer.toFile(localFile, FileTransformerConfiguration.defaultCreateOrReplaceExisting())))
+                .handle((response, e) -> {
+                    if (e != null) {
+                        log.error("S3 파일 다운로드 실패: {} -> {}", s3Key, localFile, unwrap(e));
+                        throw failure("S3 파일 다운로드에 실패했습니다", e);
+                    }
+                    log.info("S3에서 파일 다운로드 완료: {} -> {}", s3Key, localFile);
+                    return localFile;
+                });
+    }
+
+    /**
+     * 큰 객체를 바이트 범위로 나누어 병렬 다운로드 (작은 객체는 단일 GET)
+     */
+    public CompletableFuture<Path> downloadFileInRanges(String s3Key, Path localFile) {
+        return headObject(s3Key).thenCompose(head -> {
+            long contentLength = head.contentLength();
+            if (contentLength <= rangePartSizeBytes) {
+                return downloadFile(s3Key, localFile);
+            }
+
+            FileChannel channel;
+            try {
+                if (localFile.getParent() != null) {
+                    Files.createDirectories(localFile.getParent());
+                }
+                channel = FileChannel.open(localFile, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            } catch (IOException e) {
+                throw failure("S3 파일 다운로드에 실패했습니다", e);
+            }
+
+            List<long[]> ranges = splitRanges(contentLength);
+            int lanes = Math.max(1, Math.min(rangeParallelism, ranges.size()));
+
+            // 레인별로 범위를 순차 연결하여 동시 요청 수를 rangeParallelism으로 제한
+            List<CompletableFuture<Void>> laneFutures = new ArrayList<>(lanes);
+            for (int lane = 0; lane < lanes; lane++) {
+                CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+                for (int i = lane; i < ranges.size(); i += lanes) {
+                    long[] range = ranges.get(i);
+                    chain = chain.thenCompose(v -> getRange(s3Key, range[0], range[1])
+                            .thenAccept(bytes -> writeAt(channel, bytes.asByteBuffer(), range[0])));
+                }
+                laneFutures.add(chain);
+            }
+
+            return CompletableFuture.allOf(laneFutures.toArray(CompletableFuture[]::new))
+                    .handle((v, e) -> {
+                        closeQuietly(channel);
+                        if (e != null) {
+                            log.error("S3 범위 다운로드 실패: {} -> {}", s3Key, localFile, unwrap(e));
+                            throw failure("S3 파일 다운로드에 실패했습니다", e);
+                        }
+                        log.info("S3 범위 다운로드 완료: {} -> {} ({} bytes, {}개 구간)",
+                                s3Key, localFile, contentLength, ranges.size());
+                        return localFile;
+                    });
+        });
+    }
+
+    /**
+     * S3에 파일 업로드
+     */
+    public CompletableFuture<Void> uploadFile(File file, String s3Key, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .contentType(contentType)
+                .build();
+
+        return s3AsyncClient.putObject(putObjectRequest, AsyncRequestBody.fromFile(file.toPath()))
+                .handle((response, e) -> {
+                    if (e != null) {
+                        log.error("S3 파일 업로드 실패: {} -> {}", file.getPath(), s3Key, unwrap(e));
+                        throw failure("S3 파일 업로드에 실패했습니다", e);
+                    }
+                    log.info("S3에 파일 업로드 완료: {} -> {}", file.getPath(), s3Key);
+                    return null;
+                });
+    }
+
+    /**
+     * S3에 바이트 배열 업로드
+     */
+    public CompletableFuture<Void> uploadBytes(byte[] content, String s3Key, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .contentType(contentType)
+                .build();
+
+        return s3AsyncClient.putObject(putObjectRequest, AsyncRequestBody.fromBytes(content))
+                .handle((response, e) -> {
+                    if (e != null) {
+                        log.error("S3 업로드 실패: {}", s3Key, unwrap(e));
+                        throw failure("S3 파일 업로드에 실패했습니다", e);
+                    }
+                    log.info("S3에 업로드 완료: {} ({} bytes)", s3Key, content.length);
+                    return null;
+                });
+    }
+
+    /**
+     * 스트림을 임시 파일 없이 S3에 업로드
+     * - 길이를 알면 받은 청크를 그대로 PutObject 본문으로 흘려보냄
+     * - 길이를 모르면 파트 크기만큼 모아 멀티파트 업로드 (전체가 파트 하나보다 작으면 PutObject 한 번)
+     *   메모리에는 업로드 중인 파트와 모으는 중인 파트만 유지
+     *
+     * @param contentLength 전체 바이트 수, 모르면 -1
+     * @return 업로드된 바이트 수
+     */
+    public CompletableFuture<Long> uploadStream(Publisher<ByteBuffer> content, String s3Key, String contentType,
+                                                long contentLength) {
+        if (contentLength >= 0) {
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(s3Key)
+                    .contentType(contentType)
+                    .contentLength(contentLength)
+                    .build();
+
+            return s3AsyncClient.putObject(putObjectRequest, AsyncRequestBody.fromPublisher(content))
+                    .handle((response, e) -> {
+                        if (e != null) {
+                            log.error("S3 스트림 업로드 실패: {}", s3Key, unwrap(e));
+                            throw failure("S3 파일 업로드에 실패했습니다", e);
+                        }
+                        log.info("S3에 스트림 업로드 완료: {} ({} bytes)", s3Key, contentLength);
+                        return contentLength;
+                    });
+        }
+
+        StreamUpload upload = new StreamUpload(s3Key, contentType);
+        // [현재 파트, 다음 파트] 창으로 묶어 다음 파트가 없을 때 마지막 파트임을 알 수 있게 함
+        return toParts(Flux.from(content))
+                .buffer(2, 1)
+                .index()
+                .concatMap(indexed -> upload.accept(indexed.getT1() == 0, indexed.getT2()))
+                .then(Mono.defer(upload::result))
+                .onErrorResume(e -> upload.abort().then(Mono.error(e)))
+                .toFuture()
+                .handle((bytes, e) -> {
+                    if (e != null) {
+                        log.error("S3 스트림 업로드 실패: {}", s3Key, unwrap(e));
+                        throw failure("S3 파일 업로드에 실패했습니다", e);
+                    }
+                    log.info("S3에 스트림 업로드 완료: {} ({} bytes, 파트 {}개)", s3Key, bytes, upload.partCount());
+                    return bytes;
+                });
+    }
+
+    /**
+     * S3에서 파일 삭제
+     */
+    public CompletableFuture<Void> deleteFile(String s3Key) {
+        DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .build();
+
+        return s3AsyncClient.deleteObject(deleteObjectRequest)
+                .handle((response, e) -> {
+                    if (e != null) {
+                        log.error("S3 파일 삭제 실패: {}", s3Key, unwrap(e));
+                        throw failure("S3 파일 삭제에 실패했습니다", e);
+                    }
+                    log.info("S3 파일 삭제 완료: {}", s3Key);
+                    return null;
+                });
+    }
+
+    /**
+     * S3 파일 일괄 삭제 (DeleteObjects, 요청당 최대 1,000개 키)
+     * 키별 실패는 결과에 담아 반환하고, 요청 자체가 실패한 청크의 키도 실패로 기록한다
+     */
+    public CompletableFuture<S3BatchDeleteResult> deleteFiles(Collection<String> s3Keys) {
+        List<String> keys = new ArrayList<>(s3Keys);
+        List<CompletableFuture<S3BatchDeleteResult>> chunkFutures = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_DELETE) {
+            chunkFutures.add(deleteChunk(keys.subList(from, Math.min(from + MAX_KEYS_PER_DELETE, keys.size()))));
+        }
+
+        return CompletableFuture.allOf(chunkFutures.toArray(CompletableFuture[]::new))
+                .thenApply(v -> {
+                    List<String> deleted = new ArrayList<>();
+                    Map<String, String> failed = new LinkedHashMap<>();
+                    for (CompletableFuture<S3BatchDeleteResult> chunkFuture : chunkFutures) {
+                        S3BatchDeleteResult chunk = chunkFuture.join();
+                        deleted.addAll(chunk.deletedKeys());
+                        failed.putAll(chunk.failedKeys());
+                    }
+                    log.info("S3 일괄 삭제 완료: 요청 {}개, 삭제 {}개, 실패 {}개",
+                            keys.size(), deleted.size(), failed.size());
+                    return new S3BatchDeleteResult(deleted, failed);
+                });
+    }
+
+    /**
+     * S3 파일 복사 (같은 버킷 내)
+     */
+    public CompletableFuture<Void> copyFile(String sourceS3Key, String destinationS3Key) {
+        CopyObjectRequest copyObjectRequest = CopyObjectRequest.builder()
+                .sourceBucket(bucket)
+                .sourceKey(sourceS3Key)
+                .destinationBucket(bucket)
+                .destinationKey(destinationS3Key)
+                .build();
+
+        return s3AsyncClient.copyObject(copyObjectRequest)
+                .handle((response, e) -> {
+                    if (e != null) {
+                        log.error("S3 파일 복사 실패: {} -> {}", sourceS3Key, destinationS3Key, unwrap(e));
+                        throw failure("S3 파일 복사에 실패했습니다", e);
+                    }
+                    log.info("S3 파일 복사 완료: {} -> {}", sourceS3Key, destinationS3Key);
+                    return null;
+                });
+    }
+
+    /**
+     * S3 파일 존재 여부 확인
+     */
+    public CompletableFuture<Boolean> fileExists(String s3Key) {
+        return headObject(s3Key)
+                .handle((response, e) -> {
+                    if (e == null) {
+                        return true;
+                    }
+                    Throwable cause = unwrap(e);
+                    if (cause instanceof NoSuchKeyException) {
+                        log.debug("S3 파일이 존재하지 않음: {}", s3Key);
+                    } else {
+                        log.warn("S3 파일 존재 여부 확인 실패: {} - {}", s3Key, cause.getMessage());
+                    }
+                    return false;
+                });
+    }
+
+    /**
+     * 접두어 기준 객체 목록 한 페이지 조회 (ListObjectsV2)
+     */
+    public CompletableFuture<ListObjectsV2Response> listObjects(String prefix, String continuationToken) {
+        ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
+                .bucket(bucket)
+                .prefix(prefix)
+                .continuationToken(continuationToken)
+                .build();
+        return s3AsyncClient.listObjectsV2(listRequest);
+    }
+
+    public CompletableFuture<HeadObjectResponse> headObject(String s3Key) {
+        HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .build();
+        return s3AsyncClient.headObject(headObjectRequest);
+    }
+
+    private CompletableFuture<S3BatchDeleteResult> deleteChunk(List<String> keys) {
+        List<ObjectIdentifier> objects = keys.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+
+        DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
+                .bucket(bucket)
+                .delete(Delete.builder().objects(objects).quiet(true).build())
+                .build();
+
+        return s3AsyncClient.deleteObjects(deleteObjectsRequest)
+                .handle((response, e) -> {
+                    Map<String, String> failed = new LinkedHashMap<>();
+                    if (e != null) {
+                        Throwable cause = unwrap(e);
+                        log.error("S3 일괄 삭제 요청 실패: {}개 키", keys.size(), cause);
+                        keys.forEach(key -> failed.put(key, cause.getMessage()));
+                        return new S3BatchDeleteResult(List.of(), failed);
+                    }
+                    // quiet 모드에서는 실패한 키만 응답에 포함됨
+                    response.errors().forEach(error -> failed.put(error.key(), error.code() + ": " + error.message()));
+                    List<String> deleted = keys.stream()
+                            .filter(key -> !failed.containsKey(key))
+                            .toList();
+                    return new S3BatchDeleteResult(deleted, failed);
+                });
+    }
+
+    private CompletableFuture<ResponseBytes<GetObjectResponse>> getRange(String s3Key, long start, long end) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .range("bytes=" + start + "-" + end)
+                .build();
+        return s3AsyncClient.getObject(getObjectRequest, AsyncResponseTransformer.toBytes());
+    }
+
+    // 청크 스트림을 streamPartSizeBytes 이상인 파트로 묶음 (청크를 복사하지 않고 목록으로 보관, 마지막 파트는 더 작을 수 있음)
+    private Flux<List<ByteBuffer>> toParts(Flux<ByteBuffer> content) {
+        return Flux.defer(() -> {
+            List<ByteBuffer> current = new ArrayList<>();
+            long[] currentSize = {0};
+            return content
+                    .concatMap(buffer -> {
+                        current.add(buffer);
+                        currentSize[0] += buffer.remaining();
+                        if (currentSize[0] < streamPartSizeBytes) {
+                            return Mono.<List<ByteBuffer>>empty();
+                        }
+                        List<ByteBuffer> part = new ArrayList<>(current);
+                        current.clear();
+                        currentSize[0] = 0;
+                        return Mono.just(part);
+                    })
+                    .concatWith(Mono.fromSupplier(() -> currentSize[0] > 0 ? List.copyOf(current) : null));
+        });
+    }
+
+    private List<long[]> splitRanges(long contentLength) {
+        List<long[]> ranges = new ArrayList<>();
+        for (long start = 0; start < contentLength; start += rangePartSizeBytes) {
+            ranges.add(new long[]{start, Math.min(start + rangePartSizeBytes, contentLength) - 1});
+        }
+        return ranges;
+    }
+
+    private void writeAt(FileChannel channel, ByteBuffer buffer, long position) {
+        try {
+            long offset = position;
+            while (buffer.hasRemaining()) {
+                offset += channel.write(buffer, offset);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private CompletableFuture<Void> createParentDirectories(Path localFile) {
+        try {
+            if (localFile.getParent() != null) {
+                Files.createDirectories(localFile.getParent()); // 디렉토리 생성
+            }
+            return CompletableFuture.completedFuture(null);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("파일 채널 닫기 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 길이를 모르는 스트림의 업로드 상태 (파트가 하나면 PutObject, 둘 이상이면 멀티파트)
+     */
+    private class StreamUpload {
+
+        private final String s3Key;
+        private final String contentType;
+        private final List<CompletedPart> parts = new ArrayList<>();
+        private String uploadId;
+        private long bytes;
+
+        StreamUpload(String s3Key, String contentType) {
+            this.s3Key = s3Key;
+            this.contentType = contentType;
+        }
+
+        Mono<Void> accept(boolean first, List<List<ByteBuffer>> window) {
+            List<ByteBuffer> part = window.get(0);
+            boolean last = window.size() == 1;
+            long partSize = part.stream().mapToLong(ByteBuffer::remaining).sum();
+            bytes += partSize;
+
+            if (first && last) {
+                PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(s3Key)
+                        .contentType(contentType)
+                        .contentLength(partSize)
+                        .build();
+                return Mono.fromFuture(() -> s3AsyncClient.putObject(putObjectRequest, toRequestBody(part)))
+                        .then();
+            }
+
+            Mono<Void> start = uploadId != null ? Mono.empty() : Mono.fromFuture(() -> s3AsyncClient.createMultipartUpload(
+                            CreateMultipartUploadRequest.builder()
+                                    .bucket(bucket)
+                                    .key(s3Key)
+                                    .contentType(contentType)
+                                    .build()))
+                    .doOnNext(response -> uploadId = response.uploadId())
+                    .then();
+
+            Mono<Void> uploadPart = start.then(Mono.defer(() -> {
+                int partNumber = parts.size() + 1;
+                UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+                        .bucket(bucket)
+                        .key(s3Key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength(partSize)
+                        .build();
+                return Mono.fromFuture(() -> s3AsyncClient.uploadPart(uploadPartRequest, toRequestBody(part)))
+                        .doOnNext(response -> parts.add(CompletedPart.builder()
+                                .partNumber(partNumber)
+                                .eTag(response.eTag())
+                                .build()))
+                        .then();
+            }));
+
+            if (!last) {
+                return uploadPart;
+            }
+            return uploadPart.then(Mono.defer(() -> Mono.fromFuture(() -> s3AsyncClient.completeMultipartUpload(
+                    CompleteMultipartUploadRequest.builder()
+                            .bucket(bucket)
+                            .key(s3Key)
+                            .uploadId(uploadId)
+                            .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                            .build()))))
+                    .then();
+        }
+
+        Mono<Long> result() {
+            if (bytes == 0) {
+                return Mono.error(new IOException("업로드할 내용이 없습니다: " + s3Key));
+            }
+            return Mono.just(bytes);
+        }
+
+        Mono<Void> abort() {
+            if (uploadId == null) {
+                return Mono.empty();
+            }
+            return Mono.fromFuture(() -> s3AsyncClient.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                            .bucket(bucket)
+                            .key(s3Key)
+                            .uploadId(uploadId)
+                            .build()))
+                    .doOnError(e -> log.warn("S3 멀티파트 업로드 취소 실패: {} ({})", s3Key, e.getMessage()))
+                    .onErrorResume(e -> Mono.empty())
+                    .then();
+        }
+
+        int partCount() {
+            return Math.max(1, parts.size());
+        }
+
+        // 청크는 이 업로드만 사용하므로 복사 없이 본문으로 사용
+        private AsyncRequestBody toRequestBody(List<ByteBuffer> part) {
+            return AsyncRequestBody.fromByteBuffersUnsafe(part.toArray(ByteBuffer[]::new));
+        }
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        Throwable cause = e;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    // S3Helper와 동일하게 IOException으로 감싸 전달 (CompletableFuture 내부이므로 CompletionException에 담음)
+    private static CompletionException failure(String message, Throwable e) {
+        Throwable cause = unwrap(e);
+        if (cause instanceof IOException && cause.getMessage() != null && cause.getMessage().startsWith(message)) {
+            return new CompletionException(cause);
+        }
+        String detail = cause instanceof S3Exception s3Exception && s3Exception.awsErrorDetails() != null
+                ? s3Exception.awsErrorDetails().errorMessage()
+                : cause.getMessage();
+        return new CompletionException(new IOException(message + ": " + detail, cause));
+    }
+}
@@ -23,6 +23,10 @@ import java.io.IOException;
 import java.nio.file.Path;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
@@ -78,6 +82,30 @@ public class S3Helper {
         return generatePresignedUrl(s3Key, Duration.ofHours(24));
     }
 
+    /**
+     * 목록 조회용 일괄 Pre-signed URL 생성
+     * 같은 키는 한 번만 서명하고, 서명에 실패한 키는 결과에서 빠진다 (호출 측에서 실패 상태로 표시)
+     */
+    public Map<String, String> generatePresignedUrls(Collection<String> s3Keys, Duration expiration) {
+        Map<String, String> urls = new HashMap<>();
+        for (String s3Key : new LinkedHashSet<>(s3Keys)) {
+            try {
+                GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                        .signatureDuration(expiration)
+                        .getObjectRequest(GetObjectRequest.builder().bucket(bucket).key(s3Key).build())
+                        .build();
+                urls.put(s3Key, s3Presigner.presignGetObject(presignRequest).url().toString());
+            } catch (Exception e) {
+                log.warn("Pre-signed URL 생성 실패 (일괄): {} - {}", s3Key, e.getMessage());
+            }
+        }
+        return urls;
+    }
+
+    public Map<String, String> generatePresignedUrls(Collection<String> s3Keys) {
+        return generatePresignedUrls(s3Keys, Duration.ofHours(24));
+    }
+
     /**
      * S3 키에서 UUID 추출
      * 패턴: {directory}/{uuid}_{filename} → {uuid}
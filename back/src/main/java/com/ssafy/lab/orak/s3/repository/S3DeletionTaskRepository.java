@@ -0,0 +1,37 @@
+package com.ssafy.lab.orak.s3.repository;
+
+import com.ssafy.lab.orak.s3.entity.S3DeletionTask;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface S3DeletionTaskRepository extends JpaRepository<S3DeletionTask, Long> {
+
+    /**
+     * 재시도 시각이 지났고 최대 시도 횟수 미만인 삭제 작업 조회 (등록 순)
+     */
+    @Query("SELECT t FROM S3DeletionTask t WHERE " +
+           "t.attempts < :maxAttempts AND t.nextAttemptAt <= :now " +
+           "ORDER BY t.id ASC")
+    List<S3DeletionTask> findDueTasks(@Param("maxAttempts") int maxAttempts,
+                                      @Param("now") LocalDateTime now,
+                                      Pageable pageable);
+
+    /**
+     * 이미 등록된 키 조회 (중복 등록 방지)
+     */
+    @Query("SELECT t.s3Key FROM S3DeletionTask t WHERE t.s3Key IN :s3Keys")
+    List<String> findExistingKeys(@Param("s3Keys") Collection<String> s3Keys);
+
+    /**
+     * 최대 시도 횟수를 넘겨 포기된 작업 수 (모니터링용)
+     */
+    long countByAttemptsGreaterThanEqual(int maxAttempts);
+}
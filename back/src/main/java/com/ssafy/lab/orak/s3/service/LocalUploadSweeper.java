@@ -0,0 +1,80 @@
+package com.ssafy.lab.orak.s3.service;
+
+import io.micrometer.core.instrument.Counter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * s3.upload.path 아래에 남은 오래된 임시 파일 정리
+ * (S3 업로드/변환 실패, 정리 예외 등으로 삭제되지 못한 로컬 파일)
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class LocalUploadSweeper {
+
+    private final Counter localTempFileSweptCounter;
+
+    @Value("${s3.upload.path}")
+    private String uploadPath;
+
+    @Value("${s3.cleanup.local-file-max-age-hours:6}")
+    private long maxAgeHours;
+
+    @Scheduled(fixedDelayString = "${s3.cleanup.local-sweep-interval-ms:3600000}")
+    public void sweepStaleFiles() {
+        Path root = Paths.get(uploadPath);
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+
+        FileTime threshold = FileTime.from(Instant.now().minus(Duration.ofHours(maxAgeHours)));
+        List<Path> staleFiles;
+        try (Stream<Path> paths = Files.walk(root)) {
+            staleFiles = paths
+                    .filter(Files::isRegularFile)
+                    .filter(path -> isOlderThan(path, threshold))
+                    .toList();
+        } catch (IOException e) {
+            log.warn("업로드 경로 탐색 실패: {} - {}", uploadPath, e.getMessage());
+            return;
+        }
+
+        int deleted = 0;
+        for (Path path : staleFiles) {
+            try {
+                if (Files.deleteIfExists(path)) {
+                    deleted++;
+                }
+            } catch (IOException e) {
+                log.warn("오래된 임시 파일 삭제 실패: {} - {}", path, e.getMessage());
+            }
+        }
+
+        if (deleted > 0) {
+            localTempFileSweptCounter.increment(deleted);
+            log.info("오래된 임시 파일 정리 완료: {}개 ({}시간 경과)", deleted, maxAgeHours);
+        }
+    }
+
+    private boolean isOlderThan(Path path, FileTime threshold) {
+        try {
+            return Files.getLastModifiedTime(path).compareTo(threshold) < 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
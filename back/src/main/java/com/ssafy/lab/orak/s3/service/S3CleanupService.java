@@ -0,0 +1,185 @@
+package com.ssafy.lab.orak.s3.service;
+
+import com.ssafy.lab.orak.s3.dto.S3BatchDeleteResult;
+import com.ssafy.lab.orak.s3.entity.S3DeletionTask;
+import com.ssafy.lab.orak.s3.helper.S3AsyncHelper;
+import com.ssafy.lab.orak.s3.repository.S3DeletionTaskRepository;
+import io.micrometer.core.instrument.Counter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * S3 객체 지연 삭제 (GC)
+ * 삭제할 키를 s3_deletion_tasks 테이블에 기록해두고, 스케줄러가 DeleteObjects 일괄 요청으로 비운다
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class S3CleanupService {
+
+    private final S3DeletionTaskRepository s3DeletionTaskRepository;
+    private final S3AsyncHelper s3AsyncHelper;
+    private final Counter s3CleanupDeletedCounter;
+    private final Counter s3CleanupFailedCounter;
+    private final AtomicLong s3CleanupPendingCount;
+
+    @Value("${s3.cleanup.enabled:true}")
+    private boolean enabled;
+
+    // DeleteObjects 요청당 키 수 (최대 1,000)
+    @Value("${s3.cleanup.batch-size:1000}")
+    private int batchSize;
+
+    // 한 번의 실행에서 보낼 최대 일괄 요청 수 (속도 제한)
+    @Value("${s3.cleanup.max-batches-per-run:5}")
+    private int maxBatchesPerRun;
+
+    @Value("${s3.cleanup.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${s3.cleanup.retry-delay-ms:600000}")
+    private long retryDelayMs;
+
+    /**
+     * S3 객체 삭제 예약
+     */
+    public void scheduleDeletion(String s3Key, String reason) {
+        scheduleDeletions(List.of(s3Key), reason);
+    }
+
+    /**
+     * 여러 S3 객체 삭제 예약 (이미 예약된 키는 건너뜀)
+     * 예약 실패는 로그만 남기므로 트랜잭션 밖의 호출자용
+     * (트랜잭션 안에서 실패를 삼키면 이미 rollback-only로 표시된 트랜잭션이 커밋 시점에 실패함 → enqueueDeletions 사용)
+     */
+    public void scheduleDeletions(Collection<String> s3Keys, String reason) {
+        try {
+            enqueueDeletions(s3Keys, reason);
+        } catch (Exception e) {
+            // 예약 실패는 정합성 스캔(S3OrphanReconciler)에서 다시 발견되므로 호출자 흐름은 막지 않음
+            log.error("S3 삭제 예약 실패 (사유: {}): {}", reason, s3Keys, e);
+        }
+    }
+
+    /**
+     * 호출한 트랜잭션 안에서 S3 객체 삭제 예약 (이미 예약된 키는 건너뜀)
+     * 예약에 실패하면 예외를 그대로 던져 호출자의 트랜잭션과 함께 롤백되도록 함
+     */
+    public void enqueueDeletions(Collection<String> s3Keys, String reason) {
+        Set<String> keys = new LinkedHashSet<>();
+        s3Keys.stream().filter(Objects::nonNull).forEach(keys::add);
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        keys.removeAll(new HashSet<>(s3DeletionTaskRepository.findExistingKeys(keys)));
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<S3DeletionTask> tasks = keys.stream()
+                .map(key -> S3DeletionTask.builder()
+                        .s3Key(key)
+                        .reason(reason)
+                        .nextAttemptAt(now)
+                        .build())
+                .toList();
+        s3DeletionTaskRepository.saveAll(tasks);
+        s3CleanupPendingCount.addAndGet(tasks.size());
+
+        log.info("S3 삭제 예약: {}개 (사유: {})", tasks.size(), reason);
+    }
+
+    /**
+     * 삭제 대기열을 DeleteObjects 일괄 요청으로 비움
+     */
+    @Scheduled(fixedDelayString = "${s3.cleanup.drain-interval-ms:60000}")
+    public void drainPendingDeletions() {
+        if (!enabled) {
+            return;
+        }
+
+        int effectiveBatchSize = Math.min(batchSize, S3AsyncHelper.MAX_KEYS_PER_DELETE);
+        int totalDeleted = 0;
+        int totalFailed = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<S3DeletionTask> tasks = s3DeletionTaskRepository.findDueTasks(
+                    maxAttempts, LocalDateTime.now(), PageRequest.of(0, effectiveBatchSize));
+            if (tasks.isEmpty()) {
+                break;
+            }
+
+            int deleted = drainBatch(tasks);
+            totalDeleted += deleted;
+            totalFailed += tasks.size() - deleted;
+
+            if (tasks.size() < effectiveBatchSize) {
+                break;
+            }
+        }
+
+        if (totalDeleted > 0 || totalFailed > 0) {
+            log.info("S3 삭제 대기열 처리 완료: 삭제 {}개, 실패 {}개", totalDeleted, totalFailed);
+        }
+        refreshPendingCount();
+    }
+
+    private int drainBatch(List<S3DeletionTask> tasks) {
+        List<String> keys = tasks.stream().map(S3DeletionTask::getS3Key).toList();
+        S3BatchDeleteResult result = s3AsyncHelper.deleteFiles(keys).join();
+        Map<String, String> failedKeys = result.failedKeys();
+
+        List<Long> deletedIds = new ArrayList<>();
+        List<S3DeletionTask> failedTasks = new ArrayList<>();
+        LocalDateTime retryAt = LocalDateTime.now().plusNanos(retryDelayMs * 1_000_000);
+        for (S3DeletionTask task : tasks) {
+            String error = failedKeys.get(task.getS3Key());
+            if (error == null) {
+                deletedIds.add(task.getId());
+            } else {
+                task.markFailed(error, retryAt);
+                failedTasks.add(task);
+                if (task.getAttempts() >= maxAttempts) {
+                    log.error("S3 삭제 최대 재시도 초과, 수동 확인 필요: {} - {}", task.getS3Key(), error);
+                }
+            }
+        }
+
+        if (!deletedIds.isEmpty()) {
+            s3DeletionTaskRepository.deleteAllByIdInBatch(deletedIds);
+        }
+        if (!failedTasks.isEmpty()) {
+            s3DeletionTaskRepository.saveAll(failedTasks);
+        }
+
+        s3CleanupDeletedCounter.increment(deletedIds.size());
+        s3CleanupFailedCounter.increment(failedTasks.size());
+        return deletedIds.size();
+    }
+
+    private void refreshPendingCount() {
+        try {
+            s3CleanupPendingCount.set(s3DeletionTaskRepository.count()
+                    - s3DeletionTaskRepository.countByAttemptsGreaterThanEqual(maxAttempts));
+        } catch (Exception e) {
+            log.warn("S3 삭제 대기 건수 조회 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.ssafy.lab.orak.s3.service;
+
+import com.ssafy.lab.orak.s3.helper.S3AsyncHelper;
+import com.ssafy.lab.orak.s3.helper.S3Helper;
+import com.ssafy.lab.orak.upload.repository.UploadRepository;
+import io.micrometer.core.instrument.Counter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * S3 접두어별 객체 목록을 uploads 테이블과 대조하여 고아 객체를 삭제 대기열에 등록
+ * - uploads 행이 없는 UUID의 객체
+ * - 오디오 변환 중 남은 .backup 객체
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class S3OrphanReconciler {
+
+    private static final String BACKUP_SUFFIX = ".backup";
+
+    private final S3AsyncHelper s3AsyncHelper;
+    private final S3Helper s3Helper;
+    private final UploadRepository uploadRepository;
+    private final S3CleanupService s3CleanupService;
+    private final Counter s3OrphanDetectedCounter;
+
+    @Value("${s3.cleanup.reconcile-enabled:true}")
+    private boolean enabled;
+
+    @Value("${s3.cleanup.reconcile-prefixes:recordings,profiles,album-covers,ai-cover}")
+    private List<String> prefixes;
+
+    // 업로드 직후(Presigned PUT 진행 중 등) 객체를 고아로 오판하지 않도록 두는 유예 시간
+    @Value("${s3.cleanup.orphan-grace-hours:24}")
+    private long orphanGraceHours;
+
+    // true이면 고아 후보를 로그/메트릭으로만 남기고 삭제 예약은 하지 않음
+    @Value("${s3.cleanup.reconcile-dry-run:false}")
+    private boolean dryRun;
+
+    @Scheduled(cron = "${s3.cleanup.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+
+        Instant graceLimit = Instant.now().minus(Duration.ofHours(orphanGraceHours));
+        int totalOrphans = 0;
+        for (String prefix : prefixes) {
+            try {
+                totalOrphans += reconcilePrefix(prefix.trim() + "/", graceLimit);
+            } catch (Exception e) {
+                log.error("S3 고아 객체 대조 실패: prefix={}", prefix, e);
+            }
+        }
+        log.info("S3 고아 객체 대조 완료: {}개 발견 (dryRun={})", totalOrphans, dryRun);
+    }
+
+    /**
+     * 접두어 하나를 페이지 단위로 대조 (페이지당 uploads IN 쿼리 1회)
+     */
+    public int reconcilePrefix(String prefix, Instant graceLimit) {
+        int orphanCount = 0;
+        String continuationToken = null;
+        do {
+            ListObjectsV2Response page = s3AsyncHelper.listObjects(prefix, continuationToken).join();
+            List<String> orphanKeys = findOrphans(page.contents(), graceLimit);
+            orphanCount += orphanKeys.size();
+
+            if (!orphanKeys.isEmpty()) {
+                s3OrphanDetectedCounter.increment(orphanKeys.size());
+                if (dryRun) {
+                    log.info("S3 고아 객체 후보 (dryRun): prefix={}, {}개", prefix, orphanKeys.size());
+                } else {
+                    s3CleanupService.scheduleDeletions(orphanKeys, "orphan-reconcile");
+                }
+            }
+
+            continuationToken = Boolean.TRUE.equals(page.isTruncated()) ? page.nextContinuationToken() : null;
+        } while (continuationToken != null);
+
+        return orphanCount;
+    }
+
+    private List<String> findOrphans(List<S3Object> objects, Instant graceLimit) {
+        List<String> orphanKeys = new ArrayList<>();
+        Map<String, List<String>> keysByUuid = new HashMap<>();
+
+        for (S3Object object : objects) {
+            if (object.lastModified() == null || object.lastModified().isAfter(graceLimit)) {
+                continue;
+            }
+            String key = object.key();
+            if (key.endsWith(BACKUP_SUFFIX)) {
+                orphanKeys.add(key);
+                continue;
+            }
+            String uuid = s3Helper.extractUuidFromS3Key(key);
+            if (uuid != null) {
+                keysByUuid.computeIfAbsent(uuid, k -> new ArrayList<>()).add(key);
+            }
+        }
+
+        if (!keysByUuid.isEmpty()) {
+            Set<String> existingUuids = new HashSet<>(uploadRepository.findExistingUuids(keysByUuid.keySet()));
+            keysByUuid.forEach((uuid, keys) -> {
+                if (!existingUuids.contains(uuid)) {
+                    orphanKeys.addAll(keys);
+                }
+            });
+        }
+        return orphanKeys;
+    }
+}
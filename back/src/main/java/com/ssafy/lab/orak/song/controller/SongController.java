@@ -1,13 +1,26 @@
 package com.ssafy.lab.orak.song.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.lab.orak.song.dto.SongAutocompleteDTO;
 import com.ssafy.lab.orak.song.dto.SongResponseDTO;
+import com.ssafy.lab.orak.song.service.SongAutocompleteService;
 import com.ssafy.lab.orak.song.service.SongService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/songs")
@@ -16,6 +29,8 @@ import java.util.List;
 public class SongController {
 
     private final SongService songService;
+    private final SongAutocompleteService songAutocompleteService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/search")
     public ResponseEntity<List<SongResponseDTO>> searchSongs(
@@ -51,6 +66,46 @@ public class SongController {
         return ResponseEntity.ok(songs);
     }
 
+    // 키 입력마다 호출되는 자동완성 (제목/가수명 접두사, 초성 지원)
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<SongAutocompleteDTO>> autocomplete(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        log.debug("자동완성 요청 - keyword: {}, limit: {}", keyword, limit);
+
+        return ResponseEntity.ok(songAutocompleteService.suggest(keyword, limit));
+    }
+
+    // 가사가 있는 곡 전체를 NDJSON으로 스트리밍 (관리자 전용)
+    @GetMapping(value = "/lyrics/export", produces = "application/x-ndjson")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportLyrics() {
+        log.info("가사 내보내기 요청");
+
+        StreamingResponseBody body = outputStream -> {
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            songService.exportSongsWithLyrics(song -> {
+                try {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("songId", song.songId());
+                    row.put("songName", song.songName());
+                    row.put("artistName", song.artistName());
+                    row.put("lyrics", song.lyrics());
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.newLine();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     @GetMapping("/{songId}")
     public ResponseEntity<SongResponseDTO> getSong(@PathVariable Long songId) {
         log.info("노래 상세 조회 요청 - songId: {}", songId);
@@ -0,0 +1,22 @@
+package com.ssafy.lab.orak.song.dto;
+
+import com.ssafy.lab.orak.song.entity.Song;
+
+/**
+ * 자동완성 응답용 최소 곡 정보 (키 입력마다 내려가므로 목록 표시에 필요한 필드만)
+ */
+public record SongAutocompleteDTO(
+        Long songId,
+        String songName,
+        String artistName,
+        String albumCoverUrl
+) {
+
+    public static SongAutocompleteDTO from(SongSummaryDTO song) {
+        return new SongAutocompleteDTO(song.songId(), song.songName(), song.artistName(), song.albumCoverUrl());
+    }
+
+    public static SongAutocompleteDTO from(Song song) {
+        return new SongAutocompleteDTO(song.getSongId(), song.getSongName(), song.getArtistName(), song.getAlbumCoverUrl());
+    }
+}
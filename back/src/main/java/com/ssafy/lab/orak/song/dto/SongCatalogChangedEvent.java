@@ -0,0 +1,11 @@
+package com.ssafy.lab.orak.song.dto;
+
+import java.util.Collection;
+
+/**
+ * 곡 정보 변경 알림 (관리자 수정/가져오기 후 발행하면 곡 카탈로그 캐시가 해당 곡을 다시 읽음)
+ *
+ * @param songIds 변경된 곡의 songId
+ */
+public record SongCatalogChangedEvent(Collection<Long> songIds) {
+}
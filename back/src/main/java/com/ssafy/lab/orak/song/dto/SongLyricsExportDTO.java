@@ -0,0 +1,19 @@
+package com.ssafy.lab.orak.song.dto;
+
+import com.ssafy.lab.orak.song.util.LyricsCompressor;
+
+/**
+ * 가사 내보내기 행 (압축된 가사를 그대로 들고 있다가 필요할 때 해제)
+ */
+public record SongLyricsExportDTO(
+        Long id,
+        Long songId,
+        String songName,
+        String artistName,
+        byte[] content
+) {
+
+    public String lyrics() {
+        return LyricsCompressor.decompress(content);
+    }
+}
@@ -0,0 +1,22 @@
+package com.ssafy.lab.orak.song.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 콜드 스타트 추천 랭킹용 곡 행 (가사 등 큰 컬럼 제외)
+ */
+public record SongRankingDTO(
+        Long id,
+        Long songId,
+        String songName,
+        String artistName,
+        String albumCoverUrl,
+        Integer popularity,
+        String status,
+        LocalDateTime updatedAt
+) {
+
+    public boolean isRankable() {
+        return "success".equals(status);
+    }
+}
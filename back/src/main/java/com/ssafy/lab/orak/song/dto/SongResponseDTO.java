@@ -26,6 +26,11 @@ public class SongResponseDTO {
     private String status;
 
     public static SongResponseDTO from(Song song) {
+        return from(song, null);
+    }
+
+    // 가사는 song_lyrics에서 따로 읽어 전달 (목록/추천 등 가사가 필요 없으면 from(song))
+    public static SongResponseDTO from(Song song, String lyrics) {
         return SongResponseDTO.builder()
                 .id(song.getId())
                 .songId(song.getSongId())
@@ -33,7 +38,7 @@ public class SongResponseDTO {
                 .artistName(song.getArtistName())
                 .albumName(song.getAlbumName())
                 .musicUrl(song.getMusicUrl())
-                .lyrics(song.getLyrics())
+                .lyrics(lyrics)
                 .albumCoverUrl(song.getAlbumCoverUrl())
                 .spotifyTrackId(song.getSpotifyTrackId())
                 .durationMs(song.getDurationMs())
@@ -41,4 +46,25 @@ public class SongResponseDTO {
                 .status(song.getStatus())
                 .build();
     }
-}
\ No newline at end of file
+
+    public static SongResponseDTO from(SongSummaryDTO song) {
+        return from(song, null);
+    }
+
+    public static SongResponseDTO from(SongSummaryDTO song, String lyrics) {
+        return SongResponseDTO.builder()
+                .id(song.id())
+                .songId(song.songId())
+                .songName(song.songName())
+                .artistName(song.artistName())
+                .albumName(song.albumName())
+                .musicUrl(song.musicUrl())
+                .lyrics(lyrics)
+                .albumCoverUrl(song.albumCoverUrl())
+                .spotifyTrackId(song.spotifyTrackId())
+                .durationMs(song.durationMs())
+                .popularity(song.popularity())
+                .status(song.status())
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.ssafy.lab.orak.song.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 곡 카탈로그 캐시에 보관하는 불변 곡 요약 (가사 제외)
+ */
+public record SongSummaryDTO(
+        Long id,
+        Long songId,
+        String songName,
+        String artistName,
+        String albumName,
+        String musicUrl,
+        String albumCoverUrl,
+        String spotifyTrackId,
+        Integer durationMs,
+        Integer popularity,
+        String status,
+        LocalDateTime updatedAt
+) {
+}
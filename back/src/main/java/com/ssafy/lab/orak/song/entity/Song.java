@@ -6,8 +6,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+/**
+ * 곡 메타데이터 (가사는 song_lyrics 테이블의 SongLyrics로 분리)
+ */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "song")
 @Table(name = "songs")
 @Getter
 @NoArgsConstructor
@@ -34,9 +41,6 @@ public class Song extends BaseEntity {
     @Column(columnDefinition = "TEXT")
     private String musicUrl;
 
-    @Column(columnDefinition = "LONGTEXT")
-    private String lyrics;
-
     @Column(columnDefinition = "TEXT")
     private String albumCoverUrl;
 
@@ -0,0 +1,46 @@
+package com.ssafy.lab.orak.song.entity;
+
+import com.ssafy.lab.orak.song.util.LyricsCompressor;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 곡 가사 (songs 행에서 분리, 필요할 때만 조회)
+ * - content는 MySQL COMPRESS() 형식으로 압축된 UTF-8 가사
+ */
+@Entity
+@Table(name = "song_lyrics")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SongLyrics {
+
+    // songs.id
+    @Id
+    @Column(name = "song_id")
+    private Long songId;
+
+    @Column(name = "content", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] content;
+
+    // 압축 전 UTF-8 바이트 수
+    @Column(name = "original_size", nullable = false)
+    private Integer originalSize;
+
+    public static SongLyrics of(Long songId, String lyrics) {
+        byte[] content = LyricsCompressor.compress(lyrics);
+        return SongLyrics.builder()
+                .songId(songId)
+                .content(content)
+                .originalSize(LyricsCompressor.originalLength(content))
+                .build();
+    }
+
+    public String getLyrics() {
+        return LyricsCompressor.decompress(content);
+    }
+}
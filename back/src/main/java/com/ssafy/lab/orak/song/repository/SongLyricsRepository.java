@@ -0,0 +1,9 @@
+package com.ssafy.lab.orak.song.repository;
+
+import com.ssafy.lab.orak.song.entity.SongLyrics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SongLyricsRepository extends JpaRepository<SongLyrics, Long> {
+}
@@ -1,21 +1,38 @@
 package com.ssafy.lab.orak.song.repository;
 
+import com.ssafy.lab.orak.song.dto.SongLyricsExportDTO;
+import com.ssafy.lab.orak.song.dto.SongRankingDTO;
+import com.ssafy.lab.orak.song.dto.SongSummaryDTO;
 import com.ssafy.lab.orak.song.entity.Song;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface SongRepository extends JpaRepository<Song, Long> {
 
+    // 외부 곡 ID 조회는 쿼리 캐시 (결과 id로 2차 캐시의 Song을 읽음)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Song> findBySongId(Long songId);
 
-    @Query("SELECT s FROM Song s WHERE s.lyrics IS NOT NULL AND s.lyrics != '' AND s.status = 'success'")
-    List<Song> findSongsWithLyrics();
+    // 가사 내보내기용 스트림 (id 순, fetch size만큼씩 읽으므로 전체를 메모리에 올리지 않음)
+    @Query("SELECT new com.ssafy.lab.orak.song.dto.SongLyricsExportDTO(s.id, s.songId, s.songName, s.artistName, l.content) " +
+            "FROM Song s JOIN SongLyrics l ON l.songId = s.id WHERE s.status = 'success' ORDER BY s.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<SongLyricsExportDTO> streamSongsWithLyrics();
 
     @Query("SELECT s FROM Song s WHERE s.songName LIKE %:keyword% OR s.artistName LIKE %:keyword% ORDER BY s.popularity DESC")
     List<Song> searchByKeyword(@Param("keyword") String keyword);
@@ -26,4 +43,32 @@ public interface SongRepository extends JpaRepository<Song, Long> {
     List<Song> findByArtistNameContaining(String artistName);
 
     List<Song> findBySongNameContaining(String songName);
+
+    // 콜드 스타트 추천 랭킹용 (가사 등 큰 컬럼 제외)
+    @Query("SELECT new com.ssafy.lab.orak.song.dto.SongRankingDTO(s.id, s.songId, s.songName, s.artistName, s.albumCoverUrl, s.popularity, s.status, s.updatedAt) FROM Song s")
+    List<SongRankingDTO> findAllRankingRows();
+
+    // (updatedAt, id) 키셋: 마지막으로 읽은 행 이후만 조회하므로 변경이 없으면 빈 결과
+    @Query("SELECT new com.ssafy.lab.orak.song.dto.SongRankingDTO(s.id, s.songId, s.songName, s.artistName, s.albumCoverUrl, s.popularity, s.status, s.updatedAt) FROM Song s " +
+            "WHERE s.updatedAt > :since OR (s.updatedAt = :since AND s.id > :lastId)")
+    List<SongRankingDTO> findRankingRowsUpdatedAfter(@Param("since") LocalDateTime since, @Param("lastId") Long lastId);
+
+    // 곡 카탈로그 캐시용 요약 (가사 제외)
+    @Query("SELECT new com.ssafy.lab.orak.song.dto.SongSummaryDTO(s.id, s.songId, s.songName, s.artistName, s.albumName, s.musicUrl, s.albumCoverUrl, s.spotifyTrackId, s.durationMs, s.popularity, s.status, s.updatedAt) FROM Song s")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<SongSummaryDTO> streamAllSummaries();
+
+    // (updatedAt, id) 키셋: 마지막으로 읽은 행 이후만 조회하므로 변경이 없으면 빈 결과
+    @Query("SELECT new com.ssafy.lab.orak.song.dto.SongSummaryDTO(s.id, s.songId, s.songName, s.artistName, s.albumName, s.musicUrl, s.albumCoverUrl, s.spotifyTrackId, s.durationMs, s.popularity, s.status, s.updatedAt) FROM Song s " +
+            "WHERE s.updatedAt > :since OR (s.updatedAt = :since AND s.id > :lastId)")
+    List<SongSummaryDTO> findSummariesUpdatedAfter(@Param("since") LocalDateTime since, @Param("lastId") Long lastId);
+
+    @Query("SELECT new com.ssafy.lab.orak.song.dto.SongSummaryDTO(s.id, s.songId, s.songName, s.artistName, s.albumName, s.musicUrl, s.albumCoverUrl, s.spotifyTrackId, s.durationMs, s.popularity, s.status, s.updatedAt) FROM Song s WHERE s.songId IN :songIds")
+    List<SongSummaryDTO> findSummariesBySongIdIn(@Param("songIds") Collection<Long> songIds);
+
+    @Query("SELECT new com.ssafy.lab.orak.song.dto.SongSummaryDTO(s.id, s.songId, s.songName, s.artistName, s.albumName, s.musicUrl, s.albumCoverUrl, s.spotifyTrackId, s.durationMs, s.popularity, s.status, s.updatedAt) FROM Song s WHERE s.id IN :ids")
+    List<SongSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
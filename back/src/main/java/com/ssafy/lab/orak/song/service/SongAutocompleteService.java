@@ -0,0 +1,143 @@
+package com.ssafy.lab.orak.song.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.lab.orak.song.dto.SongAutocompleteDTO;
+import com.ssafy.lab.orak.song.dto.SongSummaryDTO;
+import com.ssafy.lab.orak.song.repository.SongRepository;
+import com.ssafy.lab.orak.song.util.AutocompleteTrie;
+import com.ssafy.lab.orak.song.util.SongCatalog;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 곡 제목/가수명 자동완성 (키 입력마다 호출되는 실시간 검색 대체)
+ * - 곡 카탈로그 캐시 스냅샷으로 접두사 트라이를 만들어 접두사 길이에 비례하는 시간에 조회
+ * - 같은 접두사는 짧은 TTL 동안 결과 목록을 그대로 재사용
+ * - 트라이가 아직 없으면 기존 LIKE 검색으로 대체
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class SongAutocompleteService {
+
+    private static final Comparator<SongSummaryDTO> BY_POPULARITY = Comparator
+            .comparingInt((SongSummaryDTO song) -> song.popularity() != null ? song.popularity() : 0).reversed()
+            .thenComparing(SongSummaryDTO::id);
+
+    private final SongCatalogCache songCatalogCache;
+    private final SongRepository songRepository;
+
+    private volatile AutocompleteTrie trie;
+    // 트라이를 만든 카탈로그 스냅샷 (rebuild 안에서만 접근)
+    private SongCatalog builtFrom;
+    private Cache<String, List<SongAutocompleteDTO>> prefixCache;
+
+    @Value("${song.autocomplete.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${song.autocomplete.top-k:20}")
+    private int topK = 20;
+
+    @Value("${song.autocomplete.prefix-cache-ttl-ms:3000}")
+    private long prefixCacheTtlMs = 3000;
+
+    @Value("${song.autocomplete.prefix-cache-max-size:10000}")
+    private long prefixCacheMaxSize = 10000;
+
+    @PostConstruct
+    void initPrefixCache() {
+        prefixCache = Caffeine.newBuilder()
+                .maximumSize(prefixCacheMaxSize)
+                .expireAfterWrite(Duration.ofMillis(prefixCacheTtlMs))
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        scheduledRebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${song.autocomplete.rebuild-interval-ms:30000}",
+            initialDelayString = "${song.autocomplete.rebuild-interval-ms:30000}")
+    public void scheduledRebuild() {
+        if (!enabled || !songCatalogCache.isLoaded()) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("자동완성 트라이 재구성 실패 - 이전 트라이 유지", e);
+        }
+    }
+
+    /**
+     * 카탈로그 내용이 바뀌었으면 트라이를 다시 만듦
+     * (전체 재적재처럼 스냅샷만 새로 만들어지고 내용이 같으면 트라이와 접두사 캐시를 유지)
+     */
+    public synchronized void rebuild() {
+        SongCatalog catalog = songCatalogCache.snapshot();
+        if (catalog.contentEquals(builtFrom)) {
+            builtFrom = catalog;
+            return;
+        }
+        long start = System.nanoTime();
+        List<SongAutocompleteDTO> rankedSongs = catalog.all().stream()
+                .filter(song -> "success".equals(song.status()))
+                .sorted(BY_POPULARITY)
+                .map(SongAutocompleteDTO::from)
+                .toList();
+        AutocompleteTrie rebuilt = AutocompleteTrie.build(rankedSongs, topK);
+
+        trie = rebuilt;
+        builtFrom = catalog;
+        prefixCache.invalidateAll();
+        log.info("자동완성 트라이 재구성 완료 - 곡 {}개, 노드 {}개, {}ms",
+                rebuilt.size(), rebuilt.nodeCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 접두사(초성 포함)로 시작하는 곡/가수를 인기순으로 최대 limit개 반환
+     */
+    public List<SongAutocompleteDTO> suggest(String keyword, int limit) {
+        String prefix = AutocompleteTrie.normalize(keyword);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int size = Math.min(limit, topK);
+
+        AutocompleteTrie current = trie;
+        if (!enabled || current == null) {
+            return fallback(keyword.trim(), size);
+        }
+
+        // 접두사마다 topK개를 통째로 캐시하고 limit만큼 잘라 씀 (limit이 달라도 같은 항목 재사용)
+        List<SongAutocompleteDTO> top = prefixCache.get(prefix, key -> current.lookup(key, topK));
+        return top.size() <= size ? top : top.subList(0, size);
+    }
+
+    public boolean isReady() {
+        return trie != null;
+    }
+
+    // 트라이 준비 전에는 기존 실시간 검색과 같은 조건으로 DB 조회 (한 글자는 전체 스캔이 되므로 제외)
+    private List<SongAutocompleteDTO> fallback(String keyword, int size) {
+        if (keyword.length() < 2) {
+            return List.of();
+        }
+        return songRepository.searchByKeywordWithLimit(keyword, PageRequest.of(0, size)).stream()
+                .map(SongAutocompleteDTO::from)
+                .toList();
+    }
+}
@@ -0,0 +1,257 @@
+package com.ssafy.lab.orak.song.service;
+
+import com.ssafy.lab.orak.song.dto.SongCatalogChangedEvent;
+import com.ssafy.lab.orak.song.dto.SongSummaryDTO;
+import com.ssafy.lab.orak.song.repository.SongRepository;
+import com.ssafy.lab.orak.song.util.SongCatalog;
+import io.micrometer.core.instrument.Counter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 곡 카탈로그 read-through 캐시 (가사 없는 불변 요약, id/songId 양쪽으로 조회)
+ * - 시작 시 스트리밍 조회로 전체 적재, 이후 updatedAt 기준 변경분만 주기적으로 반영
+ * - 관리자 수정 후 SongCatalogChangedEvent를 발행하면 해당 곡만 즉시 다시 읽음
+ * - 캐시에 없는 곡은 IN 한 번으로 읽어 스냅샷에 추가
+ * - 조회는 volatile 스냅샷 참조만 읽으므로 갱신 중에도 잠금 없이 일관된 결과를 봄
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class SongCatalogCache {
+
+    private final SongRepository songRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final Counter songCatalogCacheHitCounter;
+    private final Counter songCatalogCacheMissCounter;
+    private final AtomicLong songCatalogCacheSize;
+    private final AtomicLong songCatalogCacheBytes;
+
+    private volatile SongCatalog catalog = SongCatalog.EMPTY;
+    private volatile boolean loaded;
+
+    // 갱신 상태 (synchronized 메서드 안에서만 접근)
+    // 마지막으로 반영한 행의 (updatedAt, id) 키셋
+    private LocalDateTime watermark;
+    private long watermarkId;
+    private long lastFullReloadAt;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @Value("${song.catalog-cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${song.catalog-cache.full-reload-interval-ms:3600000}")
+    private long fullReloadIntervalMs = 3600000;
+
+    @PostConstruct
+    void initTransactionTemplate() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        scheduledRefresh();
+    }
+
+    @Scheduled(fixedDelayString = "${song.catalog-cache.refresh-interval-ms:60000}",
+            initialDelayString = "${song.catalog-cache.refresh-interval-ms:60000}")
+    public void scheduledRefresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (!loaded || System.currentTimeMillis() - lastFullReloadAt >= fullReloadIntervalMs) {
+                reload();
+            } else {
+                refreshIncrementally();
+            }
+        } catch (Exception e) {
+            log.warn("곡 카탈로그 캐시 갱신 실패 - 이전 스냅샷 유지", e);
+        }
+    }
+
+    /**
+     * 전체 곡 요약을 스트리밍으로 읽어 새 스냅샷으로 교체
+     */
+    public synchronized void reload() {
+        long start = System.nanoTime();
+        List<SongSummaryDTO> songs = new ArrayList<>();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<SongSummaryDTO> stream = songRepository.streamAllSummaries()) {
+                stream.forEach(songs::add);
+            }
+        });
+
+        publish(SongCatalog.of(songs));
+        watermark = null;
+        watermarkId = 0;
+        advanceWatermark(songs);
+        lastFullReloadAt = System.currentTimeMillis();
+        loaded = true;
+        log.info("곡 카탈로그 캐시 적재 완료 - {}곡, 약 {}KB, {}ms",
+                catalog.size(), catalog.estimatedBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 마지막 갱신 이후 수정/추가된 곡만 반영
+     */
+    public synchronized void refreshIncrementally() {
+        if (!loaded || watermark == null) {
+            reload();
+            return;
+        }
+        // 키셋 이후 행만 읽으므로 변경이 없으면 스냅샷을 그대로 둠
+        // (워터마크보다 이른 시각으로 늦게 커밋된 수정은 전체 재적재 때 반영)
+        List<SongSummaryDTO> changed = songRepository.findSummariesUpdatedAfter(watermark, watermarkId);
+        if (changed.isEmpty()) {
+            return;
+        }
+        advanceWatermark(changed);
+        publish(catalog.merge(changed));
+        log.debug("곡 카탈로그 캐시 증분 갱신 - {}곡", changed.size());
+    }
+
+    /**
+     * 관리자 수정 등으로 바뀐 곡을 즉시 다시 읽음
+     */
+    @EventListener
+    public void onSongCatalogChanged(SongCatalogChangedEvent event) {
+        if (!enabled || event.songIds() == null || event.songIds().isEmpty()) {
+            return;
+        }
+        List<SongSummaryDTO> changed = songRepository.findSummariesBySongIdIn(event.songIds());
+        synchronized (this) {
+            publish(catalog.merge(changed));
+        }
+        log.info("곡 카탈로그 캐시 변경 반영 - 요청 {}곡, 반영 {}곡", event.songIds().size(), changed.size());
+    }
+
+    public Optional<SongSummaryDTO> getBySongId(Long songId) {
+        if (songId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(getAllBySongIds(List.of(songId)).get(songId));
+    }
+
+    public Optional<SongSummaryDTO> getById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        SongSummaryDTO cached = catalog.findById(id);
+        if (cached != null) {
+            songCatalogCacheHitCounter.increment();
+            return Optional.of(cached);
+        }
+        songCatalogCacheMissCounter.increment();
+        List<SongSummaryDTO> loadedSongs = songRepository.findSummariesByIdIn(List.of(id));
+        addMissing(loadedSongs);
+        return loadedSongs.stream().findFirst();
+    }
+
+    /**
+     * songId 목록을 한 번에 조회 (입력 순서 유지, 없는 곡은 제외)
+     * 캐시에 없는 곡은 IN 한 번으로 읽음
+     */
+    public Map<Long, SongSummaryDTO> getAllBySongIds(Collection<Long> songIds) {
+        SongCatalog snapshot = catalog;
+        Map<Long, SongSummaryDTO> found = new LinkedHashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long songId : songIds) {
+            if (songId == null || found.containsKey(songId)) {
+                continue;
+            }
+            SongSummaryDTO cached = snapshot.findBySongId(songId);
+            if (cached != null) {
+                found.put(songId, cached);
+            } else {
+                missing.add(songId);
+            }
+        }
+        songCatalogCacheHitCounter.increment(found.size());
+
+        if (missing.isEmpty()) {
+            return found;
+        }
+        songCatalogCacheMissCounter.increment(missing.size());
+        List<SongSummaryDTO> loadedSongs = songRepository.findSummariesBySongIdIn(missing);
+        addMissing(loadedSongs);
+
+        Map<Long, SongSummaryDTO> loadedBySongId = new LinkedHashMap<>();
+        for (SongSummaryDTO song : loadedSongs) {
+            loadedBySongId.put(song.songId(), song);
+        }
+        // 입력 순서대로 다시 정렬
+        Map<Long, SongSummaryDTO> result = new LinkedHashMap<>();
+        for (Long songId : songIds) {
+            SongSummaryDTO song = found.containsKey(songId) ? found.get(songId) : loadedBySongId.get(songId);
+            if (song != null) {
+                result.put(songId, song);
+            }
+        }
+        return result;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        return catalog.size();
+    }
+
+    /**
+     * 현재 스냅샷 (불변이므로 그대로 순회해도 안전, 갱신 여부는 참조 비교로 확인)
+     */
+    public SongCatalog snapshot() {
+        return catalog;
+    }
+
+    // 적재가 끝난 뒤 캐시에 없던 곡은 새로 추가된 곡이므로 스냅샷에 합침 (적재 전에는 조회만)
+    private void addMissing(List<SongSummaryDTO> songs) {
+        if (!loaded || songs.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            publish(catalog.merge(songs));
+        }
+    }
+
+    private void publish(SongCatalog snapshot) {
+        catalog = snapshot;
+        songCatalogCacheSize.set(snapshot.size());
+        songCatalogCacheBytes.set(snapshot.estimatedBytes());
+    }
+
+    private void advanceWatermark(List<SongSummaryDTO> songs) {
+        for (SongSummaryDTO song : songs) {
+            LocalDateTime updatedAt = song.updatedAt();
+            if (updatedAt != null && (watermark == null || updatedAt.isAfter(watermark)
+                    || (updatedAt.isEqual(watermark) && song.id() > watermarkId))) {
+                watermark = updatedAt;
+                watermarkId = song.id();
+            }
+        }
+    }
+}
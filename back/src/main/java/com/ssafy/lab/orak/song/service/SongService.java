@@ -1,7 +1,11 @@
 package com.ssafy.lab.orak.song.service;
 
+import com.ssafy.lab.orak.song.dto.SongLyricsExportDTO;
 import com.ssafy.lab.orak.song.dto.SongResponseDTO;
+import com.ssafy.lab.orak.song.dto.SongSummaryDTO;
 import com.ssafy.lab.orak.song.entity.Song;
+import com.ssafy.lab.orak.song.entity.SongLyrics;
+import com.ssafy.lab.orak.song.repository.SongLyricsRepository;
 import com.ssafy.lab.orak.song.repository.SongRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -10,8 +14,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -20,15 +29,15 @@ import java.util.stream.Collectors;
 public class SongService {
 
     private final SongRepository songRepository;
+    private final SongLyricsRepository songLyricsRepository;
+    private final SongCatalogCache songCatalogCache;
 
     public List<SongResponseDTO> searchSongsByTitle(String title) {
         log.info("노래 제목으로 검색: {}", title);
 
         List<Song> songs = songRepository.findBySongNameContaining(title);
 
-        return songs.stream()
-                .map(SongResponseDTO::from)
-                .collect(Collectors.toList());
+        return toResponseDTOsWithLyrics(songs);
     }
 
     public List<SongResponseDTO> searchSongsByKeyword(String keyword) {
@@ -36,9 +45,7 @@ public class SongService {
 
         List<Song> songs = songRepository.searchByKeyword(keyword);
 
-        return songs.stream()
-                .map(SongResponseDTO::from)
-                .collect(Collectors.toList());
+        return toResponseDTOsWithLyrics(songs);
     }
 
     public List<SongResponseDTO> searchSongsRealtime(String keyword, int limit) {
@@ -51,17 +58,51 @@ public class SongService {
         Pageable pageable = PageRequest.of(0, limit);
         List<Song> songs = songRepository.searchByKeywordWithLimit(keyword.trim(), pageable);
 
-        return songs.stream()
-                .map(SongResponseDTO::from)
-                .collect(Collectors.toList());
+        return toResponseDTOsWithLyrics(songs);
     }
 
     public SongResponseDTO getSongById(Long songId) {
         log.info("노래 상세 조회: {}", songId);
 
-        Song song = songRepository.findBySongId(songId)
+        SongSummaryDTO song = songCatalogCache.getBySongId(songId)
                 .orElseThrow(() -> new RuntimeException("노래를 찾을 수 없습니다. songId: " + songId));
 
-        return SongResponseDTO.from(song);
+        String lyrics = songLyricsRepository.findById(song.id())
+                .map(SongLyrics::getLyrics)
+                .orElse(null);
+        return SongResponseDTO.from(song, lyrics);
+    }
+
+    /**
+     * 가사가 있는 곡을 id 순으로 하나씩 전달 (fetch size 단위로 읽어 전체를 메모리에 올리지 않음)
+     *
+     * @return 전달한 곡 수
+     */
+    public long exportSongsWithLyrics(Consumer<SongLyricsExportDTO> consumer) {
+        long count = 0;
+        try (Stream<SongLyricsExportDTO> songs = songRepository.streamSongsWithLyrics()) {
+            Iterator<SongLyricsExportDTO> iterator = songs.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                count++;
+            }
+        }
+        log.info("가사 내보내기 완료: {}곡", count);
+        return count;
+    }
+
+    // 결과 곡들의 가사를 IN 한 번으로 읽어 붙임
+    private List<SongResponseDTO> toResponseDTOsWithLyrics(List<Song> songs) {
+        if (songs.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, String> lyricsBySongId = new HashMap<>();
+        for (SongLyrics lyrics : songLyricsRepository.findAllById(songs.stream().map(Song::getId).toList())) {
+            lyricsBySongId.put(lyrics.getSongId(), lyrics.getLyrics());
+        }
+
+        return songs.stream()
+                .map(song -> SongResponseDTO.from(song, lyricsBySongId.get(song.getId())))
+                .collect(Collectors.toList());
     }
 }
\ No newline at end of file
@@ -0,0 +1,236 @@
+package com.ssafy.lab.orak.song.util;
+
+import com.ssafy.lab.orak.common.util.TextNormalizer;
+import com.ssafy.lab.orak.song.dto.SongAutocompleteDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 곡 제목/가수명 자동완성용 압축 접두사 트라이 (불변, 갱신 시 통째로 교체)
+ * - 이름 전체와 각 단어 시작 위치부터의 문자열, 그리고 각각의 초성 문자열을 키로 등록
+ * - 곡은 인기순으로 번호를 매기므로 노드마다 가장 작은 번호 topK개가 곧 인기 상위 topK
+ * - 단일 자식 경로는 한 간선으로 합치고, 조회는 접두사 길이만큼 내려가 노드의 목록을 그대로 반환
+ */
+public final class AutocompleteTrie {
+
+    // 이보다 긴 접두사는 잘라서 조회 (이 길이면 결과가 사실상 하나로 좁혀짐)
+    public static final int MAX_KEY_LENGTH = 32;
+    private static final int MAX_WORDS_PER_NAME = 8;
+
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private static final char[] NO_CHARS = new char[0];
+    private static final int[] NO_SONGS = new int[0];
+    private static final Node[] NO_NODES = new Node[0];
+
+    public static final AutocompleteTrie EMPTY = build(List.of(), 1);
+
+    private final SongAutocompleteDTO[] songs;
+    private final Node root;
+    private final int nodeCount;
+
+    private AutocompleteTrie(SongAutocompleteDTO[] songs, Node root, int nodeCount) {
+        this.songs = songs;
+        this.root = root;
+        this.nodeCount = nodeCount;
+    }
+
+    /**
+     * @param rankedSongs 인기순으로 정렬된 곡 목록
+     * @param topK        노드마다 보관할 최대 곡 수
+     */
+    public static AutocompleteTrie build(List<SongAutocompleteDTO> rankedSongs, int topK) {
+        BuildNode buildRoot = new BuildNode();
+        for (int rank = 0; rank < rankedSongs.size(); rank++) {
+            SongAutocompleteDTO song = rankedSongs.get(rank);
+            for (String key : keys(song)) {
+                buildRoot.insert(key, rank);
+            }
+        }
+        int[] nodeCount = new int[1];
+        Node root = compress(NO_CHARS, buildRoot, topK, nodeCount);
+        return new AutocompleteTrie(rankedSongs.toArray(new SongAutocompleteDTO[0]), root, nodeCount[0]);
+    }
+
+    /**
+     * 접두사로 시작하는 키를 가진 곡을 인기순으로 최대 limit개 반환
+     */
+    public List<SongAutocompleteDTO> lookup(String keyword, int limit) {
+        String prefix = normalize(keyword);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int[] ranks = find(prefix);
+        int size = Math.min(limit, ranks.length);
+        List<SongAutocompleteDTO> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(songs[ranks[i]]);
+        }
+        return result;
+    }
+
+    public int size() {
+        return songs.length;
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * 공통 정규화 규칙으로 MAX_KEY_LENGTH 글자까지만 남김
+     */
+    public static String normalize(String value) {
+        return TextNormalizer.normalize(value, MAX_KEY_LENGTH);
+    }
+
+    /**
+     * 한글 음절을 초성 자모로 바꾼 문자열 (한글이 없으면 null)
+     */
+    public static String chosung(String normalized) {
+        boolean hasHangul = false;
+        char[] chars = normalized.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            char c = chars[i];
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                chars[i] = CHOSUNG[(c - HANGUL_BASE) / SYLLABLES_PER_CHOSUNG];
+                hasHangul = true;
+            }
+        }
+        return hasHangul ? new String(chars) : null;
+    }
+
+    private int[] find(String prefix) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            int index = Arrays.binarySearch(node.firstChars, prefix.charAt(i));
+            if (index < 0) {
+                return NO_SONGS;
+            }
+            Node child = node.children[index];
+            for (int j = 0; j < child.label.length && i < prefix.length(); j++, i++) {
+                if (child.label[j] != prefix.charAt(i)) {
+                    return NO_SONGS;
+                }
+            }
+            node = child;
+        }
+        return node.top;
+    }
+
+    private static Set<String> keys(SongAutocompleteDTO song) {
+        Set<String> keys = new LinkedHashSet<>();
+        addNameKeys(keys, song.songName());
+        addNameKeys(keys, song.artistName());
+        return keys;
+    }
+
+    // "Love Poem" → "lovepoem", "poem" 및 한글이면 초성 키도 추가
+    private static void addNameKeys(Set<String> keys, String name) {
+        if (name == null || name.isBlank()) {
+            return;
+        }
+        String[] words = name.trim().split("\\s+");
+        for (int start = 0; start < words.length && start < MAX_WORDS_PER_NAME; start++) {
+            String key = normalize(String.join("", Arrays.copyOfRange(words, start, words.length)));
+            if (key.isEmpty()) {
+                continue;
+            }
+            keys.add(key);
+            String chosung = chosung(key);
+            if (chosung != null) {
+                keys.add(chosung);
+            }
+        }
+    }
+
+    // 단일 자식 경로를 합치면서 하위 노드부터 topK 목록을 계산
+    private static Node compress(char[] label, BuildNode node, int topK, int[] nodeCount) {
+        StringBuilder merged = new StringBuilder().append(label);
+        // 루트(빈 간선)는 합치지 않음
+        while (label.length > 0 && node.terminal.length == 0 && node.children.size() == 1) {
+            Map.Entry<Character, BuildNode> only = node.children.firstEntry();
+            merged.append(only.getKey().charValue());
+            node = only.getValue();
+        }
+
+        int childCount = node.children.size();
+        char[] firstChars = childCount == 0 ? NO_CHARS : new char[childCount];
+        Node[] children = childCount == 0 ? NO_NODES : new Node[childCount];
+        int[] top = Arrays.copyOf(node.terminal, Math.min(node.terminal.length, topK));
+        int i = 0;
+        for (Map.Entry<Character, BuildNode> entry : node.children.entrySet()) {
+            Node child = compress(new char[]{entry.getKey()}, entry.getValue(), topK, nodeCount);
+            firstChars[i] = entry.getKey();
+            children[i++] = child;
+            top = mergeTop(top, child.top, topK);
+        }
+        nodeCount[0]++;
+        return new Node(merged.toString().toCharArray(), firstChars, children, top);
+    }
+
+    // 정렬된 두 번호 목록을 중복 없이 합쳐 앞에서부터 topK개
+    private static int[] mergeTop(int[] a, int[] b, int topK) {
+        int[] merged = new int[Math.min(a.length + b.length, topK)];
+        int i = 0, j = 0, size = 0;
+        while (size < merged.length && (i < a.length || j < b.length)) {
+            int next;
+            if (j >= b.length || (i < a.length && a[i] <= b[j])) {
+                next = a[i++];
+            } else {
+                next = b[j++];
+            }
+            if (size == 0 || merged[size - 1] != next) {
+                merged[size++] = next;
+            }
+        }
+        return size == merged.length ? merged : Arrays.copyOf(merged, size);
+    }
+
+    private static final class Node {
+        private final char[] label;
+        private final char[] firstChars;
+        private final Node[] children;
+        private final int[] top;
+
+        private Node(char[] label, char[] firstChars, Node[] children, int[] top) {
+            this.label = label;
+            this.firstChars = firstChars;
+            this.children = children;
+            this.top = top;
+        }
+    }
+
+    // 빌드 전용 비압축 노드 (빌드가 끝나면 버림)
+    private static final class BuildNode {
+        private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        private int[] terminal = NO_SONGS;
+
+        private void insert(String key, int rank) {
+            BuildNode node = this;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new BuildNode());
+            }
+            // 곡은 번호 순으로 등록되므로 끝에 붙이면 정렬 유지, 같은 곡의 중복 키만 걸러냄
+            int[] terminal = node.terminal;
+            if (terminal.length == 0 || terminal[terminal.length - 1] != rank) {
+                terminal = Arrays.copyOf(terminal, terminal.length + 1);
+                terminal[terminal.length - 1] = rank;
+                node.terminal = terminal;
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.ssafy.lab.orak.song.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 가사 압축/해제 (MySQL COMPRESS() 형식: 원본 바이트 길이 4바이트(little-endian) + zlib 스트림)
+ * - 마이그레이션은 COMPRESS(lyrics)로, 애플리케이션은 이 클래스로 같은 형식을 읽고 씀
+ * - DB에서 UNCOMPRESS(content)로 바로 확인 가능
+ */
+public final class LyricsCompressor {
+
+    private static final int HEADER_LENGTH = 4;
+
+    private LyricsCompressor() {
+    }
+
+    public static byte[] compress(String lyrics) {
+        byte[] raw = lyrics.getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(HEADER_LENGTH + raw.length / 3 + 64);
+            out.writeBytes(ByteBuffer.allocate(HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN).putInt(raw.length).array());
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * 압축 데이터 헤더에 기록된 원본 UTF-8 바이트 수
+     */
+    public static int originalLength(byte[] content) {
+        return ByteBuffer.wrap(content, 0, HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN).getInt();
+    }
+
+    public static String decompress(byte[] content) {
+        if (content == null || content.length <= HEADER_LENGTH) {
+            return null;
+        }
+        int originalLength = originalLength(content);
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(content, HEADER_LENGTH, content.length - HEADER_LENGTH);
+            byte[] raw = new byte[originalLength];
+            int read = 0;
+            while (read < originalLength && !inflater.finished()) {
+                int n = inflater.inflate(raw, read, originalLength - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != originalLength) {
+                throw new IllegalArgumentException("가사 압축 해제 길이 불일치: expected=" + originalLength + ", actual=" + read);
+            }
+            return new String(raw, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("가사 압축 데이터 손상", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.ssafy.lab.orak.song.util;
+
+import com.ssafy.lab.orak.song.dto.SongSummaryDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 곡 요약 스냅샷 (불변, 변경 시 새 스냅샷으로 통째로 교체)
+ * - id, songId를 각각 정렬된 long 배열로 보관하고 이진 탐색 (박싱된 키를 담는 HashMap 없이 조회)
+ * - 두 인덱스는 같은 요약 객체를 가리키므로 요약은 한 벌만 보관
+ */
+public final class SongCatalog {
+
+    public static final SongCatalog EMPTY = of(List.of());
+
+    // 객체 헤더 + 필드 참조/값 + 두 인덱스 배열 슬롯 (대략치)
+    private static final long ENTRY_OVERHEAD_BYTES = 16 + 12 * 8 + 4 * 24 + 2 * (8 + 8);
+    private static final long STRING_OVERHEAD_BYTES = 40;
+
+    private final long[] ids;
+    private final SongSummaryDTO[] byId;
+    private final long[] songIds;
+    private final SongSummaryDTO[] bySongId;
+    private final long estimatedBytes;
+
+    private SongCatalog(long[] ids, SongSummaryDTO[] byId, long[] songIds, SongSummaryDTO[] bySongId, long estimatedBytes) {
+        this.ids = ids;
+        this.byId = byId;
+        this.songIds = songIds;
+        this.bySongId = bySongId;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    public static SongCatalog of(Collection<SongSummaryDTO> songs) {
+        SongSummaryDTO[] byId = songs.toArray(new SongSummaryDTO[0]);
+        Arrays.sort(byId, Comparator.comparingLong(SongSummaryDTO::id));
+        SongSummaryDTO[] bySongId = byId.clone();
+        Arrays.sort(bySongId, Comparator.comparingLong(SongSummaryDTO::songId));
+
+        long[] ids = new long[byId.length];
+        long[] songIds = new long[bySongId.length];
+        long bytes = 0;
+        for (int i = 0; i < byId.length; i++) {
+            ids[i] = byId[i].id();
+            songIds[i] = bySongId[i].songId();
+            bytes += estimateBytes(byId[i]);
+        }
+        return new SongCatalog(ids, byId, songIds, bySongId, bytes);
+    }
+
+    /**
+     * 변경된 곡을 반영한 새 스냅샷 (같은 id는 교체, 새 id는 추가)
+     * 모든 곡이 기존 요약과 같으면 자기 자신을 그대로 반환
+     */
+    public SongCatalog merge(Collection<SongSummaryDTO> changed) {
+        if (changed.stream().allMatch(song -> song.equals(findById(song.id())))) {
+            return this;
+        }
+        Map<Long, SongSummaryDTO> merged = new LinkedHashMap<>(byId.length + changed.size());
+        for (SongSummaryDTO song : byId) {
+            merged.put(song.id(), song);
+        }
+        for (SongSummaryDTO song : changed) {
+            merged.put(song.id(), song);
+        }
+        return of(merged.values());
+    }
+
+    public SongSummaryDTO findById(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        return index >= 0 ? byId[index] : null;
+    }
+
+    public SongSummaryDTO findBySongId(long songId) {
+        int index = Arrays.binarySearch(songIds, songId);
+        return index >= 0 ? bySongId[index] : null;
+    }
+
+    /**
+     * 두 스냅샷이 같은 곡 요약을 담고 있는지 (참조가 달라도 재적재 전후 내용이 같을 수 있음)
+     */
+    public boolean contentEquals(SongCatalog other) {
+        return other != null && (other == this || Arrays.equals(byId, other.byId));
+    }
+
+    public List<SongSummaryDTO> all() {
+        return new ArrayList<>(Arrays.asList(byId));
+    }
+
+    public int size() {
+        return byId.length;
+    }
+
+    /**
+     * 스냅샷이 차지하는 힙 크기 추정치 (문자열은 UTF-16 기준으로 넉넉하게 계산)
+     */
+    public long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    private static long estimateBytes(SongSummaryDTO song) {
+        return ENTRY_OVERHEAD_BYTES
+                + stringBytes(song.songName())
+                + stringBytes(song.artistName())
+                + stringBytes(song.albumName())
+                + stringBytes(song.musicUrl())
+                + stringBytes(song.albumCoverUrl())
+                + stringBytes(song.spotifyTrackId())
+                + stringBytes(song.status());
+    }
+
+    private static long stringBytes(String value) {
+        return value == null ? 0 : STRING_OVERHEAD_BYTES + 2L * value.length();
+    }
+}
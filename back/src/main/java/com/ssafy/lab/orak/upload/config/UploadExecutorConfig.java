@@ -0,0 +1,46 @@
+package com.ssafy.lab.orak.upload.config;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@Log4j2
+public class UploadExecutorConfig {
+
+    // 다중 파일 업로드용 스레드풀 (로컬 저장 + S3 전송은 네트워크 대기 위주이므로 I/O 바운드)
+    @Bean("fileUploadExecutor")
+    public Executor fileUploadExecutor(
+            @Value("${upload.batch.core-pool-size:4}") int corePoolSize,
+            @Value("${upload.batch.max-pool-size:8}") int maxPoolSize,
+            @Value("${upload.batch.queue-capacity:100}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setKeepAliveSeconds(60);
+        executor.setThreadNamePrefix("FileUpload-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        // 대기 큐가 가득 차면 요청 스레드에서 직접 업로드 (자연스러운 백프레셔)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy() {
+            @Override
+            public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+                log.warn("파일 업로드 스레드풀 포화 상태 - 호출 스레드에서 직접 처리");
+                super.rejectedExecution(r, executor);
+            }
+        });
+
+        executor.initialize();
+        log.info("파일 업로드 전용 스레드풀 초기화 완료 - Core: {}, Max: {}, Queue: {}",
+                corePoolSize, maxPoolSize, queueCapacity);
+        return executor;
+    }
+}
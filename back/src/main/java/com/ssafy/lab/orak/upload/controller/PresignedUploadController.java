@@ -3,13 +3,18 @@ package com.ssafy.lab.orak.upload.controller;
 import com.ssafy.lab.orak.auth.service.CustomUserPrincipal;
 import com.ssafy.lab.orak.upload.dto.PresignedUploadRequest;
 import com.ssafy.lab.orak.upload.dto.PresignedUploadResponse;
+import com.ssafy.lab.orak.upload.dto.UploadCompletionRequest;
+import com.ssafy.lab.orak.upload.dto.UploadCompletionResult;
 import com.ssafy.lab.orak.upload.service.PresignedUploadService;
+import com.ssafy.lab.orak.upload.service.UploadCompletionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/uploads")
 @RequiredArgsConstructor
@@ -17,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
 public class PresignedUploadController {
 
     private final PresignedUploadService presignedUploadService;
+    private final UploadCompletionService uploadCompletionService;
 
     @PostMapping("/presigned-url")
     public ResponseEntity<PresignedUploadResponse> generatePresignedUploadUrl(
@@ -31,4 +37,22 @@ public class PresignedUploadController {
         
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * Presigned URL 업로드 완료 일괄 알림
+     * 여러 파일을 올린 뒤 한 번에 호출하면 HEAD 검증 → 상태 일괄 갱신 → 이벤트 일괄 발행
+     */
+    @PostMapping("/complete")
+    public ResponseEntity<UploadCompletionResult> completeUploads(
+            @RequestBody UploadCompletionRequest request,
+            @AuthenticationPrincipal CustomUserPrincipal principal) {
+
+        List<Long> uploadIds = request.getUploadIds() != null ? request.getUploadIds() : List.of();
+        log.info("Completing presigned uploads: count={} (user: {})", uploadIds.size(), principal.getUser().getId());
+
+        UploadCompletionResult result = uploadCompletionService
+                .completeUploads(uploadIds, principal.getUser().getId());
+
+        return ResponseEntity.ok(result);
+    }
+}
@@ -1,5 +1,7 @@
 package com.ssafy.lab.orak.upload.controller;
 
+import com.ssafy.lab.orak.upload.dto.BulkStatusUpdateRequest;
+import com.ssafy.lab.orak.upload.dto.BulkStatusUpdateResult;
 import com.ssafy.lab.orak.upload.dto.ProcessingStatusResponseDTO;
 import com.ssafy.lab.orak.upload.dto.DetailedProcessingStatusDTO;
 import com.ssafy.lab.orak.upload.entity.Upload;
@@ -199,6 +201,38 @@ public class ProcessingStatusController {
 
         return ResponseEntity.ok().build();
     }
+
+//    여러 파일 처리 상태 일괄 업데이트 (내부 API - 프로세싱 서버용)
+    @PutMapping("/status")
+    @Operation(summary = "처리 상태 일괄 업데이트", description = "여러 파일의 처리 상태를 청크 단위 UPDATE로 한 번에 변경합니다. (내부 API)")
+    public ResponseEntity<BulkStatusUpdateResult> updateProcessingStatuses(@RequestBody BulkStatusUpdateRequest request) {
+        if (request.getUploadIds() == null || request.getUploadIds().isEmpty() || request.getStatus() == null) {
+            throw new IllegalArgumentException("uploadIds와 status는 필수입니다");
+        }
+
+        log.info("PUT /api/processing/status - Bulk status update: {}건 -> {} ({})",
+                request.getUploadIds().size(), request.getStatus(), request.getErrorMessage());
+
+        int updated;
+        if (request.getStatus() == ProcessingStatus.FAILED && request.getErrorMessage() != null) {
+            updated = fileUploadService.markAllProcessingFailed(request.getUploadIds(), request.getErrorMessage());
+        } else {
+            // 기대 상태 없이 전이하면 다른 작업자가 처리 중인 업로드까지 덮어쓰므로 거부
+            if (request.getExpectedStatuses() == null || request.getExpectedStatuses().isEmpty()) {
+                throw new IllegalArgumentException("상태 전이에는 expectedStatuses가 필수입니다");
+            }
+            updated = fileUploadService.transitionProcessingStatuses(
+                    request.getUploadIds(), request.getExpectedStatuses(), request.getStatus());
+        }
+
+        // SSE 구독 중인 업로드에만 실시간 상태 전송
+        request.getUploadIds().forEach(this::notifyStatusUpdate);
+
+        return ResponseEntity.ok(BulkStatusUpdateResult.builder()
+                .requestedCount(request.getUploadIds().size())
+                .updatedCount(updated)
+                .build());
+    }
     
 //    처리 대기 중인 파일 조회 (배치 프로세서용)
     @GetMapping("/pending")
@@ -0,0 +1,48 @@
+package com.ssafy.lab.orak.upload.dto;
+
+import com.ssafy.lab.orak.upload.entity.Upload;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 다중 파일 업로드 결과 (요청 순서 유지, 파일별 성공/실패)
+ */
+@Getter
+@Builder
+public class BatchUploadResult {
+
+    private final List<FileResult> results;
+
+    public List<Upload> getSucceededUploads() {
+        return results.stream()
+                .map(FileResult::getUpload)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public List<FileResult> getFailures() {
+        return results.stream()
+                .filter(result -> !result.isSuccess())
+                .toList();
+    }
+
+    public boolean hasFailures() {
+        return results.stream().anyMatch(result -> !result.isSuccess());
+    }
+
+    @Getter
+    @Builder
+    public static class FileResult {
+        private final int index;
+        private final String originalFilename;
+        private final Upload upload;
+        private final String errorMessage;
+
+        public boolean isSuccess() {
+            return upload != null;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.ssafy.lab.orak.upload.dto;
+
+import com.ssafy.lab.orak.upload.enums.ProcessingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여러 업로드 처리 상태 일괄 변경 요청 (내부 API - 프로세싱 서버용)
+ * - expectedStatuses: 이 상태인 업로드만 전이 (상태 전이에는 필수, 비어 있으면 400)
+ * - status가 FAILED이고 errorMessage가 있으면 실패로 기록
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateRequest {
+    private List<Long> uploadIds;
+    private List<ProcessingStatus> expectedStatuses;
+    private ProcessingStatus status;
+    private String errorMessage;
+}
@@ -0,0 +1,16 @@
+package com.ssafy.lab.orak.upload.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 처리 상태 일괄 변경 결과
+ * - updatedCount가 requestedCount보다 작으면 나머지는 기대 상태가 아니었거나 없는 업로드
+ */
+@Getter
+@Builder
+public class BulkStatusUpdateResult {
+
+    private final int requestedCount;
+    private final int updatedCount;
+}
@@ -0,0 +1,19 @@
+package com.ssafy.lab.orak.upload.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Presigned URL 업로드 완료 일괄 알림
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadCompletionRequest {
+    private List<Long> uploadIds;
+}
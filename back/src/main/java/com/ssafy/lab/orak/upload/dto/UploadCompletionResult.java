@@ -0,0 +1,26 @@
+package com.ssafy.lab.orak.upload.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 업로드 완료 일괄 처리 결과
+ * - completedUploadIds: 이번 요청으로 UPLOADED 전이 + 이벤트 발행된 업로드
+ * - alreadyCompletedUploadIds: 이미 PENDING 이후 상태여서 건너뛴 업로드 (중복 알림)
+ * - failures: 업로드 ID별 실패 사유 (레코드 없음, 권한 없음, S3 객체 없음)
+ */
+@Getter
+@Builder
+public class UploadCompletionResult {
+
+    private final List<Long> completedUploadIds;
+    private final List<Long> alreadyCompletedUploadIds;
+    private final Map<Long, String> failures;
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+}
@@ -0,0 +1,51 @@
+package com.ssafy.lab.orak.upload.enums;
+
+import com.ssafy.lab.orak.upload.entity.Upload;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 이미지 파생본 크기 버킷 (긴 변 기준 픽셀)
+ * 키 패턴: {directory}/{uuid}_w{maxEdge}.jpg (원본과 같은 UUID 접두어라 고아 객체 정리 대상에 포함됨)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+
+    THUMBNAIL(96),   // 목록 아바타 (48px @2x)
+    MEDIUM(320),     // 프로필 카드, 앨범 목록 커버
+    LARGE(1080);     // 상세 화면, 배경 이미지
+
+    public static final String FORMAT = "jpg";
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    private final int maxEdge;
+
+    public String s3Key(Upload upload) {
+        return upload.getDirectory() + "/" + upload.getUuid() + "_w" + maxEdge + "." + FORMAT;
+    }
+
+    /**
+     * 파생본 생성이 끝났으면 파생본 키, 아니면 원본 키
+     */
+    public String resolveS3Key(Upload upload) {
+        return upload.getProcessingStatus() == ProcessingStatus.IMAGE_OPTIMIZED ? s3Key(upload) : upload.getFullPath();
+    }
+
+    public static List<String> s3Keys(Upload upload) {
+        return Arrays.stream(values()).map(variant -> variant.s3Key(upload)).toList();
+    }
+
+    /**
+     * 표시 크기(디바이스 픽셀)를 덮는 가장 작은 파생본, 없으면 가장 큰 파생본
+     */
+    public static ImageVariant forDisplaySize(int displayPixels) {
+        return Arrays.stream(values())
+                .filter(variant -> variant.maxEdge >= displayPixels)
+                .findFirst()
+                .orElse(LARGE);
+    }
+}
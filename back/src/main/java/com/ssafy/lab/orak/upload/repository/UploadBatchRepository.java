@@ -0,0 +1,19 @@
+package com.ssafy.lab.orak.upload.repository;
+
+import com.ssafy.lab.orak.upload.entity.Upload;
+
+import java.util.List;
+
+/**
+ * UploadRepository의 JDBC 배치 쓰기 확장 (Spring Data 커스텀 구현 조각)
+ */
+public interface UploadBatchRepository {
+
+    /**
+     * 저장 전 Upload들을 JDBC 배치 INSERT로 한 번에 저장
+     * IDENTITY 키라 Hibernate는 행마다 INSERT를 따로 보내므로, 다건 저장은 이 경로를 사용
+     *
+     * @return ID/생성 시각이 채워진 Upload (입력 순서 유지)
+     */
+    List<Upload> insertAll(List<Upload> uploads);
+}
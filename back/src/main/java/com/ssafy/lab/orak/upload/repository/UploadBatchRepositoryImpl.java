@@ -0,0 +1,118 @@
+package com.ssafy.lab.orak.upload.repository;
+
+import com.ssafy.lab.orak.upload.entity.Upload;
+import com.ssafy.lab.orak.upload.enums.ProcessingStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Upload 다건 INSERT를 JdbcTemplate 배치로 처리
+ * - 청크마다 executeBatch 한 번 (MySQL은 rewriteBatchedStatements로 multi-row INSERT 하나로 전송)
+ * - 생성된 키로 저장된 행을 IN 한 번에 다시 읽어 엔티티로 반환
+ * - 새 행이라 2차 캐시에 무효화할 항목이 없음
+ */
+@RequiredArgsConstructor
+@Log4j2
+public class UploadBatchRepositoryImpl implements UploadBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO uploads (original_filename, uuid, extension, uploader_id, " +
+            "file_size, content_type, directory, processing_status, processing_error_message, retry_count, " +
+            "last_failed_at, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${upload.write.batch-size:500}")
+    private int batchSize = 500;
+
+    @Override
+    @Transactional
+    public List<Upload> insertAll(List<Upload> uploads) {
+        List<Upload> saved = new ArrayList<>(uploads.size());
+        for (int from = 0; from < uploads.size(); from += batchSize) {
+            saved.addAll(insertChunk(uploads.subList(from, Math.min(from + batchSize, uploads.size()))));
+        }
+        return saved;
+    }
+
+    private List<Upload> insertChunk(List<Upload> chunk) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        bind(ps, chunk.get(i), now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return chunk.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != chunk.size()) {
+            throw new IllegalStateException("배치 INSERT 생성 키 수 불일치: 요청 " + chunk.size() + "건, 키 " + keys.size() + "건");
+        }
+        List<Long> ids = keys.stream()
+                .map(key -> ((Number) key.values().iterator().next()).longValue())
+                .toList();
+
+        Map<Long, Upload> loaded = entityManager
+                .createQuery("SELECT u FROM Upload u WHERE u.id IN :ids", Upload.class)
+                .setParameter("ids", ids)
+                .getResultList().stream()
+                .collect(Collectors.toMap(Upload::getId, Function.identity()));
+
+        log.debug("Upload 배치 INSERT 완료: {}건", chunk.size());
+        return ids.stream().map(loaded::get).toList();
+    }
+
+    // 엔티티 기본값 (@Builder.Default)과 같은 값으로 보정해 바인딩
+    private static void bind(PreparedStatement ps, Upload upload, Timestamp now) throws SQLException {
+        ProcessingStatus status = upload.getProcessingStatus() != null
+                ? upload.getProcessingStatus() : ProcessingStatus.UPLOADED;
+
+        ps.setString(1, upload.getOriginalFilename());
+        ps.setString(2, upload.getUuid());
+        ps.setString(3, upload.getExtension());
+        ps.setLong(4, upload.getUploaderId());
+        ps.setLong(5, upload.getFileSize());
+        ps.setString(6, upload.getContentType());
+        ps.setString(7, upload.getDirectory());
+        ps.setString(8, status.name());
+        ps.setString(9, upload.getProcessingErrorMessage());
+        ps.setInt(10, upload.getRetryCount() != null ? upload.getRetryCount() : 0);
+        if (upload.getLastFailedAt() != null) {
+            ps.setTimestamp(11, Timestamp.valueOf(upload.getLastFailedAt()));
+        } else {
+            ps.setNull(11, Types.TIMESTAMP);
+        }
+        ps.setTimestamp(12, now);
+        ps.setTimestamp(13, now);
+    }
+}
@@ -2,19 +2,24 @@ package com.ssafy.lab.orak.upload.repository;
 
 import com.ssafy.lab.orak.upload.entity.Upload;
 import com.ssafy.lab.orak.upload.enums.ProcessingStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UploadRepository extends JpaRepository<Upload, Long> {
+public interface UploadRepository extends JpaRepository<Upload, Long>, UploadBatchRepository {
     
     // 처리 상태별 조회
     Page<Upload> findByProcessingStatusOrderByCreatedAtAsc(ProcessingStatus status, Pageable pageable);
@@ -70,6 +75,13 @@ public interface UploadRepository extends JpaRepository<Upload, Long> {
     // UUID로 업로드 찾기 (S3 이벤트 처리용)
     Optional<Upload> findByUuid(String uuid);
 
+    // 여러 UUID로 업로드 일괄 조회 (S3 이벤트 일괄 처리용)
+    List<Upload> findByUuidIn(Collection<String> uuids);
+
+    // 주어진 UUID 중 uploads 테이블에 존재하는 것만 조회 (S3 고아 객체 대조용)
+    @Query("SELECT u.uuid FROM Upload u WHERE u.uuid IN :uuids")
+    List<String> findExistingUuids(@Param("uuids") Collection<String> uuids);
+
     // ===============================================
     // DLQ 패턴용 추가 쿼리들
     // ===============================================
@@ -95,4 +107,116 @@ public interface UploadRepository extends JpaRepository<Upload, Long> {
            " u.processingStatus = 'AUDIO_CONVERTED') AND " +
            "u.updatedAt < :stuckTime")
     long countStuckUploads(@Param("stuckTime") LocalDateTime stuckTime);
-}
\ No newline at end of file
+
+    // ===============================================
+    // Presigned 업로드 완료 일괄 처리용
+    // ===============================================
+
+    /**
+     * 기대 상태인 업로드만 한 번의 UPDATE로 상태 전이
+     * 중복 완료 알림은 조건에 걸려 0건 갱신되므로 멱등하게 동작
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Upload u SET u.processingStatus = :newStatus, u.updatedAt = :now " +
+           "WHERE u.id IN :ids AND u.processingStatus = :expectedStatus")
+    int bulkTransitionStatus(@Param("ids") Collection<Long> ids,
+                             @Param("expectedStatus") ProcessingStatus expectedStatus,
+                             @Param("newStatus") ProcessingStatus newStatus,
+                             @Param("now") LocalDateTime now);
+
+    /**
+     * 기대 상태인 업로드 행 잠금 (동시에 들어온 중복 알림은 커밋까지 대기 후 바뀐 상태를 보게 됨)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM Upload u WHERE u.id IN :ids AND u.processingStatus = :status")
+    List<Upload> findAllByIdInAndStatusForUpdate(@Param("ids") Collection<Long> ids,
+                                                 @Param("status") ProcessingStatus status);
+
+    /**
+     * 기대 상태인 업로드만 잠근 뒤 한 번의 UPDATE로 전이하고, 이번 호출이 실제로 전이한 ID를 반환
+     * 후속 이벤트는 반환된 ID에만 발행해야 중복 알림에도 멱등함
+     */
+    @Transactional
+    default List<Long> transitionStatusReturningIds(Collection<Long> ids, ProcessingStatus expectedStatus,
+                                                    ProcessingStatus newStatus, LocalDateTime now) {
+        List<Long> lockedIds = findAllByIdInAndStatusForUpdate(ids, expectedStatus).stream()
+                .map(Upload::getId)
+                .toList();
+        if (!lockedIds.isEmpty()) {
+            bulkTransitionStatus(lockedIds, expectedStatus, newStatus, now);
+        }
+        return lockedIds;
+    }
+
+    // ===============================================
+    // 비동기 처리 작업 상태 전이용
+    // ===============================================
+
+    /**
+     * 단일 업로드 상태 전이 (UPDATE 한 번으로 재시도 카운터와 에러 메시지도 초기화)
+     * 기대 상태가 아니면 0건 갱신 → 다른 작업자가 이미 처리 중이거나 처리할 상태가 아님
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Upload u SET u.processingStatus = :newStatus, u.processingErrorMessage = null, " +
+           "u.retryCount = 0, u.lastFailedAt = null, u.updatedAt = :now " +
+           "WHERE u.id = :id AND u.processingStatus IN :expectedStatuses")
+    int transitionStatus(@Param("id") Long id,
+                         @Param("expectedStatuses") Collection<ProcessingStatus> expectedStatuses,
+                         @Param("newStatus") ProcessingStatus newStatus,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * 실패 상태와 에러 메시지를 UPDATE 한 번으로 기록
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Upload u SET u.processingStatus = :failedStatus, u.processingErrorMessage = :errorMessage, " +
+           "u.updatedAt = :now WHERE u.id = :id")
+    int markStatusFailed(@Param("id") Long id,
+                         @Param("failedStatus") ProcessingStatus failedStatus,
+                         @Param("errorMessage") String errorMessage,
+                         @Param("now") LocalDateTime now);
+
+    // ===============================================
+    // 처리 상태 일괄 전이용 (청크는 FileUploadService에서 나눔)
+    // ===============================================
+
+    /**
+     * 여러 업로드를 기대 상태일 때만 UPDATE 한 번으로 전이
+     * 단건 updateProcessingStatus와 같이 상태가 바뀌는 행만 재시도 카운터를 초기화하고 에러 메시지는 비움
+     * (MySQL은 SET을 왼쪽부터 적용하므로 상태 컬럼은 CASE 비교 뒤에 마지막으로 갱신)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Upload u SET " +
+           "u.retryCount = CASE WHEN u.processingStatus = :newStatus THEN u.retryCount ELSE 0 END, " +
+           "u.lastFailedAt = CASE WHEN u.processingStatus = :newStatus THEN u.lastFailedAt ELSE NULL END, " +
+           "u.processingErrorMessage = null, u.updatedAt = :now, u.processingStatus = :newStatus " +
+           "WHERE u.id IN :ids AND u.processingStatus IN :expectedStatuses")
+    int bulkTransitionStatuses(@Param("ids") Collection<Long> ids,
+                               @Param("expectedStatuses") Collection<ProcessingStatus> expectedStatuses,
+                               @Param("newStatus") ProcessingStatus newStatus,
+                               @Param("now") LocalDateTime now);
+
+    /**
+     * 여러 업로드의 실패 상태와 에러 메시지를 UPDATE 한 번으로 기록
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Upload u SET u.processingStatus = :failedStatus, u.processingErrorMessage = :errorMessage, " +
+           "u.updatedAt = :now WHERE u.id IN :ids")
+    int bulkMarkStatusFailed(@Param("ids") Collection<Long> ids,
+                             @Param("failedStatus") ProcessingStatus failedStatus,
+                             @Param("errorMessage") String errorMessage,
+                             @Param("now") LocalDateTime now);
+
+    /**
+     * 실제 S3 객체 크기로 파일 크기 동기화
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Upload u SET u.fileSize = :fileSize WHERE u.id = :id")
+    int updateFileSize(@Param("id") Long id, @Param("fileSize") Long fileSize);
+}
@@ -1,9 +1,12 @@
 package com.ssafy.lab.orak.upload.service;
 
 import com.ssafy.lab.orak.s3.helper.S3Helper;
+import com.ssafy.lab.orak.s3.service.S3CleanupService;
 import com.ssafy.lab.orak.s3.util.LocalUploader;
 import com.ssafy.lab.orak.s3.util.S3Uploader;
+import com.ssafy.lab.orak.upload.dto.BatchUploadResult;
 import com.ssafy.lab.orak.upload.entity.Upload;
+import com.ssafy.lab.orak.upload.enums.ImageVariant;
 import com.ssafy.lab.orak.upload.enums.ProcessingStatus;
 import com.ssafy.lab.orak.upload.exception.FileUploadException;
 import com.ssafy.lab.orak.upload.exception.InvalidFileException;
@@ -11,15 +14,28 @@ import com.ssafy.lab.orak.upload.exception.UploadNotFoundException;
 import com.ssafy.lab.orak.upload.repository.UploadRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -30,67 +46,160 @@ public class FileUploadService {
     private final LocalUploader localUploader;
     private final S3Uploader s3Uploader;
     private final UploadRepository uploadRepository;
+    private final S3CleanupService s3CleanupService;
+
+    @Qualifier("fileUploadExecutor")
+    private final Executor fileUploadExecutor;
+
+    // 일괄 상태 전이 UPDATE 한 번에 넣는 최대 업로드 수
+    @Value("${upload.write.batch-size:500}")
+    private int writeBatchSize = 500;
     
+    // 다중 파일 업로드 (전체 성공 규약: 하나라도 실패하면 이미 올라간 S3 객체를 보상 삭제 후 예외)
     public List<Upload> uploadFiles(List<MultipartFile> files, String directory, Long userId) {
-        List<Upload> uploadedFiles = new ArrayList<>();
-        
-        for (MultipartFile file : files) {
+        List<StagedFile> stagedFiles = stageFilesConcurrently(files, directory, userId);
+
+        List<StagedFile> failedFiles = stagedFiles.stream()
+                .filter(StagedFile::isFailed)
+                .toList();
+        if (!failedFiles.isEmpty()) {
+            removeStagedS3Objects(stagedFiles);
+            String failedNames = failedFiles.stream()
+                    .map(staged -> staged.file().getOriginalFilename())
+                    .collect(Collectors.joining(", "));
+            log.error("다중 파일 업로드 실패: {}/{}개 실패 - {}", failedFiles.size(), files.size(), failedNames);
+            throw new FileUploadException("파일 업로드 실패: " + failedNames, failedFiles.get(0).error());
+        }
+
+        return saveStagedUploads(stagedFiles);
+    }
+
+    // 다중 파일 업로드 (부분 성공 허용: 파일별 결과를 요청 순서대로 반환)
+    public BatchUploadResult uploadFilesAllowingPartialFailure(List<MultipartFile> files, String directory, Long userId) {
+        List<StagedFile> stagedFiles = stageFilesConcurrently(files, directory, userId);
+
+        List<StagedFile> succeededFiles = stagedFiles.stream()
+                .filter(staged -> !staged.isFailed())
+                .toList();
+        Iterator<Upload> savedUploads = saveStagedUploads(succeededFiles).iterator();
+
+        List<BatchUploadResult.FileResult> results = new ArrayList<>(stagedFiles.size());
+        for (StagedFile staged : stagedFiles) {
+            results.add(BatchUploadResult.FileResult.builder()
+                    .index(staged.index())
+                    .originalFilename(staged.file().getOriginalFilename())
+                    .upload(staged.isFailed() ? null : savedUploads.next())
+                    .errorMessage(staged.isFailed() ? staged.error().getMessage() : null)
+                    .build());
+        }
+
+        log.info("다중 파일 업로드 완료: 성공 {}개, 실패 {}개",
+                succeededFiles.size(), stagedFiles.size() - succeededFiles.size());
+        return BatchUploadResult.builder().results(results).build();
+    }
+
+    // 로컬 저장 + S3 전송을 전용 스레드풀에서 병렬 수행 (결과는 요청 순서 유지)
+    private List<StagedFile> stageFilesConcurrently(List<MultipartFile> files, String directory, Long userId) {
+        List<CompletableFuture<StagedFile>> futures = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            int index = i;
+            MultipartFile file = files.get(i);
+            futures.add(CompletableFuture
+                    .supplyAsync(() -> new StagedFile(index, file, stageToS3(file, directory, userId), null),
+                            fileUploadExecutor)
+                    .exceptionally(e -> {
+                        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                        log.error("파일 업로드 실패: {}", file.getOriginalFilename(), cause);
+                        return new StagedFile(index, file, null, cause);
+                    }));
+        }
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    // S3까지 올라간 Upload 행을 JDBC 배치 INSERT로 한 번에 저장, 실패 시 S3 객체 보상 삭제
+    private List<Upload> saveStagedUploads(List<StagedFile> stagedFiles) {
+        if (stagedFiles.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Upload> uploads = stagedFiles.stream()
+                .map(StagedFile::upload)
+                .toList();
+        try {
+            List<Upload> savedUploads = uploadRepository.insertAll(uploads);
+            log.info("다중 파일 업로드 및 DB 저장 성공: {}개", savedUploads.size());
+            return savedUploads;
+        } catch (Exception e) {
+            log.error("다중 파일 DB 저장 실패, S3 객체 보상 삭제: {}개", uploads.size(), e);
+            removeStagedS3Objects(stagedFiles);
+            throw new FileUploadException("파일 업로드 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private void removeStagedS3Objects(List<StagedFile> stagedFiles) {
+        for (StagedFile staged : stagedFiles) {
+            if (staged.isFailed()) {
+                continue;
+            }
             try {
-                Upload upload = uploadSingleFile(file, directory, userId);
-                uploadedFiles.add(upload);
+                s3Uploader.removeS3File(staged.upload().getFullPath());
             } catch (Exception e) {
-                log.error("파일 업로드 실패: {}", file.getOriginalFilename(), e);
-                throw new FileUploadException("파일 업로드 실패: " + e.getMessage(), e);
+                log.error("보상 삭제 실패 (S3 객체 잔존): {}", staged.upload().getFullPath(), e);
             }
         }
-        
-        return uploadedFiles;
     }
-    
+
     public Upload uploadSingleFile(MultipartFile file, String directory, Long userId) {
         try {
-            if (file.isEmpty()) {
-                throw new InvalidFileException("빈 파일입니다");
-            }
-            
-            // 파일명에서 확장자 추출
-            String fullFilename = file.getOriginalFilename();
-            String originalFilename = fullFilename;
-            String extension = "";
-            if (fullFilename != null && fullFilename.contains(".")) {
-                extension = fullFilename.substring(fullFilename.lastIndexOf(".") + 1);
-                // 확장자를 제거한 파일명만 저장
-                originalFilename = fullFilename.substring(0, fullFilename.lastIndexOf("."));
-            }
-            
-            // UUID 생성
-            String uuid = UUID.randomUUID().toString();
-            
-            // S3 업로드 (UUID와 함께)
-            String localFilePath = localUploader.uploadLocal(file, uuid);
-            String s3Url = s3Uploader.upload(localFilePath, directory);
-            
-            // Upload 엔티티 생성 및 저장
-            Upload upload = Upload.builder()
-                    .originalFilename(originalFilename)
-                    .uuid(uuid)
-                    .extension(extension)
-                    .uploaderId(userId)
-                    .fileSize(file.getSize())
-                    .contentType(file.getContentType())
-                    .directory(directory)
-                    .build();
-            
-            Upload savedUpload = uploadRepository.save(upload);
-            
+            Upload savedUpload = uploadRepository.save(stageToS3(file, directory, userId));
+
             log.info("파일 업로드 및 DB 저장 성공: {}", file.getOriginalFilename());
             return savedUpload;
-            
+
         } catch (Exception e) {
             log.error("단일 파일 업로드 실패: {}", file.getOriginalFilename(), e);
             throw new FileUploadException("파일 업로드 실패: " + e.getMessage(), e);
         }
     }
+
+    // 로컬 임시 저장 후 S3 업로드, 저장 전 Upload 엔티티 반환
+    private Upload stageToS3(MultipartFile file, String directory, Long userId) {
+        if (file.isEmpty()) {
+            throw new InvalidFileException("빈 파일입니다");
+        }
+
+        // 파일명에서 확장자 추출
+        String fullFilename = file.getOriginalFilename();
+        String originalFilename = fullFilename;
+        String extension = "";
+        if (fullFilename != null && fullFilename.contains(".")) {
+            extension = fullFilename.substring(fullFilename.lastIndexOf(".") + 1);
+            // 확장자를 제거한 파일명만 저장
+            originalFilename = fullFilename.substring(0, fullFilename.lastIndexOf("."));
+        }
+
+        // UUID 생성
+        String uuid = UUID.randomUUID().toString();
+
+        // S3 업로드 (UUID와 함께)
+        String localFilePath = localUploader.uploadLocal(file, uuid);
+        s3Uploader.upload(localFilePath, directory);
+
+        // Upload 엔티티 생성
+        return Upload.builder()
+                .originalFilename(originalFilename)
+                .uuid(uuid)
+                .extension(extension)
+                .uploaderId(userId)
+                .fileSize(file.getSize())
+                .contentType(file.getContentType())
+                .directory(directory)
+                .build();
+    }
+
     public void deleteFile(Long uploadId) {
         Upload upload = uploadRepository.findById(uploadId)
                 .orElseThrow(() -> new UploadNotFoundException(uploadId));
@@ -108,6 +217,25 @@ public class FileUploadService {
             throw new FileUploadException("파일 삭제 실패: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * 파일 삭제를 호출한 트랜잭션에 묶어 처리
+     * Upload 행 삭제와 S3 삭제 예약(S3CleanupService 대기열)이 함께 커밋되고, 롤백되면 둘 다 남지 않음
+     * 예약에 실패하면 예외가 호출자에게 전달되어 트랜잭션 전체가 롤백됨
+     * 실제 S3 삭제는 커밋된 대기열을 비우는 스케줄러가 재시도와 함께 수행하므로 S3 호출이 트랜잭션을 붙잡지 않음
+     */
+    public void scheduleFileDeletions(Collection<Long> uploadIds) {
+        List<Long> targets = uploadIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        List<Upload> uploads = uploadRepository.findAllById(targets);
+        s3CleanupService.enqueueDeletions(uploads.stream().map(Upload::getFullPath).toList(), "upload-delete");
+        uploadRepository.deleteAll(uploads);
+        log.info("파일 삭제 예약: {}개", uploads.size());
+    }
+
     // 최적화된 로컬 파일 업로드 (UUID 중복 방지 - RecordService용)
     public Upload uploadLocalFile(String localFilePath, String directory, Long userId, String originalFilename) {
         try {
@@ -169,11 +297,38 @@ public class FileUploadService {
         }
     }
 
+    // 이미 S3에 저장된 파일의 메타데이터만 등록 (스트리밍 업로드 등 S3 저장을 직접 수행한 경우)
+    public Upload registerStoredFile(String uuid, String originalFilename, String extension, String contentType,
+                                     long fileSize, String directory, Long userId) {
+        Upload upload = Upload.builder()
+                .originalFilename(originalFilename)
+                .uuid(uuid)
+                .extension(extension)
+                .uploaderId(userId)
+                .fileSize(fileSize)
+                .contentType(contentType)
+                .directory(directory)
+                .build();
+
+        Upload savedUpload = uploadRepository.save(upload);
+        log.info("S3 저장 파일 등록 완료: {}", savedUpload.getFullPath());
+        return savedUpload;
+    }
+
     public Upload getUpload(Long uploadId) {
         return uploadRepository.findById(uploadId)
                 .orElseThrow(() -> new UploadNotFoundException(uploadId));
     }
     
+    // 여러 업로드를 IN 한 번으로 조회 (uploadId → Upload, 없는 ID는 제외)
+    public Map<Long, Upload> getUploads(Collection<Long> uploadIds) {
+        if (uploadIds.isEmpty()) {
+            return Map.of();
+        }
+        return uploadRepository.findAllById(uploadIds).stream()
+                .collect(Collectors.toMap(Upload::getId, upload -> upload, (a, b) -> a));
+    }
+
     public Upload findByUuid(String uuid) {
         return uploadRepository.findByUuid(uuid).orElse(null);
     }
@@ -189,6 +344,45 @@ public class FileUploadService {
         Upload upload = getUpload(uploadId);
         return getFileUrl(upload);
     }
+
+    // 목록용 일괄 URL 생성 (uploadId → URL, 서명에 실패한 업로드는 제외)
+    public Map<Long, String> getFileUrls(Collection<Upload> uploads) {
+        Map<String, String> urlsByKey = s3Helper.generatePresignedUrls(
+                uploads.stream().map(Upload::getFullPath).toList());
+
+        Map<Long, String> urls = new HashMap<>();
+        for (Upload upload : uploads) {
+            String url = urlsByKey.get(upload.getFullPath());
+            if (url != null) {
+                urls.put(upload.getId(), url);
+            }
+        }
+        return urls;
+    }
+
+    // 이미지 목록용: 표시 크기에 맞는 파생본 URL (파생본이 없으면 원본)
+    public String getFileUrl(Upload upload, ImageVariant variant) {
+        return s3Helper.generatePresignedUrl(variant.resolveS3Key(upload));
+    }
+
+    public String getFileUrl(Long uploadId, ImageVariant variant) {
+        return getFileUrl(getUpload(uploadId), variant);
+    }
+
+    // 이미지 목록용 일괄 파생본 URL (uploadId → URL, 서명에 실패한 업로드는 제외)
+    public Map<Long, String> getFileUrls(Collection<Upload> uploads, ImageVariant variant) {
+        Map<String, String> urlsByKey = s3Helper.generatePresignedUrls(
+                uploads.stream().map(variant::resolveS3Key).toList());
+
+        Map<Long, String> urls = new HashMap<>();
+        for (Upload upload : uploads) {
+            String url = urlsByKey.get(variant.resolveS3Key(upload));
+            if (url != null) {
+                urls.put(upload.getId(), url);
+            }
+        }
+        return urls;
+    }
     
 //    처리 상태 관리 메서드들
     
@@ -207,6 +401,45 @@ public class FileUploadService {
         uploadRepository.save(upload);
         log.error("Processing failed: uploadId={}, error={}", uploadId, errorMessage);
     }
+
+    /**
+     * 여러 업로드 처리 상태 일괄 전이 (기대 상태인 업로드만, 청크마다 UPDATE 한 번)
+     *
+     * @return 실제로 전이된 업로드 수
+     */
+    public int transitionProcessingStatuses(Collection<Long> uploadIds, Collection<ProcessingStatus> expectedStatuses,
+                                            ProcessingStatus status) {
+        if (expectedStatuses.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int updated = updateInChunks(uploadIds,
+                chunk -> uploadRepository.bulkTransitionStatuses(chunk, expectedStatuses, status, now));
+        log.info("Processing status bulk updated: requested={}, updated={}, status={}", uploadIds.size(), updated, status);
+        return updated;
+    }
+
+    /**
+     * 여러 업로드 처리 실패 일괄 기록 (청크마다 UPDATE 한 번)
+     *
+     * @return 실패로 기록된 업로드 수
+     */
+    public int markAllProcessingFailed(Collection<Long> uploadIds, String errorMessage) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = updateInChunks(uploadIds,
+                chunk -> uploadRepository.bulkMarkStatusFailed(chunk, ProcessingStatus.FAILED, errorMessage, now));
+        log.error("Processing bulk failed: requested={}, updated={}, error={}", uploadIds.size(), updated, errorMessage);
+        return updated;
+    }
+
+    private int updateInChunks(Collection<Long> uploadIds, ToIntFunction<List<Long>> update) {
+        List<Long> targets = uploadIds.stream().filter(Objects::nonNull).distinct().toList();
+        int updated = 0;
+        for (int from = 0; from < targets.size(); from += writeBatchSize) {
+            updated += update.applyAsInt(targets.subList(from, Math.min(from + writeBatchSize, targets.size())));
+        }
+        return updated;
+    }
     
     // 오디오 파일 처리가 필요한 업로드 목록 조회 (배치 처리용)
     public List<Upload> getPendingAudioProcessing(int limit) {
@@ -290,4 +523,11 @@ public class FileUploadService {
     public Upload findById(Long uploadId) {
         return uploadRepository.findById(uploadId).orElse(null);
     }
+
+    // 병렬 업로드 단계의 파일별 중간 결과 (upload는 아직 저장 전)
+    private record StagedFile(int index, MultipartFile file, Upload upload, Throwable error) {
+        boolean isFailed() {
+            return error != null;
+        }
+    }
 }
\ No newline at end of file
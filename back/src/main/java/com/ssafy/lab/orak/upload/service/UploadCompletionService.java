@@ -0,0 +1,232 @@
+package com.ssafy.lab.orak.upload.service;
+
+import com.ssafy.lab.orak.event.dto.UploadEvent;
+import com.ssafy.lab.orak.event.service.EventBridgeService;
+import com.ssafy.lab.orak.s3.helper.S3AsyncHelper;
+import com.ssafy.lab.orak.s3.helper.S3Helper;
+import com.ssafy.lab.orak.upload.dto.UploadCompletionResult;
+import com.ssafy.lab.orak.upload.entity.Upload;
+import com.ssafy.lab.orak.upload.enums.ProcessingStatus;
+import com.ssafy.lab.orak.upload.repository.UploadRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Presigned URL 직접 업로드 완료 처리
+ * 완료 알림을 묶어서 받아 S3 HEAD 검증(또는 신뢰할 수 있는 S3 이벤트의 크기 사용)
+ * → 상태 일괄 UPDATE → Kafka 일괄 발행 순서로 처리한다
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class UploadCompletionService {
+
+    private final UploadRepository uploadRepository;
+    private final S3AsyncHelper s3AsyncHelper;
+    private final S3Helper s3Helper;
+    private final EventBridgeService eventBridgeService;
+
+    @Value("${spring.cloud.aws.s3.bucket}")
+    private String bucket;
+
+    // IN 절/HEAD 동시 요청을 한 번에 보낼 최대 업로드 수
+    @Value("${upload.completion.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * 클라이언트/웹훅 완료 알림 처리 (업로드당 HEAD 1회로 객체 존재와 실제 크기 확인)
+     *
+     * @param requesterId null이면 소유자 검증 생략 (서버 간 웹훅)
+     */
+    public UploadCompletionResult completeUploads(Collection<Long> uploadIds, Long requesterId) {
+        List<Long> ids = uploadIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        List<Long> completed = new ArrayList<>();
+        List<Long> skipped = new ArrayList<>();
+        Map<Long, String> failures = new ConcurrentHashMap<>();
+
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            Map<Long, Upload> uploads = uploadRepository.findAllById(chunk).stream()
+                    .collect(Collectors.toMap(Upload::getId, Function.identity()));
+
+            List<Upload> pending = new ArrayList<>();
+            for (Long id : chunk) {
+                Upload upload = uploads.get(id);
+                if (upload == null) {
+                    failures.put(id, "업로드를 찾을 수 없습니다");
+                } else if (requesterId != null && !requesterId.equals(upload.getUploaderId())) {
+                    failures.put(id, "업로드 소유자가 아닙니다");
+                } else if (upload.getProcessingStatus() != ProcessingStatus.PENDING) {
+                    skipped.add(id);
+                } else {
+                    pending.add(upload);
+                }
+            }
+
+            Map<Long, Long> verifiedSizes = verifyObjects(pending, failures);
+            completed.addAll(transitionAndPublish(pending, verifiedSizes, skipped, "client"));
+        }
+
+        return buildResult(completed, skipped, failures);
+    }
+
+    /**
+     * S3 ObjectCreated 이벤트 일괄 처리 (이벤트 페이로드의 크기를 신뢰하므로 HEAD 생략)
+     *
+     * @param objectSizesByKey S3 키 → 객체 크기
+     */
+    public UploadCompletionResult completeFromS3Events(Map<String, Long> objectSizesByKey) {
+        Map<String, String> keyByUuid = new HashMap<>();
+        objectSizesByKey.keySet().forEach(key -> {
+            String uuid = s3Helper.extractUuidFromS3Key(key);
+            if (uuid == null) {
+                log.warn("S3 키에서 UUID 추출 실패: {}", key);
+            } else {
+                keyByUuid.put(uuid, key);
+            }
+        });
+
+        List<String> uuids = new ArrayList<>(keyByUuid.keySet());
+        List<Long> completed = new ArrayList<>();
+        List<Long> skipped = new ArrayList<>();
+        Map<Long, String> failures = new ConcurrentHashMap<>();
+
+        for (int from = 0; from < uuids.size(); from += chunkSize) {
+            List<String> chunk = uuids.subList(from, Math.min(from + chunkSize, uuids.size()));
+            List<Upload> uploads = uploadRepository.findByUuidIn(chunk);
+            if (uploads.size() < chunk.size()) {
+                log.warn("UUID에 해당하는 업로드 레코드 없음: {}개", chunk.size() - uploads.size());
+            }
+
+            List<Upload> pending = new ArrayList<>();
+            Map<Long, Long> eventSizes = new HashMap<>();
+            for (Upload upload : uploads) {
+                if (upload.getProcessingStatus() != ProcessingStatus.PENDING) {
+                    skipped.add(upload.getId());
+                    continue;
+                }
+                pending.add(upload);
+                Long size = objectSizesByKey.get(keyByUuid.get(upload.getUuid()));
+                eventSizes.put(upload.getId(), size != null ? size : upload.getFileSize());
+            }
+
+            completed.addAll(transitionAndPublish(pending, eventSizes, skipped, "s3"));
+        }
+
+        return buildResult(completed, skipped, failures);
+    }
+
+    /**
+     * 업로드별 HEAD 요청을 동시에 보내고 모두 끝날 때까지 대기
+     * 실패한 업로드는 failures에 기록하고 결과에서 제외
+     */
+    private Map<Long, Long> verifyObjects(List<Upload> uploads, Map<Long, String> failures) {
+        Map<Long, Long> sizes = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] checks = uploads.stream()
+                .map(upload -> s3AsyncHelper.headObject(upload.getFullPath())
+                        .handle((head, ex) -> {
+                            if (ex == null) {
+                                sizes.put(upload.getId(), head.contentLength());
+                            } else {
+                                log.warn("S3 객체 확인 실패: uploadId={}, key={} - {}",
+                                        upload.getId(), upload.getFullPath(), ex.getMessage());
+                                failures.put(upload.getId(), "S3에 업로드된 파일을 찾을 수 없습니다");
+                            }
+                            return null;
+                        }))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(checks).join();
+        return sizes;
+    }
+
+    /**
+     * 검증된 업로드를 한 번의 UPDATE로 UPLOADED 전이 후, 이번 호출이 실제로 전이한 업로드에만 이벤트를 일괄 발행
+     * 동시에 들어온 중복 알림이 먼저 전이한 업로드는 skipped에 넣음
+     */
+    private List<Long> transitionAndPublish(List<Upload> pending, Map<Long, Long> verifiedSizes,
+                                            List<Long> skipped, String source) {
+        List<Long> verifiedIds = pending.stream()
+                .map(Upload::getId)
+                .filter(verifiedSizes::containsKey)
+                .toList();
+        if (verifiedIds.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> transitioned = new HashSet<>(uploadRepository.transitionStatusReturningIds(
+                verifiedIds, ProcessingStatus.PENDING, ProcessingStatus.UPLOADED, LocalDateTime.now()));
+        if (transitioned.size() < verifiedIds.size()) {
+            log.info("업로드 상태 일괄 전이 중 일부는 이미 전이됨 (중복 알림): 요청 {}건, 갱신 {}건",
+                    verifiedIds.size(), transitioned.size());
+        }
+
+        List<Upload> verified = new ArrayList<>(transitioned.size());
+        for (Upload upload : pending) {
+            if (transitioned.contains(upload.getId())) {
+                verified.add(upload);
+            } else if (verifiedSizes.containsKey(upload.getId())) {
+                skipped.add(upload.getId());
+            }
+        }
+        if (verified.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = verified.stream().map(Upload::getId).toList();
+
+        List<UploadEvent> events = new ArrayList<>(verified.size());
+        for (Upload upload : verified) {
+            Long actualSize = verifiedSizes.get(upload.getId());
+            if (actualSize != null && !actualSize.equals(upload.getFileSize())) {
+                uploadRepository.updateFileSize(upload.getId(), actualSize);
+            }
+            events.add(UploadEvent.createS3UploadEvent(
+                    upload.getId(),
+                    upload.getUuid(),
+                    upload.getFullPath(),
+                    bucket,
+                    actualSize,
+                    upload.getContentType()
+            ).toBuilder().source(source).build());
+        }
+
+        try {
+            eventBridgeService.publishBatchEvents(events);
+        } catch (Exception e) {
+            // 상태는 이미 UPLOADED이므로 BatchProcessingService의 누락 파일 스캔에서 복구됨
+            log.error("업로드 완료 이벤트 일괄 발행 실패, 배치 스캔에서 복구 예정: {}건", events.size(), e);
+        }
+
+        log.info("업로드 완료 일괄 처리: {}건 (source={})", ids.size(), source);
+        return ids;
+    }
+
+    private UploadCompletionResult buildResult(List<Long> completed, List<Long> skipped, Map<Long, String> failures) {
+        return UploadCompletionResult.builder()
+                .completedUploadIds(List.copyOf(new LinkedHashSet<>(completed)))
+                .alreadyCompletedUploadIds(List.copyOf(skipped))
+                .failures(new TreeMap<>(failures))
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+-- S3 지연 삭제 대기열 (백업/롤백 잔여물, 고아 객체)
+
+CREATE TABLE IF NOT EXISTS s3_deletion_tasks (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    s3_key VARCHAR(700) NOT NULL,
+    reason VARCHAR(50) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    last_error VARCHAR(1000),
+    next_attempt_at DATETIME(6) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_s3_deletion_tasks_s3_key UNIQUE (s3_key)
+);
+
+-- 재시도 대상 조회용 인덱스
+CREATE INDEX idx_s3_deletion_tasks_due ON s3_deletion_tasks(attempts, next_attempt_at);
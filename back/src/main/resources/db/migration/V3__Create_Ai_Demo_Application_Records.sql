@@ -0,0 +1,21 @@
+-- AI 데모 신청 녹음 조인 테이블 (record_ids JSON 대신 인덱스로 중복 신청 확인)
+
+CREATE TABLE IF NOT EXISTS ai_demo_application_records (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    application_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    record_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_ai_demo_application_records_user_record UNIQUE (user_id, record_id)
+);
+
+CREATE INDEX idx_ai_demo_application_records_application ON ai_demo_application_records(application_id);
+
+-- 기존 신청서의 record_ids JSON 배열을 행으로 펼쳐 백필
+-- 이미 겹치는 신청이 있었다면 먼저 만든 신청서의 행만 남김 (INSERT IGNORE)
+INSERT IGNORE INTO ai_demo_application_records (application_id, user_id, record_id)
+SELECT a.id, a.user_id, jt.record_id
+FROM ai_demo_applications a
+JOIN JSON_TABLE(a.record_ids, '$[*]' COLUMNS (record_id BIGINT PATH '$')) jt
+WHERE jt.record_id IS NOT NULL
+ORDER BY a.id;
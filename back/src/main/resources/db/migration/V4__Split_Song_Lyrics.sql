@@ -0,0 +1,17 @@
+-- 가사를 songs 행에서 분리 (목록/검색 쿼리가 LONGTEXT를 함께 읽지 않도록)
+-- content는 COMPRESS() 형식 (원본 길이 4바이트 + zlib), 애플리케이션의 LyricsCompressor와 동일
+
+CREATE TABLE IF NOT EXISTS song_lyrics (
+    song_id BIGINT NOT NULL,
+    content LONGBLOB NOT NULL,
+    original_size INT NOT NULL,
+    PRIMARY KEY (song_id),
+    CONSTRAINT fk_song_lyrics_song FOREIGN KEY (song_id) REFERENCES songs(id) ON DELETE CASCADE
+);
+
+INSERT INTO song_lyrics (song_id, content, original_size)
+SELECT s.id, COMPRESS(s.lyrics), LENGTH(s.lyrics)
+FROM songs s
+WHERE s.lyrics IS NOT NULL AND s.lyrics != '';
+
+ALTER TABLE songs DROP COLUMN lyrics;
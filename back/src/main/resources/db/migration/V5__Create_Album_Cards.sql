@@ -0,0 +1,35 @@
+-- 앨범 목록 카드 읽기 모델 (albums + 소유자 profiles 비정규화, 목록 API는 이 테이블만 읽음)
+-- 이후에는 애플리케이션이 쓰기 트랜잭션 커밋 직전에 갱신 (AlbumCardProjector)
+
+CREATE TABLE IF NOT EXISTS album_cards (
+    album_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    title VARCHAR(100) NOT NULL,
+    description VARCHAR(500),
+    is_public BIT NOT NULL,
+    track_count INT NOT NULL,
+    total_duration INT NOT NULL,
+    like_count INT NOT NULL,
+    cover_upload_id BIGINT,
+    owner_profile_id BIGINT,
+    owner_nickname VARCHAR(50),
+    owner_profile_image_upload_id BIGINT,
+    album_created_at DATETIME(6) NOT NULL,
+    album_updated_at DATETIME(6) NOT NULL,
+    refreshed_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (album_id)
+);
+
+CREATE INDEX idx_album_cards_public_created ON album_cards(is_public, album_created_at, album_id);
+CREATE INDEX idx_album_cards_user_created ON album_cards(user_id, album_created_at);
+CREATE INDEX idx_album_cards_created ON album_cards(album_created_at);
+
+-- 기존 앨범 백필
+INSERT INTO album_cards (album_id, user_id, title, description, is_public, track_count, total_duration, like_count,
+                         cover_upload_id, owner_profile_id, owner_nickname, owner_profile_image_upload_id,
+                         album_created_at, album_updated_at, refreshed_at)
+SELECT a.id, a.user_id, a.title, a.description, a.is_public, a.track_count, a.total_duration, a.like_count,
+       a.upload_id, p.id, p.nickname, p.profile_image_upload_id,
+       a.created_at, a.updated_at, NOW(6)
+FROM albums a
+LEFT JOIN profiles p ON p.user_id = a.user_id;
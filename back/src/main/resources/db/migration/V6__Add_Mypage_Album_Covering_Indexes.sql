@@ -0,0 +1,7 @@
+-- 마이페이지 좋아요/내 앨범 목록 커서 조회용 커버링 인덱스
+-- 좋아요 목록: (user_id, created_at, id) 순서로 읽고 album_id로 album_cards 조인
+CREATE INDEX idx_likes_user_created ON likes(user_id, created_at, id, album_id);
+
+-- 내 앨범 목록: (user_id, album_created_at, album_id) keyset
+CREATE INDEX idx_album_cards_user_created_id ON album_cards(user_id, album_created_at, album_id);
+DROP INDEX idx_album_cards_user_created ON album_cards;
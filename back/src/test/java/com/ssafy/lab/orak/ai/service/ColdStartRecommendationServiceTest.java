@@ -0,0 +1,238 @@
+package com.ssafy.lab.orak.ai.service;
+
+import com.ssafy.lab.orak.ai.dto.RecommendationSongDto;
+import com.ssafy.lab.orak.ai.dto.VoiceRecommendationResponseDto;
+import com.ssafy.lab.orak.ai.enums.ColdStartSegment;
+import com.ssafy.lab.orak.ai.util.SongRanking;
+import com.ssafy.lab.orak.albumtrack.dto.SongTrackCountDTO;
+import com.ssafy.lab.orak.albumtrack.repository.AlbumTrackRepository;
+import com.ssafy.lab.orak.dislike.repository.DislikeRepository;
+import com.ssafy.lab.orak.song.dto.SongRankingDTO;
+import com.ssafy.lab.orak.song.repository.SongRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("콜드 스타트 인기 곡 추천 테스트")
+class ColdStartRecommendationServiceTest {
+
+    private static final Long USER_ID = 7L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private SongRepository songRepository;
+    private AlbumTrackRepository albumTrackRepository;
+    private DislikeRepository dislikeRepository;
+    private ColdStartRecommendationService service;
+
+    // 가짜 DB 상태
+    private final Map<Long, SongRankingDTO> songs = new LinkedHashMap<>();
+    private final List<long[]> publicTracks = new ArrayList<>(); // {trackId, songId}
+    private final List<Long> dislikedSongIds = new ArrayList<>();
+    private final AtomicInteger dislikeQueries = new AtomicInteger();
+    private int clock;
+
+    @BeforeEach
+    void setUp() {
+        songRepository = mock(SongRepository.class);
+        albumTrackRepository = mock(AlbumTrackRepository.class);
+        dislikeRepository = mock(DislikeRepository.class);
+
+        when(songRepository.findAllRankingRows()).thenAnswer(invocation -> new ArrayList<>(songs.values()));
+        when(songRepository.findRankingRowsUpdatedAfter(any(LocalDateTime.class), anyLong())).thenAnswer(invocation -> {
+            LocalDateTime since = invocation.getArgument(0);
+            long lastId = invocation.getArgument(1);
+            return songs.values().stream()
+                    .filter(song -> song.updatedAt().isAfter(since)
+                            || (song.updatedAt().isEqual(since) && song.id() > lastId))
+                    .toList();
+        });
+        when(albumTrackRepository.countPublicTracksBySongAfter(anyLong())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            Map<Long, long[]> bySong = new LinkedHashMap<>(); // songId → {count, maxTrackId}
+            for (long[] track : publicTracks) {
+                if (track[0] > afterId) {
+                    long[] agg = bySong.computeIfAbsent(track[1], k -> new long[2]);
+                    agg[0]++;
+                    agg[1] = Math.max(agg[1], track[0]);
+                }
+            }
+            return bySong.entrySet().stream()
+                    .map(e -> new SongTrackCountDTO(e.getKey(), e.getValue()[0], e.getValue()[1]))
+                    .toList();
+        });
+        when(dislikeRepository.findSongIdsByUserId(USER_ID)).thenAnswer(invocation -> {
+            dislikeQueries.incrementAndGet();
+            return new ArrayList<>(dislikedSongIds);
+        });
+
+        service = new ColdStartRecommendationService(songRepository, albumTrackRepository, dislikeRepository);
+        service.initDislikeCache();
+    }
+
+    @Test
+    @DisplayName("재구성 후 세그먼트별로 인기도/수록 횟수 순서대로 추천한다")
+    void rebuild_RanksPerSegment() {
+        putSong(1L, 90, "success");
+        putSong(2L, 80, "success");
+        putSong(3L, 70, "success");
+        putSong(4L, 99, "failed");
+        addTracks(3L, 5);
+
+        service.rebuild();
+
+        assertThat(service.isReady()).isTrue();
+        assertThat(songIds(service.recommend(USER_ID, ColdStartSegment.POPULAR, 10))).containsExactly(1L, 2L, 3L);
+        assertThat(songIds(service.recommend(USER_ID, ColdStartSegment.SUNG, 10))).containsExactly(3L, 1L, 2L);
+        // 70 + 10 * log2(6) ≈ 95.8 > 90
+        assertThat(songIds(service.recommend(USER_ID, ColdStartSegment.OVERALL, 2))).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("증분 갱신은 수정된 곡, 새 곡, 상태 변경, 새 트랙을 반영하고 이전 트랙을 중복 집계하지 않는다")
+    void incrementalRefresh_AppliesChanges() {
+        putSong(1L, 90, "success");
+        putSong(2L, 80, "success");
+        putSong(3L, 70, "success");
+        addTracks(2L, 1);
+        service.rebuild();
+
+        putSong(3L, 95, "success");   // 인기도 상승
+        putSong(1L, 90, "failed");    // 추천 대상에서 제외
+        putSong(5L, 85, "success");   // 새 곡
+        addTracks(2L, 2);             // 새 트랙 2개
+        service.refreshIncrementally();
+
+        assertThat(songIds(service.recommend(USER_ID, ColdStartSegment.POPULAR, 10))).containsExactly(3L, 5L, 2L);
+        assertThat(songIds(service.recommend(USER_ID, ColdStartSegment.SUNG, 1))).containsExactly(2L);
+
+        // 변경 없는 증분 갱신을 여러 번 해도 결과가 전체 재구성과 같다
+        service.refreshIncrementally();
+        service.refreshIncrementally();
+        List<Long> incremental = songIds(service.recommend(USER_ID, ColdStartSegment.OVERALL, 10));
+        service.rebuild();
+        assertThat(songIds(service.recommend(USER_ID, ColdStartSegment.OVERALL, 10))).isEqualTo(incremental);
+    }
+
+    @Test
+    @DisplayName("같은 시각에 수정된 곡도 반영하고, 변경이 없으면 랭킹을 다시 만들지 않는다")
+    void incrementalRefresh_SkipsPublishWithoutChanges() {
+        putSong(1L, 90, "success");
+        putSong(2L, 80, "success");
+        service.rebuild();
+
+        // 워터마크와 같은 시각에 수정된 곡 (id가 더 큼)
+        songs.put(3L, new SongRankingDTO(3L, 3L, "노래 3", "가수", null, 95, "success", songs.get(2L).updatedAt()));
+        service.refreshIncrementally();
+        assertThat(songIds(service.recommend(USER_ID, ColdStartSegment.POPULAR, 10))).containsExactly(3L, 1L, 2L);
+
+        Object published = ReflectionTestUtils.getField(service, "ranking");
+        service.refreshIncrementally();
+        service.refreshIncrementally();
+
+        assertThat(ReflectionTestUtils.getField(service, "ranking")).isSameAs(published);
+    }
+
+    @Test
+    @DisplayName("싫어요한 곡은 비트맵으로 제외하고, 싫어요 변경 시 비트맵을 다시 읽는다")
+    void dislikedSongs_AreExcluded() {
+        for (long songId = 1; songId <= 5; songId++) {
+            putSong(songId, 100 - (int) songId, "success");
+        }
+        service.rebuild();
+        dislikedSongIds.add(1L);
+        dislikedSongIds.add(3L);
+
+        assertThat(songIds(service.recommend(USER_ID, 3))).containsExactly(2L, 4L, 5L);
+        assertThat(songIds(service.recommend(USER_ID, 3))).containsExactly(2L, 4L, 5L);
+        assertThat(dislikeQueries.get()).isEqualTo(1);
+
+        dislikedSongIds.remove(1L);
+        service.evictDislikes(USER_ID);
+
+        assertThat(songIds(service.recommend(USER_ID, 3))).containsExactly(1L, 2L, 4L);
+        assertThat(dislikeQueries.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("추천 곡이 없으면 no_results, 랭킹이 비어 있으면 준비되지 않은 상태")
+    void emptyCatalogue() {
+        service.rebuild();
+
+        assertThat(service.isReady()).isFalse();
+        VoiceRecommendationResponseDto response = service.recommend(USER_ID, 5);
+        assertThat(response.status()).isEqualTo("no_results");
+        assertThat(response.recommendations()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("5만 곡 카탈로그에서 세그먼트 목록은 재구성 때 미리 계산되고, 추천 조회는 DB를 호출하지 않는다")
+    @SuppressWarnings("unchecked")
+    void recommendUsesPrecomputedSegments() {
+        for (long songId = 1; songId <= 50_000; songId++) {
+            putSong(songId, (int) (songId * 7919 % 101), "success");
+            if (songId % 3 == 0) {
+                addTracks(songId, (int) (songId % 7));
+            }
+        }
+        service.rebuild();
+        for (long songId = 1; songId <= 50_000; songId += 97) {
+            dislikedSongIds.add(songId);
+        }
+        clearInvocations(songRepository, albumTrackRepository);
+
+        // 세그먼트마다 상위 max-list-size개만 미리 정렬해 보관
+        SongRanking ranking = (SongRanking) ReflectionTestUtils.getField(service, "ranking");
+        Map<ColdStartSegment, int[]> ranked = (Map<ColdStartSegment, int[]>) ReflectionTestUtils.getField(ranking, "ranked");
+        assertThat(ranked).hasSize(ColdStartSegment.values().length);
+        assertThat(ranked.values()).allSatisfy(indices -> assertThat(indices).hasSize(200));
+
+        for (int i = 0; i < 1_000; i++) {
+            service.recommend(USER_ID, ColdStartSegment.values()[i % 3], 10);
+        }
+
+        List<Long> expectedPopular = songs.values().stream()
+                .filter(song -> !dislikedSongIds.contains(song.songId()))
+                .sorted(Comparator.comparing(SongRankingDTO::popularity).reversed()
+                        .thenComparing(SongRankingDTO::songId))
+                .limit(10)
+                .map(SongRankingDTO::songId)
+                .toList();
+        assertThat(songIds(service.recommend(USER_ID, ColdStartSegment.POPULAR, 10))).isEqualTo(expectedPopular);
+
+        // 싫어요 비트맵은 한 번만 읽고, 곡/트랙 저장소는 요청마다 호출하지 않음
+        assertThat(dislikeQueries.get()).isEqualTo(1);
+        verifyNoInteractions(songRepository, albumTrackRepository);
+    }
+
+    private void putSong(Long songId, int popularity, String status) {
+        songs.put(songId, new SongRankingDTO(songId, songId, "노래 " + songId, "가수", null,
+                popularity, status, BASE_TIME.plusSeconds(clock++)));
+    }
+
+    private void addTracks(Long songId, int count) {
+        for (int i = 0; i < count; i++) {
+            publicTracks.add(new long[]{publicTracks.size() + 1, songId});
+        }
+    }
+
+    private List<Long> songIds(VoiceRecommendationResponseDto response) {
+        return response.recommendations().stream().map(RecommendationSongDto::getSongId).toList();
+    }
+}
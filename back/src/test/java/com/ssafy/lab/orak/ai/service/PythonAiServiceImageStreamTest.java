@@ -0,0 +1,295 @@
+package com.ssafy.lab.orak.ai.service;
+
+import com.ssafy.lab.orak.ai.dto.VoiceImageGenerationRequestDto;
+import com.ssafy.lab.orak.ai.dto.VoiceImageGenerationResponseDto;
+import com.ssafy.lab.orak.s3.helper.S3AsyncHelper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Log4j2
+@DisplayName("AI 생성 이미지 S3 스트리밍 전송 테스트")
+class PythonAiServiceImageStreamTest {
+
+    private static final int STREAM_PART_SIZE = 5 * 1024 * 1024;
+    private static final String BOUNDARY = "orak-image-boundary";
+
+    @TempDir
+    Path tempDir;
+
+    private HttpServer aiServer;
+    private PythonAiService pythonAiService;
+    private S3AsyncHelper s3AsyncHelper;
+
+    private volatile byte[] responseBody;
+    private volatile String responseContentType;
+    private volatile boolean chunkedResponse;
+
+    // S3에 전달된 객체별 SHA-256 (본문을 보관하지 않고 흘려보내며 계산)
+    private final Map<String, byte[]> storedDigests = new ConcurrentHashMap<>();
+    private final Map<String, MessageDigest> multipartDigests = new ConcurrentHashMap<>();
+    private final AtomicInteger putObjectCalls = new AtomicInteger();
+    private final AtomicInteger uploadPartCalls = new AtomicInteger();
+    private final AtomicInteger uploadIds = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        aiServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        aiServer.createContext("/ai/generate-voice-image", this::handleGenerate);
+        aiServer.setExecutor(Executors.newFixedThreadPool(4));
+        aiServer.start();
+
+        // 기존 DTO 경로와 비교하기 위해 큰 응답도 메모리에 받을 수 있게 설정
+        pythonAiService = new PythonAiService(WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + aiServer.getAddress().getPort())
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(64 * 1024 * 1024))
+                .build());
+
+        s3AsyncHelper = new S3AsyncHelper(mockS3Client());
+        ReflectionTestUtils.setField(s3AsyncHelper, "bucket", "test-bucket");
+        ReflectionTestUtils.setField(s3AsyncHelper, "streamPartSizeBytes", STREAM_PART_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        aiServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("image/* 응답은 Content-Length 그대로 PutObject 한 번으로 흘려보낸다")
+    void streamsBinaryImageResponse() throws Exception {
+        byte[] image = pngImage(6 * 1024 * 1024);
+        respond("image/png", image, false);
+
+        Long size = streamToS3("album-covers/binary.png").block();
+
+        assertThat(size).isEqualTo(image.length);
+        assertThat(putObjectCalls.get()).isEqualTo(1);
+        assertThat(uploadPartCalls.get()).isZero();
+        assertThat(storedDigests.get("album-covers/binary.png")).isEqualTo(sha256(image));
+    }
+
+    @Test
+    @DisplayName("multipart 응답은 이미지 파트만 골라 길이를 모르는 상태로 멀티파트 업로드한다")
+    void streamsImagePartOfMultipartResponse() throws Exception {
+        byte[] image = pngImage(12 * 1024 * 1024);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.writeBytes(("--" + BOUNDARY + "\r\nContent-Type: application/json\r\n\r\n"
+                + "{\"success\":true,\"generated_prompt\":\"warm sunset\"}\r\n"
+                + "--" + BOUNDARY + "\r\nContent-Type: image/png\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        body.writeBytes(image);
+        body.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        respond("multipart/mixed; boundary=" + BOUNDARY, body.toByteArray(), true);
+
+        Long size = streamToS3("album-covers/multipart.png").block();
+
+        assertThat(size).isEqualTo(image.length);
+        assertThat(putObjectCalls.get()).isZero();
+        assertThat(uploadPartCalls.get()).isEqualTo(3);
+        assertThat(storedDigests.get("album-covers/multipart.png")).isEqualTo(sha256(image));
+    }
+
+    @Test
+    @DisplayName("JSON 응답은 image_base64를 스트리밍 디코딩하고, 기존 방식보다 힙 할당이 훨씬 적다")
+    void streamsBase64JsonWithLessAllocation() throws Exception {
+        byte[] image = pngImage(8 * 1024 * 1024);
+        respond("application/json", base64Json(image), true);
+
+        // JIT 워밍업
+        legacyUpload("album-covers/warmup-legacy.png");
+        streamToS3("album-covers/warmup-stream.png").block();
+
+        long before = allocatedBytes();
+        legacyUpload("album-covers/legacy.png");
+        long legacyAllocated = allocatedBytes() - before;
+
+        before = allocatedBytes();
+        Long size = streamToS3("album-covers/stream.png").block();
+        long streamAllocated = allocatedBytes() - before;
+
+        log.info("이미지 {}MB (base64 JSON {}MB) 힙 할당 - 기존: {}MB, 스트리밍: {}MB",
+                image.length >> 20, responseBody.length >> 20, legacyAllocated >> 20, streamAllocated >> 20);
+
+        assertThat(size).isEqualTo(image.length);
+        assertThat(storedDigests.get("album-covers/stream.png")).isEqualTo(sha256(image));
+        assertThat(storedDigests.get("album-covers/legacy.png")).isEqualTo(sha256(image));
+        assertThat(streamAllocated).isLessThan(legacyAllocated / 2);
+    }
+
+    @Test
+    @DisplayName("image_base64가 없는 실패 응답은 error 메시지로 실패하고 S3에 쓰지 않는다")
+    void failsWithAiErrorMessage() {
+        respond("application/json",
+                "{\"success\":false,\"image_base64\":null,\"error\":\"quota exceeded\"}".getBytes(StandardCharsets.UTF_8), false);
+
+        assertThatThrownBy(() -> streamToS3("album-covers/failed.png").block())
+                .hasMessageContaining("AI 이미지 생성 실패: quota exceeded");
+        assertThat(putObjectCalls.get()).isZero();
+        assertThat(uploadPartCalls.get()).isZero();
+    }
+
+    private Mono<Long> streamToS3(String s3Key) {
+        return pythonAiService.generateVoiceImage(request(), (contentType, contentLength, content) ->
+                Mono.fromFuture(() -> s3AsyncHelper.uploadStream(content, s3Key, contentType, contentLength)));
+    }
+
+    // 변경 전 AlbumCoverService 방식: DTO로 전체 수신 → Base64 디코딩 → 임시 파일 → 업로드
+    private void legacyUpload(String s3Key) throws IOException {
+        VoiceImageGenerationResponseDto response = pythonAiService.generateVoiceImage(request()).block();
+        byte[] imageBytes = Base64.getDecoder().decode(response.imageBase64());
+        Path tempFile = Files.write(tempDir.resolve(s3Key.replace('/', '_')), imageBytes);
+        s3AsyncHelper.uploadFile(tempFile.toFile(), s3Key, "image/png").join();
+        Files.deleteIfExists(tempFile);
+    }
+
+    private VoiceImageGenerationRequestDto request() {
+        return new VoiceImageGenerationRequestDto(List.of());
+    }
+
+    private S3AsyncClient mockS3Client() {
+        S3AsyncClient client = mock(S3AsyncClient.class);
+
+        when(client.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenAnswer(invocation -> {
+            putObjectCalls.incrementAndGet();
+            PutObjectRequest request = invocation.getArgument(0);
+            MessageDigest digest = newDigest();
+            return consume(invocation.getArgument(1), digest)
+                    .thenApply(v -> {
+                        storedDigests.put(request.key(), digest.digest());
+                        return PutObjectResponse.builder().eTag("\"put\"").build();
+                    });
+        });
+
+        when(client.createMultipartUpload(any(CreateMultipartUploadRequest.class))).thenAnswer(invocation -> {
+            String uploadId = "upload-" + uploadIds.incrementAndGet();
+            multipartDigests.put(uploadId, newDigest());
+            return CompletableFuture.completedFuture(CreateMultipartUploadResponse.builder().uploadId(uploadId).build());
+        });
+
+        when(client.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class))).thenAnswer(invocation -> {
+            uploadPartCalls.incrementAndGet();
+            UploadPartRequest request = invocation.getArgument(0);
+            return consume(invocation.getArgument(1), multipartDigests.get(request.uploadId()))
+                    .thenApply(v -> UploadPartResponse.builder().eTag("\"part-" + request.partNumber() + "\"").build());
+        });
+
+        when(client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class))).thenAnswer(invocation -> {
+            CompleteMultipartUploadRequest request = invocation.getArgument(0);
+            storedDigests.put(request.key(), multipartDigests.remove(request.uploadId()).digest());
+            return CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder().key(request.key()).build());
+        });
+
+        return client;
+    }
+
+    private CompletableFuture<Void> consume(AsyncRequestBody body, MessageDigest digest) {
+        return Flux.from(body)
+                .doOnNext(buffer -> {
+                    synchronized (digest) {
+                        digest.update(buffer);
+                    }
+                })
+                .then()
+                .toFuture();
+    }
+
+    private void respond(String contentType, byte[] body, boolean chunked) {
+        this.responseContentType = contentType;
+        this.responseBody = body;
+        this.chunkedResponse = chunked;
+    }
+
+    private void handleGenerate(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        byte[] body = responseBody;
+        exchange.getResponseHeaders().add("Content-Type", responseContentType);
+        exchange.sendResponseHeaders(200, chunkedResponse ? 0 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int offset = 0; offset < body.length; offset += 64 * 1024) {
+                out.write(body, offset, Math.min(64 * 1024, body.length - offset));
+            }
+        }
+    }
+
+    // 최상위가 아닌 같은 이름의 키는 무시되어야 함
+    private byte[] base64Json(byte[] image) {
+        String json = "{\"success\":true,"
+                + "\"parameters\":{\"image_base64\":\"ignored\",\"aspect_ratio\":\"1:1\"},"
+                + "\"generated_prompt\":\"a \\\"bright\\\" voice\","
+                + "\"image_base64\":\"" + Base64.getEncoder().encodeToString(image) + "\","
+                + "\"voice_keywords\":[\"밝은 목소리\"]}";
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] pngImage(int size) {
+        byte[] image = new byte[size];
+        new Random(size).nextBytes(image);
+        byte[] signature = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+        System.arraycopy(signature, 0, image, 0, signature.length);
+        return image;
+    }
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return Arrays.stream(threads.getThreadAllocatedBytes(threads.getAllThreadIds()))
+                .filter(bytes -> bytes > 0)
+                .sum();
+    }
+
+    private static byte[] sha256(byte[] content) {
+        return newDigest().digest(content);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
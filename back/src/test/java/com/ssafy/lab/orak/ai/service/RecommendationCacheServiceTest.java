@@ -0,0 +1,268 @@
+package com.ssafy.lab.orak.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.lab.orak.ai.dto.VoiceRecommendationRequestDto;
+import com.ssafy.lab.orak.ai.dto.VoiceRecommendationResponseDto;
+import com.ssafy.lab.orak.dislike.repository.DislikeRepository;
+import com.ssafy.lab.orak.recording.repository.RecordRepository;
+import com.ssafy.lab.orak.song.dto.SongSummaryDTO;
+import com.ssafy.lab.orak.song.service.SongCatalogCache;
+import com.ssafy.lab.orak.upload.enums.ProcessingStatus;
+import com.ssafy.lab.orak.upload.service.FileUploadService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("추천 결과 캐시 테스트 (스텁 AI 서버 호출 횟수 기준)")
+class RecommendationCacheServiceTest {
+
+    private static final Long USER_ID = 7L;
+    private static final Long UPLOAD_ID = 100L;
+
+    private HttpServer aiServer;
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final AtomicInteger upstreamResponses = new AtomicInteger();
+    private volatile long responseDelayMs = 0;
+    // 설정되면 AI 응답을 이 래치가 열릴 때까지 붙잡음 (최대 5초)
+    private volatile CountDownLatch upstreamGate;
+
+    // 인스턴스 간 공유되는 Redis 역할
+    private final Map<String, Object> redisValues = new ConcurrentHashMap<>();
+    private final Map<String, Set<Object>> redisSets = new ConcurrentHashMap<>();
+
+    private DislikeRepository dislikeRepository;
+    private RecordRepository recordRepository;
+    private SongCatalogCache songCatalogCache;
+    private PythonAiService pythonAiService;
+    private RecommendationCacheService cacheService;
+    private VoiceRecommendationService voiceRecommendationService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        aiServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        aiServer.createContext("/ai/voice-recommendation", this::handleRecommendation);
+        aiServer.setExecutor(Executors.newFixedThreadPool(8));
+        aiServer.start();
+
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + aiServer.getAddress().getPort())
+                .build();
+        pythonAiService = new PythonAiService(webClient);
+
+        dislikeRepository = mock(DislikeRepository.class);
+        recordRepository = mock(RecordRepository.class);
+        songCatalogCache = mock(SongCatalogCache.class);
+        when(dislikeRepository.findSongIdsByUserId(USER_ID)).thenReturn(List.of());
+        when(recordRepository.findLatestRecordIdByUserIdAndStatus(USER_ID, ProcessingStatus.VOICE_ANALYZED)).thenReturn(11L);
+        when(songCatalogCache.getAllBySongIds(anyCollection())).thenAnswer(invocation -> {
+            Map<Long, SongSummaryDTO> songs = new LinkedHashMap<>();
+            for (Long songId : invocation.<Collection<Long>>getArgument(0)) {
+                songs.put(songId, new SongSummaryDTO(songId, songId, "노래", "가수",
+                        null, null, null, null, null, null, "success", null));
+            }
+            return songs;
+        });
+
+        cacheService = newCacheService();
+        voiceRecommendationService = new VoiceRecommendationService(
+                pythonAiService, mock(FileUploadService.class), songCatalogCache, cacheService,
+                recordRepository, mock(ColdStartRecommendationService.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        aiServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("같은 요청을 반복하면 AI 서버는 한 번만 호출된다")
+    void repeatedRequest_CallsUpstreamOnce() {
+        VoiceRecommendationResponseDto first = request();
+        VoiceRecommendationResponseDto second = request();
+
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(second.recommendations()).extracting("songId").containsExactly(1L, 2L);
+        assertThat(second.voiceAnalysis().summary()).isEqualTo(first.voiceAnalysis().summary());
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 요청 8개는 AI 호출 하나를 공유한다")
+    void concurrentRequests_AreSingleFlight() throws Exception {
+        responseDelayMs = 300;
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<VoiceRecommendationResponseDto>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(callers.submit(() -> {
+                    start.await();
+                    return request();
+                }));
+            }
+            start.countDown();
+            for (Future<VoiceRecommendationResponseDto> future : futures) {
+                assertThat(future.get().status()).isEqualTo("success");
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("싫어요 목록이나 최근 분석 녹음이 바뀌면 새로 조회한다")
+    void fingerprintChange_Misses() {
+        request();
+        when(dislikeRepository.findSongIdsByUserId(USER_ID)).thenReturn(List.of(2L));
+        request();
+        when(recordRepository.findLatestRecordIdByUserIdAndStatus(USER_ID, ProcessingStatus.VOICE_ANALYZED)).thenReturn(12L);
+        request();
+
+        assertThat(upstreamCalls.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 저장한 결과는 Redis에서 읽어 AI를 호출하지 않는다")
+    void otherInstance_ReadsFromRedis() {
+        request();
+
+        RecommendationCacheService otherInstanceCache = newCacheService();
+        VoiceRecommendationService otherInstance = new VoiceRecommendationService(
+                pythonAiService, mock(FileUploadService.class), songCatalogCache, otherInstanceCache,
+                recordRepository, mock(ColdStartRecommendationService.class));
+        VoiceRecommendationResponseDto response = otherInstance
+                .getVoiceRecommendations(USER_ID, new VoiceRecommendationRequestDto(UPLOAD_ID, 5))
+                .block();
+
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(response.recommendations()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("fresh TTL이 지난 결과는 즉시 반환되고 백그라운드에서 한 번 갱신된다")
+    void staleEntry_IsServedWhileRevalidating() {
+        ReflectionTestUtils.setField(cacheService, "freshTtlSeconds", 0L);
+        request();
+        upstreamGate = new CountDownLatch(1);
+
+        VoiceRecommendationResponseDto stale = request();
+
+        // 갱신 호출이 붙잡혀 있는 동안 이미 응답을 받았으므로 갱신을 기다리지 않은 것
+        assertThat(stale.status()).isEqualTo("success");
+        assertThat(upstreamResponses.get()).isEqualTo(1);
+        upstreamGate.countDown();
+        await().atMost(Duration.ofSeconds(5)).until(() -> upstreamResponses.get() == 2);
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("사용자 캐시를 무효화하면 다음 요청은 AI를 다시 호출한다")
+    void evictUser_ForcesReload() {
+        request();
+        cacheService.evictUser(USER_ID);
+        request();
+
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+    }
+
+    private VoiceRecommendationResponseDto request() {
+        return voiceRecommendationService
+                .getVoiceRecommendations(USER_ID, new VoiceRecommendationRequestDto(UPLOAD_ID, 5))
+                .block();
+    }
+
+    private void handleRecommendation(HttpExchange exchange) throws IOException {
+        upstreamCalls.incrementAndGet();
+        try {
+            CountDownLatch gate = upstreamGate;
+            if (gate != null) {
+                gate.await(5, TimeUnit.SECONDS);
+            }
+            Thread.sleep(responseDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = """
+                {"status": "success",
+                 "recommendations": [{"song_id": 1}, {"song_id": 2}],
+                 "voice_analysis": {"summary": "맑은 음색", "desc": ["고음 안정"], "allowedGenres": ["ballad"]}}
+                """.getBytes(StandardCharsets.UTF_8);
+        // 응답을 보내기 전에 세므로 클라이언트가 응답을 받았다면 이미 반영됨
+        upstreamResponses.incrementAndGet();
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private RecommendationCacheService newCacheService() {
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+        SetOperations<String, Object> setOperations = mock(SetOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> redisValues.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> redisValues.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), any(), any(Duration.class));
+        when(setOperations.add(anyString(), any())).thenAnswer(invocation -> {
+            redisSets.computeIfAbsent(invocation.getArgument(0), key -> ConcurrentHashMap.newKeySet())
+                    .add(invocation.getArgument(1));
+            return 1L;
+        });
+        when(setOperations.members(anyString())).thenAnswer(invocation -> redisSets.get(invocation.<String>getArgument(0)));
+        when(redisTemplate.delete(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            keys.forEach(redisValues::remove);
+            return (long) keys.size();
+        });
+        when(redisTemplate.delete(anyString())).thenAnswer(invocation -> redisSets.remove(invocation.<String>getArgument(0)) != null);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RecommendationCacheService service = new RecommendationCacheService(redisTemplate, new ObjectMapper(),
+                dislikeRepository, recordRepository,
+                registry.counter("hit"), registry.counter("stale"), registry.counter("miss"));
+        service.initNearCache();
+        return service;
+    }
+}
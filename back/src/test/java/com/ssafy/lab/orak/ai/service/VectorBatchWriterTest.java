@@ -0,0 +1,193 @@
+package com.ssafy.lab.orak.ai.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("벡터 마이크로 배치 writer 테스트")
+class VectorBatchWriterTest {
+
+    private static final long STUB_LATENCY_MS = 20;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger batchCalls = new AtomicInteger();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failuresBeforeSuccess = new AtomicInteger();
+    private volatile String failingUploadId;
+    private final AtomicInteger retryableFailures = new AtomicInteger();
+    private volatile String retryableUploadId;
+    private final List<List<String>> batchUploadIds = new CopyOnWriteArrayList<>();
+
+    private HttpServer aiServer;
+    private PythonAiService pythonAiService;
+    private final List<VectorBatchWriter> writers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        aiServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        aiServer.createContext("/ai/save-user-vectors", this::handleBatch);
+        aiServer.setExecutor(Executors.newFixedThreadPool(8));
+        aiServer.start();
+
+        pythonAiService = new PythonAiService(WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + aiServer.getAddress().getPort())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        for (VectorBatchWriter writer : writers) {
+            writer.stop();
+        }
+        aiServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("배치 크기만큼 요청이 모여 AI 호출 한 번으로 전송된다")
+    void batchesUpToMaxSize() {
+        int items = 256;
+
+        for (int batchSize : new int[]{1, 8, 32}) {
+            batchCalls.set(0);
+            batchSizes.clear();
+            // 대기 시간을 길게 두어 배치는 가득 찼을 때만 전송됨
+            VectorBatchWriter writer = newWriter(batchSize, 10_000L);
+
+            List<CompletableFuture<String>> futures = new ArrayList<>();
+            for (int i = 0; i < items; i++) {
+                futures.add(writer.submit("s3://bucket/rec-" + i, 1L, (long) i, null));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).orTimeout(30, TimeUnit.SECONDS).join();
+
+            assertThat(futures.get(7).join()).isEqualTo("vec-7");
+            assertThat(batchCalls.get()).isEqualTo(items / batchSize);
+            assertThat(batchSizes).containsOnly(batchSize);
+        }
+    }
+
+    @Test
+    @DisplayName("AI 서비스가 503을 반환하면 백오프 후 같은 배치를 재시도한다")
+    void retriesUnderPressure() {
+        failuresBeforeSuccess.set(2);
+        VectorBatchWriter writer = newWriter(8);
+
+        List<CompletableFuture<String>> futures = List.of(
+                writer.submit("s3://bucket/a", 1L, 1L, null),
+                writer.submit("s3://bucket/b", 1L, 2L, 3L));
+
+        assertThat(futures.get(0).orTimeout(10, TimeUnit.SECONDS).join()).isEqualTo("vec-1");
+        assertThat(futures.get(1).join()).isEqualTo("vec-2");
+        assertThat(batchCalls.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("배치 안에서 실패한 항목만 해당 future가 실패한다")
+    void fansOutPerItemFailure() {
+        failingUploadId = "2";
+        VectorBatchWriter writer = newWriter(8);
+
+        CompletableFuture<String> ok = writer.submit("s3://bucket/a", 1L, 1L, null);
+        CompletableFuture<String> failed = writer.submit("s3://bucket/b", 1L, 2L, null);
+
+        assertThat(ok.orTimeout(10, TimeUnit.SECONDS).join()).isEqualTo("vec-1");
+        assertThatThrownBy(failed::join).hasMessageContaining("Python 벡터 처리 실패");
+    }
+
+    @Test
+    @DisplayName("응답에서 retryable로 실패한 항목만 다시 보내고, 성공한 항목은 재전송하지 않는다")
+    void retriesOnlyRetryableItems() {
+        retryableUploadId = "2";
+        retryableFailures.set(1);
+        VectorBatchWriter writer = newWriter(8);
+
+        List<CompletableFuture<String>> futures = List.of(
+                writer.submit("s3://bucket/a", 1L, 1L, null),
+                writer.submit("s3://bucket/b", 1L, 2L, null),
+                writer.submit("s3://bucket/c", 1L, 3L, null));
+
+        assertThat(futures.get(1).orTimeout(10, TimeUnit.SECONDS).join()).isEqualTo("vec-2");
+        assertThat(futures.get(0).join()).isEqualTo("vec-1");
+        assertThat(futures.get(2).join()).isEqualTo("vec-3");
+        assertThat(batchUploadIds).containsExactly(List.of("1", "2", "3"), List.of("2"));
+    }
+
+    private VectorBatchWriter newWriter(int batchSize) {
+        return newWriter(batchSize, 5L);
+    }
+
+    private VectorBatchWriter newWriter(int batchSize, long lingerMs) {
+        VectorBatchWriter writer = new VectorBatchWriter(pythonAiService);
+        ReflectionTestUtils.setField(writer, "maxBatchSize", batchSize);
+        ReflectionTestUtils.setField(writer, "lingerMs", lingerMs);
+        ReflectionTestUtils.setField(writer, "maxInFlight", 4);
+        ReflectionTestUtils.setField(writer, "backoffInitialMs", 10L);
+        ReflectionTestUtils.setField(writer, "backoffMaxMs", 100L);
+        writer.start();
+        writers.add(writer);
+        return writer;
+    }
+
+    private void handleBatch(HttpExchange exchange) throws IOException {
+        batchCalls.incrementAndGet();
+        JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+        batchSizes.add(request.path("items").size());
+        List<String> uploadIds = new ArrayList<>();
+        request.path("items").forEach(item -> uploadIds.add(item.path("upload_id").asText()));
+        batchUploadIds.add(uploadIds);
+
+        if (failuresBeforeSuccess.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+            return;
+        }
+
+        try {
+            Thread.sleep(STUB_LATENCY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (JsonNode item : request.path("items")) {
+            String uploadId = item.path("upload_id").asText();
+            if (uploadId.equals(retryableUploadId)
+                    && retryableFailures.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                results.add(Map.of("upload_id", uploadId, "status", "failed", "error", "s3 timeout",
+                        "retryable", true));
+            } else if (uploadId.equals(failingUploadId)) {
+                results.add(Map.of("upload_id", uploadId, "status", "failed", "error", "feature extraction failed"));
+            } else {
+                results.add(Map.of("upload_id", uploadId, "status", "success", "vector_id", "vec-" + uploadId));
+            }
+        }
+
+        byte[] body = objectMapper.writeValueAsBytes(Map.of("results", results));
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.ssafy.lab.orak.aidemo.service;
+
+import com.ssafy.lab.orak.aidemo.dto.AiDemoApplicationRequestDTO;
+import com.ssafy.lab.orak.aidemo.entity.AiDemoApplication;
+import com.ssafy.lab.orak.aidemo.entity.AiDemoApplicationRecord;
+import com.ssafy.lab.orak.aidemo.exception.DuplicateAiDemoApplicationException;
+import com.ssafy.lab.orak.aidemo.mapper.AiDemoApplicationMapperImpl;
+import com.ssafy.lab.orak.aidemo.repository.AiDemoApplicationRecordRepository;
+import com.ssafy.lab.orak.aidemo.repository.AiDemoApplicationRepository;
+import com.ssafy.lab.orak.recording.entity.Record;
+import com.ssafy.lab.orak.recording.repository.RecordRepository;
+import com.ssafy.lab.orak.recording.service.RecordService;
+import com.ssafy.lab.orak.upload.entity.Upload;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Log4j2
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("AI 데모 신청 중복 확인 (조인 테이블) 테스트")
+class AiDemoApplicationDuplicateCheckTest {
+
+    private static final int USER_COUNT = 200;
+    private static final int RECORDS_PER_USER = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private AiDemoApplicationRecordRepository applicationRecordRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private AiDemoApplicationService service;
+    private Statistics statistics;
+
+    // userId → 해당 사용자의 녹음 ID
+    private final List<List<Long>> recordIdsByUser = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // JSON 컬럼은 H2에서 MySQL과 다르게 동작하므로 신청서 저장은 ID만 발급하는 가짜로 대체
+        AiDemoApplicationRepository applicationRepository = mock(AiDemoApplicationRepository.class);
+        AtomicLong applicationIds = new AtomicLong();
+        when(applicationRepository.save(any(AiDemoApplication.class))).thenAnswer(invocation ->
+                invocation.<AiDemoApplication>getArgument(0).toBuilder().id(applicationIds.incrementAndGet()).build());
+        RecordService recordService = mock(RecordService.class);
+        when(recordService.getRecords(anyCollection())).thenReturn(List.of());
+
+        service = new AiDemoApplicationService(applicationRepository, applicationRecordRepository, recordRepository,
+                recordService, new AiDemoApplicationMapperImpl());
+
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            List<Long> recordIds = new ArrayList<>();
+            for (int i = 0; i < RECORDS_PER_USER; i++) {
+                Upload upload = entityManager.persist(Upload.builder()
+                        .originalFilename("rec.wav")
+                        .uuid("uuid-" + userId + "-" + i)
+                        .extension("wav")
+                        .uploaderId(userId)
+                        .fileSize(1000L)
+                        .contentType("audio/wav")
+                        .directory("recordings")
+                        .build());
+                recordIds.add(entityManager.persist(Record.builder()
+                        .userId(userId)
+                        .title("녹음 " + i)
+                        .uploadId(upload.getId())
+                        .build()).getId());
+            }
+            recordIdsByUser.add(recordIds);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("이미 신청한 녹음이 하나라도 포함되면 해당 녹음 ID로 중복 예외")
+    void overlappingApplication_IsRejected() {
+        List<Long> recordIds = recordIdsByUser.get(0);
+        service.createApplication(request(recordIds.get(0), recordIds.get(1)), 1L);
+
+        assertThatThrownBy(() -> service.createApplication(request(recordIds.get(2), recordIds.get(1)), 1L))
+                .isInstanceOf(DuplicateAiDemoApplicationException.class)
+                .hasMessageContaining("recordId: " + recordIds.get(1));
+
+        // 겹치지 않는 녹음은 신청 가능
+        service.createApplication(request(recordIds.get(2), recordIds.get(3)), 1L);
+        assertThat(applicationRecordRepository.count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("같은 사용자-녹음 조합은 유니크 제약으로 저장이 막힌다")
+    void uniqueConstraint_BlocksConcurrentDuplicate() {
+        applicationRecordRepository.saveAndFlush(AiDemoApplicationRecord.builder()
+                .applicationId(1L).userId(1L).recordId(10L).build());
+
+        assertThatThrownBy(() -> applicationRecordRepository.saveAndFlush(AiDemoApplicationRecord.builder()
+                .applicationId(2L).userId(1L).recordId(10L).build()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("중복 확인은 (user_id, record_id) 유니크 인덱스를 사용한다")
+    void duplicateCheck_UsesUniqueIndex() {
+        String plan = (String) entityManager.getEntityManager()
+                .createNativeQuery("EXPLAIN SELECT record_id FROM ai_demo_application_records WHERE user_id = 1 AND record_id IN (1, 2, 3)")
+                .getSingleResult();
+
+        log.info("중복 확인 실행 계획: {}", plan);
+        assertThat(plan).containsIgnoringCase("uk_ai_demo_application_records_user_record");
+    }
+
+    @Test
+    @DisplayName("신청서가 쌓여도 신청 하나를 만드는 SQL 문 수가 같다")
+    void createApplication_StatementCountStaysConstant() {
+        int applicationCount = USER_COUNT * RECORDS_PER_USER / 2; // 녹음 2개짜리 신청서
+
+        statistics.clear();
+        createApplications(0, 1);
+        long firstStatements = statistics.getPrepareStatementCount();
+
+        createApplications(1, applicationCount - 2);
+
+        statistics.clear();
+        createApplications(applicationCount - 1, 1);
+        long lastStatements = statistics.getPrepareStatementCount();
+
+        assertThat(applicationRecordRepository.count()).isEqualTo((long) USER_COUNT * RECORDS_PER_USER);
+        // 녹음 조회, 중복 확인, 조인 행 저장만 실행 (중복 확인이 인덱스를 쓰는지는 실행 계획 테스트에서 확인)
+        assertThat(lastStatements).isEqualTo(firstStatements);
+
+        // 모든 녹음이 신청된 뒤에는 어떤 재신청도 중복
+        List<Long> lastUserRecords = recordIdsByUser.get(USER_COUNT - 1);
+        assertThatThrownBy(() -> service.createApplication(
+                request(lastUserRecords.get(0), lastUserRecords.get(RECORDS_PER_USER - 1)), (long) USER_COUNT))
+                .isInstanceOf(DuplicateAiDemoApplicationException.class);
+    }
+
+    // 사용자를 돌아가며 녹음 2개짜리 신청서를 count건 생성
+    private void createApplications(int offset, int count) {
+        for (int n = offset; n < offset + count; n++) {
+            int userIndex = n % USER_COUNT;
+            int pair = n / USER_COUNT;
+            List<Long> recordIds = recordIdsByUser.get(userIndex);
+            service.createApplication(request(recordIds.get(pair * 2), recordIds.get(pair * 2 + 1)), userIndex + 1L);
+        }
+    }
+
+    private AiDemoApplicationRequestDTO request(Long... recordIds) {
+        return AiDemoApplicationRequestDTO.builder()
+                .recordIds(List.of(recordIds))
+                .build();
+    }
+}
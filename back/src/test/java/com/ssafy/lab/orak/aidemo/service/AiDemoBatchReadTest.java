@@ -0,0 +1,216 @@
+package com.ssafy.lab.orak.aidemo.service;
+
+import com.ssafy.lab.orak.aidemo.dto.AiDemoApplicationResponseDTO;
+import com.ssafy.lab.orak.aidemo.dto.AiDemoRecordPageDTO;
+import com.ssafy.lab.orak.aidemo.entity.AiDemoApplication;
+import com.ssafy.lab.orak.aidemo.enums.ApplicationStatus;
+import com.ssafy.lab.orak.aidemo.mapper.AiDemoApplicationMapperImpl;
+import com.ssafy.lab.orak.aidemo.repository.AiDemoApplicationRecordRepository;
+import com.ssafy.lab.orak.aidemo.repository.AiDemoApplicationRepository;
+import com.ssafy.lab.orak.recording.dto.RecordResponseDTO;
+import com.ssafy.lab.orak.recording.entity.Record;
+import com.ssafy.lab.orak.recording.mapper.RecordMapperImpl;
+import com.ssafy.lab.orak.recording.repository.RecordRepository;
+import com.ssafy.lab.orak.recording.service.RecordService;
+import com.ssafy.lab.orak.recording.util.AudioConverter;
+import com.ssafy.lab.orak.recording.util.AudioDurationCalculator;
+import com.ssafy.lab.orak.s3.helper.S3Helper;
+import com.ssafy.lab.orak.s3.service.S3CleanupService;
+import com.ssafy.lab.orak.s3.util.LocalUploader;
+import com.ssafy.lab.orak.s3.util.S3Uploader;
+import com.ssafy.lab.orak.upload.entity.Upload;
+import com.ssafy.lab.orak.upload.repository.UploadRepository;
+import com.ssafy.lab.orak.upload.service.FileUploadService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("AI 데모 일괄 조회 쿼리 수 테스트")
+class AiDemoBatchReadTest {
+
+    private static final int RECORD_COUNT = 2000;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private UploadRepository uploadRepository;
+
+    private S3Helper s3Helper;
+    private FileUploadService fileUploadService;
+    private AiDemoRecordService aiDemoRecordService;
+    private AiDemoApplicationRepository aiDemoApplicationRepository;
+    private AiDemoApplicationService aiDemoApplicationService;
+    private Statistics statistics;
+
+    private final List<Long> recordIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        s3Helper = mock(S3Helper.class);
+        when(s3Helper.generatePresignedUrls(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            return keys.stream().distinct()
+                    .collect(Collectors.toMap(Function.identity(), key -> "https://s3.example.com/" + key));
+        });
+
+        fileUploadService = spy(new FileUploadService(s3Helper, mock(LocalUploader.class), mock(S3Uploader.class),
+                uploadRepository, mock(S3CleanupService.class), mock(Executor.class)));
+        RecordMapperImpl recordMapper = new RecordMapperImpl();
+        RecordService recordService = new RecordService(recordRepository, fileUploadService, recordMapper,
+                mock(AudioConverter.class), mock(AudioDurationCalculator.class), mock(LocalUploader.class), uploadRepository);
+        aiDemoRecordService = new AiDemoRecordService(recordRepository, fileUploadService, recordMapper,
+                mock(AudioConverter.class), mock(LocalUploader.class), uploadRepository, mock(S3CleanupService.class),
+                recordService);
+        aiDemoApplicationRepository = mock(AiDemoApplicationRepository.class);
+        aiDemoApplicationService = new AiDemoApplicationService(aiDemoApplicationRepository,
+                mock(AiDemoApplicationRecordRepository.class), recordRepository,
+                recordService, new AiDemoApplicationMapperImpl());
+
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            Upload upload = entityManager.persist(Upload.builder()
+                    .originalFilename("demo" + i + ".wav")
+                    .uuid("uuid-" + i)
+                    .extension("wav")
+                    .uploaderId((long) (i % 10))
+                    .fileSize(1000L)
+                    .contentType("audio/wav")
+                    .directory("ai-cover")
+                    .build());
+            Record record = entityManager.persist(Record.builder()
+                    .userId((long) (i % 10))
+                    .title("AI 데모 " + i)
+                    .uploadId(upload.getId())
+                    .build());
+            recordIds.add(record.getId());
+        }
+        entityManager.flush();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("전체 AI 데모 목록은 건수와 관계없이 쿼리 1번, 서명 1번으로 변환된다")
+    void getAllAiDemoRecords_ConstantQueries() {
+        resetCounters();
+
+        List<RecordResponseDTO> records = aiDemoRecordService.getAllAiDemoRecords();
+
+        assertThat(records).hasSize(RECORD_COUNT);
+        assertThat(records).allSatisfy(record -> {
+            assertThat(record.getUrlStatus()).isEqualTo("SUCCESS");
+            assertThat(record.getUrl()).startsWith("https://s3.example.com/ai-cover/");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        verify(s3Helper, times(1)).generatePresignedUrls(anyCollection());
+        verify(fileUploadService, never()).getUpload(anyLong());
+    }
+
+    @Test
+    @DisplayName("커서 페이지는 페이지 크기와 관계없이 쿼리 1번이고 모든 녹음을 중복 없이 순회한다")
+    void getAiDemoRecordPage_WalksAllRecords() {
+        resetCounters();
+        AiDemoRecordPageDTO small = aiDemoRecordService.getAiDemoRecordPage(null, 10);
+        long smallPageQueries = statistics.getPrepareStatementCount();
+
+        resetCounters();
+        AiDemoRecordPageDTO large = aiDemoRecordService.getAiDemoRecordPage(null, 500);
+        long largePageQueries = statistics.getPrepareStatementCount();
+
+        assertThat(small.getRecords()).hasSize(10);
+        assertThat(large.getRecords()).hasSize(500);
+        assertThat(smallPageQueries).isEqualTo(1);
+        assertThat(largePageQueries).isEqualTo(1);
+
+        // 커서로 끝까지 순회
+        HashSet<Long> seen = new HashSet<>();
+        Long cursor = null;
+        int pages = 0;
+        AiDemoRecordPageDTO page;
+        do {
+            page = aiDemoRecordService.getAiDemoRecordPage(cursor, 300);
+            page.getRecords().forEach(record -> assertThat(seen.add(record.getId())).isTrue());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (page.isHasNext());
+
+        assertThat(seen).containsExactlyInAnyOrderElementsOf(recordIds);
+        assertThat(pages).isEqualTo((RECORD_COUNT + 299) / 300);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("신청서 목록의 녹음은 신청서 수와 관계없이 IN 쿼리 1번으로 조회되고 신청서별 순서를 유지한다")
+    void applications_ResolveRecordsInOneQuery() {
+        List<AiDemoApplication> applications = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            applications.add(AiDemoApplication.builder()
+                    .id((long) i)
+                    .userId((long) (i % 10))
+                    .recordIds(List.of(recordIds.get(i * 3 + 2), recordIds.get(i * 3), recordIds.get(i * 3 + 1)))
+                    .status(ApplicationStatus.PENDING)
+                    .build());
+        }
+        // 존재하지 않는 녹음은 건너뜀
+        applications.add(AiDemoApplication.builder()
+                .id(9999L)
+                .userId(1L)
+                .recordIds(List.of(recordIds.get(0), -1L))
+                .status(ApplicationStatus.PENDING)
+                .build());
+        when(aiDemoApplicationRepository.findByStatusOrderByCreatedAtAsc(ApplicationStatus.PENDING)).thenReturn(applications);
+        resetCounters();
+
+        List<AiDemoApplicationResponseDTO> responses = aiDemoApplicationService.getAllApplicationsByStatus(ApplicationStatus.PENDING);
+
+        assertThat(responses).hasSize(501);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        verify(s3Helper, times(1)).generatePresignedUrls(anyCollection());
+
+        Map<Long, AiDemoApplicationResponseDTO> byId = responses.stream()
+                .collect(Collectors.toMap(AiDemoApplicationResponseDTO::getId, Function.identity()));
+        assertThat(byId.get(7L).getRecords()).extracting(RecordResponseDTO::getId)
+                .containsExactly(recordIds.get(23), recordIds.get(21), recordIds.get(22));
+        assertThat(byId.get(9999L).getRecords()).extracting(RecordResponseDTO::getId)
+                .containsExactly(recordIds.get(0));
+    }
+
+    private void resetCounters() {
+        entityManager.clear();
+        statistics.clear();
+        clearInvocations(s3Helper, fileUploadService);
+    }
+}
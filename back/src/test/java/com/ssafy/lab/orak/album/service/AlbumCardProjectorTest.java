@@ -0,0 +1,360 @@
+package com.ssafy.lab.orak.album.service;
+
+import com.ssafy.lab.orak.album.dto.AlbumCardChangedEvent;
+import com.ssafy.lab.orak.album.dto.AlbumCardConsistencyReport;
+import com.ssafy.lab.orak.album.dto.AlbumResponseDto;
+import com.ssafy.lab.orak.album.entity.Album;
+import com.ssafy.lab.orak.album.entity.AlbumCard;
+import com.ssafy.lab.orak.album.mapper.AlbumCardMapper;
+import com.ssafy.lab.orak.album.repository.AlbumCardRepository;
+import com.ssafy.lab.orak.album.repository.AlbumRepository;
+import com.ssafy.lab.orak.albumtrack.service.AlbumTrackService;
+import com.ssafy.lab.orak.auth.entity.User;
+import com.ssafy.lab.orak.auth.repository.UserRepository;
+import com.ssafy.lab.orak.common.loader.EntityLoaderProvider;
+import com.ssafy.lab.orak.like.repository.LikeRepository;
+import com.ssafy.lab.orak.like.service.LikeService;
+import com.ssafy.lab.orak.processing.service.BatchProcessingService;
+import com.ssafy.lab.orak.profile.entity.Profile;
+import com.ssafy.lab.orak.profile.repository.ProfileRepository;
+import com.ssafy.lab.orak.profile.service.ProfileImageService;
+import com.ssafy.lab.orak.profile.service.ProfileService;
+import com.ssafy.lab.orak.s3.helper.S3Helper;
+import com.ssafy.lab.orak.s3.service.S3CleanupService;
+import com.ssafy.lab.orak.s3.util.LocalUploader;
+import com.ssafy.lab.orak.s3.util.S3Uploader;
+import com.ssafy.lab.orak.song.repository.SongRepository;
+import com.ssafy.lab.orak.upload.entity.Upload;
+import com.ssafy.lab.orak.upload.enums.ImageVariant;
+import com.ssafy.lab.orak.upload.repository.UploadRepository;
+import com.ssafy.lab.orak.upload.service.FileUploadService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * album_cards 읽기 모델 테스트
+ * - 변경 이벤트 반영, 재구축, 정합성 검사
+ * - 목록 조회 쿼리 수/일괄 서명 횟수 비교 (원본 테이블 조합 방식 대비)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("앨범 카드 읽기 모델 테스트")
+class AlbumCardProjectorTest {
+
+    private static final int OWNER_COUNT = 50;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AlbumRepository albumRepository;
+
+    @Autowired
+    private AlbumCardRepository albumCardRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private UploadRepository uploadRepository;
+
+    private S3Helper s3Helper;
+    private FileUploadService fileUploadService;
+    private AlbumCardProjector projector;
+    private AlbumService albumService;
+    private LikeService likeService;
+    private Statistics statistics;
+    private List<User> owners;
+
+    @BeforeEach
+    void setUp() {
+        s3Helper = mock(S3Helper.class);
+        when(s3Helper.generatePresignedUrls(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            return keys.stream().distinct()
+                    .collect(Collectors.toMap(Function.identity(), key -> "https://s3.example.com/" + key));
+        });
+        fileUploadService = new FileUploadService(s3Helper, mock(LocalUploader.class),
+                mock(S3Uploader.class), uploadRepository, mock(S3CleanupService.class), Runnable::run);
+
+        projector = new AlbumCardProjector(albumCardRepository, albumRepository, transactionManager);
+        projector.initTransactionTemplates();
+        ApplicationEventPublisher publisher = event -> projector.onAlbumCardChanged((AlbumCardChangedEvent) event);
+
+        albumService = new AlbumService(albumRepository, fileUploadService, mock(ProfileService.class),
+                mock(AlbumTrackService.class), mock(BatchProcessingService.class), albumCardRepository,
+                Mappers.getMapper(AlbumCardMapper.class), mock(ProfileImageService.class), publisher,
+                mock(AlbumSearchService.class), new EntityLoaderProvider(profileRepository, uploadRepository,
+                        mock(SongRepository.class), mock(UserRepository.class)));
+        likeService = new LikeService(likeRepository, albumRepository, publisher);
+
+        owners = new ArrayList<>();
+        for (int i = 0; i < OWNER_COUNT; i++) {
+            User owner = entityManager.persist(User.builder()
+                    .email("owner" + i + "@test.com")
+                    .googleID("google_owner" + i)
+                    .build());
+            Upload profileImage = entityManager.persist(upload("profile-" + i, "profiles"));
+            entityManager.persist(Profile.builder()
+                    .user(owner)
+                    .nickname("소유자" + i)
+                    .profileImageUpload(profileImage)
+                    .build());
+            owners.add(owner);
+        }
+        entityManager.flush();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("좋아요 변경은 커밋 전에 해당 앨범 카드에 반영된다")
+    void like_RefreshesCard() {
+        Album album = persistAlbums(1, true).get(0);
+        projector.rebuildAll();
+
+        likeService.toggleLike(owners.get(1).getId(), album.getId());
+
+        assertThat(albumCardRepository.findById(album.getId()))
+                .get().extracting(AlbumCard::getLikeCount).isEqualTo(1);
+        assertThat(projector.checkConsistency(false).consistent()).isTrue();
+    }
+
+    @Test
+    @DisplayName("프로필 변경은 해당 사용자의 카드 전체에 반영된다")
+    void profileChange_RefreshesOwnerCards() {
+        List<Album> albums = persistAlbums(OWNER_COUNT * 3, true);
+        projector.rebuildAll();
+
+        Profile profile = profileRepository.findByUser_Id(owners.get(0).getId()).orElseThrow();
+        profile.update(null, "바뀐닉네임", null, null);
+        projector.onAlbumCardChanged(AlbumCardChangedEvent.ofOwner(owners.get(0).getId()));
+
+        List<AlbumCard> ownerCards = albumCardRepository.findAll().stream()
+                .filter(card -> card.getUserId().equals(owners.get(0).getId()))
+                .toList();
+        assertThat(ownerCards).hasSize(3).allSatisfy(card ->
+                assertThat(card.getOwnerNickname()).isEqualTo("바뀐닉네임"));
+        assertThat(albumCardRepository.count()).isEqualTo(albums.size());
+        assertThat(projector.checkConsistency(false).consistent()).isTrue();
+    }
+
+    @Test
+    @DisplayName("앨범 수정/삭제 이벤트는 카드를 다시 만들거나 지운다")
+    void albumUpdateAndDelete_RefreshCards() {
+        List<Album> albums = persistAlbums(2, true);
+        projector.rebuildAll();
+
+        Album updated = albumRepository.findById(albums.get(0).getId()).orElseThrow();
+        updated.setIsPublic(false);
+        updated.setTitle("비공개로 바뀐 앨범");
+        projector.onAlbumCardChanged(AlbumCardChangedEvent.ofAlbum(updated.getId()));
+
+        albumRepository.deleteByIds(List.of(albums.get(1).getId()));
+        projector.onAlbumCardChanged(AlbumCardChangedEvent.ofAlbum(albums.get(1).getId()));
+
+        assertThat(albumCardRepository.findAll()).singleElement().satisfies(card -> {
+            assertThat(card.getAlbumId()).isEqualTo(albums.get(0).getId());
+            assertThat(card.getIsPublic()).isFalse();
+            assertThat(card.getTitle()).isEqualTo("비공개로 바뀐 앨범");
+        });
+    }
+
+    @Test
+    @DisplayName("재구축은 청크 단위로 원본과 같은 카드를 만들고 고아 카드를 지운다")
+    void rebuildAll_MatchesSource() {
+        ReflectionTestUtils.setField(projector, "rebuildBatchSize", 7);
+        List<Album> albums = persistAlbums(45, true);
+        Album orphanSource = albums.get(0);
+        projector.rebuildAll();
+        albumRepository.deleteByIds(List.of(orphanSource.getId()));
+
+        long rebuilt = projector.rebuildAll();
+
+        assertThat(rebuilt).isEqualTo(44);
+        assertThat(albumCardRepository.count()).isEqualTo(44);
+        assertThat(albumCardRepository.existsById(orphanSource.getId())).isFalse();
+        AlbumCard card = albumCardRepository.findById(albums.get(1).getId()).orElseThrow();
+        Album source = albumRepository.findById(albums.get(1).getId()).orElseThrow();
+        assertThat(card.getTitle()).isEqualTo(source.getTitle());
+        assertThat(card.getCoverUploadId()).isEqualTo(source.getUploadId());
+        assertThat(card.getOwnerNickname()).isEqualTo("소유자1");
+        assertThat(card.getAlbumCreatedAt()).isEqualTo(source.getCreatedAt());
+        assertThat(projector.checkConsistency(false).consistent()).isTrue();
+    }
+
+    @Test
+    @DisplayName("정합성 검사는 누락/고아/불일치 카드를 찾고 repair=true면 복구한다")
+    void checkConsistency_DetectsAndRepairsDrift() {
+        List<Album> albums = persistAlbums(10, true);
+        projector.rebuildAll();
+
+        // 이벤트 없이 원본만 바뀐 상황을 흉내냄
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Album a SET a.likeCount = 99 WHERE a.id = :id")
+                .setParameter("id", albums.get(0).getId())
+                .executeUpdate();
+        albumCardRepository.deleteByAlbumIds(List.of(albums.get(1).getId()));
+        albumRepository.deleteByIds(List.of(albums.get(2).getId()));
+
+        AlbumCardConsistencyReport report = projector.checkConsistency(false);
+
+        assertThat(report.consistent()).isFalse();
+        assertThat(report.staleAlbumIds()).containsExactly(albums.get(0).getId());
+        assertThat(report.missingAlbumIds()).containsExactly(albums.get(1).getId());
+        assertThat(report.orphanAlbumIds()).containsExactly(albums.get(2).getId());
+        assertThat(report.repaired()).isFalse();
+
+        AlbumCardConsistencyReport repaired = projector.checkConsistency(true);
+
+        assertThat(repaired.repaired()).isTrue();
+        assertThat(projector.checkConsistency(false).consistent()).isTrue();
+        assertThat(albumCardRepository.findById(albums.get(0).getId()))
+                .get().extracting(AlbumCard::getLikeCount).isEqualTo(99);
+    }
+
+    @Test
+    @DisplayName("목록 조회는 카드 테이블 한 번, 카운트 한 번, 이미지 업로드 IN 한 번과 일괄 서명 한 번이다")
+    void publicList_UsesSingleTableAndBulkSigning() {
+        persistAlbums(60, true);
+        persistAlbums(5, false);
+        projector.rebuildAll();
+        resetCounters();
+
+        Page<AlbumResponseDto> page = albumService.getPublicAlbums(0, PAGE_SIZE, null);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        verify(s3Helper, times(1)).generatePresignedUrls(anyCollection());
+        assertThat(page.getTotalElements()).isEqualTo(60);
+        assertThat(page.getContent()).hasSize(PAGE_SIZE).allSatisfy(album -> {
+            assertThat(album.getIsPublic()).isTrue();
+            assertThat(album.getCoverImageUrl()).startsWith("https://s3.example.com/album-covers/");
+            assertThat(album.getUserProfileImageUrl()).startsWith("https://s3.example.com/profiles/");
+            assertThat(album.getUserNickname()).startsWith("소유자");
+        });
+    }
+
+    @Test
+    @DisplayName("목록 조회는 음수 페이지와 1~100 밖의 페이지 크기를 거부한다")
+    void publicList_RejectsOutOfRangePaging() {
+        assertThatThrownBy(() -> albumService.getPublicAlbums(-1, PAGE_SIZE, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> albumService.getPublicAlbums(0, 0, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> albumService.getPublicAlbums(0, 101, "사랑"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("카드 목록은 페이지와 무관하게 쿼리 3번과 일괄 서명 1번이고, 원본 테이블 조합 방식은 앨범 수에 비례한다")
+    void cardQuery_ConstantStatementsPerPage() {
+        int albumCount = 200;
+        persistAlbums(albumCount, true);
+        projector.rebuildAll();
+        int pages = albumCount / PAGE_SIZE;
+
+        for (int page : new int[]{0, pages / 2, pages - 1}) {
+            // 기존 방식: 앨범 페이지 + 앨범마다 커버 업로드/프로필/프로필 이미지 조회
+            resetCounters();
+            loadPageFromSourceTables(page);
+            assertThat(statistics.getPrepareStatementCount()).isGreaterThan(PAGE_SIZE * 2L);
+            verify(s3Helper, times(PAGE_SIZE * 2)).generatePresignedUrl(anyString());
+
+            resetCounters();
+            albumService.getPublicAlbums(page, PAGE_SIZE, null);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+            verify(s3Helper, times(1)).generatePresignedUrls(anyCollection());
+            verify(s3Helper, never()).generatePresignedUrl(anyString());
+        }
+    }
+
+    private void loadPageFromSourceTables(int page) {
+        Page<Album> albums = albumRepository.findByIsPublicTrueOrderByCreatedAtDesc(PageRequest.of(page, PAGE_SIZE));
+        albums.map(album -> {
+            String coverImageUrl = fileUploadService.getFileUrl(album.getUploadId(), ImageVariant.MEDIUM);
+            Profile profile = profileRepository.findByUser_Id(album.getUserId()).orElse(null);
+            String profileImageUrl = profile != null && profile.getProfileImageUpload() != null
+                    ? fileUploadService.getFileUrl(profile.getProfileImageUpload(), ImageVariant.MEDIUM)
+                    : null;
+            return AlbumResponseDto.from(album, coverImageUrl, profile != null ? profile.getNickname() : null,
+                    profileImageUrl);
+        });
+    }
+
+    private List<Album> persistAlbums(int count, boolean isPublic) {
+        List<Album> albums = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User owner = owners.get(i % OWNER_COUNT);
+            Upload cover = entityManager.persist(upload("cover-" + System.nanoTime() + "-" + i, "album-covers"));
+            albums.add(entityManager.persist(Album.builder()
+                    .userId(owner.getId())
+                    .uploadId(cover.getId())
+                    .title("앨범 " + i)
+                    .description("설명 " + i)
+                    .trackCount(3)
+                    .totalDuration(540)
+                    .isPublic(isPublic)
+                    .build()));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return albums;
+    }
+
+    private void resetCounters() {
+        entityManager.clear();
+        statistics.clear();
+        clearInvocations(s3Helper);
+    }
+
+    private Upload upload(String name, String directory) {
+        return Upload.builder()
+                .originalFilename(name)
+                .uuid("uuid-" + name)
+                .extension("jpg")
+                .uploaderId(1L)
+                .fileSize(1000L)
+                .contentType("image/jpeg")
+                .directory(directory)
+                .build();
+    }
+}
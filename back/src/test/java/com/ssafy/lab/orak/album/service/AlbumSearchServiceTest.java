@@ -0,0 +1,90 @@
+package com.ssafy.lab.orak.album.service;
+
+import com.ssafy.lab.orak.album.dto.AlbumCardChangedEvent;
+import com.ssafy.lab.orak.album.dto.AlbumSearchResult;
+import com.ssafy.lab.orak.album.entity.AlbumCard;
+import com.ssafy.lab.orak.album.repository.AlbumCardRepository;
+import com.ssafy.lab.orak.album.util.AlbumSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("공개 앨범 검색 서비스 테스트")
+class AlbumSearchServiceTest {
+
+    private AlbumCardRepository albumCardRepository;
+    private AlbumSearchService service;
+
+    @BeforeEach
+    void setUp() {
+        albumCardRepository = mock(AlbumCardRepository.class);
+        service = new AlbumSearchService(albumCardRepository, mock(PlatformTransactionManager.class));
+        service.initTransactionTemplate();
+
+        when(albumCardRepository.findPublicCardsAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(card(1L, "첫사랑의 노래", true), card(2L, "짝사랑", true)));
+        when(albumCardRepository.findPublicCardsAfter(eq(2L), any(Pageable.class))).thenReturn(List.of());
+        service.rebuild();
+    }
+
+    @Test
+    @DisplayName("색인 반영 전에 비공개로 바뀐 앨범은 검색 결과에 나오지 않는다")
+    void search_ExcludesCardsMadePrivateBeforeReindex() {
+        // 색인은 아직 두 앨범 모두 공개로 알고 있음
+        when(albumCardRepository.findAllById(anyCollection()))
+                .thenReturn(List.of(card(1L, "첫사랑의 노래", true), card(2L, "짝사랑", false)));
+
+        AlbumSearchResult result = service.search("사랑", null, 10);
+
+        assertThat(result.cards()).extracting(AlbumCard::getAlbumId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("내용이 그대로인 카드 변경 알림은 색인에 삭제 표시를 남기지 않는다")
+    void onAlbumCardChanged_SkipsUnchangedCards() {
+        when(albumCardRepository.findAllById(anyCollection()))
+                .thenReturn(List.of(card(1L, "첫사랑의 노래", true), card(2L, "짝사랑", true)));
+        AlbumSearchIndex index = (AlbumSearchIndex) ReflectionTestUtils.getField(service, "index");
+
+        // 좋아요 수만 바뀐 경우 등
+        service.onAlbumCardChanged(AlbumCardChangedEvent.ofAlbums(List.of(1L, 2L)));
+        assertThat(index.deletedCount()).isZero();
+        assertThat(index.size()).isEqualTo(2);
+
+        when(albumCardRepository.findAllById(anyCollection())).thenReturn(List.of(card(1L, "여름밤", true)));
+        service.onAlbumCardChanged(AlbumCardChangedEvent.ofAlbum(1L));
+        assertThat(index.deletedCount()).isEqualTo(1);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private static AlbumCard card(Long albumId, String title, boolean isPublic) {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+        return AlbumCard.builder()
+                .albumId(albumId)
+                .userId(10L)
+                .title(title)
+                .description("설명")
+                .isPublic(isPublic)
+                .trackCount(1)
+                .totalDuration(180)
+                .likeCount(0)
+                .ownerNickname("가수")
+                .albumCreatedAt(createdAt)
+                .albumUpdatedAt(createdAt)
+                .refreshedAt(createdAt)
+                .build();
+    }
+}
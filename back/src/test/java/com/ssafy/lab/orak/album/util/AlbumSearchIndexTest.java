@@ -0,0 +1,173 @@
+package com.ssafy.lab.orak.album.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("공개 앨범 n-gram 역색인 테스트")
+class AlbumSearchIndexTest {
+
+    private static final long NOW = 1_760_000_000_000L;
+    private static final long DAY = Duration.ofDays(1).toMillis();
+    private static final String[] SYLLABLES = {"사", "랑", "밤", "하", "늘", "너", "의", "노", "래", "별", "바", "다",
+            "봄", "비", "첫", "눈", "우", "리", "꿈", "길", "빛", "여", "름", "가", "을", "겨", "울", "마", "음", "새"};
+
+    private AlbumSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AlbumSearchIndex(1.0, Duration.ofDays(30).toMillis());
+    }
+
+    @Test
+    @DisplayName("한글 단어 일부로 제목/설명/작성자 닉네임을 찾는다")
+    void search_MatchesKoreanPartialWords() {
+        index.upsert(doc(1, "첫사랑의 노래", "비 오는 날 녹음", "가수지망생", 0));
+        index.upsert(doc(2, "여름밤", "짝사랑을 담은 앨범", "밤하늘", 0));
+        index.upsert(doc(3, "드라이브", "신나는 곡 모음", "사랑꾼", 0));
+        index.upsert(doc(4, "겨울 노래", "잔잔한 발라드", "눈사람", 0));
+
+        assertThat(albumIds(index.search("사랑", null, 10, NOW))).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(albumIds(index.search("노래", null, 10, NOW))).containsExactlyInAnyOrder(1L, 4L);
+        // 공백/대소문자는 무시
+        assertThat(albumIds(index.search("  여 름밤 ", null, 10, NOW))).containsExactly(2L);
+        assertThat(albumIds(index.search("밤하늘", null, 10, NOW))).containsExactly(2L);
+        // 모든 n-gram이 있어야 일치
+        assertThat(albumIds(index.search("사랑노래", null, 10, NOW))).isEmpty();
+        assertThat(index.search("사랑", null, 10, NOW).totalMatches()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("2글자 미만 검색어는 색인으로 처리하지 않는다")
+    void isSearchable_RequiresTwoCharacters() {
+        assertThat(AlbumSearchIndex.isSearchable("사")).isFalse();
+        assertThat(AlbumSearchIndex.isSearchable(" 사 ! ")).isFalse();
+        assertThat(AlbumSearchIndex.isSearchable("사랑")).isTrue();
+        assertThat(AlbumSearchIndex.isSearchable("Lo")).isTrue();
+    }
+
+    @Test
+    @DisplayName("제목 일치가 설명 일치보다 앞서고, 같은 필드면 최신 앨범이 앞선다")
+    void search_RanksByFieldThenRecency() {
+        index.upsert(doc(1, "일상", "사랑 이야기", "작곡가", NOW - DAY));
+        index.upsert(doc(2, "사랑 이야기", "일상", "작곡가", NOW - 300 * DAY));
+        index.upsert(doc(3, "사랑 노래", "일상", "작곡가", NOW - DAY));
+        index.upsert(doc(4, "기록", "일상", "사랑가", NOW - DAY));
+
+        assertThat(albumIds(index.search("사랑", null, 10, NOW))).containsExactly(3L, 2L, 4L, 1L);
+    }
+
+    @Test
+    @DisplayName("커서로 끝까지 넘기면 중복/누락 없이 같은 순서를 돌려준다")
+    void search_CursorPaginationCoversAllHits() {
+        for (long id = 1; id <= 250; id++) {
+            index.upsert(doc(id, id % 3 == 0 ? "사랑 " + id : "노래 " + id, id % 2 == 0 ? "사랑" : "기록",
+                    "사용자" + id, NOW - (id % 17) * DAY));
+        }
+        List<Long> expected = albumIds(index.search("사랑", null, 1_000, NOW));
+
+        List<Long> paged = new ArrayList<>();
+        AlbumSearchIndex.Cursor cursor = null;
+        while (true) {
+            // 페이지 사이에 시간이 흘러도 첫 페이지 기준 시각으로 점수를 계산
+            AlbumSearchIndex.Result page = index.search("사랑", cursor, 20, NOW + paged.size() * DAY);
+            paged.addAll(albumIds(page));
+            if (page.hits().size() < 20) {
+                break;
+            }
+            AlbumSearchIndex.Hit last = page.hits().get(page.hits().size() - 1);
+            cursor = new AlbumSearchIndex.Cursor(page.asOfMillis(), last.score(), last.albumId());
+        }
+
+        assertThat(paged).hasSize(expected.size()).doesNotHaveDuplicates().containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("수정/삭제는 해당 앨범만 바로 반영된다")
+    void upsertAndRemove_AreIncremental() {
+        index.upsert(doc(1, "첫사랑", "", "가수", 0));
+        index.upsert(doc(2, "봄비", "", "가수", 0));
+
+        index.upsert(doc(1, "여름밤", "", "가수", 0));
+        assertThat(albumIds(index.search("사랑", null, 10, NOW))).isEmpty();
+        assertThat(albumIds(index.search("여름", null, 10, NOW))).containsExactly(1L);
+
+        index.remove(2);
+        index.remove(99);
+        assertThat(albumIds(index.search("봄비", null, 10, NOW))).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.deletedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("색인된 내용과 같은 문서는 다시 추가하지 않는다")
+    void upsert_SkipsUnchangedDocument() {
+        assertThat(index.upsert(doc(1, "첫사랑", "비 오는 날", "가수", 0))).isTrue();
+
+        assertThat(index.upsert(doc(1, "첫사랑", "비 오는 날", "가수", 0))).isFalse();
+        assertThat(index.deletedCount()).isZero();
+
+        assertThat(index.upsert(doc(1, "첫사랑", "비 오는 날", "새닉네임", 0))).isTrue();
+        assertThat(index.deletedCount()).isEqualTo(1);
+        assertThat(albumIds(index.search("닉네임", null, 10, NOW))).containsExactly(1L);
+
+        // 삭제 후 같은 내용은 다시 추가됨
+        index.remove(1);
+        assertThat(index.upsert(doc(1, "첫사랑", "비 오는 날", "새닉네임", 0))).isTrue();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상위 limit개는 전체 결과의 앞부분과 같고, 큰 limit도 일치 수만큼만 담는다")
+    void search_TopKMatchesFullRanking() {
+        Random random = new Random(42);
+        for (long id = 1; id <= 20_000; id++) {
+            index.upsert(doc(id, words(random, 2), words(random, 4), words(random, 1),
+                    NOW - random.nextInt(365) * DAY));
+        }
+
+        String[] queries = {"사랑", "밤하", "노래", "첫눈", "별빛", "우리", "겨울", "꿈길", "바다", "하늘"};
+        long matches = 0;
+        for (String query : queries) {
+            // 힙을 limit 크기로 미리 잡지 않으므로 Integer.MAX_VALUE도 일치 수만큼만 사용
+            AlbumSearchIndex.Result all = index.search(query, null, Integer.MAX_VALUE, NOW);
+            AlbumSearchIndex.Result top = index.search(query, null, 20, NOW);
+
+            assertThat(all.hits()).hasSize(all.totalMatches());
+            assertThat(top.totalMatches()).isEqualTo(all.totalMatches());
+            assertThat(top.hits()).containsExactlyElementsOf(all.hits().subList(0, Math.min(20, all.hits().size())));
+            matches += all.totalMatches();
+        }
+        assertThat(matches).isPositive();
+    }
+
+    private static AlbumSearchIndex.Document doc(long albumId, String title, String description, String nickname,
+                                                 long createdAtMillis) {
+        return new AlbumSearchIndex.Document(albumId, title, description, nickname, createdAtMillis);
+    }
+
+    private static List<Long> albumIds(AlbumSearchIndex.Result result) {
+        return result.hits().stream().map(AlbumSearchIndex.Hit::albumId).toList();
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int w = 0; w < count; w++) {
+            if (w > 0) {
+                builder.append(' ');
+            }
+            int length = 2 + random.nextInt(2);
+            for (int s = 0; s < length; s++) {
+                builder.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -9,6 +9,7 @@ import com.ssafy.lab.orak.albumtrack.dto.response.AlbumTracksResponseDTO;
 import com.ssafy.lab.orak.albumtrack.dto.response.PlaybackResponseDTO;
 import com.ssafy.lab.orak.albumtrack.exception.AlbumTrackException;
 import com.ssafy.lab.orak.albumtrack.service.AlbumTrackService;
+import com.ssafy.lab.orak.albumtrack.service.PlaybackSessionService;
 import com.ssafy.lab.orak.auth.entity.User;
 import com.ssafy.lab.orak.auth.service.CustomUserPrincipal;
 import com.ssafy.lab.orak.common.exception.CustomRestAdvice;
@@ -69,6 +70,9 @@ class AlbumTrackControllerTest {
     @Mock
     private AlbumTrackService albumTrackService;
 
+    @Mock
+    private PlaybackSessionService playbackSessionService;
+
     @InjectMocks
     private AlbumTrackController albumTrackController;
 
@@ -340,9 +344,7 @@ class AlbumTrackControllerTest {
                 .totalTracks(2)
                 .build();
 
-        when(albumTrackService.getTrack(eq(albumId), eq(1), anyLong())).thenReturn(testTrackResponse);
-        when(albumTrackService.getNextTrack(eq(albumId), eq(1), anyLong())).thenReturn(nextTrack);
-        when(albumTrackService.getAlbumTracks(eq(albumId), anyLong())).thenReturn(testTracksResponse);
+        when(albumTrackService.getPlayback(eq(albumId), eq(1), anyLong())).thenReturn(playbackResponse);
 
         // When & Then
         mockMvc.perform(get("/albums/{albumId}/tracks/play", albumId))
@@ -366,10 +368,16 @@ class AlbumTrackControllerTest {
                 .trackOrder(2)
                 .build();
         
-        when(albumTrackService.getTrack(eq(albumId), eq(trackOrder), anyLong())).thenReturn(currentTrack);
-        when(albumTrackService.getNextTrack(eq(albumId), eq(trackOrder), anyLong())).thenReturn(null);
-        when(albumTrackService.getPreviousTrack(eq(albumId), eq(trackOrder), anyLong())).thenReturn(testTrackResponse);
-        when(albumTrackService.getAlbumTracks(eq(albumId), anyLong())).thenReturn(testTracksResponse);
+        PlaybackResponseDTO playbackResponse = PlaybackResponseDTO.builder()
+                .currentTrack(currentTrack)
+                .nextTrack(null)
+                .previousTrack(testTrackResponse)
+                .hasNext(false)
+                .hasPrevious(true)
+                .totalTracks(2)
+                .build();
+
+        when(albumTrackService.getPlayback(eq(albumId), eq(trackOrder), anyLong())).thenReturn(playbackResponse);
 
         // When & Then
         mockMvc.perform(get("/albums/{albumId}/tracks/{trackOrder}/play", albumId, trackOrder))
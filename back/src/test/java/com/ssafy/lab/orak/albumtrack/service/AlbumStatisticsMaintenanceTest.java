@@ -0,0 +1,333 @@
+package com.ssafy.lab.orak.albumtrack.service;
+
+import com.ssafy.lab.orak.album.entity.Album;
+import com.ssafy.lab.orak.album.repository.AlbumRepository;
+import com.ssafy.lab.orak.albumtrack.dto.request.AddTrackRequestDTO;
+import com.ssafy.lab.orak.albumtrack.dto.request.BulkAddTracksRequestDTO;
+import com.ssafy.lab.orak.albumtrack.dto.request.ReorderTrackRequestDTO;
+import com.ssafy.lab.orak.albumtrack.dto.response.AlbumTrackResponseDTO;
+import com.ssafy.lab.orak.albumtrack.entity.AlbumTrack;
+import com.ssafy.lab.orak.albumtrack.repository.AlbumTrackRepository;
+import com.ssafy.lab.orak.recording.entity.Record;
+import com.ssafy.lab.orak.recording.repository.RecordRepository;
+import com.ssafy.lab.orak.upload.entity.Upload;
+import com.ssafy.lab.orak.upload.repository.UploadRepository;
+import com.ssafy.lab.orak.upload.service.FileUploadService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("앨범 통계 증분 유지 / 트랙 순서 일괄 변경 테스트")
+class AlbumStatisticsMaintenanceTest {
+
+    private static final int LARGE_ALBUM_TRACKS = 500;
+    private static final Long OWNER_ID = 1L;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AlbumRepository albumRepository;
+
+    @Autowired
+    private AlbumTrackRepository albumTrackRepository;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private UploadRepository uploadRepository;
+
+    private AlbumTrackService albumTrackService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        albumTrackService = new AlbumTrackService(albumTrackRepository, albumRepository, recordRepository,
+                mock(FileUploadService.class), mock(ApplicationEventPublisher.class));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("500곡 앨범에서 순서 변경은 이동 구간의 행만 UPDATE 두 번으로 바꾼다")
+    void reorderTrack_UpdatesOnlyMovedRange() {
+        Album album = persistAlbum(LARGE_ALBUM_TRACKS);
+        Map<Integer, Long> before = recordIdsByOrder(album.getId());
+        resetCounters();
+
+        int staged = albumTrackRepository.stageMove(album.getId(), 250, 252, -1, 250, 252);
+        int committed = albumTrackRepository.commitStagedOrders(album.getId());
+
+        assertThat(staged).isEqualTo(3);
+        assertThat(committed).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        Map<Integer, Long> after = recordIdsByOrder(album.getId());
+        assertThat(after).hasSize(LARGE_ALBUM_TRACKS);
+        assertThat(after.get(252)).isEqualTo(before.get(250));
+        assertThat(after.get(250)).isEqualTo(before.get(251));
+        assertThat(after.get(251)).isEqualTo(before.get(252));
+        for (int order = 1; order <= LARGE_ALBUM_TRACKS; order++) {
+            if (order < 250 || order > 252) {
+                assertThat(after.get(order)).isEqualTo(before.get(order));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("뒤에서 앞으로 옮겨도 순서가 1부터 빈틈없이 유지되고 엔티티 단위 UPDATE가 없다")
+    void reorderTrack_MovesBackwardWithoutEntityUpdates() {
+        Album album = persistAlbum(LARGE_ALBUM_TRACKS);
+        Map<Integer, Long> before = recordIdsByOrder(album.getId());
+        resetCounters();
+
+        List<AlbumTrackResponseDTO> tracks = albumTrackService.reorderTrack(album.getId(),
+                ReorderTrackRequestDTO.builder().fromOrder(400).toOrder(3).build(), OWNER_ID).getTracks();
+
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        // 앨범, 이동 트랙, 개수, 스테이징, 확정, 앨범 재조회, 트랙 목록 - 트랙 수와 무관
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(7);
+
+        assertThat(tracks).extracting(AlbumTrackResponseDTO::getTrackOrder)
+                .containsExactlyElementsOf(range(1, LARGE_ALBUM_TRACKS));
+        Map<Integer, Long> after = recordIdsByOrder(album.getId());
+        assertThat(after.get(3)).isEqualTo(before.get(400));
+        assertThat(after.get(4)).isEqualTo(before.get(3));
+        assertThat(after.get(400)).isEqualTo(before.get(399));
+        assertThat(after.get(2)).isEqualTo(before.get(2));
+        assertThat(after.get(401)).isEqualTo(before.get(401));
+    }
+
+    @Test
+    @DisplayName("500곡 앨범에서 첫 트랙을 지우면 뒤 트랙이 한 번에 당겨지고 통계는 증감분만큼 줄어든다")
+    void removeTrack_ShiftsInBulkAndAppliesDelta() {
+        Album album = persistAlbum(LARGE_ALBUM_TRACKS);
+        Map<Integer, Long> before = recordIdsByOrder(album.getId());
+        resetCounters();
+
+        albumTrackService.removeTrack(album.getId(), 1, OWNER_ID);
+
+        // 통계, 삭제, 순서 이동 모두 벌크 문장으로 실행 (엔티티 단위 UPDATE/DELETE 없음)
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(8);
+
+        Map<Integer, Long> after = recordIdsByOrder(album.getId());
+        assertThat(after.keySet()).containsExactlyInAnyOrderElementsOf(range(1, LARGE_ALBUM_TRACKS - 1));
+        assertThat(after.get(1)).isEqualTo(before.get(2));
+        assertThat(after.get(LARGE_ALBUM_TRACKS - 1)).isEqualTo(before.get(LARGE_ALBUM_TRACKS));
+
+        Album updated = albumRepository.findById(album.getId()).orElseThrow();
+        assertThat(updated.getTrackCount()).isEqualTo(LARGE_ALBUM_TRACKS - 1);
+        assertThat(updated.getTotalDuration()).isEqualTo(totalDuration(LARGE_ALBUM_TRACKS) - durationOf(1));
+    }
+
+    @Test
+    @DisplayName("일괄 추가는 트랙 수와 관계없이 통계를 한 번만 갱신한다")
+    void addTracks_UpdatesStatisticsOnce() {
+        Album album = persistAlbum(3);
+        List<Record> records = new ArrayList<>();
+        for (int i = 4; i <= 10; i++) {
+            records.add(persistRecord(i));
+        }
+        entityManager.flush();
+        resetCounters();
+
+        List<AddTrackRequestDTO> items = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            items.add(AddTrackRequestDTO.builder().recordId(records.get(i).getId()).trackOrder(i + 4).build());
+        }
+        List<AlbumTrackResponseDTO> added = albumTrackService.addTracks(album.getId(),
+                BulkAddTracksRequestDTO.builder().tracks(items).build(), OWNER_ID);
+
+        assertThat(added).extracting(AlbumTrackResponseDTO::getTrackOrder).containsExactlyElementsOf(range(4, 10));
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(records.size());
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        // 앨범, 기존 트랙, 녹음 IN 조회, 통계 UPDATE 1번, INSERT 7번
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3 + 1 + records.size());
+
+        Album updated = albumRepository.findById(album.getId()).orElseThrow();
+        assertThat(updated.getTrackCount()).isEqualTo(10);
+        assertThat(updated.getTotalDuration()).isEqualTo(totalDuration(10));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("동시 편집에서도 증감분 UPDATE는 통계를 잃어버리지 않는다")
+    void concurrentEdits_KeepStatisticsExact() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<Long> recordIds = new ArrayList<>();
+        List<Long> uploadIds = new ArrayList<>();
+        Long albumId = transaction.execute(status -> {
+            for (int i = 1; i <= 8; i++) {
+                Upload upload = uploadRepository.save(upload("concurrent-" + i));
+                uploadIds.add(upload.getId());
+                recordIds.add(recordRepository.save(record(i, upload.getId())).getId());
+            }
+            return albumRepository.save(Album.builder().userId(OWNER_ID).title("동시 편집 앨범").build()).getId();
+        });
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            // 서로 다른 녹음을 같은 앨범에 동시에 추가
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                AddTrackRequestDTO request = AddTrackRequestDTO.builder()
+                        .recordId(recordIds.get(i)).trackOrder(i + 1).build();
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return transaction.execute(status -> albumTrackService.addTrack(albumId, request, OWNER_ID));
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            Album afterAdds = albumRepository.findById(albumId).orElseThrow();
+            assertThat(afterAdds.getTrackCount()).isEqualTo(threads).isEqualTo(albumTrackRepository.countByAlbumId(albumId));
+            assertThat(afterAdds.getTotalDuration()).isEqualTo(totalDuration(threads));
+
+            // 짝을 이루는 +/- 증감분을 스레드마다 반복 → 하나라도 덮어쓰면 값이 어긋남
+            CountDownLatch deltaStart = new CountDownLatch(1);
+            futures.clear();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    deltaStart.await();
+                    for (int n = 0; n < 50; n++) {
+                        int sign = n % 2 == 0 ? 1 : -1;
+                        transaction.executeWithoutResult(status ->
+                                albumRepository.applyTrackStatisticsDelta(albumId, sign, sign * 30, LocalDateTime.now()));
+                    }
+                    return null;
+                }));
+            }
+            deltaStart.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            Album afterDeltas = albumRepository.findById(albumId).orElseThrow();
+            assertThat(afterDeltas.getTrackCount()).isEqualTo(threads);
+            assertThat(afterDeltas.getTotalDuration()).isEqualTo(totalDuration(threads));
+        } finally {
+            executor.shutdownNow();
+            transaction.executeWithoutResult(status -> {
+                albumTrackRepository.deleteByAlbumId(albumId);
+                albumRepository.deleteById(albumId);
+                recordRepository.deleteAllById(recordIds);
+                uploadRepository.deleteAllById(uploadIds);
+            });
+        }
+    }
+
+    private Album persistAlbum(int trackCount) {
+        Album album = entityManager.persist(Album.builder()
+                .userId(OWNER_ID)
+                .title("통계 테스트 앨범")
+                .trackCount(trackCount)
+                .totalDuration(totalDuration(trackCount))
+                .build());
+        for (int i = 1; i <= trackCount; i++) {
+            entityManager.persist(AlbumTrack.builder()
+                    .album(album)
+                    .record(persistRecord(i))
+                    .trackOrder(i)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return album;
+    }
+
+    private Record persistRecord(int index) {
+        Upload upload = entityManager.persist(upload("track-" + index));
+        return entityManager.persist(record(index, upload.getId()));
+    }
+
+    private Map<Integer, Long> recordIdsByOrder(Long albumId) {
+        entityManager.clear();
+        return albumTrackRepository.findByAlbumId(albumId).stream()
+                .collect(Collectors.toMap(AlbumTrack::getTrackOrder, track -> track.getRecord().getId()));
+    }
+
+    private void resetCounters() {
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private static List<Integer> range(int from, int to) {
+        List<Integer> values = new ArrayList<>();
+        for (int i = from; i <= to; i++) {
+            values.add(i);
+        }
+        return values;
+    }
+
+    // 트랙마다 길이를 다르게 해 증감분 계산이 틀리면 드러나도록 함
+    private static int durationOf(int index) {
+        return 120 + index % 60;
+    }
+
+    private static int totalDuration(int trackCount) {
+        int total = 0;
+        for (int i = 1; i <= trackCount; i++) {
+            total += durationOf(i);
+        }
+        return total;
+    }
+
+    private Record record(int index, Long uploadId) {
+        return Record.builder()
+                .userId(OWNER_ID)
+                .title("트랙 " + index)
+                .uploadId(uploadId)
+                .durationSeconds(durationOf(index))
+                .build();
+    }
+
+    private Upload upload(String name) {
+        return Upload.builder()
+                .originalFilename(name)
+                .uuid("uuid-" + name)
+                .extension("mp3")
+                .uploaderId(OWNER_ID)
+                .fileSize(1000L)
+                .contentType("audio/mp3")
+                .directory("recordings")
+                .build();
+    }
+}
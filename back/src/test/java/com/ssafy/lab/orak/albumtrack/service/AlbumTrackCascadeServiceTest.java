@@ -0,0 +1,276 @@
+package com.ssafy.lab.orak.albumtrack.service;
+
+import com.ssafy.lab.orak.ai.service.VectorService;
+import com.ssafy.lab.orak.album.entity.Album;
+import com.ssafy.lab.orak.album.repository.AlbumRepository;
+import com.ssafy.lab.orak.albumtrack.dto.RecordCascadeResult;
+import com.ssafy.lab.orak.albumtrack.entity.AlbumTrack;
+import com.ssafy.lab.orak.albumtrack.repository.AlbumTrackRepository;
+import com.ssafy.lab.orak.recording.entity.Record;
+import com.ssafy.lab.orak.recording.mapper.RecordMapper;
+import com.ssafy.lab.orak.recording.repository.RecordRepository;
+import com.ssafy.lab.orak.recording.service.AsyncRecordService;
+import com.ssafy.lab.orak.s3.entity.S3DeletionTask;
+import com.ssafy.lab.orak.s3.helper.S3AsyncHelper;
+import com.ssafy.lab.orak.s3.helper.S3Helper;
+import com.ssafy.lab.orak.s3.repository.S3DeletionTaskRepository;
+import com.ssafy.lab.orak.s3.service.S3CleanupService;
+import com.ssafy.lab.orak.s3.util.LocalUploader;
+import com.ssafy.lab.orak.s3.util.S3Uploader;
+import com.ssafy.lab.orak.upload.entity.Upload;
+import com.ssafy.lab.orak.upload.repository.UploadRepository;
+import com.ssafy.lab.orak.upload.service.FileUploadService;
+import com.ssafy.lab.orak.upload.service.PresignedUploadService;
+import com.ssafy.lab.orak.upload.service.UploadCompletionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@Log4j2
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("녹음 삭제 시 앨범 트랙 일괄 연쇄 정리 테스트")
+class AlbumTrackCascadeServiceTest {
+
+    private static final int SHARED_ALBUMS = 1000;
+    private static final int SINGLE_TRACK_ALBUMS = 5;
+    private static final Long OWNER_ID = 1L;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AlbumRepository albumRepository;
+
+    @Autowired
+    private AlbumTrackRepository albumTrackRepository;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private UploadRepository uploadRepository;
+
+    @Autowired
+    private S3DeletionTaskRepository s3DeletionTaskRepository;
+
+    private AlbumTrackCascadeService cascadeService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        cascadeService = new AlbumTrackCascadeService(albumTrackRepository, albumRepository, mock(ApplicationEventPublisher.class));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("1,000개 앨범에 쓰인 녹음도 앨범 수와 무관한 쿼리 수로 정리하고 순서/통계/빈 앨범을 맞춘다")
+    void removeRecordUsedInThousandAlbums() {
+        Record target = persistRecord("target", 100);
+        Record first = persistRecord("first", 200);
+        Record second = persistRecord("second", 300);
+
+        List<Long> sharedAlbumIds = new ArrayList<>();
+        for (int i = 0; i < SHARED_ALBUMS; i++) {
+            // 삭제될 녹음의 위치를 1~3번으로 돌려가며 배치
+            int targetOrder = i % 3 + 1;
+            Album album = persistAlbum(null, 3, 600);
+            int order = 1;
+            for (int slot = 1; slot <= 3; slot++) {
+                Record record = slot == targetOrder ? target : (order++ == 1 ? first : second);
+                persistTrack(album, record, slot);
+            }
+            sharedAlbumIds.add(album.getId());
+        }
+        List<Long> coverUploadIds = new ArrayList<>();
+        List<Long> singleTrackAlbumIds = new ArrayList<>();
+        for (int i = 0; i < SINGLE_TRACK_ALBUMS; i++) {
+            Upload cover = entityManager.persist(upload("cover-" + i, "images"));
+            Album album = persistAlbum(cover.getId(), 1, 100);
+            persistTrack(album, target, 1);
+            coverUploadIds.add(cover.getId());
+            singleTrackAlbumIds.add(album.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        long started = System.nanoTime();
+        RecordCascadeResult result = cascadeService.removeRecordsFromAlbums(List.of(target.getId()));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        long statements = statistics.getPrepareStatementCount();
+
+        log.info("녹음 삭제 연쇄 정리 ({}개 앨범) - {}ms, SQL {}회",
+                SHARED_ALBUMS + SINGLE_TRACK_ALBUMS, elapsedMillis, statements);
+
+        // 위치 조회, 트랙 DELETE, 빠진 순서 3종류 × (스테이징 + 확정), 통계 재계산, 빈 앨범 조회, 앨범 DELETE
+        assertThat(statements).isEqualTo(1 + 1 + 3 * 2 + 1 + 1 + 1);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+
+        assertThat(result.deletedTrackCount()).isEqualTo(SHARED_ALBUMS + SINGLE_TRACK_ALBUMS);
+        assertThat(result.affectedAlbumIds()).hasSize(SHARED_ALBUMS + SINGLE_TRACK_ALBUMS);
+        assertThat(result.deletedAlbumIds()).containsExactlyInAnyOrderElementsOf(singleTrackAlbumIds);
+        assertThat(result.orphanCoverUploadIds()).containsExactlyInAnyOrderElementsOf(coverUploadIds);
+
+        entityManager.clear();
+        assertThat(albumRepository.findAllById(singleTrackAlbumIds)).isEmpty();
+        assertThat(albumRepository.findAllById(sharedAlbumIds)).hasSize(SHARED_ALBUMS).allSatisfy(album -> {
+            assertThat(album.getTrackCount()).isEqualTo(2);
+            assertThat(album.getTotalDuration()).isEqualTo(500);
+        });
+
+        Map<Long, List<AlbumTrack>> tracksByAlbum = albumTrackRepository.findAll().stream()
+                .filter(track -> sharedAlbumIds.contains(track.getAlbum().getId()))
+                .collect(Collectors.groupingBy(track -> track.getAlbum().getId()));
+        assertThat(tracksByAlbum).hasSize(SHARED_ALBUMS);
+        tracksByAlbum.values().forEach(tracks -> assertThat(tracks.stream()
+                .sorted(Comparator.comparing(AlbumTrack::getTrackOrder))
+                .map(track -> track.getTrackOrder() + ":" + track.getRecord().getId())
+                .toList())
+                .containsExactly("1:" + first.getId(), "2:" + second.getId()));
+    }
+
+    @Test
+    @DisplayName("한 앨범에서 여러 녹음이 빠져도 남은 트랙 순서가 1부터 빈틈없이 당겨진다")
+    void removeSeveralRecordsFromSameAlbum() {
+        List<Record> records = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            records.add(persistRecord("track-" + i, i * 10));
+        }
+        Album album = persistAlbum(null, 5, 150);
+        for (int i = 0; i < records.size(); i++) {
+            persistTrack(album, records.get(i), i + 1);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        RecordCascadeResult result = cascadeService.removeRecordsFromAlbums(
+                List.of(records.get(1).getId(), records.get(3).getId()));
+
+        assertThat(result.deletedTrackCount()).isEqualTo(2);
+        assertThat(result.deletedAlbumIds()).isEmpty();
+
+        entityManager.clear();
+        assertThat(albumTrackRepository.findByAlbumIdOrderByTrackOrder(album.getId()))
+                .extracting(track -> track.getTrackOrder() + ":" + track.getRecord().getId())
+                .containsExactly("1:" + records.get(0).getId(), "2:" + records.get(2).getId(),
+                        "3:" + records.get(4).getId());
+        Album updated = albumRepository.findById(album.getId()).orElseThrow();
+        assertThat(updated.getTrackCount()).isEqualTo(3);
+        assertThat(updated.getTotalDuration()).isEqualTo(10 + 30 + 50);
+    }
+
+    @Test
+    @DisplayName("녹음 삭제는 한 트랜잭션으로 처리되고 파일 삭제 예약도 커밋된 경우에만 남는다")
+    void deleteRecord_QueuesFileDeletionWithinTransaction() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        S3CleanupService s3CleanupService = new S3CleanupService(s3DeletionTaskRepository, mock(S3AsyncHelper.class),
+                registry.counter("s3_cleanup_deleted_total"), registry.counter("s3_cleanup_failed_total"),
+                new AtomicLong());
+        FileUploadService fileUploadService = new FileUploadService(mock(S3Helper.class), mock(LocalUploader.class),
+                mock(S3Uploader.class), uploadRepository, s3CleanupService, mock(Executor.class));
+        AsyncRecordService asyncRecordService = new AsyncRecordService(recordRepository,
+                mock(PresignedUploadService.class), fileUploadService, mock(UploadCompletionService.class),
+                mock(RecordMapper.class), mock(VectorService.class), cascadeService);
+
+        Record target = persistRecord("target", 100);
+        Album album = persistAlbum(null, 1, 100);
+        persistTrack(album, target, 1);
+        String uploadKey = uploadRepository.findById(target.getUploadId()).orElseThrow().getFullPath();
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        // 롤백되면 녹음/앨범/업로드가 그대로 남고 S3 삭제 예약도 남지 않음
+        TestTransaction.start();
+        asyncRecordService.deleteRecord(target.getId(), OWNER_ID);
+        assertThat(recordRepository.findById(target.getId())).isEmpty();
+        assertThat(albumRepository.findById(album.getId())).isEmpty();
+        TestTransaction.end();
+
+        TestTransaction.start();
+        assertThat(recordRepository.findById(target.getId())).isPresent();
+        assertThat(albumRepository.findById(album.getId())).isPresent();
+        assertThat(uploadRepository.findById(target.getUploadId())).isPresent();
+        assertThat(s3DeletionTaskRepository.findAll()).isEmpty();
+
+        // 커밋되면 업로드 행 삭제와 S3 삭제 예약이 함께 남음
+        asyncRecordService.deleteRecord(target.getId(), OWNER_ID);
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        TestTransaction.start();
+        assertThat(recordRepository.findById(target.getId())).isEmpty();
+        assertThat(albumRepository.findById(album.getId())).isEmpty();
+        assertThat(uploadRepository.findById(target.getUploadId())).isEmpty();
+        assertThat(s3DeletionTaskRepository.findAll())
+                .extracting(S3DeletionTask::getS3Key)
+                .containsExactly(uploadKey);
+        s3DeletionTaskRepository.deleteAll();
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+    }
+
+    private Album persistAlbum(Long coverUploadId, int trackCount, int totalDuration) {
+        return entityManager.persist(Album.builder()
+                .userId(OWNER_ID)
+                .uploadId(coverUploadId)
+                .title("연쇄 삭제 테스트 앨범")
+                .trackCount(trackCount)
+                .totalDuration(totalDuration)
+                .build());
+    }
+
+    private void persistTrack(Album album, Record record, int trackOrder) {
+        entityManager.persist(AlbumTrack.builder()
+                .album(album)
+                .record(record)
+                .trackOrder(trackOrder)
+                .build());
+    }
+
+    private Record persistRecord(String name, int durationSeconds) {
+        Upload upload = entityManager.persist(upload(name, "recordings"));
+        return entityManager.persist(Record.builder()
+                .userId(OWNER_ID)
+                .title(name)
+                .uploadId(upload.getId())
+                .durationSeconds(durationSeconds)
+                .build());
+    }
+
+    private Upload upload(String name, String directory) {
+        return Upload.builder()
+                .originalFilename(name)
+                .uuid("uuid-" + name)
+                .extension("mp3")
+                .uploaderId(OWNER_ID)
+                .fileSize(1000L)
+                .contentType("audio/mp3")
+                .directory(directory)
+                .build();
+    }
+}
@@ -15,22 +15,28 @@ import com.ssafy.lab.orak.albumtrack.repository.AlbumTrackRepository;
 import com.ssafy.lab.orak.recording.entity.Record;
 import com.ssafy.lab.orak.recording.exception.RecordNotFoundException;
 import com.ssafy.lab.orak.recording.repository.RecordRepository;
+import com.ssafy.lab.orak.upload.entity.Upload;
 import com.ssafy.lab.orak.upload.service.FileUploadService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -52,11 +58,15 @@ class AlbumTrackServiceTest {
     @Mock
     private FileUploadService fileUploadService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AlbumTrackService albumTrackService;
 
     private Album testAlbum;
     private Record testRecord;
+    private Upload testUpload;
     private AlbumTrack testAlbumTrack;
     private AddTrackRequestDTO addTrackRequest;
     
@@ -83,6 +93,14 @@ class AlbumTrackServiceTest {
                 .durationSeconds(120)
                 .build();
 
+        testUpload = Upload.builder()
+                .id(1L)
+                .uuid("test-uuid")
+                .originalFilename("test.mp3")
+                .extension("mp3")
+                .directory("recordings")
+                .build();
+
         testAlbumTrack = AlbumTrack.builder()
                 .id(1L)
                 .album(testAlbum)
@@ -107,7 +125,8 @@ class AlbumTrackServiceTest {
         
         when(albumRepository.findById(albumId)).thenReturn(Optional.of(testAlbum));
         when(albumTrackRepository.findByAlbumIdOrderByTrackOrder(albumId)).thenReturn(tracks);
-        when(fileUploadService.getFileUrl(anyLong())).thenReturn("http://test-url.com/audio.mp3");
+        when(fileUploadService.getUploads(anyCollection())).thenReturn(Map.of(1L, testUpload));
+        when(fileUploadService.getFileUrls(anyCollection())).thenReturn(Map.of(1L, "http://test-url.com/audio.mp3"));
 
         // When
         AlbumTracksResponseDTO result = albumTrackService.getAlbumTracks(albumId, userId);
@@ -122,6 +141,7 @@ class AlbumTrackServiceTest {
         AlbumTrackResponseDTO trackDto = result.getTracks().get(0);
         assertThat(trackDto.getRecordTitle()).isEqualTo("테스트 녹음");
         assertThat(trackDto.getTrackOrder()).isEqualTo(1);
+        assertThat(trackDto.getAudioUrl()).isEqualTo("http://test-url.com/audio.mp3");
     }
 
     @Test
@@ -171,9 +191,6 @@ class AlbumTrackServiceTest {
         when(albumTrackRepository.findByAlbumIdAndTrackOrder(albumId, 1)).thenReturn(Optional.empty());
         when(albumTrackRepository.findByAlbumIdAndRecordId(albumId, 1L)).thenReturn(Optional.empty());
         when(albumTrackRepository.save(any(AlbumTrack.class))).thenReturn(testAlbumTrack);
-        when(albumTrackRepository.countByAlbumId(albumId)).thenReturn(1);
-        when(albumTrackRepository.findByAlbumIdOrderByTrackOrder(albumId)).thenReturn(Arrays.asList(testAlbumTrack));
-        when(albumRepository.save(any(Album.class))).thenReturn(testAlbum);
         when(fileUploadService.getFileUrl(anyLong())).thenReturn("http://test-url.com/audio.mp3");
 
         // When
@@ -185,7 +202,9 @@ class AlbumTrackServiceTest {
         assertThat(result.getTrackOrder()).isEqualTo(1);
         
         verify(albumTrackRepository).save(any(AlbumTrack.class));
-        verify(albumRepository).save(any(Album.class)); // trackCount 업데이트
+        // 통계는 전체 재계산 없이 증감분만 반영
+        verify(albumRepository).applyTrackStatisticsDelta(eq(albumId), eq(1), eq(testRecord.getDurationSeconds()), any(LocalDateTime.class));
+        verify(albumTrackRepository, never()).findByAlbumIdOrderByTrackOrder(anyLong());
     }
 
     @Test
@@ -290,22 +309,58 @@ class AlbumTrackServiceTest {
                 .tracks(tracks)
                 .build();
         
+        Record secondRecord = Record.builder()
+                .id(2L)
+                .userId(1L)
+                .title("Second Record")
+                .uploadId(1L)
+                .durationSeconds(120)
+                .build();
+
         when(albumRepository.findById(albumId)).thenReturn(Optional.of(testAlbum));
-        when(albumTrackRepository.countByAlbumId(albumId)).thenReturn(0);
-        
-        // 각 트랙 추가를 위한 mock 설정
-        when(recordRepository.findById(anyLong())).thenReturn(Optional.of(testRecord));
-        when(albumTrackRepository.findByAlbumIdAndTrackOrder(anyLong(), anyInt())).thenReturn(Optional.empty());
-        when(albumTrackRepository.findByAlbumIdAndRecordId(anyLong(), anyLong())).thenReturn(Optional.empty());
-        when(albumTrackRepository.save(any(AlbumTrack.class))).thenReturn(testAlbumTrack);
-        when(fileUploadService.getFileUrl(anyLong())).thenReturn("http://test-url.com/audio.mp3");
+        when(albumTrackRepository.findByAlbumId(albumId)).thenReturn(List.of());
+        when(recordRepository.findAllById(anyCollection())).thenReturn(Arrays.asList(testRecord, secondRecord));
+        when(albumTrackRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(fileUploadService.getUploads(anyCollection())).thenReturn(Map.of(1L, testUpload));
+        when(fileUploadService.getFileUrls(anyCollection())).thenReturn(Map.of(1L, "http://test-url.com/audio.mp3"));
 
         // When
         List<AlbumTrackResponseDTO> result = albumTrackService.addTracks(albumId, bulkRequest, userId);
 
         // Then
         assertThat(result).hasSize(2);
-        verify(albumTrackRepository, times(2)).save(any(AlbumTrack.class));
+        assertThat(result).extracting(AlbumTrackResponseDTO::getTrackOrder).containsExactly(1, 2);
+        assertThat(result).allSatisfy(track -> assertThat(track.getAudioUrl()).isEqualTo("http://test-url.com/audio.mp3"));
+        verify(albumTrackRepository).saveAll(anyList());
+        verify(albumTrackRepository, never()).save(any(AlbumTrack.class));
+        // 통계 갱신은 마지막에 한 번
+        verify(albumRepository, times(1)).applyTrackStatisticsDelta(eq(albumId), eq(2),
+                eq(testRecord.getDurationSeconds() + 120), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("일괄 추가 요청 안에서 순서가 겹치면 아무것도 저장하지 않는다")
+    void addTracks_OrderConflictWithinRequest() {
+        // Given
+        Long albumId = 1L;
+        Long userId = 1L;
+
+        BulkAddTracksRequestDTO bulkRequest = BulkAddTracksRequestDTO.builder()
+                .tracks(Arrays.asList(
+                        AddTrackRequestDTO.builder().recordId(1L).trackOrder(1).build(),
+                        AddTrackRequestDTO.builder().recordId(2L).trackOrder(1).build()))
+                .build();
+        Record secondRecord = Record.builder().id(2L).userId(1L).title("Second Record").uploadId(1L).build();
+
+        when(albumRepository.findById(albumId)).thenReturn(Optional.of(testAlbum));
+        when(albumTrackRepository.findByAlbumId(albumId)).thenReturn(List.of());
+        when(recordRepository.findAllById(anyCollection())).thenReturn(Arrays.asList(testRecord, secondRecord));
+
+        // When & Then
+        assertThatThrownBy(() -> albumTrackService.addTracks(albumId, bulkRequest, userId))
+                .isInstanceOf(TrackOrderConflictException.class);
+        verify(albumTrackRepository, never()).saveAll(anyList());
+        verify(albumRepository, never()).applyTrackStatisticsDelta(anyLong(), anyInt(), anyInt(), any(LocalDateTime.class));
     }
 
     @Test
@@ -318,15 +373,19 @@ class AlbumTrackServiceTest {
         
         when(albumRepository.findById(albumId)).thenReturn(Optional.of(testAlbum));
         when(albumTrackRepository.findByAlbumIdAndTrackOrder(albumId, trackOrder)).thenReturn(Optional.of(testAlbumTrack));
-        when(albumTrackRepository.findByAlbumIdAndTrackOrderGreaterThan(albumId, trackOrder)).thenReturn(Arrays.asList());
         when(albumTrackRepository.countByAlbumId(albumId)).thenReturn(0);
 
         // When
         albumTrackService.removeTrack(albumId, trackOrder, userId);
 
-        // Then
-        verify(albumTrackRepository).delete(testAlbumTrack);
-        verify(albumRepository).save(any(Album.class)); // trackCount 업데이트
+        // Then - 추가 경로와 같이 앨범 행 잠금(통계 반영)이 트랙 삭제보다 먼저
+        InOrder inOrder = inOrder(albumRepository, albumTrackRepository);
+        inOrder.verify(albumRepository).applyTrackStatisticsDelta(eq(albumId), eq(-1), eq(-testRecord.getDurationSeconds()), any(LocalDateTime.class));
+        inOrder.verify(albumTrackRepository).deleteAllByIdInBatch(List.of(testAlbumTrack.getId()));
+        inOrder.verify(albumTrackRepository).stageShiftAfter(albumId, trackOrder);
+        inOrder.verify(albumTrackRepository).commitStagedOrders(albumId);
+        // 마지막 트랙이 빠지면 앨범도 삭제
+        verify(albumRepository).delete(testAlbum);
     }
 
     @Test
@@ -342,20 +401,43 @@ class AlbumTrackServiceTest {
                 .build();
         
         AlbumTrack track1 = AlbumTrack.builder().id(1L).trackOrder(1).build();
-        AlbumTrack track2 = AlbumTrack.builder().id(2L).trackOrder(2).build();
         
         when(albumRepository.findById(albumId)).thenReturn(Optional.of(testAlbum));
         when(albumTrackRepository.findByAlbumIdAndTrackOrder(albumId, 1)).thenReturn(Optional.of(track1));
-        when(albumTrackRepository.findByAlbumIdOrderByTrackOrder(albumId)).thenReturn(Arrays.asList(track1, track2));
+        when(albumTrackRepository.countByAlbumId(albumId)).thenReturn(2);
         when(albumTrackRepository.findByAlbumIdOrderByTrackOrder(albumId)).thenReturn(Arrays.asList(testAlbumTrack));
-        when(fileUploadService.getFileUrl(anyLong())).thenReturn("http://test-url.com/audio.mp3");
+        when(fileUploadService.getUploads(anyCollection())).thenReturn(Map.of(1L, testUpload));
+        when(fileUploadService.getFileUrls(anyCollection())).thenReturn(Map.of(1L, "http://test-url.com/audio.mp3"));
 
         // When
         AlbumTracksResponseDTO result = albumTrackService.reorderTrack(albumId, reorderRequest, userId);
 
         // Then
         assertThat(result).isNotNull();
-        verify(albumTrackRepository).saveAll(any(List.class));
+        // 1번을 2번으로: 구간 [1, 2] 만 한 칸씩 당기고 확정
+        verify(albumTrackRepository).stageMove(albumId, 1, 2, -1, 1, 2);
+        verify(albumTrackRepository).commitStagedOrders(albumId);
+        verify(albumTrackRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("트랙 수를 벗어난 위치로는 이동할 수 없다")
+    void reorderTrack_InvalidTarget() {
+        // Given
+        Long albumId = 1L;
+        ReorderTrackRequestDTO reorderRequest = ReorderTrackRequestDTO.builder()
+                .fromOrder(1)
+                .toOrder(5)
+                .build();
+
+        when(albumRepository.findById(albumId)).thenReturn(Optional.of(testAlbum));
+        when(albumTrackRepository.findByAlbumIdAndTrackOrder(albumId, 1)).thenReturn(Optional.of(testAlbumTrack));
+        when(albumTrackRepository.countByAlbumId(albumId)).thenReturn(2);
+
+        // When & Then
+        assertThatThrownBy(() -> albumTrackService.reorderTrack(albumId, reorderRequest, 1L))
+                .isInstanceOf(AlbumTrackException.class);
+        verify(albumTrackRepository, never()).stageMove(anyLong(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
     }
 
     @Test
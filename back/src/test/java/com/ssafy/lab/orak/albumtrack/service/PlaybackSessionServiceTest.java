@@ -0,0 +1,309 @@
+package com.ssafy.lab.orak.albumtrack.service;
+
+import com.ssafy.lab.orak.album.entity.Album;
+import com.ssafy.lab.orak.album.repository.AlbumRepository;
+import com.ssafy.lab.orak.albumtrack.dto.response.AlbumTrackResponseDTO;
+import com.ssafy.lab.orak.albumtrack.dto.response.PlaybackResponseDTO;
+import com.ssafy.lab.orak.albumtrack.dto.response.PlaybackSessionResponseDTO;
+import com.ssafy.lab.orak.albumtrack.entity.AlbumTrack;
+import com.ssafy.lab.orak.albumtrack.exception.PlaybackSessionNotFoundException;
+import com.ssafy.lab.orak.albumtrack.repository.AlbumTrackRepository;
+import com.ssafy.lab.orak.recording.entity.Record;
+import com.ssafy.lab.orak.recording.repository.RecordRepository;
+import com.ssafy.lab.orak.s3.helper.S3Helper;
+import com.ssafy.lab.orak.s3.service.S3CleanupService;
+import com.ssafy.lab.orak.s3.util.LocalUploader;
+import com.ssafy.lab.orak.s3.util.S3Uploader;
+import com.ssafy.lab.orak.upload.entity.Upload;
+import com.ssafy.lab.orak.upload.repository.UploadRepository;
+import com.ssafy.lab.orak.upload.service.FileUploadService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("앨범 재생 세션 쿼리 수 테스트")
+class PlaybackSessionServiceTest {
+
+    private static final int TRACK_COUNT = 12;
+    private static final Long OWNER_ID = 1L;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AlbumRepository albumRepository;
+
+    @Autowired
+    private AlbumTrackRepository albumTrackRepository;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private UploadRepository uploadRepository;
+
+    private S3Helper s3Helper;
+    private AlbumTrackService albumTrackService;
+    private PlaybackSessionService playbackSessionService;
+    private Statistics statistics;
+    private Long albumId;
+
+    // 인스턴스 간 공유되는 Redis 역할 (키 → 값)
+    private final Map<String, Object> redisValues = new ConcurrentHashMap<>();
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        s3Helper = mock(S3Helper.class);
+        when(s3Helper.generatePresignedUrls(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            return keys.stream().distinct()
+                    .collect(Collectors.toMap(Function.identity(), key -> "https://s3.example.com/" + key));
+        });
+        FileUploadService fileUploadService = new FileUploadService(s3Helper, mock(LocalUploader.class),
+                mock(S3Uploader.class), uploadRepository, mock(S3CleanupService.class), mock(Executor.class));
+        albumTrackService = new AlbumTrackService(albumTrackRepository, albumRepository, recordRepository, fileUploadService,
+                mock(ApplicationEventPublisher.class));
+        redisTemplate = fakeRedis();
+        playbackSessionService = newPlaybackSessionService();
+
+        Upload cover = entityManager.persist(upload("cover", "images"));
+        Album album = entityManager.persist(Album.builder()
+                .userId(OWNER_ID)
+                .uploadId(cover.getId())
+                .title("재생 테스트 앨범")
+                .trackCount(TRACK_COUNT)
+                .isPublic(false)
+                .build());
+        albumId = album.getId();
+        for (int i = 1; i <= TRACK_COUNT; i++) {
+            Upload upload = entityManager.persist(upload("track-" + i, "recordings"));
+            Record record = entityManager.persist(Record.builder()
+                    .userId(OWNER_ID)
+                    .title("트랙 " + i)
+                    .uploadId(upload.getId())
+                    .durationSeconds(180)
+                    .build());
+            entityManager.persist(AlbumTrack.builder()
+                    .album(album)
+                    .record(record)
+                    .trackOrder(i)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("세션 시작은 트랙 수와 관계없이 쿼리 3번, 서명 1번이고 전체 큐를 순서대로 반환한다")
+    void startSession_LoadsQueueInConstantQueries() {
+        resetCounters();
+
+        PlaybackSessionResponseDTO session = playbackSessionService.startSession(albumId, null, false, null, OWNER_ID);
+
+        // 앨범, 트랙+녹음+업로드 JOIN FETCH, 커버 업로드
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        verify(s3Helper, times(1)).generatePresignedUrls(anyCollection());
+        verify(s3Helper, never()).generatePresignedUrl(anyString());
+
+        assertThat(session.getQueue()).extracting(AlbumTrackResponseDTO::getTrackOrder)
+                .containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12);
+        assertThat(session.getQueue()).allSatisfy(track ->
+                assertThat(track.getAudioUrl()).startsWith("https://s3.example.com/recordings/"));
+        assertThat(session.getCoverImageUrl()).startsWith("https://s3.example.com/images/");
+        assertThat(session.getCurrentTrack().getTrackOrder()).isEqualTo(1);
+        assertThat(session.getHasPrevious()).isFalse();
+        assertThat(session.getPrefetchUrls()).containsExactly(
+                session.getQueue().get(1).getAudioUrl(), session.getQueue().get(2).getAudioUrl());
+    }
+
+    @Test
+    @DisplayName("다음/이전 이동은 Redis의 위치만 옮기므로 DB 쿼리와 서명이 없다")
+    void nextAndPrevious_AreInMemory() {
+        PlaybackSessionResponseDTO session = playbackSessionService.startSession(albumId, 11, false, null, OWNER_ID);
+        resetCounters();
+
+        PlaybackSessionResponseDTO last = playbackSessionService.next(albumId, session.getSessionId(), OWNER_ID);
+        PlaybackSessionResponseDTO beyond = playbackSessionService.next(albumId, session.getSessionId(), OWNER_ID);
+        PlaybackSessionResponseDTO back = playbackSessionService.previous(albumId, session.getSessionId(), OWNER_ID);
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        verify(s3Helper, never()).generatePresignedUrls(anyCollection());
+
+        assertThat(last.getCurrentTrack().getTrackOrder()).isEqualTo(12);
+        assertThat(last.getHasNext()).isFalse();
+        assertThat(last.getPrefetchUrls()).isEmpty();
+        assertThat(last.getQueue()).isNull();
+        assertThat(beyond).isNull();
+        assertThat(back.getCurrentTrack().getTrackOrder()).isEqualTo(11);
+        assertThat(back.getPosition()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("한 인스턴스에서 시작한 세션을 다른 인스턴스에서 이어가고 종료할 수 있다")
+    void session_IsSharedAcrossInstances() {
+        PlaybackSessionService otherInstance = newPlaybackSessionService();
+        String sessionId = playbackSessionService.startSession(albumId, 3, false, null, OWNER_ID).getSessionId();
+        resetCounters();
+
+        PlaybackSessionResponseDTO moved = otherInstance.next(albumId, sessionId, OWNER_ID);
+        PlaybackSessionResponseDTO current = playbackSessionService.getSession(albumId, sessionId, OWNER_ID);
+
+        assertThat(moved.getCurrentTrack().getTrackOrder()).isEqualTo(4);
+        assertThat(current.getPosition()).isEqualTo(3);
+        assertThat(current.getQueue()).hasSize(TRACK_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        otherInstance.endSession(albumId, sessionId, OWNER_ID);
+        assertThatThrownBy(() -> playbackSessionService.next(albumId, sessionId, OWNER_ID))
+                .isInstanceOf(PlaybackSessionNotFoundException.class);
+        assertThat(redisValues).isEmpty();
+    }
+
+    @Test
+    @DisplayName("셔플은 시작 곡을 맨 앞에 두고 같은 시드면 같은 순서를 만든다")
+    void shuffle_IsReproducibleWithSeed() {
+        PlaybackSessionResponseDTO first = playbackSessionService.startSession(albumId, 5, true, 42L, OWNER_ID);
+        PlaybackSessionResponseDTO second = playbackSessionService.startSession(albumId, 5, true, 42L, OWNER_ID);
+        PlaybackSessionResponseDTO generated = playbackSessionService.startSession(albumId, null, true, null, OWNER_ID);
+
+        List<Integer> order = first.getQueue().stream().map(AlbumTrackResponseDTO::getTrackOrder).toList();
+        assertThat(order.get(0)).isEqualTo(5);
+        assertThat(order).containsExactlyInAnyOrder(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12);
+        assertThat(order).isNotEqualTo(List.of(5, 1, 2, 3, 4, 6, 7, 8, 9, 10, 11, 12));
+        assertThat(second.getQueue()).extracting(AlbumTrackResponseDTO::getTrackOrder).containsExactlyElementsOf(order);
+        assertThat(first.getShuffleSeed()).isEqualTo(42L);
+        assertThat(generated.getShuffleSeed()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("다른 사용자/다른 앨범의 세션과 종료된 세션은 찾을 수 없다")
+    void session_IsScopedToOwnerAndAlbum() {
+        String sessionId = playbackSessionService.startSession(albumId, null, false, null, OWNER_ID).getSessionId();
+
+        assertThatThrownBy(() -> playbackSessionService.next(albumId, sessionId, 2L))
+                .isInstanceOf(PlaybackSessionNotFoundException.class);
+        assertThatThrownBy(() -> playbackSessionService.next(albumId + 1, sessionId, OWNER_ID))
+                .isInstanceOf(PlaybackSessionNotFoundException.class);
+
+        playbackSessionService.endSession(albumId, sessionId, OWNER_ID);
+        assertThatThrownBy(() -> playbackSessionService.getSession(albumId, sessionId, OWNER_ID))
+                .isInstanceOf(PlaybackSessionNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("기존 재생 정보 조회도 트랙별 조회 없이 한 번에 만든다")
+    void getPlayback_UsesSingleLoad() {
+        resetCounters();
+
+        PlaybackResponseDTO playback = albumTrackService.getPlayback(albumId, 6, OWNER_ID);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        verify(s3Helper, times(1)).generatePresignedUrls(anyCollection());
+        verify(s3Helper, never()).generatePresignedUrl(anyString());
+        assertThat(playback.getCurrentTrack().getTrackOrder()).isEqualTo(6);
+        assertThat(playback.getPreviousTrack().getTrackOrder()).isEqualTo(5);
+        assertThat(playback.getNextTrack().getTrackOrder()).isEqualTo(7);
+        assertThat(playback.getTotalTracks()).isEqualTo(TRACK_COUNT);
+    }
+
+    private PlaybackSessionService newPlaybackSessionService() {
+        PlaybackSessionService service = new PlaybackSessionService(albumTrackService, redisTemplate,
+                new ObjectMapper().findAndRegisterModules());
+        service.initSessionCache();
+        return service;
+    }
+
+    // 값 저장/조회/삭제와 위치 이동 스크립트만 흉내 내는 Redis
+    @SuppressWarnings("unchecked")
+    private RedisTemplate<String, Object> fakeRedis() {
+        RedisTemplate<String, Object> template = mock(RedisTemplate.class);
+        ValueOperations<String, Object> values = mock(ValueOperations.class);
+        when(template.opsForValue()).thenReturn(values);
+        doAnswer(invocation -> redisValues.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(values).set(anyString(), any(), any(Duration.class));
+        when(values.get(any())).thenAnswer(invocation -> redisValues.get(invocation.<String>getArgument(0)));
+        when(template.expire(anyString(), any(Duration.class)))
+                .thenAnswer(invocation -> redisValues.containsKey(invocation.<String>getArgument(0)));
+        when(template.delete(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            return keys.stream().filter(key -> redisValues.remove(key) != null).count();
+        });
+        when(template.execute(any(RedisScript.class), anyList(), any(), any())).thenAnswer(invocation -> {
+            String key = invocation.<List<String>>getArgument(1).get(0);
+            int delta = Integer.parseInt(invocation.getArgument(2));
+            int size = Integer.parseInt(invocation.getArgument(3));
+            synchronized (redisValues) {
+                Object position = redisValues.get(key);
+                if (position == null) {
+                    return -2L;
+                }
+                int target = Integer.parseInt(position.toString()) + delta;
+                if (target < 0 || target >= size) {
+                    return -1L;
+                }
+                redisValues.put(key, String.valueOf(target));
+                return (long) target;
+            }
+        });
+        return template;
+    }
+
+    private void resetCounters() {
+        entityManager.clear();
+        statistics.clear();
+        clearInvocations(s3Helper);
+    }
+
+    private Upload upload(String name, String directory) {
+        return Upload.builder()
+                .originalFilename(name)
+                .uuid("uuid-" + name)
+                .extension("mp3")
+                .uploaderId(OWNER_ID)
+                .fileSize(1000L)
+                .contentType("audio/mp3")
+                .directory(directory)
+                .build();
+    }
+}
@@ -0,0 +1,275 @@
+package com.ssafy.lab.orak.common.config.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.ssafy.lab.orak.auth.entity.User;
+import com.ssafy.lab.orak.auth.repository.UserRepository;
+import com.ssafy.lab.orak.profile.entity.Profile;
+import com.ssafy.lab.orak.profile.repository.ProfileRepository;
+import com.ssafy.lab.orak.song.entity.Song;
+import com.ssafy.lab.orak.song.repository.SongRepository;
+import com.ssafy.lab.orak.upload.entity.Upload;
+import com.ssafy.lab.orak.upload.repository.UploadRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.cache.CacheManager;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Hibernate 2차 캐시 테스트 (H2)
+ * - 반복 조회가 캐시에서 처리되어 쿼리 수가 줄어드는지
+ * - 로컬 변경/벌크 쿼리/원격 무효화 메시지 후에 최신 값을 읽는지
+ * - 원격 무효화가 관계없는 테이블의 쿼리 캐시 결과는 남기는지
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.l2cache.enabled=true",
+        "app.l2cache.broadcast.enabled=true"
+})
+@Import(SecondLevelCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Hibernate 2차 캐시 테스트")
+class SecondLevelCacheTest {
+
+    private static final String CHANNEL = "orak:l2cache:invalidate";
+
+    @MockitoBean
+    private StringRedisTemplate redisTemplate;
+
+    // 구독 대신 L2CacheInvalidationListener.handle을 직접 호출
+    @MockitoBean
+    private RedisMessageListenerContainer l2CacheInvalidationContainer;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager hibernateCacheManager;
+
+    @Autowired
+    private L2CacheInvalidationListener invalidationListener;
+
+    @Autowired
+    private L2CacheInvalidationPublisher invalidationPublisher;
+
+    @Autowired
+    private SongRepository songRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private UploadRepository uploadRepository;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+    private Song song;
+    private User user;
+    private Profile profile;
+    private Upload profileImage;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        transaction.executeWithoutResult(status -> {
+            song = songRepository.save(Song.builder()
+                    .songId(9001L)
+                    .songName("캐시 테스트 곡")
+                    .artistName("가수")
+                    .status("success")
+                    .build());
+            user = userRepository.save(User.builder()
+                    .email("l2cache@test.com")
+                    .googleID("google_l2cache")
+                    .build());
+            profileImage = uploadRepository.save(Upload.builder()
+                    .originalFilename("profile")
+                    .uuid("uuid-l2cache-profile")
+                    .extension("jpg")
+                    .uploaderId(user.getId())
+                    .fileSize(1000L)
+                    .contentType("image/jpeg")
+                    .directory("profiles")
+                    .build());
+            profile = profileRepository.save(Profile.builder()
+                    .user(user)
+                    .nickname("캐시닉네임")
+                    .profileImageUpload(profileImage)
+                    .build());
+        });
+        entityManagerFactory.getCache().evictAll();
+        clearInvocations(redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> {
+            profileRepository.deleteAll();
+            uploadRepository.deleteAll();
+            userRepository.deleteAll();
+            songRepository.deleteAll();
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("리전마다 설정한 TTL과 최대 크기로 캐시가 만들어진다")
+    void regions_ConfiguredFromProperties() {
+        @SuppressWarnings("unchecked")
+        CaffeineConfiguration<Object, Object> songRegion = hibernateCacheManager.getCache("song")
+                .getConfiguration(CaffeineConfiguration.class);
+        @SuppressWarnings("unchecked")
+        CaffeineConfiguration<Object, Object> timestampsRegion = hibernateCacheManager
+                .getCache("default-update-timestamps-region")
+                .getConfiguration(CaffeineConfiguration.class);
+
+        assertThat(songRegion.getMaximumSize()).isEqualTo(OptionalLong.of(50_000));
+        assertThat(songRegion.getExpireAfterWrite()).isEqualTo(OptionalLong.of(TimeUnit.HOURS.toNanos(1)));
+        assertThat(songRegion.isStatisticsEnabled()).isTrue();
+        assertThat(timestampsRegion.getExpireAfterWrite()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 곡/프로필 반복 조회는 두 번째부터 쿼리 없이 캐시에서 읽는다")
+    void repeatedReads_ServedFromCache() {
+        statistics.clear();
+        readSongAndProfile();
+        long firstStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        readSongAndProfile();
+        long secondStatements = statistics.getPrepareStatementCount();
+
+        // 첫 조회: 곡, 프로필 쿼리, 사용자, 프로필 이미지
+        assertThat(firstStatements).isGreaterThanOrEqualTo(4);
+        assertThat(secondStatements).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics("song").getHitCount()).isPositive();
+        assertThat(statistics.getDomainDataRegionStatistics("profile").getHitCount()).isPositive();
+        assertThat(statistics.getDomainDataRegionStatistics("upload").getHitCount()).isPositive();
+        assertThat(statistics.getQueryCacheHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("로컬 변경은 커밋 후 바로 보이고 다른 노드에 엔티티 무효화를 알린다")
+    void localUpdate_VisibleAndBroadcast() {
+        readSongAndProfile();
+
+        transaction.executeWithoutResult(status -> profileRepository.findByUser_Id(user.getId()).orElseThrow()
+                .update(null, "바뀐닉네임", null, null));
+
+        String nickname = transaction.execute(status ->
+                profileRepository.findByUser_Id(user.getId()).orElseThrow().getNickname());
+        assertThat(nickname).isEqualTo("바뀐닉네임");
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), argThat((String message) ->
+                message.endsWith("|E|" + Profile.class.getName() + "|" + profile.getId())));
+    }
+
+    @Test
+    @DisplayName("벌크 UPDATE는 리전을 비우고 다른 노드에 리전 무효화를 알린다")
+    void bulkUpdate_ClearsRegionAndBroadcast() {
+        readSongAndProfile();
+
+        uploadRepository.updateFileSize(profileImage.getId(), 2048L);
+
+        Long fileSize = transaction.execute(status ->
+                uploadRepository.findById(profileImage.getId()).orElseThrow().getFileSize());
+        assertThat(fileSize).isEqualTo(2048L);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), argThat((String message) -> message.endsWith("|R|upload")));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 해당 엔티티를 다시 읽고, 자기 메시지는 무시한다")
+    void remoteInvalidation_EvictsEntity() {
+        readSongAndProfile();
+        // 다른 노드가 바꾼 상황 (이 노드의 Hibernate를 거치지 않은 변경)
+        jdbcTemplate.update("UPDATE songs SET song_name = ? WHERE id = ?", "다른 노드가 바꾼 곡", song.getId());
+
+        assertThat(readSongName()).isEqualTo("캐시 테스트 곡");
+
+        invalidationListener.handle(invalidationPublisher.nodeId() + "|E|" + Song.class.getName() + "|" + song.getId());
+        assertThat(readSongName()).isEqualTo("캐시 테스트 곡");
+
+        invalidationListener.handle("other-node|E|" + Song.class.getName() + "|" + song.getId());
+        assertThat(readSongName()).isEqualTo("다른 노드가 바꾼 곡");
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 생긴 행도 쿼리 캐시 무효화 후 조회된다")
+    void remoteInsert_EvictsQueryCache() {
+        Long otherSongId = 9002L;
+        assertThat(transaction.execute(status -> songRepository.findBySongId(otherSongId))).isEmpty();
+
+        jdbcTemplate.update("INSERT INTO songs (song_id, song_name, status, created_at, updated_at) " +
+                "VALUES (?, ?, 'success', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", otherSongId, "다른 노드 곡");
+        assertThat(transaction.execute(status -> songRepository.findBySongId(otherSongId))).isEmpty();
+
+        invalidationListener.handle("other-node|E|" + Song.class.getName() + "|0");
+        assertThat(transaction.execute(status -> songRepository.findBySongId(otherSongId)))
+                .get().extracting(Song::getSongName).isEqualTo("다른 노드 곡");
+    }
+
+    @Test
+    @DisplayName("원격 무효화는 바뀐 엔티티의 테이블을 읽은 쿼리 캐시 결과만 무효로 만든다")
+    void remoteInvalidation_KeepsUnrelatedQueryResults() {
+        transaction.execute(status -> songRepository.findBySongId(song.getSongId()));
+
+        invalidationListener.handle("other-node|E|" + Upload.class.getName() + "|" + profileImage.getId());
+        statistics.clear();
+        transaction.execute(status -> songRepository.findBySongId(song.getSongId()));
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        invalidationListener.handle("other-node|R|song");
+        statistics.clear();
+        transaction.execute(status -> songRepository.findBySongId(song.getSongId()));
+        assertThat(statistics.getQueryCacheHitCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isPositive();
+    }
+
+    private void readSongAndProfile() {
+        transaction.executeWithoutResult(status -> {
+            songRepository.findById(song.getId()).orElseThrow().getSongName();
+            Profile loaded = profileRepository.findByUser_Id(user.getId()).orElseThrow();
+            loaded.getUser().getEmail();
+            loaded.getProfileImageUpload().getFileSize();
+        });
+    }
+
+    private String readSongName() {
+        return transaction.execute(status -> songRepository.findById(song.getId()).orElseThrow().getSongName());
+    }
+}
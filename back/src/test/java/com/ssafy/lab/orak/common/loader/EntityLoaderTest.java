@@ -0,0 +1,303 @@
+package com.ssafy.lab.orak.common.loader;
+
+import com.ssafy.lab.orak.album.dto.AlbumResponseDto;
+import com.ssafy.lab.orak.album.entity.Album;
+import com.ssafy.lab.orak.album.mapper.AlbumCardMapper;
+import com.ssafy.lab.orak.album.repository.AlbumCardRepository;
+import com.ssafy.lab.orak.album.repository.AlbumRepository;
+import com.ssafy.lab.orak.album.service.AlbumSearchService;
+import com.ssafy.lab.orak.album.service.AlbumService;
+import com.ssafy.lab.orak.albumtrack.service.AlbumTrackService;
+import com.ssafy.lab.orak.auth.entity.User;
+import com.ssafy.lab.orak.auth.repository.UserRepository;
+import com.ssafy.lab.orak.auth.service.UserService;
+import com.ssafy.lab.orak.comment.dto.CommentDto;
+import com.ssafy.lab.orak.comment.entity.Comment;
+import com.ssafy.lab.orak.comment.repository.CommentRepository;
+import com.ssafy.lab.orak.comment.service.CommentService;
+import com.ssafy.lab.orak.follow.dto.FollowDto;
+import com.ssafy.lab.orak.follow.entity.Follow;
+import com.ssafy.lab.orak.follow.repository.FollowRepository;
+import com.ssafy.lab.orak.follow.service.FollowService;
+import com.ssafy.lab.orak.processing.service.BatchProcessingService;
+import com.ssafy.lab.orak.profile.entity.Profile;
+import com.ssafy.lab.orak.profile.repository.ProfileRepository;
+import com.ssafy.lab.orak.profile.service.ProfileImageService;
+import com.ssafy.lab.orak.profile.service.ProfileService;
+import com.ssafy.lab.orak.s3.helper.S3Helper;
+import com.ssafy.lab.orak.s3.service.S3CleanupService;
+import com.ssafy.lab.orak.s3.util.LocalUploader;
+import com.ssafy.lab.orak.s3.util.S3Uploader;
+import com.ssafy.lab.orak.song.repository.SongRepository;
+import com.ssafy.lab.orak.upload.entity.Upload;
+import com.ssafy.lab.orak.upload.repository.UploadRepository;
+import com.ssafy.lab.orak.upload.service.FileUploadService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 요청 단위 엔티티 로더 테스트
+ * - 등록한 키를 한 번에 조회하고 같은 요청 안에서는 다시 조회하지 않는지
+ * - 댓글/앨범 응답 변환의 쿼리 수가 댓글 수와 무관한지
+ * - 팔로우 목록이 행마다 사용자를 지연 로딩하지 않는지
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("요청 단위 엔티티 로더 테스트")
+class EntityLoaderTest {
+
+    private static final int AUTHOR_COUNT = 10;
+    private static final int COMMENT_COUNT = 20;
+    private static final int REPLIES_PER_COMMENT = 2;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private UploadRepository uploadRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private AlbumRepository albumRepository;
+
+    @Autowired
+    private AlbumCardRepository albumCardRepository;
+
+    @Autowired
+    private SongRepository songRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    private EntityLoaderProvider entityLoaderProvider;
+    private CommentService commentService;
+    private AlbumService albumService;
+    private FollowService followService;
+    private Statistics statistics;
+    private List<User> authors;
+    private Album album;
+
+    @BeforeEach
+    void setUp() {
+        entityLoaderProvider = new EntityLoaderProvider(profileRepository, uploadRepository, songRepository,
+                userRepository);
+        commentService = new CommentService(commentRepository, mock(UserService.class),
+                mock(ProfileImageService.class), entityLoaderProvider);
+        FileUploadService fileUploadService = new FileUploadService(mock(S3Helper.class), mock(LocalUploader.class),
+                mock(S3Uploader.class), uploadRepository, mock(S3CleanupService.class), Runnable::run);
+        albumService = new AlbumService(albumRepository, fileUploadService, mock(ProfileService.class),
+                mock(AlbumTrackService.class), mock(BatchProcessingService.class), albumCardRepository,
+                Mappers.getMapper(AlbumCardMapper.class), mock(ProfileImageService.class),
+                mock(ApplicationEventPublisher.class), mock(AlbumSearchService.class), entityLoaderProvider);
+        followService = new FollowService(followRepository, profileRepository, entityLoaderProvider);
+
+        authors = new ArrayList<>();
+        for (int i = 0; i < AUTHOR_COUNT; i++) {
+            User user = entityManager.persist(User.builder()
+                    .email("author" + i + "@test.com")
+                    .googleID("google_author" + i)
+                    .build());
+            entityManager.persist(Profile.builder()
+                    .user(user)
+                    .nickname("작성자" + i)
+                    .profileImageUpload(entityManager.persist(upload("profile-" + i)))
+                    .build());
+            authors.add(user);
+        }
+
+        album = entityManager.persist(Album.builder()
+                .userId(authors.get(0).getId())
+                .uploadId(entityManager.persist(upload("cover")).getId())
+                .title("댓글 많은 앨범")
+                .trackCount(0)
+                .totalDuration(0)
+                .isPublic(true)
+                .build());
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            Comment parent = entityManager.persist(comment(authors.get(i % AUTHOR_COUNT), null, "댓글 " + i));
+            for (int j = 0; j < REPLIES_PER_COMMENT; j++) {
+                entityManager.persist(comment(authors.get((i + j + 1) % AUTHOR_COUNT), parent, "대댓글 " + i + "-" + j));
+            }
+        }
+        entityManager.flush();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("등록한 키는 한 번에 조회하고 이미 읽은 키와 없는 키는 다시 조회하지 않는다")
+    void batchLoader_CoalescesAndMemoises() {
+        List<Set<Long>> calls = new ArrayList<>();
+        BatchLoader<Long, String> loader = new BatchLoader<>(keys -> {
+            calls.add(keys);
+            Map<Long, String> values = new HashMap<>();
+            keys.stream().filter(key -> key < 100).forEach(key -> values.put(key, "v" + key));
+            return values;
+        }, 2);
+
+        loader.register(1L).register(2L).register(2L).register(3L);
+        assertThat(calls).isEmpty();
+        loader.dispatch();
+
+        // maxBatchSize 2 → {1,2}, {3}
+        assertThat(calls).containsExactly(Set.of(1L, 2L), Set.of(3L));
+        assertThat(loader.get(2L)).isEqualTo("v2");
+        assertThat(loader.get(100L)).isNull();
+        assertThat(loader.get(100L)).isNull();
+        assertThat(loader.getAll(List.of(1L, 3L, 100L))).containsOnlyKeys(1L, 3L);
+        assertThat(calls).hasSize(3);
+        assertThat(loader.dispatchCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("같은 요청에서는 같은 로더를, 요청 밖에서는 호출마다 새 로더를 준다")
+    void provider_BindsLoadersToRequest() {
+        assertThat(entityLoaderProvider.current()).isSameAs(entityLoaderProvider.current());
+
+        RequestContextHolder.resetRequestAttributes();
+        assertThat(entityLoaderProvider.current()).isNotSameAs(entityLoaderProvider.current());
+    }
+
+    @Test
+    @DisplayName("댓글 목록은 댓글/대댓글 수와 관계없이 고정된 쿼리 수로 작성자 프로필을 채운다")
+    void comments_ConstantQueryCount() {
+        resetCounters();
+        Page<CommentDto.Response> page = commentService.getCommentsByAlbumId(album.getId(), PageRequest.of(0, COMMENT_COUNT));
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(page.getContent()).hasSize(COMMENT_COUNT);
+        assertThat(page.getContent()).allSatisfy(comment -> {
+            assertThat(comment.getUserNickname()).startsWith("작성자");
+            assertThat(comment.getReplies()).hasSize(REPLIES_PER_COMMENT)
+                    .allSatisfy(reply -> assertThat(reply.getUserNickname()).startsWith("작성자"));
+        });
+        // 댓글 페이지 + 대댓글 IN + 프로필 IN (댓글마다 대댓글/프로필을 조회하면 1 + 20 + 60 이상)
+        assertThat(statements).isLessThanOrEqualTo(4);
+        assertThat(entityLoaderProvider.current().profiles().dispatchCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("앨범 상세와 댓글을 같은 요청에서 읽으면 이미 읽은 프로필/커버는 다시 조회하지 않는다")
+    void albumAndComments_ShareLoadersWithinRequest() {
+        resetCounters();
+        AlbumResponseDto first = albumService.getAlbum(album.getId(), null);
+        long albumStatements = statistics.getPrepareStatementCount();
+
+        resetCounters();
+        commentService.getCommentsByAlbumId(album.getId(), PageRequest.of(0, COMMENT_COUNT));
+        long commentStatements = statistics.getPrepareStatementCount();
+
+        resetCounters();
+        AlbumResponseDto second = albumService.getAlbum(album.getId(), null);
+        long repeatedAlbumStatements = statistics.getPrepareStatementCount();
+
+        assertThat(first.getUserNickname()).isEqualTo("작성자0");
+        assertThat(second.getUserNickname()).isEqualTo("작성자0");
+        // 앨범 + 커버 업로드 + 프로필(이미지 포함) 각 1번
+        assertThat(albumStatements).isLessThanOrEqualTo(3);
+        assertThat(commentStatements).isLessThanOrEqualTo(4);
+        // 두 번째 상세는 앨범 행만 다시 읽음
+        assertThat(repeatedAlbumStatements).isEqualTo(1);
+        assertThat(entityLoaderProvider.current().uploads().dispatchCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청 밖에서도 호출한 메서드 안에서는 한 번에 조회한다")
+    void comments_OutsideRequest() {
+        RequestContextHolder.resetRequestAttributes();
+        AtomicInteger nicknames = new AtomicInteger();
+
+        resetCounters();
+        commentService.getCommentsByAlbumId(album.getId(), PageRequest.of(0, COMMENT_COUNT))
+                .forEach(comment -> nicknames.addAndGet(comment.getUserNickname() != null ? 1 : 0));
+
+        assertThat(nicknames).hasValue(COMMENT_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("팔로워 목록은 팔로워 사용자를 한 번에 조회하고 행마다 지연 로딩하지 않는다")
+    void followers_LoadUsersInOneBatch() {
+        List<Profile> profiles = authors.stream()
+                .map(author -> profileRepository.findByUser_Id(author.getId()).orElseThrow())
+                .toList();
+        Profile followed = profiles.get(0);
+        profiles.subList(1, AUTHOR_COUNT).forEach(follower -> entityManager.persist(Follow.of(follower, followed)));
+        entityManager.flush();
+
+        resetCounters();
+        Page<FollowDto.UserResponse> followers = followService.getFollowers(followed.getId(), PageRequest.of(0, 20));
+
+        assertThat(followers.getContent()).hasSize(AUTHOR_COUNT - 1)
+                .allSatisfy(follower -> assertThat(follower.getEmail()).startsWith("author"));
+        assertThat(statistics.getEntityFetchCount()).isZero();
+        assertThat(entityLoaderProvider.current().users().dispatchCount()).isEqualTo(1);
+    }
+
+    private void resetCounters() {
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private Comment comment(User author, Comment parent, String content) {
+        return Comment.builder()
+                .user(author)
+                .album(album)
+                .parentComment(parent)
+                .content(content)
+                .build();
+    }
+
+    private Upload upload(String name) {
+        return Upload.builder()
+                .originalFilename(name)
+                .uuid("uuid-" + name)
+                .extension("jpg")
+                .uploaderId(1L)
+                .fileSize(1000L)
+                .contentType("image/jpeg")
+                .directory("images")
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.ssafy.lab.orak.processing.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("처리용 스레드풀 설정 테스트")
+class ProcessingExecutorConfigTest {
+
+    private final ProcessingExecutorConfig config = new ProcessingExecutorConfig();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private ThreadPoolTaskExecutor overflowExecutor;
+    private ThreadPoolTaskExecutor voiceAnalysisExecutor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (voiceAnalysisExecutor != null) {
+            voiceAnalysisExecutor.shutdown();
+        }
+        if (overflowExecutor != null) {
+            overflowExecutor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("음성 분석 스레드풀이 포화되면 호출 스레드가 아닌 보조 스레드에서 작업을 실행한다")
+    void rejectedVoiceAnalysisTaskRunsOnOverflowThread() throws Exception {
+        overflowExecutor = (ThreadPoolTaskExecutor) config.voiceAnalysisOverflowExecutor();
+        // 스레드 1개, 대기 큐 없음 → 두 번째 작업은 바로 거부 처리됨
+        voiceAnalysisExecutor = (ThreadPoolTaskExecutor) config.voiceAnalysisExecutor(1, 1, 0, 0, overflowExecutor);
+
+        CountDownLatch workerBusy = new CountDownLatch(1);
+        voiceAnalysisExecutor.execute(() -> {
+            workerBusy.countDown();
+            awaitRelease();
+        });
+        assertThat(workerBusy.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> ranOn = new CompletableFuture<>();
+        Thread caller = Thread.currentThread();
+        voiceAnalysisExecutor.execute(() -> ranOn.complete(Thread.currentThread().getName()));
+
+        String threadName = ranOn.get(5, TimeUnit.SECONDS);
+        assertThat(threadName).startsWith("VoiceAnalysisOverflow-").isNotEqualTo(caller.getName());
+    }
+
+    @Test
+    @DisplayName("음성 분석 대기 큐는 최대 동시 진행 수보다 작게 설정되지 않는다")
+    void queueCapacityCoversMaxInFlight() {
+        overflowExecutor = (ThreadPoolTaskExecutor) config.voiceAnalysisOverflowExecutor();
+        voiceAnalysisExecutor = (ThreadPoolTaskExecutor) config.voiceAnalysisExecutor(2, 4, 20, 32, overflowExecutor);
+
+        assertThat(voiceAnalysisExecutor.getQueueCapacity()).isEqualTo(32);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -41,6 +41,9 @@ class AudioFormatConversionJobTest {
     @Mock
     private com.ssafy.lab.orak.event.service.KafkaEventProducer kafkaEventProducer;
 
+    @Mock
+    private com.ssafy.lab.orak.s3.service.S3CleanupService s3CleanupService;
+
     @InjectMocks
     private AudioFormatConversionJob audioFormatConversionJob;
 
@@ -194,6 +197,9 @@ class AudioFormatConversionJobTest {
             verify(audioConverter).convertToWav(eq(localFilePath), eq("/tmp/test-upload/converted"),
                     eq("test-uuid"), eq("test-audio")); // originalFilename에서 확장자 제거됨
             verify(uploadRepository, atLeastOnce()).save(testUpload);
+            verify(s3Helper).uploadFile(any(File.class), eq("recordings/test-uuid_test-audio.wav"), eq("audio/wav"));
+            verify(s3Helper, never()).copyFile(anyString(), anyString());
+            verify(s3CleanupService).scheduleDeletion("recordings/test-uuid_test-audio.mp3", "audio-conversion");
 
             // 엔티티 업데이트 확인
             assertThat(testUpload.getExtension()).isEqualTo("wav");
@@ -204,6 +210,35 @@ class AudioFormatConversionJobTest {
         }
     }
 
+    @Test
+    @DisplayName("변환 파일 S3 업로드 실패 시 재시도가 쓸 새 키를 정리 대기열에 넣지 않음")
+    void testConvertedUploadFailure_DoesNotScheduleNewKeyDeletion() throws Exception {
+        // Given
+        String localFilePath = "/tmp/test-upload/downloads/test-uuid_test-audio.mp3";
+        String convertedFilePath = "/tmp/test-upload/converted/test-uuid_test-audio.wav";
+
+        File convertedFile = new File(convertedFilePath);
+        convertedFile.getParentFile().mkdirs();
+        convertedFile.createNewFile();
+
+        when(s3Helper.downloadFile(anyString(), anyString())).thenReturn(localFilePath);
+        when(audioConverter.convertToWav(anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(convertedFilePath);
+        doThrow(new RuntimeException("PutObject failed"))
+                .when(s3Helper).uploadFile(any(File.class), anyString(), anyString());
+
+        try {
+            // When & Then
+            assertThatThrownBy(() -> audioFormatConversionJob.process(testUpload))
+                    .isInstanceOf(AudioProcessingException.class);
+            verify(s3CleanupService, never()).scheduleDeletion(anyString(), anyString());
+            verify(uploadRepository, never()).save(any(Upload.class));
+            assertThat(testUpload.getExtension()).isEqualTo("mp3");
+        } finally {
+            convertedFile.delete();
+        }
+    }
+
     @Test
     @DisplayName("WAV 파일은 변환을 건너뜀")
     void testSkipWavFileConversion() throws Exception {
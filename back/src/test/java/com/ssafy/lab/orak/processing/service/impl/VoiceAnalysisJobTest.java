@@ -0,0 +1,300 @@
+package com.ssafy.lab.orak.processing.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.lab.orak.ai.service.PythonAiService;
+import com.ssafy.lab.orak.ai.service.RecommendationCacheService;
+import com.ssafy.lab.orak.ai.service.VectorBatchWriter;
+import com.ssafy.lab.orak.ai.service.VectorService;
+import com.ssafy.lab.orak.processing.service.ProcessingResult;
+import com.ssafy.lab.orak.processing.util.InFlightLimiter;
+import com.ssafy.lab.orak.recording.entity.Record;
+import com.ssafy.lab.orak.recording.repository.RecordRepository;
+import com.ssafy.lab.orak.song.service.SongCatalogCache;
+import com.ssafy.lab.orak.upload.entity.Upload;
+import com.ssafy.lab.orak.upload.enums.ProcessingStatus;
+import com.ssafy.lab.orak.upload.repository.UploadRepository;
+import com.ssafy.lab.orak.upload.service.FileUploadService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("비동기 음성 분석 작업 테스트 (지연 스텁 AI 서버)")
+class VoiceAnalysisJobTest {
+
+    private static final long AI_LATENCY_MS = 200;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 스텁 AI 서버에서 동시에 처리 중인 항목 수
+    private final AtomicInteger itemsInProgress = new AtomicInteger();
+    private final AtomicInteger peakItemsInProgress = new AtomicInteger();
+    private final List<String> receivedUploadIds = new CopyOnWriteArrayList<>();
+    private volatile String failingUploadId;
+    // 설정되면 스텁 AI 서버가 도착한 항목을 세고 gate가 열릴 때까지 응답을 보류
+    private volatile CountDownLatch arrivedItems;
+    private volatile CountDownLatch aiGate;
+
+    // DB 역할: uploadId → 상태, 상태별 기록 횟수
+    private final Map<Long, ProcessingStatus> statuses = new ConcurrentHashMap<>();
+    private final Map<ProcessingStatus, AtomicInteger> statusWrites = new ConcurrentHashMap<>();
+
+    private HttpServer aiServer;
+    private ExecutorService workerThreads;
+    private VectorBatchWriter vectorBatchWriter;
+    private UploadRepository uploadRepository;
+    private RecordRepository recordRepository;
+    private RecommendationCacheService recommendationCacheService;
+    private VectorService vectorService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        aiServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        aiServer.createContext("/ai/save-user-vectors", this::handleBatch);
+        aiServer.setExecutor(Executors.newFixedThreadPool(32));
+        aiServer.start();
+
+        PythonAiService pythonAiService = new PythonAiService(WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + aiServer.getAddress().getPort())
+                .build());
+        vectorBatchWriter = new VectorBatchWriter(pythonAiService);
+        ReflectionTestUtils.setField(vectorBatchWriter, "maxBatchSize", 8);
+        ReflectionTestUtils.setField(vectorBatchWriter, "lingerMs", 5L);
+        ReflectionTestUtils.setField(vectorBatchWriter, "maxInFlight", 8);
+        ReflectionTestUtils.invokeMethod(vectorBatchWriter, "start");
+
+        FileUploadService fileUploadService = mock(FileUploadService.class);
+        when(fileUploadService.getFileUrl(any(Upload.class)))
+                .thenAnswer(invocation -> "s3://bucket/recordings/" + invocation.<Upload>getArgument(0).getId());
+
+        recommendationCacheService = mock(RecommendationCacheService.class);
+        vectorService = new VectorService(pythonAiService, fileUploadService, mock(SongCatalogCache.class),
+                recommendationCacheService, vectorBatchWriter);
+
+        recordRepository = mock(RecordRepository.class);
+        when(recordRepository.existsByUploadId(anyLong())).thenReturn(true);
+        when(recordRepository.findByUploadId(anyLong())).thenAnswer(invocation -> Optional.of(Record.builder()
+                .id(invocation.getArgument(0))
+                .userId(7L)
+                .songId(3L)
+                .uploadId(invocation.getArgument(0))
+                .title("녹음")
+                .build()));
+
+        uploadRepository = mock(UploadRepository.class);
+        when(uploadRepository.transitionStatus(anyLong(), anyCollection(), any(ProcessingStatus.class), any()))
+                .thenAnswer(invocation -> {
+                    Long id = invocation.getArgument(0);
+                    Collection<ProcessingStatus> expected = invocation.getArgument(1);
+                    ProcessingStatus newStatus = invocation.getArgument(2);
+                    synchronized (statuses) {
+                        if (!expected.contains(statuses.get(id))) {
+                            return 0;
+                        }
+                        statuses.put(id, newStatus);
+                    }
+                    statusWrites.computeIfAbsent(newStatus, status -> new AtomicInteger()).incrementAndGet();
+                    return 1;
+                });
+        when(uploadRepository.markStatusFailed(anyLong(), any(ProcessingStatus.class), anyString(), any()))
+                .thenAnswer(invocation -> {
+                    ProcessingStatus failedStatus = invocation.getArgument(1);
+                    statuses.put(invocation.getArgument(0), failedStatus);
+                    statusWrites.computeIfAbsent(failedStatus, status -> new AtomicInteger()).incrementAndGet();
+                    return 1;
+                });
+
+        workerThreads = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(vectorBatchWriter, "stop");
+        workerThreads.shutdownNow();
+        aiServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("스레드 2개로 음성 분석 32건을 동시에 진행하고, 상태는 건마다 시작/완료 한 번씩만 기록한다")
+    void manyAnalysesCompleteWithFewThreads() throws InterruptedException {
+        VoiceAnalysisJob job = newJob(32);
+        List<Upload> uploads = createUploads(32);
+        arrivedItems = new CountDownLatch(32);
+        aiGate = new CountDownLatch(1);
+
+        List<CompletableFuture<ProcessingResult>> results = uploads.stream()
+                .map(upload -> job.processAsync(upload).toCompletableFuture())
+                .toList();
+
+        // 스레드를 점유하는 방식이면 AI 응답 전까지 2건만 도착하고 나머지는 시작조차 못 함
+        assertThat(arrivedItems.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(peakItemsInProgress.get()).isEqualTo(32);
+        assertThat(results).noneMatch(CompletableFuture::isDone);
+
+        aiGate.countDown();
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).orTimeout(10, TimeUnit.SECONDS).join();
+
+        assertThat(results).allSatisfy(result -> assertThat(result.join().isSucceeded()).isTrue());
+
+        assertThat(statusWrites.get(ProcessingStatus.VOICE_ANALYZING).get()).isEqualTo(32);
+        assertThat(statusWrites.get(ProcessingStatus.VOICE_ANALYZED).get()).isEqualTo(32);
+        assertThat(statuses.values()).containsOnly(ProcessingStatus.VOICE_ANALYZED);
+        assertThat(uploads).allSatisfy(upload ->
+                assertThat(upload.getProcessingStatus()).isEqualTo(ProcessingStatus.VOICE_ANALYZED));
+        verify(uploadRepository, never()).save(any(Upload.class));
+        verify(recommendationCacheService, times(32)).evictUser(7L);
+    }
+
+    @Test
+    @DisplayName("동시 진행 수 제한을 넘는 분석은 대기했다가 앞선 분석이 끝나면 시작한다")
+    void inFlightLimitIsRespected() {
+        VoiceAnalysisJob job = newJob(4);
+
+        List<CompletableFuture<ProcessingResult>> results = createUploads(12).stream()
+                .map(upload -> job.processAsync(upload).toCompletableFuture())
+                .toList();
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).orTimeout(10, TimeUnit.SECONDS).join();
+
+        assertThat(results).allSatisfy(result -> assertThat(result.join().isSucceeded()).isTrue());
+        assertThat(peakItemsInProgress.get()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("같은 업로드를 동시에 두 번 요청하면 한 번만 분석하고 나머지는 건너뛴다")
+    void duplicateRequestIsSkipped() {
+        VoiceAnalysisJob job = newJob(8);
+        Upload upload = createUploads(1).get(0);
+
+        ProcessingResult first = job.processAsync(upload).toCompletableFuture().orTimeout(10, TimeUnit.SECONDS).join();
+        ProcessingResult second = job.processAsync(upload).toCompletableFuture().orTimeout(10, TimeUnit.SECONDS).join();
+
+        assertThat(first.isSucceeded()).isTrue();
+        assertThat(second.isSkipped()).isTrue();
+        assertThat(receivedUploadIds).containsExactly(String.valueOf(upload.getId()));
+        assertThat(statusWrites.get(ProcessingStatus.VOICE_ANALYZING).get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("AI 분석이 실패하면 실패 상태를 한 번 기록하고 추천 캐시는 유지한다")
+    void failureIsRecordedOnce() {
+        VoiceAnalysisJob job = newJob(8);
+        Upload upload = createUploads(1).get(0);
+        failingUploadId = String.valueOf(upload.getId());
+
+        ProcessingResult result = job.processAsync(upload).toCompletableFuture().orTimeout(10, TimeUnit.SECONDS).join();
+
+        assertThat(result.isFailed()).isTrue();
+        assertThat(result.message()).contains("Python 벡터 처리 실패");
+        assertThat(statusWrites.get(ProcessingStatus.VOICE_ANALYSIS_FAILED).get()).isEqualTo(1);
+        assertThat(statusWrites).doesNotContainKey(ProcessingStatus.VOICE_ANALYZED);
+        verify(recommendationCacheService, never()).evictUser(anyLong());
+    }
+
+    @Test
+    @DisplayName("처리 가능 여부 확인 시 Record 존재 여부는 한 번만 조회한다")
+    void canProcessQueriesRecordOnce() {
+        VoiceAnalysisJob job = newJob(8);
+        when(recordRepository.existsByUploadId(eq(1L))).thenReturn(false);
+        Upload upload = createUploads(1).get(0);
+
+        assertThat(job.canProcess(upload)).isFalse();
+        verify(recordRepository, times(1)).existsByUploadId(1L);
+    }
+
+    private VoiceAnalysisJob newJob(int maxInFlight) {
+        InFlightLimiter limiter = new InFlightLimiter("음성분석", maxInFlight, workerThreads);
+        return new VoiceAnalysisJob(vectorService, uploadRepository, recordRepository,
+                recommendationCacheService, limiter);
+    }
+
+    private List<Upload> createUploads(int count) {
+        List<Upload> uploads = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            uploads.add(Upload.builder()
+                    .id(id)
+                    .originalFilename("record-" + id + ".wav")
+                    .uuid("uuid-" + id)
+                    .extension("wav")
+                    .contentType("audio/wav")
+                    .directory("recordings")
+                    .fileSize(1024L)
+                    .processingStatus(ProcessingStatus.AUDIO_CONVERTED)
+                    .build());
+            statuses.put(id, ProcessingStatus.AUDIO_CONVERTED);
+        }
+        return uploads;
+    }
+
+    private void handleBatch(HttpExchange exchange) throws IOException {
+        JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+        int items = request.path("items").size();
+        peakItemsInProgress.accumulateAndGet(itemsInProgress.addAndGet(items), Math::max);
+
+        try {
+            CountDownLatch arrived = arrivedItems;
+            CountDownLatch gate = aiGate;
+            if (gate != null) {
+                for (int i = 0; i < items; i++) {
+                    arrived.countDown();
+                }
+                gate.await(10, TimeUnit.SECONDS);
+            }
+            Thread.sleep(AI_LATENCY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (JsonNode item : request.path("items")) {
+            String uploadId = item.path("upload_id").asText();
+            receivedUploadIds.add(uploadId);
+            if (uploadId.equals(failingUploadId)) {
+                results.add(Map.of("upload_id", uploadId, "status", "failed", "error", "feature extraction failed"));
+            } else {
+                results.add(Map.of("upload_id", uploadId, "status", "success", "vector_id", "vec-" + uploadId));
+            }
+        }
+        itemsInProgress.addAndGet(-items);
+
+        byte[] body = objectMapper.writeValueAsBytes(Map.of("results", results));
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.ssafy.lab.orak.processing.util;
+
+import com.ssafy.lab.orak.processing.exception.ImageProcessingException;
+import com.ssafy.lab.orak.upload.enums.ImageVariant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("이미지 파생본 생성 테스트")
+class ImageDerivativeGeneratorTest {
+
+    private final ImageDerivativeGenerator generator = new ImageDerivativeGenerator();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("긴 변 기준으로 버킷별 크기가 맞춰지고 비율이 유지된다")
+    void generate_ResizesToBuckets() throws IOException {
+        File source = writeJpeg(gradient(2000, 1000), "wide.jpg");
+
+        Map<ImageVariant, byte[]> derivatives = generator.generate(source);
+
+        assertThat(derivatives).containsOnlyKeys(ImageVariant.values());
+        assertDimensions(derivatives.get(ImageVariant.LARGE), 1080, 540);
+        assertDimensions(derivatives.get(ImageVariant.MEDIUM), 320, 160);
+        assertDimensions(derivatives.get(ImageVariant.THUMBNAIL), 96, 48);
+    }
+
+    @Test
+    @DisplayName("원본보다 큰 버킷은 확대하지 않고 같은 결과를 재사용한다")
+    void generate_DoesNotUpscale() throws IOException {
+        File source = writeJpeg(gradient(200, 100), "small.jpg");
+
+        Map<ImageVariant, byte[]> derivatives = generator.generate(source);
+
+        assertDimensions(derivatives.get(ImageVariant.LARGE), 200, 100);
+        assertThat(derivatives.get(ImageVariant.MEDIUM)).isSameAs(derivatives.get(ImageVariant.LARGE));
+        assertDimensions(derivatives.get(ImageVariant.THUMBNAIL), 96, 48);
+    }
+
+    @Test
+    @DisplayName("EXIF Orientation=6(90도 회전) 이미지는 세로 방향으로 보정된다")
+    void generate_AppliesExifOrientation() throws IOException {
+        byte[] jpeg = withExifOrientation(encodeJpeg(gradient(400, 200)), 6);
+        File source = tempDir.resolve("rotated.jpg").toFile();
+        Files.write(source.toPath(), jpeg);
+
+        Map<ImageVariant, byte[]> derivatives = generator.generate(source);
+
+        assertDimensions(derivatives.get(ImageVariant.LARGE), 200, 400);
+        assertDimensions(derivatives.get(ImageVariant.MEDIUM), 160, 320);
+    }
+
+    @Test
+    @DisplayName("투명 PNG도 JPEG 파생본으로 변환되고 화질은 PSNR 30dB 이상이다")
+    void generate_KeepsQuality() throws IOException {
+        BufferedImage original = gradient(1000, 600);
+        File source = tempDir.resolve("gradient.png").toFile();
+        BufferedImage withAlpha = new BufferedImage(1000, 600, BufferedImage.TYPE_INT_ARGB);
+        withAlpha.getGraphics().drawImage(original, 0, 0, null);
+        ImageIO.write(withAlpha, "png", source);
+
+        Map<ImageVariant, byte[]> derivatives = generator.generate(source);
+
+        // LARGE 버킷보다 작은 원본이므로 리사이즈 없이 JPEG 인코딩 손실만 측정
+        BufferedImage large = decode(derivatives.get(ImageVariant.LARGE));
+        assertThat(psnr(original, large)).isGreaterThan(30.0);
+    }
+
+    @Test
+    @DisplayName("최대 픽셀 수를 넘는 원본은 디코딩 전에 거부된다")
+    void generate_RejectsOversizedSource() throws IOException {
+        ReflectionTestUtils.setField(generator, "maxSourcePixels", 10_000L);
+        File source = writeJpeg(gradient(200, 100), "big.jpg");
+
+        assertThatThrownBy(() -> generator.generate(source))
+                .isInstanceOf(ImageProcessingException.class);
+    }
+
+    @Test
+    @DisplayName("imageProcessingExecutor 설정(코어 3, 최대 6)의 스레드풀에서 동시에 생성해도 순차 생성과 같은 결과다")
+    void generate_ThreadSafeOnImageExecutor() throws Exception {
+        List<File> sources = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            sources.add(writeJpeg(gradient(400 + i * 10, 300), "photo-" + i + ".jpg"));
+        }
+        List<Map<ImageVariant, byte[]>> sequential = sources.stream().map(generator::generate).toList();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(3);
+        executor.setMaxPoolSize(6);
+        executor.setQueueCapacity(30);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        try {
+            List<CompletableFuture<Map<ImageVariant, byte[]>>> futures = sources.stream()
+                    .map(source -> CompletableFuture.supplyAsync(() -> generator.generate(source), executor))
+                    .toList();
+
+            for (int i = 0; i < sources.size(); i++) {
+                Map<ImageVariant, byte[]> parallel = futures.get(i).get(30, TimeUnit.SECONDS);
+                for (ImageVariant variant : ImageVariant.values()) {
+                    assertThat(parallel.get(variant)).isEqualTo(sequential.get(i).get(variant));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private BufferedImage gradient(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int r = x * 255 / (width - 1);
+                int g = y * 255 / (height - 1);
+                int b = (x + y) * 255 / (width + height - 2);
+                image.setRGB(x, y, (r << 16) | (g << 8) | b);
+            }
+        }
+        return image;
+    }
+
+    private File writeJpeg(BufferedImage image, String name) throws IOException {
+        File file = tempDir.resolve(name).toFile();
+        Files.write(file.toPath(), encodeJpeg(image));
+        return file;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * JFIF APP0 뒤에 Orientation 태그 하나만 가진 Exif APP1 세그먼트 삽입
+     */
+    private byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        byte[] app1 = {
+                (byte) 0xFF, (byte) 0xE1, 0x00, 0x22,                   // APP1, 길이 34
+                'E', 'x', 'i', 'f', 0x00, 0x00,
+                'M', 'M', 0x00, 0x2A, 0x00, 0x00, 0x00, 0x08,           // TIFF 헤더 (빅엔디언), IFD0 오프셋 8
+                0x00, 0x01,                                              // 엔트리 1개
+                0x01, 0x12, 0x00, 0x03, 0x00, 0x00, 0x00, 0x01,          // Orientation, SHORT, 1개
+                0x00, (byte) orientation, 0x00, 0x00,
+                0x00, 0x00, 0x00, 0x00                                   // 다음 IFD 없음
+        };
+        int app0Length = ((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF);
+        int insertAt = 4 + app0Length;
+
+        byte[] result = new byte[jpeg.length + app1.length];
+        System.arraycopy(jpeg, 0, result, 0, insertAt);
+        System.arraycopy(app1, 0, result, insertAt, app1.length);
+        System.arraycopy(jpeg, insertAt, result, insertAt + app1.length, jpeg.length - insertAt);
+        return result;
+    }
+
+    private BufferedImage decode(byte[] bytes) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(bytes));
+    }
+
+    private void assertDimensions(byte[] bytes, int width, int height) throws IOException {
+        BufferedImage image = decode(bytes);
+        assertThat(image.getWidth()).isEqualTo(width);
+        assertThat(image.getHeight()).isEqualTo(height);
+    }
+
+    private double psnr(BufferedImage expected, BufferedImage actual) {
+        double squaredError = 0;
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                int e = expected.getRGB(x, y);
+                int a = actual.getRGB(x, y);
+                for (int shift = 0; shift <= 16; shift += 8) {
+                    int diff = ((e >> shift) & 0xFF) - ((a >> shift) & 0xFF);
+                    squaredError += diff * diff;
+                }
+            }
+        }
+        double mse = squaredError / (expected.getWidth() * expected.getHeight() * 3.0);
+        return 10 * Math.log10(255.0 * 255.0 / mse);
+    }
+}
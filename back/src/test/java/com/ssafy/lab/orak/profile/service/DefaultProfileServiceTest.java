@@ -0,0 +1,254 @@
+package com.ssafy.lab.orak.profile.service;
+
+import com.ssafy.lab.orak.auth.entity.User;
+import com.ssafy.lab.orak.auth.repository.UserRepository;
+import com.ssafy.lab.orak.profile.entity.Profile;
+import com.ssafy.lab.orak.profile.repository.ProfileRepository;
+import com.ssafy.lab.orak.profile.util.NicknameBloomFilter;
+import com.ssafy.lab.orak.profile.util.NicknameGenerator;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+/**
+ * 기본 닉네임 할당 테스트
+ * - 후보 묶음 IN 확인 + 블룸 필터로 채움 비율이 높아도 할당당 조회 수가 일정한지
+ * - 동시 가입이 같은 후보를 골라도 유니크 인덱스 충돌 후 다음 후보로 확정되는지
+ */
+@Log4j2
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("기본 닉네임 할당 테스트")
+class DefaultProfileServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private NicknameGenerator nicknameGenerator;
+    private DefaultProfileService defaultProfileService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        nicknameGenerator = new NicknameGenerator(profileRepository);
+        defaultProfileService = newDefaultProfileService(nicknameGenerator);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("블룸 필터는 넣은 닉네임을 놓치지 않고 오탐률은 설정값 근처다")
+    void bloomFilter_NoFalseNegatives() {
+        NicknameBloomFilter filter = new NicknameBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("User_" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("User_" + i)).isTrue();
+            if (filter.mightContain("Other_" + i)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives / 10_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("채움 비율 90%에서도 할당당 조회는 1회 안팎 (후보마다 exists를 부르던 방식 대비)")
+    void allocation_ProbesPerAllocationAtHighFill() {
+        // User_ + 16진수 3자리 = 4096개 중 90% 사용 중
+        ReflectionTestUtils.setField(nicknameGenerator, "suffixLength", 3);
+        int space = 4096;
+        Set<String> taken = fill(space, 0.9);
+        int allocations = 200;
+
+        // 기존 방식: 후보 하나씩 existsByNickname
+        resetCounters();
+        for (int i = 0; i < allocations; i++) {
+            while (profileRepository.existsByNickname(randomNickname(3))) {
+                // 빈 닉네임이 나올 때까지 한 번에 하나씩 확인
+            }
+        }
+        double legacyProbes = (double) statistics.getPrepareStatementCount() / allocations;
+
+        // 후보 묶음 IN 확인 (블룸 필터 없음)
+        resetCounters();
+        for (int i = 0; i < allocations; i++) {
+            assertThat(nicknameGenerator.generateAvailableCandidates()).isNotEmpty().doesNotContainAnyElementsOf(taken);
+        }
+        double batchedProbes = (double) statistics.getPrepareStatementCount() / allocations;
+
+        // 블룸 필터 적재 후 (사용 중인 후보는 쿼리 전에 제거)
+        nicknameGenerator.loadTakenNicknames();
+        resetCounters();
+        for (int i = 0; i < allocations; i++) {
+            assertThat(nicknameGenerator.generateAvailableCandidates()).isNotEmpty().doesNotContainAnyElementsOf(taken);
+        }
+        double bloomProbes = (double) statistics.getPrepareStatementCount() / allocations;
+
+        log.info("닉네임 할당당 조회 수 (채움 90%) - 후보별 exists: {}, 묶음 IN: {}, 블룸 필터 + IN: {}",
+                String.format("%.2f", legacyProbes), String.format("%.2f", batchedProbes),
+                String.format("%.2f", bloomProbes));
+
+        assertThat(legacyProbes).isGreaterThan(5);
+        assertThat(batchedProbes).isLessThan(1.6);
+        assertThat(bloomProbes).isLessThanOrEqualTo(batchedProbes);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("고른 후보가 이미 선점됐으면 유니크 인덱스 충돌 후 다음 후보로 확정한다")
+    void createDefaultProfile_SkipsReservedNickname() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<Long> userIds = new ArrayList<>();
+        try {
+            User first = userRepository.save(user("reserved-first"));
+            User second = userRepository.save(user("reserved-second"));
+            userIds.add(first.getId());
+            userIds.add(second.getId());
+            defaultProfileService.createDefaultProfile(first);
+            String reserved = profileRepository.findByUser_Id(first.getId()).orElseThrow().getNickname();
+
+            // 확인 시점과 저장 시점 사이에 다른 가입이 같은 닉네임을 가져간 상황
+            NicknameGenerator staleGenerator = spy(nicknameGenerator);
+            doReturn(List.of(reserved, "User_fresh01")).when(staleGenerator).generateAvailableCandidates();
+            Profile profile = newDefaultProfileService(staleGenerator).createDefaultProfile(second);
+
+            assertThat(profile.getNickname()).isEqualTo("User_fresh01");
+            assertThat(profileRepository.count()).isEqualTo(2);
+        } finally {
+            transaction.executeWithoutResult(status -> {
+                profileRepository.deleteAll();
+                userRepository.deleteAllById(userIds);
+            });
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("좁은 후보 공간에서 동시 가입해도 모두 서로 다른 닉네임을 받는다")
+    void createDefaultProfile_ConcurrentSignups() throws Exception {
+        // 16진수 2자리 = 256개 후보에 64명 동시 가입 → 같은 후보 선택이 잦음
+        ReflectionTestUtils.setField(nicknameGenerator, "suffixLength", 2);
+        ReflectionTestUtils.setField(nicknameGenerator, "batchSize", 4);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int signups = 64;
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < signups; i++) {
+            users.add(userRepository.save(user("concurrent-" + i)));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Profile>> futures = new ArrayList<>();
+            for (User user : users) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return defaultProfileService.createDefaultProfile(user);
+                }));
+            }
+            start.countDown();
+            List<String> nicknames = new ArrayList<>();
+            for (Future<Profile> future : futures) {
+                nicknames.add(future.get().getNickname());
+            }
+
+            assertThat(nicknames).hasSize(signups).doesNotHaveDuplicates();
+            assertThat(profileRepository.count()).isEqualTo(signups);
+        } finally {
+            executor.shutdownNow();
+            transaction.executeWithoutResult(status -> {
+                profileRepository.deleteAll();
+                userRepository.deleteAllById(users.stream().map(User::getId).toList());
+            });
+        }
+    }
+
+    private DefaultProfileService newDefaultProfileService(NicknameGenerator generator) {
+        DefaultProfileService service = new DefaultProfileService(profileRepository, generator,
+                mock(ProfileImageService.class), transactionManager);
+        service.initTransactionTemplate();
+        return service;
+    }
+
+    // 후보 공간의 ratio 만큼을 사용 중인 닉네임으로 채움
+    private Set<String> fill(int space, double ratio) {
+        List<Integer> suffixes = new ArrayList<>();
+        for (int i = 0; i < space; i++) {
+            suffixes.add(i);
+        }
+        Collections.shuffle(suffixes, new Random(7));
+        Set<String> taken = suffixes.subList(0, (int) (space * ratio)).stream()
+                .map(suffix -> String.format("User_%03x", suffix))
+                .collect(Collectors.toSet());
+        int index = 0;
+        for (String nickname : taken) {
+            User user = entityManager.persist(user("fill-" + index++));
+            entityManager.persist(Profile.builder().user(user).nickname(nickname).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return taken;
+    }
+
+    private String randomNickname(int suffixLength) {
+        StringBuilder builder = new StringBuilder("User_");
+        for (int i = 0; i < suffixLength; i++) {
+            builder.append(Character.forDigit(ThreadLocalRandom.current().nextInt(16), 16));
+        }
+        return builder.toString();
+    }
+
+    private void resetCounters() {
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private User user(String name) {
+        return User.builder()
+                .email(name + "@test.com")
+                .googleID("google_" + name)
+                .build();
+    }
+}
@@ -0,0 +1,335 @@
+package com.ssafy.lab.orak.profile.service;
+
+import com.ssafy.lab.orak.album.dto.AlbumResponseDto;
+import com.ssafy.lab.orak.album.entity.Album;
+import com.ssafy.lab.orak.album.mapper.AlbumCardMapper;
+import com.ssafy.lab.orak.album.repository.AlbumCardRepository;
+import com.ssafy.lab.orak.album.repository.AlbumRepository;
+import com.ssafy.lab.orak.album.service.AlbumCardProjector;
+import com.ssafy.lab.orak.auth.entity.User;
+import com.ssafy.lab.orak.auth.service.UserService;
+import com.ssafy.lab.orak.follow.repository.FollowRepository;
+import com.ssafy.lab.orak.like.entity.Like;
+import com.ssafy.lab.orak.like.repository.LikeRepository;
+import com.ssafy.lab.orak.profile.dto.AlbumCursorPageResponseDTO;
+import com.ssafy.lab.orak.profile.dto.LikedAlbumsResponseDTO;
+import com.ssafy.lab.orak.profile.entity.Profile;
+import com.ssafy.lab.orak.profile.repository.ProfileRepository;
+import com.ssafy.lab.orak.s3.helper.S3Helper;
+import com.ssafy.lab.orak.s3.service.S3CleanupService;
+import com.ssafy.lab.orak.s3.util.LocalUploader;
+import com.ssafy.lab.orak.s3.util.S3Uploader;
+import com.ssafy.lab.orak.upload.entity.Upload;
+import com.ssafy.lab.orak.upload.enums.ImageVariant;
+import com.ssafy.lab.orak.upload.repository.UploadRepository;
+import com.ssafy.lab.orak.upload.service.FileUploadService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 마이페이지 좋아요/내 앨범 목록 테스트
+ * - 페이지당 조회 쿼리 한 번 (카드 + 커버/프로필 이미지 업로드 조인), 일괄 서명 한 번
+ * - 커서 페이지네이션 누락/중복 없음
+ * - 100개 페이지에서 앨범마다 프로필을 읽던 기존 방식과 쿼리/서명 횟수 비교
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("마이페이지 앨범 목록 조인 조회 테스트")
+class ProfileAlbumListQueryTest {
+
+    private static final int OWNER_COUNT = 30;
+    private static final int BENCHMARK_PAGE_SIZE = 100;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AlbumRepository albumRepository;
+
+    @Autowired
+    private AlbumCardRepository albumCardRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private UploadRepository uploadRepository;
+
+    private S3Helper s3Helper;
+    private FileUploadService fileUploadService;
+    private ProfileImageService profileImageService;
+    private AlbumCardProjector projector;
+    private ProfileServiceImpl profileService;
+    private Statistics statistics;
+    private List<User> owners;
+    private User viewer;
+
+    @BeforeEach
+    void setUp() {
+        s3Helper = mock(S3Helper.class);
+        when(s3Helper.generatePresignedUrls(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            return keys.stream().distinct()
+                    .collect(Collectors.toMap(Function.identity(), key -> "https://s3.example.com/" + key));
+        });
+        when(s3Helper.generatePresignedUrl(anyString()))
+                .thenAnswer(invocation -> "https://s3.example.com/" + invocation.getArgument(0));
+        fileUploadService = new FileUploadService(s3Helper, mock(LocalUploader.class),
+                mock(S3Uploader.class), uploadRepository, mock(S3CleanupService.class), Runnable::run);
+        profileImageService = mock(ProfileImageService.class);
+        when(profileImageService.getRandomDefaultImageUrl()).thenReturn("/images/default-profile.png");
+
+        projector = new AlbumCardProjector(albumCardRepository, albumRepository, transactionManager);
+        projector.initTransactionTemplates();
+        profileService = new ProfileServiceImpl(profileRepository, mock(UserService.class), profileImageService,
+                mock(FollowRepository.class), albumRepository, likeRepository, fileUploadService,
+                mock(ApplicationEventPublisher.class), albumCardRepository, Mappers.getMapper(AlbumCardMapper.class));
+
+        owners = new ArrayList<>();
+        for (int i = 0; i < OWNER_COUNT; i++) {
+            User owner = entityManager.persist(User.builder()
+                    .email("owner" + i + "@test.com")
+                    .googleID("google_owner" + i)
+                    .build());
+            // 일부 소유자는 프로필 이미지 없음 (기본 이미지)
+            Upload profileImage = i % 5 == 0 ? null : entityManager.persist(upload("profile-" + i, "profiles"));
+            entityManager.persist(Profile.builder()
+                    .user(owner)
+                    .nickname("소유자" + i)
+                    .profileImageUpload(profileImage)
+                    .build());
+            owners.add(owner);
+        }
+        viewer = entityManager.persist(User.builder()
+                .email("viewer@test.com")
+                .googleID("google_viewer")
+                .build());
+        entityManager.flush();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("좋아요 목록 커서 페이지는 조회 쿼리 한 번과 일괄 서명 한 번이다")
+    void likedAlbumsByCursor_SingleQueryPerPage() {
+        likeAll(persistAlbums(25));
+        resetCounters();
+
+        AlbumCursorPageResponseDTO page = profileService.getLikedAlbumsByCursor(viewer.getId(), null, 10);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        verify(s3Helper, times(1)).generatePresignedUrls(anyCollection());
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getAlbums()).hasSize(10).allSatisfy(album -> {
+            assertThat(album.getCoverImageUrl()).startsWith("https://s3.example.com/album-covers/");
+            assertThat(album.getUserNickname()).startsWith("소유자");
+            assertThat(album.getUserProfileImageUrl()).isNotNull();
+        });
+
+        resetCounters();
+        profileService.getLikedAlbumsByCursor(viewer.getId(), page.getNextCursor(), 10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("좋아요 목록 커서는 같은 시각의 좋아요도 누락/중복 없이 최근 좋아요순으로 끝까지 넘긴다")
+    void likedAlbumsByCursor_CoversAllLikes() {
+        List<Album> albums = persistAlbums(47);
+        List<Like> likes = likeAll(albums);
+
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            AlbumCursorPageResponseDTO page = profileService.getLikedAlbumsByCursor(viewer.getId(), cursor, 10);
+            page.getAlbums().forEach(album -> paged.add(album.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        List<Long> expected = likes.stream()
+                .sorted((a, b) -> b.getCreatedAt().equals(a.getCreatedAt())
+                        ? b.getId().compareTo(a.getId())
+                        : b.getCreatedAt().compareTo(a.getCreatedAt()))
+                .map(Like::getAlbumId)
+                .toList();
+        assertThat(paged).doesNotHaveDuplicates().containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("내 앨범 커서 페이지는 비공개 앨범을 포함해 최신순으로 한 쿼리씩 읽는다")
+    void myAlbumsByCursor_SingleQueryPerPage() {
+        User owner = owners.get(1);
+        List<Album> albums = persistAlbums(OWNER_COUNT * 3);
+        Album privateAlbum = albumRepository.findById(albums.get(1).getId()).orElseThrow();
+        privateAlbum.setIsPublic(false);
+        entityManager.flush();
+        projector.rebuildAll();
+
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            resetCounters();
+            AlbumCursorPageResponseDTO page = profileService.getMyAlbumsByCursor(owner.getId(), cursor, 2);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            page.getAlbums().forEach(album -> paged.add(album.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        List<Long> expected = albums.stream()
+                .filter(album -> album.getUserId().equals(owner.getId()))
+                .map(Album::getId)
+                .sorted((a, b) -> b.compareTo(a))
+                .toList();
+        assertThat(paged).containsExactlyElementsOf(expected).contains(privateAlbum.getId());
+    }
+
+    @Test
+    @DisplayName("기존 페이지 번호 API도 조회 한 번 + 카운트 한 번으로 같은 값을 돌려준다")
+    void likedAlbumsByPage_DataAndCountQueries() {
+        likeAll(persistAlbums(15));
+        resetCounters();
+
+        LikedAlbumsResponseDTO page = profileService.getLikedAlbums(viewer.getId(), PageRequest.of(1, 10));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(page.getLikedAlbums()).hasSize(5);
+        assertThat(page.getTotalElements()).isEqualTo(15);
+        assertThat(page.getCurrentPage()).isEqualTo(1);
+        assertThat(page.isHasPrevious()).isTrue();
+        // 프로필 이미지가 없는 소유자는 기본 이미지
+        assertThat(page.getLikedAlbums())
+                .filteredOn(album -> album.getUserNickname().equals("소유자0"))
+                .allSatisfy(album -> assertThat(album.getUserProfileImageUrl()).isEqualTo("/images/default-profile.png"));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서와 페이지 크기는 IllegalArgumentException")
+    void cursor_RejectsMalformedInput() {
+        assertThatThrownBy(() -> profileService.getLikedAlbumsByCursor(viewer.getId(), "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> profileService.getMyAlbumsByCursor(viewer.getId(), null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> profileService.getMyAlbumsByCursor(viewer.getId(), null, 101))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("100개 페이지 - 앨범마다 프로필을 읽던 방식은 쿼리/서명이 앨범 수에 비례하고 조인 조회는 각각 한 번이다")
+    void likedAlbums_HundredItemPageStatements() {
+        likeAll(persistAlbums(BENCHMARK_PAGE_SIZE * 3));
+
+        resetCounters();
+        assertThat(loadLikedPageLegacy(BENCHMARK_PAGE_SIZE)).hasSize(BENCHMARK_PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isGreaterThan(BENCHMARK_PAGE_SIZE);
+        verify(s3Helper, atLeast(BENCHMARK_PAGE_SIZE)).generatePresignedUrl(anyString());
+
+        resetCounters();
+        assertThat(profileService.getLikedAlbumsByCursor(viewer.getId(), null, BENCHMARK_PAGE_SIZE).getAlbums())
+                .hasSize(BENCHMARK_PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        verify(s3Helper, times(1)).generatePresignedUrls(anyCollection());
+        verify(s3Helper, never()).generatePresignedUrl(anyString());
+    }
+
+    // 기존 구현: 좋아요 앨범 페이지 + 앨범마다 커버 업로드 조회/서명, 소유자 프로필 조회와 이미지 서명
+    private List<AlbumResponseDto> loadLikedPageLegacy(int size) {
+        Page<Album> albums = likeRepository.findLikedAlbumsByUserId(viewer.getId(), PageRequest.of(0, size));
+        return albums.map(album -> {
+            String coverImageUrl = fileUploadService.getFileUrl(album.getUploadId(), ImageVariant.MEDIUM);
+            Profile profile = profileRepository.findByUser_Id(album.getUserId()).orElse(null);
+            String profileImageUrl = profile != null && profile.getProfileImageUpload() != null
+                    ? fileUploadService.getFileUrl(profile.getProfileImageUpload(), ImageVariant.MEDIUM)
+                    : null;
+            return AlbumResponseDto.from(album, coverImageUrl, profile != null ? profile.getNickname() : null,
+                    profileImageUrl);
+        }).getContent();
+    }
+
+    private List<Album> persistAlbums(int count) {
+        List<Album> albums = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User owner = owners.get(i % OWNER_COUNT);
+            Upload cover = entityManager.persist(upload("cover-" + System.nanoTime() + "-" + i, "album-covers"));
+            albums.add(entityManager.persist(Album.builder()
+                    .userId(owner.getId())
+                    .uploadId(cover.getId())
+                    .title("앨범 " + i)
+                    .description("설명 " + i)
+                    .trackCount(3)
+                    .totalDuration(540)
+                    .isPublic(true)
+                    .build()));
+        }
+        entityManager.flush();
+        projector.rebuildAll();
+        return albums;
+    }
+
+    private List<Like> likeAll(List<Album> albums) {
+        List<Like> likes = new ArrayList<>();
+        for (Album album : albums) {
+            likes.add(entityManager.persist(Like.builder()
+                    .userId(viewer.getId())
+                    .albumId(album.getId())
+                    .build()));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return likes;
+    }
+
+    private void resetCounters() {
+        entityManager.clear();
+        statistics.clear();
+        clearInvocations(s3Helper);
+    }
+
+    private Upload upload(String name, String directory) {
+        return Upload.builder()
+                .originalFilename(name)
+                .uuid("uuid-" + name)
+                .extension("jpg")
+                .uploaderId(1L)
+                .fileSize(1000L)
+                .contentType("image/jpeg")
+                .directory(directory)
+                .build();
+    }
+}
@@ -1,7 +1,11 @@
 package com.ssafy.lab.orak.profile.service;
 
+import com.ssafy.lab.orak.album.dto.AlbumCardRow;
 import com.ssafy.lab.orak.album.dto.AlbumResponseDto;
 import com.ssafy.lab.orak.album.entity.Album;
+import com.ssafy.lab.orak.album.entity.AlbumCard;
+import com.ssafy.lab.orak.album.mapper.AlbumCardMapper;
+import com.ssafy.lab.orak.album.repository.AlbumCardRepository;
 import com.ssafy.lab.orak.album.repository.AlbumRepository;
 import com.ssafy.lab.orak.auth.entity.User;
 import com.ssafy.lab.orak.follow.repository.FollowRepository;
@@ -16,8 +20,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -51,6 +57,12 @@ class ProfileServiceTest {
     @Mock
     private LikeRepository likeRepository;
 
+    @Mock
+    private AlbumCardRepository albumCardRepository;
+
+    @Spy
+    private AlbumCardMapper albumCardMapper = Mappers.getMapper(AlbumCardMapper.class);
+
     @InjectMocks
     private ProfileServiceImpl profileService;
 
@@ -163,10 +175,10 @@ class ProfileServiceTest {
         // Given
         Long userId = 1L;
         Pageable pageable = PageRequest.of(0, 10);
-        List<Album> albums = Arrays.asList(testAlbum1, testAlbum2);
-        Page<Album> albumPage = new PageImpl<>(albums, pageable, 2);
+        List<AlbumCardRow> rows = Arrays.asList(row(testAlbum1), row(testAlbum2));
+        Page<AlbumCardRow> rowPage = new PageImpl<>(rows, pageable, 2);
 
-        when(likeRepository.findLikedAlbumsByUserId(userId, pageable)).thenReturn(albumPage);
+        when(likeRepository.findLikedCardRows(userId, pageable)).thenReturn(rowPage);
 
         // When
         LikedAlbumsResponseDTO result = profileService.getLikedAlbums(userId, pageable);
@@ -189,9 +201,9 @@ class ProfileServiceTest {
         // Given
         Long userId = 1L;
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Album> emptyPage = new PageImpl<>(Arrays.asList(), pageable, 0);
+        Page<AlbumCardRow> emptyPage = new PageImpl<>(Arrays.asList(), pageable, 0);
 
-        when(likeRepository.findLikedAlbumsByUserId(userId, pageable)).thenReturn(emptyPage);
+        when(likeRepository.findLikedCardRows(userId, pageable)).thenReturn(emptyPage);
 
         // When
         LikedAlbumsResponseDTO result = profileService.getLikedAlbums(userId, pageable);
@@ -209,10 +221,10 @@ class ProfileServiceTest {
         // Given
         Long userId = 1L;
         Pageable pageable = PageRequest.of(1, 1); // 두 번째 페이지, 1개씩
-        List<Album> albums = Arrays.asList(testAlbum2);
-        Page<Album> albumPage = new PageImpl<>(albums, pageable, 2);
+        List<AlbumCardRow> rows = Arrays.asList(row(testAlbum2));
+        Page<AlbumCardRow> rowPage = new PageImpl<>(rows, pageable, 2);
 
-        when(likeRepository.findLikedAlbumsByUserId(userId, pageable)).thenReturn(albumPage);
+        when(likeRepository.findLikedCardRows(userId, pageable)).thenReturn(rowPage);
 
         // When
         LikedAlbumsResponseDTO result = profileService.getLikedAlbums(userId, pageable);
@@ -233,10 +245,10 @@ class ProfileServiceTest {
         // Given
         Long userId = 1L;
         Pageable pageable = PageRequest.of(0, 10);
-        List<Album> myAlbums = Arrays.asList(testAlbum1);
-        Page<Album> albumPage = new PageImpl<>(myAlbums, pageable, 1);
+        List<AlbumCardRow> myAlbums = Arrays.asList(row(testAlbum1));
+        Page<AlbumCardRow> rowPage = new PageImpl<>(myAlbums, pageable, 1);
 
-        when(albumRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)).thenReturn(albumPage);
+        when(albumCardRepository.findCardRowsByUserId(userId, pageable)).thenReturn(rowPage);
 
         // When
         UserAlbumsResponseDTO result = profileService.getMyAlbums(userId, pageable);
@@ -259,9 +271,9 @@ class ProfileServiceTest {
         // Given
         Long userId = 1L;
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Album> emptyPage = new PageImpl<>(Arrays.asList(), pageable, 0);
+        Page<AlbumCardRow> emptyPage = new PageImpl<>(Arrays.asList(), pageable, 0);
 
-        when(albumRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)).thenReturn(emptyPage);
+        when(albumCardRepository.findCardRowsByUserId(userId, pageable)).thenReturn(emptyPage);
 
         // When
         UserAlbumsResponseDTO result = profileService.getMyAlbums(userId, pageable);
@@ -279,10 +291,10 @@ class ProfileServiceTest {
         // Given
         Long userId = 1L;
         Pageable pageable = PageRequest.of(0, 1); // 첫 번째 페이지, 1개씩
-        List<Album> firstPageAlbums = Arrays.asList(testAlbum1);
-        Page<Album> albumPage = new PageImpl<>(firstPageAlbums, pageable, 2);
+        List<AlbumCardRow> firstPageAlbums = Arrays.asList(row(testAlbum1));
+        Page<AlbumCardRow> rowPage = new PageImpl<>(firstPageAlbums, pageable, 2);
 
-        when(albumRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)).thenReturn(albumPage);
+        when(albumCardRepository.findCardRowsByUserId(userId, pageable)).thenReturn(rowPage);
 
         // When
         UserAlbumsResponseDTO result = profileService.getMyAlbums(userId, pageable);
@@ -296,4 +308,20 @@ class ProfileServiceTest {
         assertThat(result.isHasNext()).isTrue();
         assertThat(result.isHasPrevious()).isFalse();
     }
-}
\ No newline at end of file
+
+    private AlbumCardRow row(Album album) {
+        AlbumCard card = AlbumCard.builder()
+                .albumId(album.getId())
+                .userId(album.getUserId())
+                .title(album.getTitle())
+                .description(album.getDescription())
+                .isPublic(album.getIsPublic())
+                .trackCount(album.getTrackCount())
+                .totalDuration(album.getTotalDuration())
+                .likeCount(album.getLikeCount())
+                .albumCreatedAt(album.getCreatedAt())
+                .albumUpdatedAt(album.getUpdatedAt())
+                .build();
+        return new AlbumCardRow(card, null, null, album.getCreatedAt(), album.getId());
+    }
+}
@@ -0,0 +1,142 @@
+package com.ssafy.lab.orak.s3.helper;
+
+import com.ssafy.lab.orak.s3.dto.S3BatchDeleteResult;
+import com.ssafy.lab.orak.s3.support.LocalS3Server;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
+import software.amazon.awssdk.core.checksums.ResponseChecksumValidation;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("S3AsyncHelper 로컬 S3 엔드포인트 테스트")
+class S3AsyncHelperTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final int PART_SIZE = 1024 * 1024;
+
+    @TempDir
+    Path tempDir;
+
+    private LocalS3Server s3Server;
+    private S3AsyncClient s3AsyncClient;
+    private S3AsyncHelper s3AsyncHelper;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        s3Server = LocalS3Server.start();
+        s3AsyncClient = S3AsyncClient.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .endpointOverride(s3Server.endpoint())
+                .forcePathStyle(true)
+                .requestChecksumCalculation(RequestChecksumCalculation.WHEN_REQUIRED)
+                .responseChecksumValidation(ResponseChecksumValidation.WHEN_REQUIRED)
+                .build();
+
+        s3AsyncHelper = new S3AsyncHelper(s3AsyncClient);
+        ReflectionTestUtils.setField(s3AsyncHelper, "bucket", BUCKET);
+        ReflectionTestUtils.setField(s3AsyncHelper, "rangePartSizeBytes", (long) PART_SIZE);
+        ReflectionTestUtils.setField(s3AsyncHelper, "rangeParallelism", 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3AsyncClient.close();
+        s3Server.close();
+    }
+
+    @Test
+    @DisplayName("업로드 후 다운로드하면 같은 내용을 받는다")
+    void uploadAndDownload() throws IOException {
+        File source = Files.writeString(tempDir.resolve("source.wav"), "wav content", StandardCharsets.UTF_8).toFile();
+
+        s3AsyncHelper.uploadFile(source, "recordings/uuid_녹음.wav", "audio/wav").join();
+        Path downloaded = s3AsyncHelper.downloadFile("recordings/uuid_녹음.wav", tempDir.resolve("out/downloaded.wav")).join();
+
+        assertThat(s3Server.contains("recordings/uuid_녹음.wav")).isTrue();
+        assertThat(Files.readString(downloaded, StandardCharsets.UTF_8)).isEqualTo("wav content");
+    }
+
+    @Test
+    @DisplayName("존재 여부 확인, 복사, 삭제")
+    void existsCopyDelete() {
+        s3Server.putObject("recordings/a.mp3", "mp3".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(s3AsyncHelper.fileExists("recordings/a.mp3").join()).isTrue();
+        assertThat(s3AsyncHelper.fileExists("recordings/missing.mp3").join()).isFalse();
+
+        s3AsyncHelper.copyFile("recordings/a.mp3", "recordings/a.mp3.backup").join();
+        assertThat(s3Server.getObject("recordings/a.mp3.backup")).isEqualTo("mp3".getBytes(StandardCharsets.UTF_8));
+
+        s3AsyncHelper.deleteFile("recordings/a.mp3").join();
+        assertThat(s3Server.contains("recordings/a.mp3")).isFalse();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 객체 다운로드는 IOException으로 실패")
+    void downloadMissingObjectFails() {
+        assertThatThrownBy(() -> s3AsyncHelper.downloadFile("recordings/missing.mp3", tempDir.resolve("missing")).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("일괄 삭제는 1,000개 단위로 DeleteObjects 요청을 나눈다")
+    void deleteFilesInChunks() {
+        List<String> keys = IntStream.range(0, 2500)
+                .mapToObj(i -> "recordings/orphan-" + i + ".mp3")
+                .toList();
+        keys.forEach(key -> s3Server.putObject(key, new byte[]{1}));
+
+        S3BatchDeleteResult result = s3AsyncHelper.deleteFiles(keys).join();
+
+        assertThat(result.hasFailures()).isFalse();
+        assertThat(result.deletedKeys()).hasSize(2500);
+        assertThat(s3Server.operationCount("DeleteObjects")).isEqualTo(3);
+        assertThat(keys).noneMatch(s3Server::contains);
+    }
+
+    @Test
+    @DisplayName("큰 객체는 바이트 범위로 나누어 병렬 다운로드")
+    void downloadLargeObjectInRanges() throws IOException {
+        byte[] content = new byte[PART_SIZE * 3 + 123];
+        new Random(42).nextBytes(content);
+        s3Server.putObject("recordings/large.wav", content);
+
+        Path downloaded = s3AsyncHelper.downloadFileInRanges("recordings/large.wav", tempDir.resolve("large.wav")).join();
+
+        assertThat(Files.readAllBytes(downloaded)).isEqualTo(content);
+        assertThat(s3Server.operationCount("GetObjectRange")).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("작은 객체는 범위 분할 없이 단일 GET")
+    void downloadSmallObjectWithoutRanges() throws IOException {
+        s3Server.putObject("recordings/small.wav", "small".getBytes(StandardCharsets.UTF_8));
+
+        Path downloaded = s3AsyncHelper.downloadFileInRanges("recordings/small.wav", tempDir.resolve("small.wav")).join();
+
+        assertThat(Files.readString(downloaded, StandardCharsets.UTF_8)).isEqualTo("small");
+        assertThat(s3Server.operationCount("GetObjectRange")).isZero();
+    }
+}
@@ -0,0 +1,170 @@
+package com.ssafy.lab.orak.s3.service;
+
+import com.ssafy.lab.orak.s3.entity.S3DeletionTask;
+import com.ssafy.lab.orak.s3.helper.S3AsyncHelper;
+import com.ssafy.lab.orak.s3.helper.S3Helper;
+import com.ssafy.lab.orak.s3.repository.S3DeletionTaskRepository;
+import com.ssafy.lab.orak.s3.support.LocalS3Server;
+import com.ssafy.lab.orak.upload.repository.UploadRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
+import software.amazon.awssdk.core.checksums.ResponseChecksumValidation;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("S3 지연 삭제/고아 객체 정리 테스트")
+class S3CleanupServiceTest {
+
+    private static final String BUCKET = "test-bucket";
+
+    private LocalS3Server s3Server;
+    private S3AsyncClient s3AsyncClient;
+    private S3AsyncHelper s3AsyncHelper;
+    private S3DeletionTaskRepository taskRepository;
+    private Counter deletedCounter;
+    private S3CleanupService s3CleanupService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        s3Server = LocalS3Server.start();
+        s3AsyncClient = S3AsyncClient.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .endpointOverride(s3Server.endpoint())
+                .forcePathStyle(true)
+                .requestChecksumCalculation(RequestChecksumCalculation.WHEN_REQUIRED)
+                .responseChecksumValidation(ResponseChecksumValidation.WHEN_REQUIRED)
+                .build();
+        s3AsyncHelper = new S3AsyncHelper(s3AsyncClient);
+        ReflectionTestUtils.setField(s3AsyncHelper, "bucket", BUCKET);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        deletedCounter = registry.counter("s3_cleanup_deleted_total");
+        taskRepository = mock(S3DeletionTaskRepository.class);
+        s3CleanupService = new S3CleanupService(taskRepository, s3AsyncHelper, deletedCounter,
+                registry.counter("s3_cleanup_failed_total"), new AtomicLong());
+        ReflectionTestUtils.setField(s3CleanupService, "enabled", true);
+        ReflectionTestUtils.setField(s3CleanupService, "batchSize", 1000);
+        ReflectionTestUtils.setField(s3CleanupService, "maxBatchesPerRun", 5);
+        ReflectionTestUtils.setField(s3CleanupService, "maxAttempts", 5);
+        ReflectionTestUtils.setField(s3CleanupService, "retryDelayMs", 600000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3AsyncClient.close();
+        s3Server.close();
+    }
+
+    @Test
+    @DisplayName("삭제 대기열 2,500건은 DeleteObjects 3회로 비워진다")
+    void drainPendingDeletions_BatchesKeys() {
+        List<S3DeletionTask> tasks = LongStream.rangeClosed(1, 2500)
+                .mapToObj(id -> {
+                    String key = "recordings/orphan-" + id + "_audio.mp3";
+                    s3Server.putObject(key, new byte[]{1});
+                    return S3DeletionTask.builder()
+                            .id(id)
+                            .s3Key(key)
+                            .reason("test")
+                            .nextAttemptAt(LocalDateTime.now())
+                            .build();
+                })
+                .toList();
+        when(taskRepository.findDueTasks(anyInt(), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(tasks.subList(0, 1000), tasks.subList(1000, 2000), tasks.subList(2000, 2500));
+
+        s3CleanupService.drainPendingDeletions();
+
+        assertThat(s3Server.operationCount("DeleteObjects")).isEqualTo(3);
+        assertThat(s3Server.operationCount("DeleteObject")).isZero();
+        assertThat(s3Server.contains("recordings/orphan-1_audio.mp3")).isFalse();
+        assertThat(s3Server.contains("recordings/orphan-2500_audio.mp3")).isFalse();
+        assertThat(deletedCounter.count()).isEqualTo(2500.0);
+        verify(taskRepository, times(3)).deleteAllByIdInBatch(anyCollection());
+        verify(taskRepository, never()).saveAll(anyCollection());
+    }
+
+    @Test
+    @DisplayName("이미 예약된 키는 중복 저장하지 않는다")
+    void scheduleDeletions_SkipsExistingKeys() {
+        when(taskRepository.findExistingKeys(anyCollection())).thenReturn(List.of("profiles/a_1.jpg"));
+
+        s3CleanupService.scheduleDeletions(List.of("profiles/a_1.jpg", "profiles/b_2.jpg"), "test");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<S3DeletionTask>> captor = ArgumentCaptor.forClass(List.class);
+        verify(taskRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(S3DeletionTask::getS3Key).containsExactly("profiles/b_2.jpg");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 예약은 실패를 호출자에게 던지고, 트랜잭션 밖의 예약은 로그만 남긴다")
+    void enqueueDeletions_PropagatesFailure() {
+        when(taskRepository.findExistingKeys(anyCollection())).thenReturn(List.of());
+        when(taskRepository.saveAll(anyCollection())).thenThrow(new DataAccessResourceFailureException("db down"));
+
+        assertThatThrownBy(() -> s3CleanupService.enqueueDeletions(List.of("recordings/a_1.wav"), "upload-delete"))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        assertThatCode(() -> s3CleanupService.scheduleDeletions(List.of("recordings/a_1.wav"), "orphan-reconcile"))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지난 객체 중 uploads에 없는 UUID와 .backup 객체만 고아로 예약한다")
+    void reconcilePrefix_SchedulesOnlyOrphans() {
+        Instant old = Instant.now().minus(Duration.ofDays(2));
+        s3Server.putObject("recordings/live_song.wav", new byte[]{1}, old);
+        s3Server.putObject("recordings/dead_song.wav", new byte[]{1}, old);
+        s3Server.putObject("recordings/live_song.mp3.backup", new byte[]{1}, old);
+        s3Server.putObject("recordings/fresh_song.wav", new byte[]{1}, Instant.now());
+
+        UploadRepository uploadRepository = mock(UploadRepository.class);
+        when(uploadRepository.findExistingUuids(anyCollection())).thenReturn(List.of("live"));
+        S3CleanupService cleanupService = mock(S3CleanupService.class);
+        S3OrphanReconciler reconciler = new S3OrphanReconciler(s3AsyncHelper, new S3Helper(null, null),
+                uploadRepository, cleanupService, new SimpleMeterRegistry().counter("s3_orphan_detected_total"));
+
+        int orphanCount = reconciler.reconcilePrefix("recordings/", Instant.now().minus(Duration.ofHours(24)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(cleanupService).scheduleDeletions(captor.capture(), eq("orphan-reconcile"));
+        assertThat(orphanCount).isEqualTo(2);
+        assertThat(captor.getValue())
+                .containsExactlyInAnyOrder("recordings/dead_song.wav", "recordings/live_song.mp3.backup");
+    }
+}
@@ -0,0 +1,168 @@
+package com.ssafy.lab.orak.s3.support;
+
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 인메모리 S3 클라이언트
+ * 요청마다 지정한 지연 시간을 주입하여 네트워크 왕복을 흉내낸다
+ * 동시에 진행 중인 요청 수의 최댓값을 기록하고, 지정한 수의 요청이 모두 도착할 때까지 붙잡아 둘 수 있다
+ */
+public class FakeS3Client implements S3Client {
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile CountDownLatch gate;
+    private final long latencyMs;
+
+    public FakeS3Client(long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    public FakeS3Client() {
+        this(0);
+    }
+
+    public boolean contains(String key) {
+        return objects.containsKey(key);
+    }
+
+    public int objectCount() {
+        return objects.size();
+    }
+
+    public int requestCount() {
+        return requestCount.get();
+    }
+
+    public int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    // 처음 도착한 요청 parties개가 모두 진행 중이 될 때까지 각 요청을 붙잡음 (최대 5초)
+    public void holdUntilConcurrent(int parties) {
+        gate = new CountDownLatch(parties);
+    }
+
+    public void putObject(String key, byte[] content) {
+        objects.put(key, content);
+    }
+
+    public Map<String, byte[]> objects() {
+        return objects;
+    }
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest request, RequestBody requestBody) {
+        simulateLatency();
+        try (InputStream in = requestBody.contentStreamProvider().newStream()) {
+            objects.put(request.key(), in.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return PutObjectResponse.builder().eTag("\"fake\"").build();
+    }
+
+    @Override
+    public GetObjectResponse getObject(GetObjectRequest request, Path destinationPath) {
+        simulateLatency();
+        byte[] content = requireObject(request.key());
+        try {
+            Files.write(destinationPath, content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return GetObjectResponse.builder().contentLength((long) content.length).build();
+    }
+
+    @Override
+    public ResponseBytes<GetObjectResponse> getObjectAsBytes(GetObjectRequest request) {
+        simulateLatency();
+        byte[] content = requireObject(request.key());
+        return ResponseBytes.fromByteArray(
+                GetObjectResponse.builder().contentLength((long) content.length).build(), content);
+    }
+
+    @Override
+    public HeadObjectResponse headObject(HeadObjectRequest request) {
+        simulateLatency();
+        byte[] content = requireObject(request.key());
+        return HeadObjectResponse.builder().contentLength((long) content.length).build();
+    }
+
+    @Override
+    public CopyObjectResponse copyObject(CopyObjectRequest request) {
+        simulateLatency();
+        objects.put(request.destinationKey(), requireObject(request.sourceKey()));
+        return CopyObjectResponse.builder().build();
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+        simulateLatency();
+        objects.remove(request.key());
+        return DeleteObjectResponse.builder().build();
+    }
+
+    @Override
+    public String serviceName() {
+        return "s3";
+    }
+
+    @Override
+    public void close() {
+        objects.clear();
+    }
+
+    protected void simulateLatency() {
+        requestCount.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            CountDownLatch currentGate = gate;
+            if (currentGate != null) {
+                currentGate.countDown();
+                currentGate.await(5, TimeUnit.SECONDS);
+            }
+            if (latencyMs > 0) {
+                Thread.sleep(latencyMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private byte[] requireObject(String key) {
+        byte[] content = objects.get(key);
+        if (content == null) {
+            throw NoSuchKeyException.builder().message("NoSuchKey: " + key).build();
+        }
+        return content;
+    }
+}
@@ -0,0 +1,319 @@
+package com.ssafy.lab.orak.s3.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 테스트용 로컬 S3 호환 HTTP 엔드포인트 (path-style, 단일 버킷)
+ * PutObject / GetObject(Range) / HeadObject / DeleteObject / DeleteObjects / CopyObject / ListObjectsV2 를 지원한다
+ */
+public class LocalS3Server implements AutoCloseable {
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("<Key>(.*?)</Key>", Pattern.DOTALL);
+    private static final Pattern RANGE_PATTERN = Pattern.compile("bytes=(\\d+)-(\\d*)");
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, Instant> lastModified = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> operationCounts = new ConcurrentHashMap<>();
+
+    private LocalS3Server(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    public static LocalS3Server start() throws IOException {
+        HttpServer httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        LocalS3Server s3Server = new LocalS3Server(httpServer, executor);
+        httpServer.createContext("/", s3Server::handle);
+        httpServer.setExecutor(executor);
+        httpServer.start();
+        return s3Server;
+    }
+
+    public URI endpoint() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    public void putObject(String key, byte[] content) {
+        putObject(key, content, Instant.now());
+    }
+
+    public void putObject(String key, byte[] content, Instant modifiedAt) {
+        objects.put(key, content);
+        lastModified.put(key, modifiedAt);
+    }
+
+    public byte[] getObject(String key) {
+        return objects.get(key);
+    }
+
+    public boolean contains(String key) {
+        return objects.containsKey(key);
+    }
+
+    public int operationCount(String operation) {
+        AtomicInteger count = operationCounts.get(operation);
+        return count == null ? 0 : count.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            String query = exchange.getRequestURI().getRawQuery();
+            String key = extractKey(exchange.getRequestURI().getPath());
+            byte[] body = readBody(exchange);
+
+            if ("POST".equals(method) && query != null && query.contains("delete")) {
+                deleteObjects(exchange, body);
+            } else if ("PUT".equals(method) && exchange.getRequestHeaders().getFirst("x-amz-copy-source") != null) {
+                copyObject(exchange, key);
+            } else if ("PUT".equals(method)) {
+                count("PutObject");
+                putObject(key, body);
+                exchange.getResponseHeaders().set("ETag", "\"" + Integer.toHexString(Arrays.hashCode(body)) + "\"");
+                exchange.sendResponseHeaders(200, -1);
+            } else if ("GET".equals(method) && key.isEmpty() && query != null && query.contains("list-type=2")) {
+                listObjects(exchange, query);
+            } else if ("GET".equals(method)) {
+                getObject(exchange, key);
+            } else if ("HEAD".equals(method)) {
+                count("HeadObject");
+                byte[] content = objects.get(key);
+                if (content == null) {
+                    exchange.sendResponseHeaders(404, -1);
+                } else {
+                    exchange.getResponseHeaders().set("Content-Length", String.valueOf(content.length));
+                    exchange.getResponseHeaders().set("Accept-Ranges", "bytes");
+                    exchange.sendResponseHeaders(200, -1);
+                }
+            } else if ("DELETE".equals(method)) {
+                count("DeleteObject");
+                objects.remove(key);
+                lastModified.remove(key);
+                exchange.sendResponseHeaders(204, -1);
+            } else {
+                sendXml(exchange, 400, error("InvalidRequest", "지원하지 않는 요청: " + method));
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void getObject(HttpExchange exchange, String key) throws IOException {
+        count("GetObject");
+        byte[] content = objects.get(key);
+        if (content == null) {
+            sendXml(exchange, 404, error("NoSuchKey", "The specified key does not exist."));
+            return;
+        }
+
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        Matcher matcher = range == null ? null : RANGE_PATTERN.matcher(range);
+        if (matcher != null && matcher.matches()) {
+            count("GetObjectRange");
+            int start = Integer.parseInt(matcher.group(1));
+            int end = matcher.group(2).isEmpty()
+                    ? content.length - 1
+                    : Math.min(Integer.parseInt(matcher.group(2)), content.length - 1);
+            byte[] slice = Arrays.copyOfRange(content, start, end + 1);
+            exchange.getResponseHeaders().set("Content-Range", "bytes " + start + "-" + end + "/" + content.length);
+            sendBytes(exchange, 206, slice, "application/octet-stream");
+            return;
+        }
+        sendBytes(exchange, 200, content, "application/octet-stream");
+    }
+
+    private void copyObject(HttpExchange exchange, String destinationKey) throws IOException {
+        count("CopyObject");
+        String copySource = URLDecoder.decode(
+                exchange.getRequestHeaders().getFirst("x-amz-copy-source"), StandardCharsets.UTF_8);
+        String sourceKey = extractKey(copySource.startsWith("/") ? copySource : "/" + copySource);
+        byte[] content = objects.get(sourceKey);
+        if (content == null) {
+            sendXml(exchange, 404, error("NoSuchKey", "The specified key does not exist."));
+            return;
+        }
+        putObject(destinationKey, content);
+        sendXml(exchange, 200, "<CopyObjectResult><ETag>\"copy\"</ETag>"
+                + "<LastModified>2024-01-01T00:00:00.000Z</LastModified></CopyObjectResult>");
+    }
+
+    // continuation-token은 마지막으로 반환한 키를 그대로 사용
+    private void listObjects(HttpExchange exchange, String rawQuery) throws IOException {
+        count("ListObjectsV2");
+        Map<String, String> params = parseQuery(rawQuery);
+        String prefix = params.getOrDefault("prefix", "");
+        String token = params.get("continuation-token");
+        int maxKeys = Integer.parseInt(params.getOrDefault("max-keys", "1000"));
+
+        List<String> keys = objects.keySet().stream()
+                .filter(k -> k.startsWith(prefix))
+                .filter(k -> token == null || k.compareTo(token) > 0)
+                .sorted()
+                .toList();
+        boolean truncated = keys.size() > maxKeys;
+        List<String> page = truncated ? keys.subList(0, maxKeys) : keys;
+
+        StringBuilder result = new StringBuilder("<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">");
+        result.append("<Prefix>").append(escapeXml(prefix)).append("</Prefix>");
+        result.append("<KeyCount>").append(page.size()).append("</KeyCount>");
+        result.append("<MaxKeys>").append(maxKeys).append("</MaxKeys>");
+        result.append("<IsTruncated>").append(truncated).append("</IsTruncated>");
+        if (truncated) {
+            result.append("<NextContinuationToken>").append(escapeXml(page.get(page.size() - 1)))
+                    .append("</NextContinuationToken>");
+        }
+        for (String key : page) {
+            byte[] content = objects.get(key);
+            Instant modifiedAt = lastModified.getOrDefault(key, Instant.now());
+            result.append("<Contents><Key>").append(escapeXml(key)).append("</Key>")
+                    .append("<LastModified>").append(modifiedAt.truncatedTo(ChronoUnit.MILLIS)).append("</LastModified>")
+                    .append("<Size>").append(content == null ? 0 : content.length).append("</Size>")
+                    .append("<StorageClass>STANDARD</StorageClass></Contents>");
+        }
+        result.append("</ListBucketResult>");
+        sendXml(exchange, 200, result.toString());
+    }
+
+    private void deleteObjects(HttpExchange exchange, byte[] body) throws IOException {
+        count("DeleteObjects");
+        String xml = new String(body, StandardCharsets.UTF_8);
+        boolean quiet = xml.contains("<Quiet>true</Quiet>");
+        List<String> keys = new ArrayList<>();
+        Matcher matcher = KEY_PATTERN.matcher(xml);
+        while (matcher.find()) {
+            keys.add(unescapeXml(matcher.group(1)));
+        }
+
+        StringBuilder result = new StringBuilder("<DeleteResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">");
+        for (String key : keys) {
+            objects.remove(key);
+            lastModified.remove(key);
+            if (!quiet) {
+                result.append("<Deleted><Key>").append(escapeXml(key)).append("</Key></Deleted>");
+            }
+        }
+        result.append("</DeleteResult>");
+        sendXml(exchange, 200, result.toString());
+    }
+
+    private void count(String operation) {
+        operationCounts.computeIfAbsent(operation, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    // /{bucket}/{key} → key
+    private static String extractKey(String path) {
+        String withoutSlash = path.startsWith("/") ? path.substring(1) : path;
+        int slash = withoutSlash.indexOf('/');
+        return slash < 0 ? "" : withoutSlash.substring(slash + 1);
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            params.put(name, value);
+        }
+        return params;
+    }
+
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        byte[] raw = exchange.getRequestBody().readAllBytes();
+        String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+        String contentSha = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+        boolean chunked = (encoding != null && encoding.contains("aws-chunked"))
+                || (contentSha != null && contentSha.startsWith("STREAMING-"));
+        return chunked ? decodeAwsChunked(raw) : raw;
+    }
+
+    // aws-chunked 본문 디코딩: {hex-size}[;chunk-signature=...]\r\n{data}\r\n ... 0[;...]\r\n
+    private static byte[] decodeAwsChunked(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int pos = 0;
+        while (pos < raw.length) {
+            int lineEnd = indexOfCrlf(raw, pos);
+            if (lineEnd < 0) {
+                break;
+            }
+            String header = new String(raw, pos, lineEnd - pos, StandardCharsets.US_ASCII);
+            int semicolon = header.indexOf(';');
+            int size = Integer.parseInt((semicolon < 0 ? header : header.substring(0, semicolon)).trim(), 16);
+            if (size == 0) {
+                break;
+            }
+            int dataStart = lineEnd + 2;
+            out.write(raw, dataStart, size);
+            pos = dataStart + size + 2;
+        }
+        return out.toByteArray();
+    }
+
+    private static int indexOfCrlf(byte[] raw, int from) {
+        for (int i = from; i < raw.length - 1; i++) {
+            if (raw[i] == '\r' && raw[i + 1] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void sendXml(HttpExchange exchange, int status, String xml) throws IOException {
+        sendBytes(exchange, status, ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + xml).getBytes(StandardCharsets.UTF_8),
+                "application/xml");
+    }
+
+    private static void sendBytes(HttpExchange exchange, int status, byte[] body, String contentType) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static String error(String code, String message) {
+        return "<Error><Code>" + code + "</Code><Message>" + escapeXml(message) + "</Message></Error>";
+    }
+
+    private static String escapeXml(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    private static String unescapeXml(String value) {
+        return value.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"")
+                .replace("&apos;", "'").replace("&amp;", "&");
+    }
+}
@@ -0,0 +1,259 @@
+package com.ssafy.lab.orak.song.service;
+
+import com.ssafy.lab.orak.song.dto.SongAutocompleteDTO;
+import com.ssafy.lab.orak.song.dto.SongSummaryDTO;
+import com.ssafy.lab.orak.song.entity.Song;
+import com.ssafy.lab.orak.song.repository.SongRepository;
+import com.ssafy.lab.orak.song.util.AutocompleteTrie;
+import com.ssafy.lab.orak.song.util.SongCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("곡 자동완성 (접두사 트라이) 테스트")
+class SongAutocompleteServiceTest {
+
+    private static final String[] SYLLABLES = {"사", "랑", "밤", "하", "늘", "너", "의", "노", "래", "별", "바", "다", "봄", "비"};
+    private static final String[] WORDS = {"love", "night", "dream", "blue", "star", "Dynamite", "butter", "spring"};
+
+    private SongCatalogCache songCatalogCache;
+    private SongRepository songRepository;
+    private SongAutocompleteService service;
+    private List<SongSummaryDTO> songs;
+
+    @BeforeEach
+    void setUp() {
+        songs = generateSongs(20_000, new Random(42));
+        songCatalogCache = mock(SongCatalogCache.class);
+        when(songCatalogCache.isLoaded()).thenReturn(true);
+        when(songCatalogCache.snapshot()).thenReturn(SongCatalog.of(songs));
+        songRepository = mock(SongRepository.class);
+
+        service = new SongAutocompleteService(songCatalogCache, songRepository);
+        service.initPrefixCache();
+    }
+
+    @Test
+    @DisplayName("제목/가수 접두사, 단어 시작, 초성으로 찾고 인기순으로 정렬한다")
+    void suggest_MatchesPrefixesAndChosung() {
+        List<SongSummaryDTO> fixed = new ArrayList<>(songs);
+        fixed.add(summary(900_001L, "사랑을 했다", "iKON", 150, "success"));
+        fixed.add(summary(900_002L, "Love Poem", "아이유", 140, "success"));
+        fixed.add(summary(900_003L, "사랑은 늘 도망가", "임영웅", 160, "failed"));
+        when(songCatalogCache.snapshot()).thenReturn(SongCatalog.of(fixed));
+        service.scheduledRebuild();
+
+        // 생성된 곡의 인기도는 100 미만이므로 고정 곡이 항상 앞에 옴
+        assertThat(service.suggest("사랑을", 5)).extracting(SongAutocompleteDTO::songId).first().isEqualTo(900_001L);
+        assertThat(service.suggest("ㅅㄹㅇ ㅎ", 5)).extracting(SongAutocompleteDTO::songId).contains(900_001L);
+        assertThat(service.suggest("poem", 5)).extracting(SongAutocompleteDTO::songId).containsExactly(900_002L);
+        assertThat(service.suggest("LOVE P", 5)).extracting(SongAutocompleteDTO::songId).containsExactly(900_002L);
+        assertThat(service.suggest("아이", 5)).extracting(SongAutocompleteDTO::songId).contains(900_002L);
+        assertThat(service.suggest("ㅇㅇㅇ", 20)).extracting(SongAutocompleteDTO::songId).contains(900_002L);
+        // 실패 상태 곡은 실시간 검색과 마찬가지로 제외
+        assertThat(service.suggest("사랑은늘", 5)).isEmpty();
+        assertThat(service.suggest("  ", 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트라이 결과는 전체 탐색 결과와 같다")
+    void suggest_MatchesBruteForce() {
+        service.rebuild();
+        Random random = new Random(7);
+        List<SongSummaryDTO> ranked = songs.stream()
+                .filter(song -> "success".equals(song.status()))
+                .sorted(Comparator.comparingInt(SongSummaryDTO::popularity).reversed().thenComparing(SongSummaryDTO::id))
+                .toList();
+
+        for (int n = 0; n < 300; n++) {
+            SongSummaryDTO sample = songs.get(random.nextInt(songs.size()));
+            String name = random.nextBoolean() ? sample.songName() : sample.artistName();
+            String normalized = AutocompleteTrie.normalize(name);
+            String prefix = normalized.substring(0, 1 + random.nextInt(Math.min(normalized.length(), 4)));
+            if (random.nextInt(3) == 0 && AutocompleteTrie.chosung(prefix) != null) {
+                prefix = AutocompleteTrie.chosung(prefix);
+            }
+
+            String query = prefix;
+            List<Long> expected = ranked.stream()
+                    .filter(song -> matches(song.songName(), query) || matches(song.artistName(), query))
+                    .limit(10)
+                    .map(SongSummaryDTO::songId)
+                    .toList();
+
+            assertThat(service.suggest(query, 10)).extracting(SongAutocompleteDTO::songId)
+                    .as("prefix %s", query)
+                    .containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 접두사는 TTL 동안 같은 결과 목록을 재사용하고 재구성 시 비운다")
+    void suggest_ReusesCachedPrefix() {
+        service.rebuild();
+
+        List<SongAutocompleteDTO> first = service.suggest("사랑", 20);
+        List<SongAutocompleteDTO> second = service.suggest("사 랑", 20);
+        assertThat(second).isSameAs(first);
+        assertThat(service.suggest("사랑", 3)).containsExactlyElementsOf(first.subList(0, 3));
+
+        // 스냅샷이 그대로거나, 새로 만들어졌어도 내용이 같으면 재구성하지 않음
+        service.rebuild();
+        assertThat(service.suggest("사랑", 20)).isSameAs(first);
+        when(songCatalogCache.snapshot()).thenReturn(SongCatalog.of(new ArrayList<>(songs)));
+        service.rebuild();
+        assertThat(service.suggest("사랑", 20)).isSameAs(first);
+
+        when(songCatalogCache.snapshot()).thenReturn(SongCatalog.of(songs.subList(0, 100)));
+        service.rebuild();
+        assertThat(service.suggest("사랑", 20)).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("트라이가 준비되기 전에는 기존 LIKE 검색으로 대체한다")
+    void suggest_FallsBackBeforeReady() {
+        when(songRepository.searchByKeywordWithLimit(anyString(), any(Pageable.class))).thenReturn(List.of(
+                Song.builder().songId(1L).songName("사랑").artistName("가수").build()));
+
+        assertThat(service.isReady()).isFalse();
+        assertThat(service.suggest("사", 10)).isEmpty();
+        assertThat(service.suggest("사랑", 10)).extracting(SongAutocompleteDTO::songId).containsExactly(1L);
+
+        service.rebuild();
+        service.suggest("사랑", 10);
+        verify(songRepository, times(1)).searchByKeywordWithLimit(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("재구성이 반복되는 동안에도 조회 결과는 한 트라이의 결과이고 모두 접두사와 일치한다")
+    void suggest_ConsistentDuringConcurrentRebuilds() throws Exception {
+        // 두 카탈로그를 번갈아 적용 (B는 인기도 순서를 뒤집고 일부 곡을 뺌)
+        List<SongSummaryDTO> catalogA = songs;
+        List<SongSummaryDTO> catalogB = songs.stream()
+                .filter(song -> song.id() % 3 != 0)
+                .map(song -> summary(song.id(), song.songName(), song.artistName(), 99 - song.popularity(), song.status()))
+                .toList();
+        AtomicReference<SongCatalog> current = new AtomicReference<>(SongCatalog.of(catalogA));
+        when(songCatalogCache.snapshot()).thenAnswer(invocation -> current.get());
+        service.rebuild();
+
+        List<String> prefixes = new ArrayList<>();
+        Random random = new Random(3);
+        for (int i = 0; i < 200; i++) {
+            String name = AutocompleteTrie.normalize(songs.get(random.nextInt(songs.size())).songName());
+            prefixes.add(name.substring(0, 1 + random.nextInt(Math.min(name.length(), 5))));
+        }
+        AutocompleteTrie trieA = buildTrie(catalogA);
+        AutocompleteTrie trieB = buildTrie(catalogB);
+
+        int readers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch started = new CountDownLatch(readers);
+        List<Future<Integer>> futures = new ArrayList<>();
+        try {
+            for (int r = 0; r < readers; r++) {
+                int offset = r * 31;
+                futures.add(executor.submit(() -> {
+                    started.countDown();
+                    int reads = 0;
+                    while (running.get() || reads == 0) {
+                        String prefix = prefixes.get((offset + reads) % prefixes.size());
+                        List<SongAutocompleteDTO> result = service.suggest(prefix, 10);
+                        assertThat(result)
+                                .as("prefix %s", prefix)
+                                .isIn(trieA.lookup(prefix, 10), trieB.lookup(prefix, 10))
+                                .allSatisfy(song -> assertThat(matches(song.songName(), prefix)
+                                        || matches(song.artistName(), prefix)).isTrue());
+                        reads++;
+                    }
+                    return reads;
+                }));
+            }
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int n = 0; n < 40; n++) {
+                current.set(SongCatalog.of(n % 2 == 0 ? catalogB : catalogA));
+                service.rebuild();
+            }
+        } finally {
+            running.set(false);
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        for (Future<Integer> future : futures) {
+            assertThat(future.get()).isPositive();
+        }
+        // 마지막으로 적용한 카탈로그(A) 기준 결과
+        assertThat(service.suggest(prefixes.get(0), 10)).isEqualTo(trieA.lookup(prefixes.get(0), 10));
+    }
+
+    private AutocompleteTrie buildTrie(List<SongSummaryDTO> catalog) {
+        return AutocompleteTrie.build(catalog.stream()
+                .filter(song -> "success".equals(song.status()))
+                .sorted(Comparator.comparingInt(SongSummaryDTO::popularity).reversed().thenComparing(SongSummaryDTO::id))
+                .map(SongAutocompleteDTO::from)
+                .toList(), 20);
+    }
+
+    private boolean matches(String name, String prefix) {
+        String[] words = name.trim().split("\\s+");
+        for (int start = 0; start < words.length; start++) {
+            String key = AutocompleteTrie.normalize(String.join("", List.of(words).subList(start, words.length)));
+            String chosung = AutocompleteTrie.chosung(key);
+            if (key.startsWith(prefix) || (chosung != null && chosung.startsWith(prefix))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<SongSummaryDTO> generateSongs(int count, Random random) {
+        List<SongSummaryDTO> generated = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String songName = random.nextBoolean()
+                    ? hangulWord(random) + " " + hangulWord(random)
+                    : WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            String artistName = random.nextBoolean() ? hangulWord(random) : "Artist" + (i % 500);
+            generated.add(summary(i + 1L, songName, artistName, random.nextInt(100), i % 10 == 9 ? "failed" : "success"));
+        }
+        return generated;
+    }
+
+    private String hangulWord(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int length = 1 + random.nextInt(4);
+        for (int i = 0; i < length; i++) {
+            builder.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return builder.toString();
+    }
+
+    private SongSummaryDTO summary(Long id, String songName, String artistName, int popularity, String status) {
+        return new SongSummaryDTO(id, 100_000L + id, songName, artistName, null, null, null, null,
+                180_000, popularity, status, LocalDateTime.of(2025, 1, 1, 0, 0));
+    }
+}
@@ -0,0 +1,212 @@
+package com.ssafy.lab.orak.song.service;
+
+import com.ssafy.lab.orak.song.dto.SongCatalogChangedEvent;
+import com.ssafy.lab.orak.song.dto.SongSummaryDTO;
+import com.ssafy.lab.orak.song.repository.SongRepository;
+import com.ssafy.lab.orak.song.util.SongCatalog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("곡 카탈로그 캐시 테스트")
+class SongCatalogCacheTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private SongRepository songRepository;
+    private Counter hitCounter;
+    private Counter missCounter;
+    private AtomicLong sizeGauge;
+    private AtomicLong bytesGauge;
+    private SongCatalogCache cache;
+
+    // 가짜 DB 상태 (songs.id → 요약)
+    private final Map<Long, SongSummaryDTO> songs = new ConcurrentHashMap<>();
+    private int clock;
+
+    @BeforeEach
+    void setUp() {
+        songRepository = mock(SongRepository.class);
+        when(songRepository.streamAllSummaries()).thenAnswer(invocation -> new ArrayList<>(songs.values()).stream());
+        when(songRepository.findSummariesUpdatedAfter(any(LocalDateTime.class), anyLong())).thenAnswer(invocation -> {
+            LocalDateTime since = invocation.getArgument(0);
+            long lastId = invocation.getArgument(1);
+            return songs.values().stream()
+                    .filter(song -> song.updatedAt().isAfter(since)
+                            || (song.updatedAt().isEqual(since) && song.id() > lastId))
+                    .toList();
+        });
+        when(songRepository.findSummariesBySongIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> songIds = invocation.getArgument(0);
+            return songs.values().stream().filter(song -> songIds.contains(song.songId())).toList();
+        });
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        hitCounter = registry.counter("hit");
+        missCounter = registry.counter("miss");
+        sizeGauge = new AtomicLong();
+        bytesGauge = new AtomicLong();
+        cache = new SongCatalogCache(songRepository, mock(PlatformTransactionManager.class),
+                hitCounter, missCounter, sizeGauge, bytesGauge);
+        cache.initTransactionTemplate();
+
+        for (long id = 1; id <= 100; id++) {
+            putSong(id, 0);
+        }
+    }
+
+    @Test
+    @DisplayName("적재 후 일괄 조회는 입력 순서를 유지하고 캐시에 있는 곡은 DB를 읽지 않는다")
+    void getAllBySongIds_ServesFromSnapshot() {
+        cache.reload();
+
+        Map<Long, SongSummaryDTO> result = cache.getAllBySongIds(List.of(1050L, 1003L, 1077L, 1003L));
+
+        assertThat(result.keySet()).containsExactly(1050L, 1003L, 1077L);
+        assertThat(result.get(1050L).id()).isEqualTo(50L);
+        assertThat(cache.getById(77L)).hasValueSatisfying(song -> assertThat(song.songId()).isEqualTo(1077L));
+        verify(songRepository, never()).findSummariesBySongIdIn(anyCollection());
+        assertThat(hitCounter.count()).isEqualTo(4);
+        assertThat(sizeGauge.get()).isEqualTo(100);
+        assertThat(bytesGauge.get()).isPositive();
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 곡은 IN 한 번으로 읽고 스냅샷에 추가하며, 없는 곡은 결과에서 빠진다")
+    void missingSongs_AreReadThrough() {
+        cache.reload();
+        putSong(200L, 0);
+
+        Map<Long, SongSummaryDTO> result = cache.getAllBySongIds(List.of(1200L, 1001L, 9999L));
+
+        assertThat(result.keySet()).containsExactly(1200L, 1001L);
+        verify(songRepository, times(1)).findSummariesBySongIdIn(anyCollection());
+        assertThat(missCounter.count()).isEqualTo(2);
+
+        // 다음 조회부터는 캐시에서
+        cache.getBySongId(1200L);
+        verify(songRepository, times(1)).findSummariesBySongIdIn(anyCollection());
+        assertThat(cache.size()).isEqualTo(101);
+    }
+
+    @Test
+    @DisplayName("증분 갱신과 변경 이벤트로 수정된 곡이 반영된다")
+    void changes_ArePropagated() {
+        cache.reload();
+
+        putSong(5L, 1);
+        cache.refreshIncrementally();
+        assertThat(cache.getBySongId(1005L)).hasValueSatisfying(song -> assertThat(song.popularity()).isEqualTo(1));
+
+        // 관리자 수정: updatedAt이 바뀌지 않은 경우에도 이벤트로 즉시 반영
+        songs.put(6L, summary(6L, 7, BASE_TIME));
+        cache.onSongCatalogChanged(new SongCatalogChangedEvent(List.of(1006L)));
+        assertThat(cache.getBySongId(1006L)).hasValueSatisfying(song -> assertThat(song.popularity()).isEqualTo(7));
+    }
+
+    @Test
+    @DisplayName("같은 시각에 수정된 곡도 반영하고, 변경이 없으면 스냅샷을 교체하지 않는다")
+    void incrementalRefresh_KeepsSnapshotWithoutChanges() {
+        cache.reload();
+
+        // 워터마크와 같은 시각에 수정된 곡 (id가 더 큼)
+        songs.put(101L, summary(101L, 3, songs.get(100L).updatedAt()));
+        cache.refreshIncrementally();
+        assertThat(cache.size()).isEqualTo(101);
+
+        SongCatalog snapshot = cache.snapshot();
+        cache.refreshIncrementally();
+        cache.refreshIncrementally();
+
+        assertThat(cache.snapshot()).isSameAs(snapshot);
+    }
+
+    @Test
+    @DisplayName("갱신 중에도 동시 조회는 항상 한 스냅샷의 일관된 결과를 본다")
+    void concurrentReads_DuringRefresh() throws Exception {
+        cache.reload();
+        List<Long> allSongIds = songs.values().stream().map(SongSummaryDTO::songId).sorted().toList();
+
+        int readers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch started = new CountDownLatch(readers);
+        List<Future<Integer>> futures = new ArrayList<>();
+        try {
+            for (int r = 0; r < readers; r++) {
+                futures.add(executor.submit(() -> {
+                    started.countDown();
+                    int reads = 0;
+                    while (running.get()) {
+                        Map<Long, SongSummaryDTO> result = cache.getAllBySongIds(allSongIds);
+                        assertThat(result).hasSize(allSongIds.size());
+                        // 전체 재적재는 모든 곡의 버전을 함께 올리므로 한 번의 조회 결과에 버전이 섞이면 안 됨
+                        Set<Integer> versions = new HashSet<>();
+                        result.values().forEach(song -> versions.add(song.popularity()));
+                        assertThat(versions).hasSize(1);
+                        reads++;
+                    }
+                    return reads;
+                }));
+            }
+            started.await();
+
+            for (int version = 1; version <= 50; version++) {
+                for (long id = 1; id <= 100; id++) {
+                    putSong(id, version);
+                }
+                cache.reload();
+            }
+        } finally {
+            running.set(false);
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        int totalReads = 0;
+        for (Future<Integer> future : futures) {
+            totalReads += future.get();
+        }
+        assertThat(totalReads).isPositive();
+        assertThat(cache.getBySongId(1001L)).hasValueSatisfying(song -> assertThat(song.popularity()).isEqualTo(50));
+        verify(songRepository, never()).findSummariesBySongIdIn(anyCollection());
+    }
+
+    private void putSong(Long id, int version) {
+        songs.put(id, summary(id, version, BASE_TIME.plusSeconds(clock++)));
+    }
+
+    private SongSummaryDTO summary(Long id, int version, LocalDateTime updatedAt) {
+        return new SongSummaryDTO(id, 1000L + id, "노래 " + id, "가수 " + id, "앨범", null,
+                "https://cover/" + id, null, 180_000, version, "success", updatedAt);
+    }
+}
@@ -0,0 +1,169 @@
+package com.ssafy.lab.orak.song.service;
+
+import com.ssafy.lab.orak.song.dto.SongResponseDTO;
+import com.ssafy.lab.orak.song.entity.Song;
+import com.ssafy.lab.orak.song.entity.SongLyrics;
+import com.ssafy.lab.orak.song.repository.SongLyricsRepository;
+import com.ssafy.lab.orak.song.repository.SongRepository;
+import com.ssafy.lab.orak.song.util.LyricsCompressor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@Log4j2
+@DataJpaTest
+@DisplayName("가사 분리 저장/지연 로딩/스트리밍 내보내기 테스트")
+class SongLyricsStorageTest {
+
+    private static final int SONG_COUNT = 1000;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SongRepository songRepository;
+
+    @Autowired
+    private SongLyricsRepository songLyricsRepository;
+
+    private SongService songService;
+
+    // songs.id → 원본 가사
+    private final Map<Long, String> lyricsById = new HashMap<>();
+    private long totalLyricsBytes;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SongCatalogCache songCatalogCache = new SongCatalogCache(songRepository, mock(PlatformTransactionManager.class),
+                registry.counter("hit"), registry.counter("miss"), new AtomicLong(), new AtomicLong());
+        songService = new SongService(songRepository, songLyricsRepository, songCatalogCache);
+
+        for (int i = 0; i < SONG_COUNT; i++) {
+            Song song = entityManager.persist(Song.builder()
+                    .songId(10_000L + i)
+                    .songName("노래 " + i)
+                    .artistName("가수 " + (i % 50))
+                    .popularity(i % 100)
+                    .status(i % 10 == 9 ? "failed" : "success")
+                    .build());
+            // 가사 없는 곡도 섞음
+            if (i % 7 != 0) {
+                String lyrics = lyrics(i);
+                entityManager.persist(SongLyrics.of(song.getId(), lyrics));
+                lyricsById.put(song.getId(), lyrics);
+                totalLyricsBytes += lyrics.getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("가사는 압축되어 저장되고 원문 그대로 복원된다 (MySQL COMPRESS 형식)")
+    void lyrics_AreCompressedAndRestored() {
+        long storedBytes = 0;
+        for (SongLyrics stored : songLyricsRepository.findAll()) {
+            assertThat(stored.getLyrics()).isEqualTo(lyricsById.get(stored.getSongId()));
+            assertThat(stored.getOriginalSize()).isEqualTo(LyricsCompressor.originalLength(stored.getContent()));
+            storedBytes += stored.getContent().length;
+        }
+
+        log.info("가사 {}KB → 압축 {}KB", totalLyricsBytes / 1024, storedBytes / 1024);
+        assertThat(storedBytes).isLessThan(totalLyricsBytes / 3);
+
+        // 헤더: 원본 길이 little-endian 4바이트, 이어서 zlib 헤더(0x78)
+        byte[] content = LyricsCompressor.compress("가사");
+        assertThat(LyricsCompressor.originalLength(content)).isEqualTo("가사".getBytes(StandardCharsets.UTF_8).length);
+        assertThat(content[4]).isEqualTo((byte) 0x78);
+        assertThat(LyricsCompressor.decompress(content)).isEqualTo("가사");
+    }
+
+    @Test
+    @DisplayName("곡 목록 조회는 가사를 읽지 않는다 (할당량, 조회 시간 측정)")
+    void listing_DoesNotLoadLyrics() {
+        songRepository.findAll(); // 워밍업
+        entityManager.clear();
+
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        List<Song> songs = songRepository.findAll();
+        long elapsedMicros = (System.nanoTime() - start) / 1000;
+        long allocated = allocatedBytes() - allocatedBefore;
+
+        log.info("곡 {}개 목록 조회 - {}µs, 할당 {}KB (가사 원문 {}KB)",
+                songs.size(), elapsedMicros, allocated / 1024, totalLyricsBytes / 1024);
+
+        assertThat(songs).hasSize(SONG_COUNT);
+        assertThat(allocated).isLessThan(totalLyricsBytes / 2);
+    }
+
+    @Test
+    @DisplayName("상세/검색 응답에는 가사를 붙이고, 가사가 없으면 null")
+    void responses_AttachLyricsOnDemand() {
+        SongResponseDTO withLyrics = songService.getSongById(10_001L);
+        SongResponseDTO withoutLyrics = songService.getSongById(10_000L);
+
+        assertThat(withLyrics.getLyrics()).isEqualTo(lyricsById.get(withLyrics.getId()));
+        assertThat(withoutLyrics.getLyrics()).isNull();
+
+        List<SongResponseDTO> results = songService.searchSongsRealtime("노래 1", 20);
+        assertThat(results).isNotEmpty();
+        assertThat(results).allSatisfy(song -> assertThat(song.getLyrics()).isEqualTo(lyricsById.get(song.getId())));
+        assertThat(songRepository.searchByKeywordWithLimit("노래", PageRequest.of(0, 5))).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("가사 내보내기는 성공 상태이면서 가사가 있는 곡만 id 순으로 스트리밍한다")
+    void export_StreamsSongsWithLyrics() {
+        List<Long> exportedIds = new ArrayList<>();
+        long allocatedBefore = allocatedBytes();
+
+        long count = songService.exportSongsWithLyrics(row -> {
+            assertThat(row.lyrics()).isEqualTo(lyricsById.get(row.id()));
+            exportedIds.add(row.id());
+        });
+
+        long allocated = allocatedBytes() - allocatedBefore;
+        log.info("가사 내보내기 {}곡 - 할당 {}KB", count, allocated / 1024);
+
+        List<Long> expected = lyricsById.keySet().stream()
+                .filter(id -> !entityManager.find(Song.class, id).getStatus().equals("failed"))
+                .sorted()
+                .toList();
+        assertThat(count).isEqualTo(expected.size());
+        assertThat(exportedIds).containsExactlyElementsOf(expected);
+    }
+
+    private String lyrics(int seed) {
+        StringBuilder builder = new StringBuilder();
+        for (int line = 0; line < 120; line++) {
+            builder.append("[00:").append(line % 60).append("] ")
+                    .append("오늘 같은 밤이면 너를 불러 ").append(seed % 13).append(" 번째 노래를 ")
+                    .append(line % 4 == 0 ? "후렴 " : "절 ").append(line).append('\n');
+        }
+        return builder.toString();
+    }
+
+    private long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+}
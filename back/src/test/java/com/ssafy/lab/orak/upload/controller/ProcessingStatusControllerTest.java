@@ -1,5 +1,6 @@
 package com.ssafy.lab.orak.upload.controller;
 
+import com.ssafy.lab.orak.upload.dto.BulkStatusUpdateRequest;
 import com.ssafy.lab.orak.upload.dto.ProcessingStatusResponseDTO;
 import com.ssafy.lab.orak.upload.dto.DetailedProcessingStatusDTO;
 import com.ssafy.lab.orak.upload.entity.Upload;
@@ -273,6 +274,25 @@ class ProcessingStatusControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("일괄 상태 업데이트 - expectedStatuses 누락 시 400 오류")
+    void testUpdateProcessingStatuses_MissingExpectedStatuses() throws Exception {
+        // Given
+        BulkStatusUpdateRequest request = BulkStatusUpdateRequest.builder()
+                .uploadIds(List.of(testUploadId))
+                .expectedStatuses(Collections.emptyList())
+                .status(ProcessingStatus.AUDIO_CONVERTING)
+                .build();
+
+        // When & Then
+        mockMvc.perform(put("/processing/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verify(fileUploadService, never()).transitionProcessingStatuses(anyCollection(), anyCollection(), any());
+    }
+
     @Test
     @DisplayName("User-Id 헤더 누락 - 400 오류")
     void testGetMyPlayableFiles_MissingUserHeader() throws Exception {
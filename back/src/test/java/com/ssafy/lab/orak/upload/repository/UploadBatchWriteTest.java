@@ -0,0 +1,194 @@
+package com.ssafy.lab.orak.upload.repository;
+
+import com.ssafy.lab.orak.upload.entity.Upload;
+import com.ssafy.lab.orak.upload.enums.ProcessingStatus;
+import com.ssafy.lab.orak.upload.service.FileUploadService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Upload 다건 쓰기 경로 테스트 (H2)
+ * - IDENTITY 키 saveAll (행마다 INSERT) 대비 JDBC 배치 INSERT의 문장 수 (청크마다 배치 한 번)
+ * - 상태 일괄 전이가 기대 상태인 업로드만 청크 단위로 갱신하는지
+ */
+@DataJpaTest(properties = {
+        "upload.write.batch-size=200",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Upload 배치 쓰기 테스트")
+class UploadBatchWriteTest {
+
+    private static final int ROW_COUNT = 1_000;
+    private static final int BATCH_SIZE = 200;
+
+    @Autowired
+    private UploadRepository uploadRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM uploads");
+    }
+
+    @Test
+    @DisplayName("배치 INSERT는 ID와 생성 시각을 채워 입력 순서대로 반환한다")
+    void insertAll_ReturnsSavedUploadsInOrder() {
+        List<Upload> uploads = uploads("order", 450);
+
+        List<Upload> saved = uploadRepository.insertAll(uploads);
+
+        assertThat(saved).hasSize(450);
+        assertThat(saved).extracting(Upload::getUuid)
+                .containsExactlyElementsOf(uploads.stream().map(Upload::getUuid).toList());
+        assertThat(saved).allSatisfy(upload -> {
+            assertThat(upload.getId()).isNotNull();
+            assertThat(upload.getCreatedAt()).isNotNull();
+            assertThat(upload.getProcessingStatus()).isEqualTo(ProcessingStatus.UPLOADED);
+            assertThat(upload.getRetryCount()).isZero();
+        });
+        assertThat(uploadRepository.count()).isEqualTo(450);
+    }
+
+    @Test
+    @DisplayName("배치 INSERT는 청크마다 JDBC 배치 한 번과 재조회 한 번이고, saveAll은 행마다 INSERT한다")
+    void insertAll_OneBatchPerChunk() {
+        statistics.clear();
+        transaction.execute(status -> uploadRepository.saveAll(uploads("save-all", ROW_COUNT)));
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROW_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isGreaterThanOrEqualTo(ROW_COUNT);
+
+        JdbcTemplate jdbcSpy = spy(jdbcTemplate);
+        UploadBatchRepositoryImpl batchRepository = new UploadBatchRepositoryImpl(jdbcSpy);
+        ReflectionTestUtils.setField(batchRepository, "entityManager", entityManager);
+        ReflectionTestUtils.setField(batchRepository, "batchSize", BATCH_SIZE);
+
+        statistics.clear();
+        List<Upload> saved = transaction.execute(status -> batchRepository.insertAll(uploads("insert-all", ROW_COUNT)));
+
+        int chunks = ROW_COUNT / BATCH_SIZE;
+        assertThat(saved).hasSize(ROW_COUNT);
+        verify(jdbcSpy, times(chunks)).batchUpdate(any(PreparedStatementCreator.class),
+                any(BatchPreparedStatementSetter.class), any(KeyHolder.class));
+        // Hibernate를 거치는 건 청크마다 저장된 행을 다시 읽는 SELECT 한 번뿐
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(chunks);
+    }
+
+    @Test
+    @DisplayName("상태 일괄 전이는 기대 상태인 업로드만 바꾸고 재시도 정보를 초기화한다")
+    void transitionProcessingStatuses_OnlyExpectedStatus() {
+        List<Upload> saved = uploadRepository.insertAll(uploads("transition", 5));
+        List<Long> ids = saved.stream().map(Upload::getId).toList();
+        // 마지막 업로드는 이미 다른 작업자가 처리 중
+        jdbcTemplate.update("UPDATE uploads SET processing_status = 'AUDIO_CONVERTING' WHERE id = ?", ids.get(4));
+        jdbcTemplate.update("UPDATE uploads SET retry_count = 2, last_failed_at = ?, processing_error_message = 'timeout' " +
+                "WHERE id = ?", LocalDateTime.now(), ids.get(0));
+
+        FileUploadService fileUploadService = createFileUploadService(2);
+        int updated = fileUploadService.transitionProcessingStatuses(
+                ids, List.of(ProcessingStatus.UPLOADED), ProcessingStatus.AUDIO_CONVERTING);
+
+        assertThat(updated).isEqualTo(4);
+        List<Upload> reloaded = uploadRepository.findAllById(ids);
+        assertThat(reloaded).extracting(Upload::getProcessingStatus)
+                .containsOnly(ProcessingStatus.AUDIO_CONVERTING);
+        Upload retried = reloaded.stream().filter(upload -> upload.getId().equals(ids.get(0))).findFirst().orElseThrow();
+        assertThat(retried.getRetryCount()).isZero();
+        assertThat(retried.getLastFailedAt()).isNull();
+        assertThat(retried.getProcessingErrorMessage()).isNull();
+    }
+
+    @Test
+    @DisplayName("이미 같은 상태인 업로드는 전이 대상이어도 재시도 카운터를 유지한다")
+    void transitionProcessingStatuses_SameStatusKeepsRetryCount() {
+        Long id = uploadRepository.insertAll(uploads("same", 1)).get(0).getId();
+        jdbcTemplate.update("UPDATE uploads SET processing_status = 'PENDING', retry_count = 2 WHERE id = ?", id);
+
+        createFileUploadService(10).transitionProcessingStatuses(
+                List.of(id), List.of(ProcessingStatus.PENDING), ProcessingStatus.PENDING);
+
+        assertThat(uploadRepository.findById(id).orElseThrow().getRetryCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("실패 일괄 기록은 청크를 나눠 모든 업로드에 에러 메시지를 남긴다")
+    void markAllProcessingFailed_RecordsErrorMessage() {
+        List<Long> ids = uploadRepository.insertAll(uploads("failed", 7)).stream().map(Upload::getId).toList();
+
+        int updated = createFileUploadService(3).markAllProcessingFailed(ids, "변환 서버 응답 없음");
+
+        assertThat(updated).isEqualTo(7);
+        assertThat(uploadRepository.findAllById(ids)).allSatisfy(upload -> {
+            assertThat(upload.getProcessingStatus()).isEqualTo(ProcessingStatus.FAILED);
+            assertThat(upload.getProcessingErrorMessage()).isEqualTo("변환 서버 응답 없음");
+        });
+    }
+
+    private FileUploadService createFileUploadService(int writeBatchSize) {
+        FileUploadService service = new FileUploadService(null, null, null, uploadRepository, null, Runnable::run);
+        ReflectionTestUtils.setField(service, "writeBatchSize", writeBatchSize);
+        return service;
+    }
+
+    private static List<Upload> uploads(String prefix, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Upload.builder()
+                        .originalFilename(prefix + "-" + i)
+                        .uuid(prefix + "-uuid-" + i)
+                        .extension("mp3")
+                        .uploaderId(1L)
+                        .fileSize(1000L + i)
+                        .contentType("audio/mpeg")
+                        .directory("recordings")
+                        .build())
+                .toList();
+    }
+}
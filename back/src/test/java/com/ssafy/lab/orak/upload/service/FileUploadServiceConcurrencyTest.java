@@ -0,0 +1,116 @@
+package com.ssafy.lab.orak.upload.service;
+
+import com.ssafy.lab.orak.s3.helper.S3Helper;
+import com.ssafy.lab.orak.s3.service.S3CleanupService;
+import com.ssafy.lab.orak.s3.support.FakeS3Client;
+import com.ssafy.lab.orak.s3.util.LocalUploader;
+import com.ssafy.lab.orak.s3.util.S3Uploader;
+import com.ssafy.lab.orak.upload.entity.Upload;
+import com.ssafy.lab.orak.upload.repository.UploadRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("FileUploadService 병렬 업로드 테스트")
+class FileUploadServiceConcurrencyTest {
+
+    private static final int FILE_COUNT = 16;
+
+    @TempDir
+    Path uploadDir;
+
+    private FakeS3Client s3Client;
+    private UploadRepository uploadRepository;
+    private LocalUploader localUploader;
+    private S3Uploader s3Uploader;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = new FakeS3Client();
+        uploadRepository = mock(UploadRepository.class);
+        when(uploadRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        localUploader = new LocalUploader();
+        ReflectionTestUtils.setField(localUploader, "uploadPath", uploadDir.toString());
+
+        s3Uploader = new S3Uploader(s3Client, null, mock(S3Helper.class));
+        ReflectionTestUtils.setField(s3Uploader, "bucket", "test-bucket");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("스레드풀 크기만큼 S3 전송이 동시에 진행된다")
+    void s3TransfersOverlapUpToPoolSize() {
+        FileUploadService service = createService(8);
+        // 8개 전송이 동시에 진행되지 않으면 각 요청이 5초씩 붙잡혀 최대 동시 요청 수가 8에 못 미침
+        s3Client.holdUntilConcurrent(8);
+
+        List<Upload> uploads = service.uploadFiles(createFiles(), "recordings", 1L);
+
+        assertThat(uploads).hasSize(FILE_COUNT);
+        assertThat(s3Client.maxInFlight()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("스레드가 하나면 S3 전송은 한 번에 하나씩 진행된다")
+    void singleThreadTransfersSequentially() {
+        FileUploadService service = createService(1);
+
+        List<Upload> uploads = service.uploadFiles(createFiles(), "recordings", 1L);
+
+        assertThat(uploads).hasSize(FILE_COUNT);
+        assertThat(s3Client.maxInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("병렬 업로드 결과는 요청 순서를 유지하고 DB 저장은 한 번에 수행")
+    void preservesOrderAndBatchesInsert() {
+        FileUploadService service = createService(8);
+        List<MultipartFile> files = createFiles();
+
+        List<Upload> uploads = service.uploadFiles(files, "recordings", 1L);
+
+        assertThat(uploads).extracting(Upload::getOriginalFilename)
+                .containsExactlyElementsOf(IntStream.range(0, FILE_COUNT).mapToObj(i -> "file-" + i).toList());
+        assertThat(uploads).allSatisfy(upload -> assertThat(s3Client.contains(upload.getFullPath())).isTrue());
+        verify(uploadRepository, times(1)).insertAll(anyList());
+    }
+
+    private FileUploadService createService(int threads) {
+        executor = Executors.newFixedThreadPool(threads);
+        return new FileUploadService(mock(S3Helper.class), localUploader, s3Uploader, uploadRepository,
+                mock(S3CleanupService.class), executor);
+    }
+
+    private List<MultipartFile> createFiles() {
+        return IntStream.range(0, FILE_COUNT)
+                .mapToObj(i -> (MultipartFile) new MockMultipartFile(
+                        "file" + i, "file-" + i + ".mp3", "audio/mpeg", ("audio " + i).getBytes()))
+                .toList();
+    }
+}
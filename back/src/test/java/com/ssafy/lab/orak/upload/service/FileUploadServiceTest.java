@@ -4,6 +4,7 @@ import com.ssafy.lab.orak.s3.exception.S3UrlGenerationException;
 import com.ssafy.lab.orak.s3.helper.S3Helper;
 import com.ssafy.lab.orak.s3.util.LocalUploader;
 import com.ssafy.lab.orak.s3.util.S3Uploader;
+import com.ssafy.lab.orak.upload.dto.BatchUploadResult;
 import com.ssafy.lab.orak.upload.entity.Upload;
 import com.ssafy.lab.orak.upload.exception.FileUploadException;
 import com.ssafy.lab.orak.upload.exception.UploadNotFoundException;
@@ -16,11 +17,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -51,6 +54,8 @@ class FileUploadServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(fileUploadService, "fileUploadExecutor", (Executor) Runnable::run);
+
         testFile = new MockMultipartFile(
             "audioFile",
             "test.mp3",
@@ -188,7 +193,7 @@ class FileUploadServiceTest {
 
         when(localUploader.uploadLocal(any(), anyString())).thenReturn(localPath);
         when(s3Uploader.upload(any(), eq(directory))).thenReturn(s3Url);
-        when(uploadRepository.save(any(Upload.class))).thenReturn(testUpload);
+        when(uploadRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // when
         List<Upload> results = fileUploadService.uploadFiles(files, directory, userId);
@@ -196,10 +201,61 @@ class FileUploadServiceTest {
         // then
         assertNotNull(results);
         assertEquals(2, results.size());
+        assertEquals("test", results.get(0).getOriginalFilename());
+        assertEquals("test2", results.get(1).getOriginalFilename());
         
         verify(localUploader, times(2)).uploadLocal(any(), anyString());
         verify(s3Uploader, times(2)).upload(any(), eq(directory));
-        verify(uploadRepository, times(2)).save(any(Upload.class));
+        verify(uploadRepository).insertAll(anyList());
+        verify(uploadRepository, never()).save(any(Upload.class));
+    }
+
+    @Test
+    @DisplayName("다중 파일 업로드 중 일부 실패 시 성공한 S3 객체를 보상 삭제")
+    void uploadFiles_PartialFailure_RemovesUploadedObjects() throws Exception {
+        // given
+        Long userId = 1L;
+        String directory = "recordings";
+        MultipartFile emptyFile = new MockMultipartFile("file2", "empty.mp3", "audio/mpeg", new byte[0]);
+        List<MultipartFile> files = Arrays.asList(testFile, emptyFile);
+
+        when(localUploader.uploadLocal(eq(testFile), anyString())).thenReturn("/tmp/test.mp3");
+
+        // when & then
+        assertThrows(FileUploadException.class, () ->
+            fileUploadService.uploadFiles(files, directory, userId)
+        );
+
+        verify(s3Uploader).removeS3File(startsWith(directory + "/"));
+        verify(uploadRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("부분 성공 허용 업로드는 파일별 결과를 요청 순서대로 반환")
+    void uploadFilesAllowingPartialFailure_ReportsPerFile() throws Exception {
+        // given
+        Long userId = 1L;
+        String directory = "recordings";
+        MultipartFile emptyFile = new MockMultipartFile("file2", "empty.mp3", "audio/mpeg", new byte[0]);
+        MultipartFile file3 = new MockMultipartFile("file3", "test3.mp3", "audio/mpeg", "test audio 3".getBytes());
+        List<MultipartFile> files = Arrays.asList(testFile, emptyFile, file3);
+
+        when(localUploader.uploadLocal(any(), anyString())).thenReturn("/tmp/test.mp3");
+        when(uploadRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        BatchUploadResult result = fileUploadService.uploadFilesAllowingPartialFailure(files, directory, userId);
+
+        // then
+        assertTrue(result.hasFailures());
+        assertEquals(3, result.getResults().size());
+        assertTrue(result.getResults().get(0).isSuccess());
+        assertFalse(result.getResults().get(1).isSuccess());
+        assertEquals("empty.mp3", result.getResults().get(1).getOriginalFilename());
+        assertTrue(result.getResults().get(2).isSuccess());
+        assertEquals("test3", result.getResults().get(2).getUpload().getOriginalFilename());
+        assertEquals(2, result.getSucceededUploads().size());
+        verify(s3Uploader, never()).removeS3File(any());
     }
 
     @Test
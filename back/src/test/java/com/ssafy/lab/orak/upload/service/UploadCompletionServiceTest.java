@@ -0,0 +1,163 @@
+package com.ssafy.lab.orak.upload.service;
+
+import com.ssafy.lab.orak.event.dto.UploadEvent;
+import com.ssafy.lab.orak.event.service.EventBridgeService;
+import com.ssafy.lab.orak.s3.helper.S3AsyncHelper;
+import com.ssafy.lab.orak.s3.helper.S3Helper;
+import com.ssafy.lab.orak.upload.dto.UploadCompletionResult;
+import com.ssafy.lab.orak.upload.entity.Upload;
+import com.ssafy.lab.orak.upload.enums.ProcessingStatus;
+import com.ssafy.lab.orak.upload.repository.UploadRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UploadCompletionServiceTest {
+
+    @Mock
+    private UploadRepository uploadRepository;
+
+    @Mock
+    private S3AsyncHelper s3AsyncHelper;
+
+    @Mock
+    private S3Helper s3Helper;
+
+    @Mock
+    private EventBridgeService eventBridgeService;
+
+    @InjectMocks
+    private UploadCompletionService uploadCompletionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(uploadCompletionService, "bucket", "test-bucket");
+        ReflectionTestUtils.setField(uploadCompletionService, "chunkSize", 500);
+    }
+
+    @Test
+    @DisplayName("완료 알림 여러 건은 HEAD 검증 후 한 번의 UPDATE와 한 번의 일괄 발행으로 처리된다")
+    void completeUploads_BatchesUpdateAndPublish() {
+        Upload first = pendingUpload(1L, "uuid-1", 100L);
+        Upload second = pendingUpload(2L, "uuid-2", 200L);
+        when(uploadRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(s3AsyncHelper.headObject(first.getFullPath())).thenReturn(head(100L));
+        when(s3AsyncHelper.headObject(second.getFullPath())).thenReturn(head(250L));
+        when(uploadRepository.transitionStatusReturningIds(anyCollection(), eq(ProcessingStatus.PENDING),
+                eq(ProcessingStatus.UPLOADED), any())).thenReturn(List.of(1L, 2L));
+
+        UploadCompletionResult result = uploadCompletionService.completeUploads(List.of(1L, 2L), 7L);
+
+        assertThat(result.getCompletedUploadIds()).containsExactly(1L, 2L);
+        assertThat(result.hasFailures()).isFalse();
+        verify(uploadRepository, times(1)).transitionStatusReturningIds(eq(List.of(1L, 2L)),
+                eq(ProcessingStatus.PENDING), eq(ProcessingStatus.UPLOADED), any());
+        verify(uploadRepository).updateFileSize(2L, 250L);
+        verify(uploadRepository, never()).updateFileSize(eq(1L), any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UploadEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(eventBridgeService, times(1)).publishBatchEvents(captor.capture());
+        assertThat(captor.getValue()).extracting(UploadEvent::getUploadId).containsExactly(1L, 2L);
+        assertThat(captor.getValue()).extracting(UploadEvent::getS3Bucket).containsOnly("test-bucket");
+    }
+
+    @Test
+    @DisplayName("S3 객체가 없거나 소유자가 다르면 실패로, 이미 완료된 업로드는 건너뛴다")
+    void completeUploads_ReportsFailuresAndSkips() {
+        Upload missing = pendingUpload(1L, "uuid-1", 100L);
+        Upload otherOwner = pendingUpload(2L, "uuid-2", 100L).toBuilder().uploaderId(99L).build();
+        Upload alreadyUploaded = pendingUpload(3L, "uuid-3", 100L).toBuilder()
+                .processingStatus(ProcessingStatus.UPLOADED).build();
+        when(uploadRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(missing, otherOwner, alreadyUploaded));
+        when(s3AsyncHelper.headObject(missing.getFullPath()))
+                .thenReturn(CompletableFuture.failedFuture(NoSuchKeyException.builder().message("없음").build()));
+
+        UploadCompletionResult result = uploadCompletionService.completeUploads(List.of(1L, 2L, 3L), 7L);
+
+        assertThat(result.getCompletedUploadIds()).isEmpty();
+        assertThat(result.getAlreadyCompletedUploadIds()).containsExactly(3L);
+        assertThat(result.getFailures()).containsOnlyKeys(1L, 2L);
+        verify(uploadRepository, never()).transitionStatusReturningIds(anyCollection(), any(), any(), any());
+        verify(eventBridgeService, never()).publishBatchEvents(anyList());
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 중복 알림이 먼저 전이한 업로드는 이벤트를 다시 발행하지 않고 건너뛴다")
+    void completeUploads_ConcurrentDuplicate_PublishesOnlyTransitioned() {
+        Upload first = pendingUpload(1L, "uuid-1", 100L);
+        Upload second = pendingUpload(2L, "uuid-2", 100L);
+        when(uploadRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(s3AsyncHelper.headObject(first.getFullPath())).thenReturn(head(100L));
+        when(s3AsyncHelper.headObject(second.getFullPath())).thenReturn(head(100L));
+        // 2번은 조회 이후 다른 요청이 먼저 UPLOADED로 전이
+        when(uploadRepository.transitionStatusReturningIds(anyCollection(), any(), any(), any()))
+                .thenReturn(List.of(1L));
+
+        UploadCompletionResult result = uploadCompletionService.completeUploads(List.of(1L, 2L), 7L);
+
+        assertThat(result.getCompletedUploadIds()).containsExactly(1L);
+        assertThat(result.getAlreadyCompletedUploadIds()).containsExactly(2L);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UploadEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(eventBridgeService).publishBatchEvents(captor.capture());
+        assertThat(captor.getValue()).extracting(UploadEvent::getUploadId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("S3 이벤트 경로는 페이로드 크기를 신뢰하므로 HEAD를 보내지 않는다")
+    void completeFromS3Events_SkipsHead() {
+        Upload upload = pendingUpload(1L, "uuid-1", 100L);
+        when(s3Helper.extractUuidFromS3Key(upload.getFullPath())).thenReturn("uuid-1");
+        when(uploadRepository.findByUuidIn(List.of("uuid-1"))).thenReturn(List.of(upload));
+        when(uploadRepository.transitionStatusReturningIds(anyCollection(), any(), any(), any())).thenReturn(List.of(1L));
+
+        UploadCompletionResult result = uploadCompletionService.completeFromS3Events(
+                Map.of(upload.getFullPath(), 100L));
+
+        assertThat(result.getCompletedUploadIds()).containsExactly(1L);
+        verify(s3AsyncHelper, never()).headObject(any());
+        verify(eventBridgeService).publishBatchEvents(anyList());
+    }
+
+    private Upload pendingUpload(Long id, String uuid, Long fileSize) {
+        return Upload.builder()
+                .id(id)
+                .uuid(uuid)
+                .originalFilename("song")
+                .extension("mp3")
+                .contentType("audio/mpeg")
+                .fileSize(fileSize)
+                .directory("recordings")
+                .uploaderId(7L)
+                .processingStatus(ProcessingStatus.PENDING)
+                .build();
+    }
+
+    private CompletableFuture<HeadObjectResponse> head(long contentLength) {
+        return CompletableFuture.completedFuture(HeadObjectResponse.builder().contentLength(contentLength).build());
+    }
+}
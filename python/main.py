@@ -1,4 +1,5 @@
 import os
+import asyncio
 import sys
 import tempfile
 import requests
@@ -9,6 +10,7 @@ from fastapi import FastAPI, HTTPException, Request
 from fastapi.middleware.cors import CORSMiddleware
 from fastapi.exceptions import RequestValidationError
 from fastapi.responses import JSONResponse
+from starlette.concurrency import run_in_threadpool
 from pydantic import BaseModel
 from typing import Optional, List
 from datetime import datetime
@@ -72,6 +74,15 @@ class SaveUserVectorRequest(BaseModel):
     upload_id: Optional[str] = None
     song_id: Optional[int] = None
 
+class SaveUserVectorsRequest(BaseModel):
+    items: List[SaveUserVectorRequest]
+
+# 백엔드 ai.vector.batch.max-size와 맞춤 (여유분 포함)
+MAX_VECTOR_BATCH_SIZE = 64
+# 배치 항목 동시 분석 수 (모든 배치 요청이 공유, S3 다운로드/특징 추출 스레드풀 점유 제한)
+VECTOR_BATCH_CONCURRENCY = int(os.getenv("VECTOR_BATCH_CONCURRENCY", "8"))
+vector_batch_semaphore = asyncio.Semaphore(VECTOR_BATCH_CONCURRENCY)
+
 
 class SimilarVoiceRecommendationRequest(BaseModel):
     user_id: int
@@ -310,118 +321,125 @@ async def voice_recommendation(request: VoiceRecommendationRequest):
             detail=f"서버 오류: {str(e)}"
         )
 
-@app.post("/ai/save-user-vector")
-async def save_user_vector(request: SaveUserVectorRequest):
+def process_user_vector(s3_url: str, user_id: int, upload_id: Optional[str], song_id: Optional[int]) -> dict:
     """
-    S3 URL에서 음성 파일을 분석하여 벡터 DB에 저장
+    S3 음성 파일 한 건을 분석하여 벡터 DB에 저장하고 결과를 반환 (단건/배치 엔드포인트 공용)
     """
+    # S3에서 파일 다운로드
+    temp_audio_path = None
     try:
-        if user_vector_manager is None:
+        with tempfile.NamedTemporaryFile(suffix='.wav', delete=False) as tmp_file:
+            logging.info("S3에서 음성 파일 다운로드 중...")
+            response = requests.get(s3_url, timeout=30)
+            response.raise_for_status()
+            tmp_file.write(response.content)
+            temp_audio_path = tmp_file.name
+            logging.info(f"음성 파일 다운로드 완료: {len(response.content)} bytes")
+
+        # 음성에서 특성 추출
+        logging.info("음성 특성 추출 중...")
+
+        # 1. 멜 스펙트로그램 추출
+        mel = extract_mel(temp_audio_path)
+        if mel is None:
             raise HTTPException(
                 status_code=500,
-                detail="사용자 벡터 관리자가 초기화되지 않았습니다."
+                detail="멜 스펙트로그램 추출에 실패했습니다."
             )
 
-        # S3에서 파일 다운로드
-        temp_audio_path = None
-        try:
-            with tempfile.NamedTemporaryFile(suffix='.wav', delete=False) as tmp_file:
-                logging.info("S3에서 음성 파일 다운로드 중...")
-                response = requests.get(request.s3_url, timeout=30)
-                response.raise_for_status()
-                tmp_file.write(response.content)
-                temp_audio_path = tmp_file.name
-                logging.info(f"음성 파일 다운로드 완료: {len(response.content)} bytes")
-
-            # 음성에서 특성 추출
-            logging.info("음성 특성 추출 중...")
-
-            # 1. 멜 스펙트로그램 추출
-            mel = extract_mel(temp_audio_path)
-            if mel is None:
-                raise HTTPException(
-                    status_code=500,
-                    detail="멜 스펙트로그램 추출에 실패했습니다."
-                )
-
-            # 2. 특성 추출 (pitch 자동 계산 포함)
-            features = extract_features(mel)
-
-            # 3. 사용자 피처 딕셔너리 구성
-            user_features_dict = {
+        # 2. 특성 추출 (pitch 자동 계산 포함)
+        features = extract_features(mel)
+
+        # 3. 사용자 피처 딕셔너리 구성
+        user_features_dict = {
+            "pitch_low": features['pitch_low'],
+            "pitch_high": features['pitch_high'],
+            "pitch_avg": features['pitch_avg']
+        }
+        for i, val in enumerate(features['mfcc']):
+            user_features_dict[f"mfcc_{i}"] = val
+
+        logging.info(f"추출된 pitch: low={features['pitch_low']:.2f}, high={features['pitch_high']:.2f}, avg={features['pitch_avg']:.2f}")
+
+        # 음성 분석 (키워드 추출)
+        logging.info("음성 분석 중...")
+        voice_analysis_result = analyze_voice(temp_audio_path)
+        logging.info(f"음성 분석 결과: {voice_analysis_result}")
+
+        # 분석 결과에서 정보 추출
+        voice_summary = voice_analysis_result.get("summary", "")
+        voice_desc = voice_analysis_result.get("desc", [])
+        user_genres = voice_analysis_result.get("allowed_genres", [])
+
+        # 벡터 DB에 저장
+        song_id_str = None
+        if song_id is not None:
+            song_id_str = str(song_id)
+
+        vector_id = user_vector_manager.save_user_vector(
+            str(user_id),
+            user_features_dict,
+            upload_id,
+            voice_summary,  # 분석 요약
+            song_id_str,
+            voice_desc,     # 상세 설명 리스트
+            user_genres     # 어울리는 장르 리스트
+        )
+
+        if vector_id is None:
+            raise HTTPException(
+                status_code=500,
+                detail="벡터 저장에 실패했습니다."
+            )
+
+        # 결과 반환
+        result = {
+            "status": "success",
+            "vector_id": vector_id,
+            "user_id": user_id,
+            "upload_id": upload_id,
+            "features": {
                 "pitch_low": features['pitch_low'],
                 "pitch_high": features['pitch_high'],
-                "pitch_avg": features['pitch_avg']
+                "pitch_avg": features['pitch_avg'],
+                "mfcc_count": 13
+            },
+            "voice_analysis": {
+                "summary": voice_summary,
+                "desc": voice_desc,
+                "allowed_genres": user_genres
             }
-            for i, val in enumerate(features['mfcc']):
-                user_features_dict[f"mfcc_{i}"] = val
-
-            logging.info(f"추출된 pitch: low={features['pitch_low']:.2f}, high={features['pitch_high']:.2f}, avg={features['pitch_avg']:.2f}")
-
-            # 음성 분석 (키워드 추출)
-            logging.info("음성 분석 중...")
-            voice_analysis_result = analyze_voice(temp_audio_path)
-            logging.info(f"음성 분석 결과: {voice_analysis_result}")
-
-            # 분석 결과에서 정보 추출
-            voice_summary = voice_analysis_result.get("summary", "")
-            voice_desc = voice_analysis_result.get("desc", [])
-            user_genres = voice_analysis_result.get("allowed_genres", [])
-
-            # 벡터 DB에 저장
-            song_id_str = None
-            if request.song_id is not None:
-                song_id_str = str(request.song_id)
-
-            vector_id = user_vector_manager.save_user_vector(
-                str(request.user_id),
-                user_features_dict,
-                request.upload_id,
-                voice_summary,  # 분석 요약
-                song_id_str,
-                voice_desc,     # 상세 설명 리스트
-                user_genres     # 어울리는 장르 리스트
-            )
+        }
 
-            if vector_id is None:
-                raise HTTPException(
-                    status_code=500,
-                    detail="벡터 저장에 실패했습니다."
-                )
+        logging.info(f"사용자 벡터 저장 완료: {vector_id}")
+        return result
 
-            # 결과 반환
-            result = {
-                "status": "success",
-                "vector_id": vector_id,
-                "user_id": request.user_id,
-                "upload_id": request.upload_id,
-                "features": {
-                    "pitch_low": features['pitch_low'],
-                    "pitch_high": features['pitch_high'],
-                    "pitch_avg": features['pitch_avg'],
-                    "mfcc_count": 13
-                },
-                "voice_analysis": {
-                    "summary": voice_summary,
-                    "desc": voice_desc,
-                    "allowed_genres": user_genres
-                }
-            }
+    except requests.exceptions.RequestException as e:
+        logging.error(f"S3 파일 다운로드 오류: {e}")
+        raise HTTPException(
+            status_code=400,
+            detail=f"음성 파일 다운로드 실패: {str(e)}"
+        )
 
-            logging.info(f"사용자 벡터 저장 완료: {vector_id}")
-            return result
+    finally:
+        # 임시 파일 정리
+        if temp_audio_path and os.path.exists(temp_audio_path):
+            os.unlink(temp_audio_path)
 
-        except requests.exceptions.RequestException as e:
-            logging.error(f"S3 파일 다운로드 오류: {e}")
+
+@app.post("/ai/save-user-vector")
+async def save_user_vector(request: SaveUserVectorRequest):
+    """
+    S3 URL에서 음성 파일을 분석하여 벡터 DB에 저장
+    """
+    try:
+        if user_vector_manager is None:
             raise HTTPException(
-                status_code=400,
-                detail=f"음성 파일 다운로드 실패: {str(e)}"
+                status_code=500,
+                detail="사용자 벡터 관리자가 초기화되지 않았습니다."
             )
 
-        finally:
-            # 임시 파일 정리
-            if temp_audio_path and os.path.exists(temp_audio_path):
-                os.unlink(temp_audio_path)
+        return process_user_vector(request.s3_url, request.user_id, request.upload_id, request.song_id)
 
     except HTTPException:
         raise
@@ -432,6 +450,52 @@ async def save_user_vector(request: SaveUserVectorRequest):
             detail=f"서버 오류: {str(e)}"
         )
 
+@app.post("/ai/save-user-vectors")
+async def save_user_vectors(request: SaveUserVectorsRequest):
+    """
+    여러 음성 파일의 벡터를 한 번의 요청으로 저장 (백엔드 VectorBatchWriter용)
+    항목들은 VECTOR_BATCH_CONCURRENCY까지 동시에 분석하고, 항목별 결과를 upload_id와 함께 돌려줌
+    한 항목의 실패가 다른 항목에 영향을 주지 않으며, 실패 항목의 retryable로 백엔드가 그 항목만 다시 보냄
+    """
+    if user_vector_manager is None:
+        raise HTTPException(
+            status_code=500,
+            detail="사용자 벡터 관리자가 초기화되지 않았습니다."
+        )
+    if len(request.items) > MAX_VECTOR_BATCH_SIZE:
+        raise HTTPException(
+            status_code=400,
+            detail=f"배치 크기는 최대 {MAX_VECTOR_BATCH_SIZE}건입니다."
+        )
+
+    def analyze_once(item: SaveUserVectorRequest) -> dict:
+        # 시간 초과 등으로 배치 전체가 재전송되면 이미 저장된 업로드는 다시 분석하지 않음
+        if item.upload_id:
+            existing = user_vector_manager.check_user_vector_exists(str(item.user_id), item.upload_id)
+            if existing is not None:
+                return {"status": "success", "vector_id": existing["id"], "user_id": item.user_id,
+                        "upload_id": item.upload_id, "reused": True}
+        return process_user_vector(item.s3_url, item.user_id, item.upload_id, item.song_id)
+
+    async def process_item(item: SaveUserVectorRequest) -> dict:
+        try:
+            async with vector_batch_semaphore:
+                # 분석은 CPU/IO 블로킹 작업이므로 이벤트 루프 밖에서 실행
+                return await run_in_threadpool(analyze_once, item)
+        except HTTPException as e:
+            # 4xx는 요청 자체의 문제라 다시 보내도 같은 결과
+            return {"status": "failed", "upload_id": item.upload_id, "error": str(e.detail),
+                    "retryable": e.status_code >= 500}
+        except Exception as e:
+            logging.error(f"사용자 벡터 배치 저장 항목 오류 (upload_id={item.upload_id}): {e}")
+            return {"status": "failed", "upload_id": item.upload_id, "error": str(e), "retryable": True}
+
+    results = await asyncio.gather(*(process_item(item) for item in request.items))
+
+    logging.info(f"사용자 벡터 배치 저장 완료: {len(results)}건 "
+                 f"(실패 {sum(1 for r in results if r['status'] != 'success')}건)")
+    return {"status": "success", "results": results}
+
 @app.post("/ai/generate-voice-image", response_model=VoiceImageGenerationResponse)
 async def generate_voice_image(request: VoiceImageGenerationRequest):
     """
@@ -37,7 +37,6 @@ def create_songs_table(connection):
         artist_name VARCHAR(500),
         album_name VARCHAR(500),
         music_url TEXT,
-        lyrics LONGTEXT,
         album_cover_url TEXT,
         spotify_track_id VARCHAR(100),
         duration_ms INT,
@@ -48,10 +47,21 @@ def create_songs_table(connection):
     ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
     """
 
+    # 가사는 별도 테이블에 COMPRESS() 형식으로 저장 (백엔드 LyricsCompressor와 동일 형식)
+    create_lyrics_table_query = """
+    CREATE TABLE IF NOT EXISTS song_lyrics (
+        song_id BIGINT NOT NULL PRIMARY KEY,
+        content LONGBLOB NOT NULL,
+        original_size INT NOT NULL,
+        CONSTRAINT fk_song_lyrics_song FOREIGN KEY (song_id) REFERENCES songs(id) ON DELETE CASCADE
+    ) ENGINE=InnoDB;
+    """
+
     try:
         cursor.execute(create_table_query)
+        cursor.execute(create_lyrics_table_query)
         connection.commit()
-        print("songs 테이블 생성 완료")
+        print("songs, song_lyrics 테이블 생성 완료")
     except mysql.Error as e:
         print(f"테이블 생성 오류: {e}")
     finally:
@@ -81,15 +91,14 @@ def insert_songs_batch(connection, songs_data):
     insert_query = """
     INSERT INTO songs (
         song_id, song_name, artist_name, album_name, music_url,
-        lyrics, album_cover_url, spotify_track_id, duration_ms,
+        album_cover_url, spotify_track_id, duration_ms,
         popularity, status, created_at, updated_at
-    ) VALUES (%s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, NOW(), NOW())
+    ) VALUES (%s, %s, %s, %s, %s, %s, %s, %s, %s, %s, NOW(), NOW())
     ON DUPLICATE KEY UPDATE
         song_name = VALUES(song_name),
         artist_name = VALUES(artist_name),
         album_name = VALUES(album_name),
         music_url = VALUES(music_url),
-        lyrics = VALUES(lyrics),
         album_cover_url = VALUES(album_cover_url),
         spotify_track_id = VALUES(spotify_track_id),
         duration_ms = VALUES(duration_ms),
@@ -98,11 +107,28 @@ def insert_songs_batch(connection, songs_data):
         updated_at = NOW()
     """
 
+    lyrics_query = """
+    INSERT INTO song_lyrics (song_id, content, original_size)
+    SELECT * FROM (
+        SELECT s.id, COMPRESS(%s) AS content, LENGTH(%s) AS original_size
+        FROM songs s WHERE s.song_id = %s
+    ) AS new_lyrics
+    ON DUPLICATE KEY UPDATE
+        content = new_lyrics.content,
+        original_size = new_lyrics.original_size
+    """
+
+    # 튜플의 6번째 값(lyrics)은 song_lyrics로 분리
+    song_rows = [song[:5] + song[6:] for song in songs_data]
+    lyrics_rows = [(song[5], song[5], song[0]) for song in songs_data]
+
     try:
-        cursor.executemany(insert_query, songs_data)
+        cursor.executemany(insert_query, song_rows)
+        inserted = cursor.rowcount
+        cursor.executemany(lyrics_query, lyrics_rows)
         connection.commit()
         print(f"{len(songs_data)}개 곡 데이터 삽입/업데이트 완료")
-        return cursor.rowcount
+        return inserted
     except mysql.Error as e:
         print(f"데이터 삽입 오류: {e}")
         connection.rollback()